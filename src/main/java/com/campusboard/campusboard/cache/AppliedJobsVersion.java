@@ -0,0 +1,86 @@
+package com.campusboard.campusboard.cache;
+
+import com.campusboard.campusboard.dto.AppliedJobIds;
+import com.campusboard.campusboard.events.JobChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ============================================
+ * APPLIED JOBS VERSION
+ * ============================================
+ * Tells whether a student's AppliedJobIds kept in the session
+ * can be used as is, without a query, so job pages answer 304
+ * without touching the database.
+ *
+ * - version(studentId): bumped when this node stores an
+ *   application of the student, and for every student when a
+ *   job is deleted (its applications go with it)
+ * - A set is current while the version it was checked at is
+ *   unchanged and the check is younger than recheck-seconds;
+ *   the recheck picks up applications stored by other nodes
+ * - In memory and prefixed with the startup time, like
+ *   JobCatalogVersion
+ * ============================================
+ */
+@Component
+public class AppliedJobsVersion {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final long recheckMillis;
+
+    private final AtomicLong deletions = new AtomicLong();
+
+    // Only students who applied since startup
+    private final Map<Long, AtomicLong> students = new ConcurrentHashMap<>();
+
+    public AppliedJobsVersion(@Value("${campusboard.applications.applied-ids.recheck-seconds:30}") long recheckSeconds) {
+        this.recheckMillis = recheckSeconds * 1000;
+    }
+
+    /**
+     * A deleted job takes its applications with it.
+     *
+     * @param event - Change published by JobService
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.type() == JobChangedEvent.Type.DELETED) {
+            deletions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Called once a new application of the student is stored.
+     *
+     * @param studentId - ID of the student
+     */
+    public void applied(Long studentId) {
+        students.computeIfAbsent(studentId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * @param studentId - ID of the student
+     * @return Version of the student's applications on this node
+     */
+    public String version(Long studentId) {
+        AtomicLong student = students.get(studentId);
+        return epoch + "." + deletions.get() + "." + (student == null ? 0 : student.get());
+    }
+
+    /**
+     * @param applied - Set kept in the session
+     * @return True if it can be used without checking the database
+     */
+    public boolean isCurrent(AppliedJobIds applied) {
+        return Objects.equals(applied.checkedVersion(), version(applied.studentId()))
+                && System.currentTimeMillis() - applied.checkedAt() < recheckMillis;
+    }
+}
@@ -0,0 +1,271 @@
+package com.campusboard.campusboard.cache;
+
+import com.campusboard.campusboard.dto.CacheStatsView;
+import com.campusboard.campusboard.dto.JobCardView;
+import com.campusboard.campusboard.events.JobChangedEvent;
+import com.campusboard.campusboard.models.Job;
+import com.campusboard.campusboard.models.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * ============================================
+ * JOB CACHE
+ * ============================================
+ * Read-through cache in front of JobRepository for the
+ * read-heavy job queries (single job, jobs and job cards
+ * by status).
+ *
+ * How it works:
+ * - Bounded by total weight (approximate bytes), not entry count,
+ *   so one big status list cannot crowd out the limit unnoticed
+ * - Least recently / frequently used entries are evicted first
+ * - Every JobChangedEvent evicts exactly the job's own entry and
+ *   the status lists it was or now is part of
+ * - Events only reach the node that made the change, so entries
+ *   also expire ttl-seconds after loading: changes made on other
+ *   nodes show up within that time
+ * - Job entities are mutable and shared by every caller, so each
+ *   read hands out a copy; the cached one (and its copies) carry
+ *   the employer without the password hash
+ * - Hit, miss and eviction counts are kept for sizing
+ * ============================================
+ */
+@Component
+public class JobCache {
+
+    // Rough per-object overheads used by the weigher
+    private static final int JOB_OVERHEAD_BYTES = 320;
+    private static final int CARD_OVERHEAD_BYTES = 160;
+    private static final int LIST_OVERHEAD_BYTES = 64;
+
+    private final Cache<Object, Object> cache;
+    private final long maxWeight;
+    private final LongAdder invalidations = new LongAdder();
+
+    public JobCache(@Value("${campusboard.cache.jobs.max-weight:33554432}") long maxWeight,
+                    @Value("${campusboard.cache.jobs.ttl-seconds:60}") long ttlSeconds) {
+        this.maxWeight = maxWeight;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher(JobCache::weigh)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    // =============================
+    // READ-THROUGH LOOKUPS
+    // =============================
+
+    /**
+     * Returns a copy of the cached job, loading it on a miss.
+     * Nothing is cached if the loader throws.
+     *
+     * @param jobId - ID of the job
+     * @param loader - Loads the job from the database
+     */
+    public Job getJob(Long jobId, Supplier<Job> loader) {
+        return copyOf((Job) cache.get(new JobKey(jobId), key -> copyOf(loader.get())));
+    }
+
+    /**
+     * Returns copies of the cached jobs with a status, loading them on a miss.
+     *
+     * @param status - Job status
+     * @param loader - Loads the list from the database
+     */
+    @SuppressWarnings("unchecked")
+    public List<Job> getJobsByStatus(Job.Status status, Supplier<List<Job>> loader) {
+        List<Job> jobs = (List<Job>) cache.get(new StatusKey(status),
+                key -> loader.get().stream().map(JobCache::copyOf).toList());
+        return jobs.stream().map(JobCache::copyOf).toList();
+    }
+
+    /**
+     * Returns the cached list-page cards for a status, loading them on a miss.
+     *
+     * @param status - Job status
+     * @param loader - Loads the cards from the database
+     */
+    @SuppressWarnings("unchecked")
+    public List<JobCardView> getJobCardsByStatus(Job.Status status, Supplier<List<JobCardView>> loader) {
+        return (List<JobCardView>) cache.get(new CardsKey(status), key -> List.copyOf(loader.get()));
+    }
+
+    // =============================
+    // INVALIDATION HOOKS
+    // =============================
+
+    /**
+     * Keeps the cache in sync with JobService changes.
+     *
+     * @param event - Change published by JobService
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        evictJob(event.jobId());
+
+        // The list for the job's current status gains or changes the job
+        if (event.job() != null) {
+            evictStatus(event.job().getStatus());
+        } else if (event.type() == JobChangedEvent.Type.CLOSED) {
+            evictStatus(Job.Status.CLOSED);
+        }
+
+        // Lists that still hold the job (e.g. its previous status) lose it
+        for (Job.Status status : Job.Status.values()) {
+            if (segmentContains(status, event.jobId())) {
+                evictStatus(status);
+            }
+        }
+    }
+
+    public void evictJob(Long jobId) {
+        invalidate(new JobKey(jobId));
+    }
+
+    public void evictStatus(Job.Status status) {
+        invalidate(new StatusKey(status));
+        invalidate(new CardsKey(status));
+    }
+
+    public void evictAll() {
+        invalidations.add(cache.estimatedSize());
+        cache.invalidateAll();
+    }
+
+    // =============================
+    // STATISTICS
+    // =============================
+
+    /**
+     * @return Current hit/miss/eviction counters and size
+     */
+    public CacheStatsView stats() {
+        cache.cleanUp();
+        CacheStats stats = cache.stats();
+        long weight = cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+
+        return new CacheStatsView(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                invalidations.sum(),
+                cache.estimatedSize(),
+                weight,
+                maxWeight
+        );
+    }
+
+    // =============================
+    // INTERNALS
+    // =============================
+
+    private void invalidate(Object key) {
+        if (cache.asMap().remove(key) != null) {
+            invalidations.increment();
+        }
+    }
+
+    private boolean segmentContains(Job.Status status, Long jobId) {
+        return listContains(cache.asMap().get(new StatusKey(status)), jobId)
+                || listContains(cache.asMap().get(new CardsKey(status)), jobId);
+    }
+
+    private static boolean listContains(Object cached, Long jobId) {
+        if (cached == null) {
+            return false;
+        }
+        for (Object item : (List<?>) cached) {
+            Long id = item instanceof Job job ? job.getJobId() : ((JobCardView) item).jobId();
+            if (jobId.equals(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Detached copy; the employer keeps everything but the password hash
+    private static Job copyOf(Job job) {
+        Job copy = new Job();
+        copy.setJobId(job.getJobId());
+        copy.setEmployer(employerOf(job.getEmployer()));
+        copy.setTitle(job.getTitle());
+        copy.setDescription(job.getDescription());
+        copy.setSummary(job.getSummary());
+        copy.setLocation(job.getLocation());
+        copy.setSalary(job.getSalary());
+        copy.setCategory(job.getCategory());
+        copy.setDeadline(job.getDeadline());
+        copy.setStatus(job.getStatus());
+        copy.setCreatedAt(job.getCreatedAt());
+        copy.setUpdatedAt(job.getUpdatedAt());
+        return copy;
+    }
+
+    private static User employerOf(User employer) {
+        if (employer == null) {
+            return null;
+        }
+        User copy = new User();
+        copy.setUserId(employer.getUserId());
+        copy.setFullName(employer.getFullName());
+        copy.setEmail(employer.getEmail());
+        copy.setRole(employer.getRole());
+        copy.setStatus(employer.getStatus());
+        copy.setCreatedAt(employer.getCreatedAt());
+        copy.setUpdatedAt(employer.getUpdatedAt());
+        return copy;
+    }
+
+    private static int weigh(Object key, Object value) {
+        if (value instanceof Job job) {
+            return weighJob(job);
+        }
+        long total = LIST_OVERHEAD_BYTES;
+        for (Object item : (List<?>) value) {
+            total += item instanceof Job job ? weighJob(job) : weighCard((JobCardView) item);
+        }
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    private static int weighJob(Job job) {
+        return JOB_OVERHEAD_BYTES
+                + 2 * (length(job.getTitle()) + length(job.getDescription()) + length(job.getSummary())
+                + length(job.getLocation()) + length(job.getCategory()));
+    }
+
+    private static int weighCard(JobCardView card) {
+        return CARD_OVERHEAD_BYTES
+                + 2 * (length(card.title()) + length(card.employerName()) + length(card.employerEmail())
+                + length(card.location()) + length(card.category())
+                + length(card.summary()));
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private record JobKey(Long jobId) {
+    }
+
+    private record StatusKey(Job.Status status) {
+    }
+
+    private record CardsKey(Job.Status status) {
+    }
+}
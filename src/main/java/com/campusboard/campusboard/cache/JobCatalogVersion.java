@@ -0,0 +1,162 @@
+package com.campusboard.campusboard.cache;
+
+import com.campusboard.campusboard.dto.JobUpdateRow;
+import com.campusboard.campusboard.events.JobChangedEvent;
+import com.campusboard.campusboard.repositories.JobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ============================================
+ * JOB CATALOG VERSION
+ * ============================================
+ * Cheap change counters for conditional GETs on job pages.
+ * Answering "has anything changed?" must not touch the
+ * database, so versions are kept in memory and bumped by
+ * every JobChangedEvent.
+ *
+ * - catalogVersion(): bumped by any job change (list pages)
+ * - jobVersion(jobId): bumped only by that job's changes
+ *   (detail page); jobs untouched since startup share the
+ *   startup version
+ * - Every value is prefixed with the startup time, so a
+ *   restart never reuses an ETag from before it
+ * - Events only cover this node, so recheck() also reads the
+ *   jobs whose updated_at moved since the last check
+ *   (idx_job_updated) plus the job count, every recheck-ms;
+ *   changes made on other nodes show up within that delay
+ * ============================================
+ */
+@Component
+public class JobCatalogVersion {
+
+    private static final Logger log = LoggerFactory.getLogger(JobCatalogVersion.class);
+
+    // Re-read window before the last check: covers commits that
+    // landed after it and clock drift between nodes
+    static final Duration OVERLAP = Duration.ofMinutes(1);
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final long startedAt = System.currentTimeMillis();
+
+    private final AtomicLong catalog = new AtomicLong();
+    private volatile long catalogModifiedAt = startedAt;
+
+    // Only jobs changed since startup; deleted jobs keep their entry
+    private final Map<Long, Version> jobs = new ConcurrentHashMap<>();
+
+    // Bumped when the job count moves without an event here (a job
+    // deleted elsewhere); part of every job version
+    private final AtomicLong removals = new AtomicLong();
+    private volatile long removedAt = startedAt;
+
+    // updated_at of each job already counted, inside the overlap window
+    private final Map<Long, LocalDateTime> seen = new ConcurrentHashMap<>();
+    private LocalDateTime checkedFrom = LocalDateTime.now();
+    private long jobCount = -1;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    /**
+     * Keeps the versions in step with JobService changes.
+     *
+     * @param event - Change published by JobService
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.job() != null && event.job().getUpdatedAt() != null) {
+            seen.put(event.jobId(), event.job().getUpdatedAt());
+        }
+        bump(event.jobId());
+    }
+
+    /**
+     * =============================
+     * RECHECK AGAINST THE DATABASE
+     * =============================
+     * Bumps every job whose updated_at is not the one already
+     * counted, and all job versions when the job count moved.
+     * A failed check is logged and retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${campusboard.jobs.version.recheck-ms:15000}")
+    public synchronized void recheck() {
+        LocalDateTime checkStarted = LocalDateTime.now();
+        try {
+            for (JobUpdateRow row : jobRepository.findUpdatedSince(checkedFrom.minus(OVERLAP))) {
+                LocalDateTime counted = seen.put(row.jobId(), row.updatedAt());
+                if (!row.updatedAt().equals(counted)) {
+                    bump(row.jobId());
+                }
+            }
+            long count = jobRepository.count();
+            if (jobCount >= 0 && count != jobCount) {
+                removals.incrementAndGet();
+                removedAt = System.currentTimeMillis();
+                catalog.incrementAndGet();
+                catalogModifiedAt = removedAt;
+            }
+            jobCount = count;
+        } catch (RuntimeException e) {
+            log.warn("Could not recheck job versions against the database", e);
+            return;
+        }
+
+        checkedFrom = checkStarted;
+        LocalDateTime forgetBefore = checkStarted.minus(OVERLAP);
+        seen.values().removeIf(updatedAt -> updatedAt.isBefore(forgetBefore));
+    }
+
+    /**
+     * @return Version of the whole job catalog
+     */
+    public String catalogVersion() {
+        return epoch + "." + catalog.get();
+    }
+
+    /**
+     * @return When the catalog last changed (epoch millis)
+     */
+    public long catalogLastModified() {
+        return catalogModifiedAt;
+    }
+
+    /**
+     * @param jobId - ID of the job
+     * @return Version of a single job
+     */
+    public String jobVersion(Long jobId) {
+        Version version = jobs.get(jobId);
+        return epoch + "." + removals.get() + "." + (version == null ? 0 : version.number());
+    }
+
+    /**
+     * @param jobId - ID of the job
+     * @return When the job last changed (epoch millis)
+     */
+    public long jobLastModified(Long jobId) {
+        Version version = jobs.get(jobId);
+        return Math.max(version == null ? startedAt : version.modifiedAt(), removedAt);
+    }
+
+    private void bump(Long jobId) {
+        long now = System.currentTimeMillis();
+        long version = catalog.incrementAndGet();
+        catalogModifiedAt = now;
+        jobs.put(jobId, new Version(version, now));
+    }
+
+    private record Version(long number, long modifiedAt) {
+    }
+}
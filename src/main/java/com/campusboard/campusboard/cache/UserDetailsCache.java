@@ -0,0 +1,61 @@
+package com.campusboard.campusboard.cache;
+
+import com.campusboard.campusboard.security.CustomUserDetails;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * ============================================
+ * USER DETAILS CACHE
+ * ============================================
+ * Account details by email, for logins and for the per-request
+ * "is this account still active?" check (ActiveAccountFilter),
+ * so neither queries the USER table each time.
+ *
+ * How it works:
+ * - Bounded by entry count; least recently / frequently used
+ *   accounts are evicted first
+ * - UserService evicts an account whenever it changes it;
+ *   entries also expire after ttl-minutes to pick up changes
+ *   made directly in the database
+ * - Keys are lower-cased: MySQL compares emails without case,
+ *   so "Ann@x.com" and "ann@x.com" are the same account
+ * - Unknown emails are not cached
+ * ============================================
+ */
+@Component
+public class UserDetailsCache {
+
+    private final Cache<String, CustomUserDetails> cache;
+
+    public UserDetailsCache(@Value("${campusboard.cache.users.max-size:10000}") long maxSize,
+                            @Value("${campusboard.cache.users.ttl-minutes:10}") long ttlMinutes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    /**
+     * @param email - Email the account logs in with
+     * @param loader - Reads the account on a miss (null if there is none)
+     * @return The cached account, or null if there is none
+     */
+    public CustomUserDetails get(String email, Function<String, CustomUserDetails> loader) {
+        return cache.get(key(email), normalized -> loader.apply(email));
+    }
+
+    public void evict(String email) {
+        cache.invalidate(key(email));
+    }
+
+    private static String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
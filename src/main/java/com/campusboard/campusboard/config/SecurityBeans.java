@@ -1,15 +1,50 @@
 package com.campusboard.campusboard.config;
 
+import com.campusboard.campusboard.security.AdaptiveBCryptPasswordEncoder;
+import com.campusboard.campusboard.security.BCryptCostCalibrator;
+import com.campusboard.campusboard.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
 @Configuration
 public class SecurityBeans {
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    private static final Logger log = LoggerFactory.getLogger(SecurityBeans.class);
+
+    // =============================
+    // Password encoder: BCrypt at a cost calibrated for this machine
+    // (unless campusboard.security.bcrypt.cost pins one), hashing on
+    // its own bounded thread pool rather than on request threads
+    // =============================
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                                  @Value("${campusboard.security.bcrypt.cost:0}") int cost,
+                                                  @Value("${campusboard.security.bcrypt.target-ms:100}") long targetMs,
+                                                  @Value("${campusboard.security.bcrypt.min-cost:10}") int minCost,
+                                                  @Value("${campusboard.security.bcrypt.max-cost:14}") int maxCost,
+                                                  @Value("${campusboard.security.hashing.threads:0}") int threads,
+                                                  @Value("${campusboard.security.hashing.queue-capacity:50}") int queueCapacity) {
+        return new BoundedPasswordEncoder(bcrypt(cost, targetMs, minCost, maxCost),
+                meterRegistry, threads, queueCapacity);
+    }
+
+    private static PasswordEncoder bcrypt(int cost, long targetMs, int minCost, int maxCost) {
+        if (cost > 0) {
+            log.info("Hashing passwords with BCrypt cost {} (configured)", cost);
+            return new AdaptiveBCryptPasswordEncoder(cost);
+        }
+
+        long start = System.nanoTime();
+        int calibrated = BCryptCostCalibrator.calibrate(Duration.ofMillis(targetMs), minCost, maxCost);
+        log.info("Hashing passwords with BCrypt cost {} (calibrated for {} ms in {} ms)",
+                calibrated, targetMs, (System.nanoTime() - start) / 1_000_000);
+        return new AdaptiveBCryptPasswordEncoder(calibrated);
     }
 }
@@ -1,6 +1,8 @@
 package com.campusboard.campusboard.config;
 
+import com.campusboard.campusboard.security.ActiveAccountFilter;
 import com.campusboard.campusboard.security.CustomUserDetailsService;
+import com.campusboard.campusboard.security.PasswordHashingBusyFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,6 +12,17 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.authentication.DelegatingAuthenticationEntryPoint;
+import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
+import org.springframework.security.web.authentication.LoginUrlAuthenticationEntryPoint;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.www.BasicAuthenticationEntryPoint;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.LinkedHashMap;
 
 @Configuration
 public class SecurityConfig {
@@ -28,6 +41,8 @@ public class SecurityConfig {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
         provider.setPasswordEncoder(passwordEncoder);
+        // Stores the new hash when a login finds one at another BCrypt cost
+        provider.setUserDetailsPasswordService(userDetailsService);
         return provider;
     }
 
@@ -56,6 +71,8 @@ public class SecurityConfig {
                         .requestMatchers("/admin/**").hasRole("ADMIN")
                         .requestMatchers("/employer/**").hasRole("EMPLOYER")
                         .requestMatchers("/student/**").hasRole("STUDENT")
+                        .requestMatchers("/api/v1/users/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                         // Any other request requires login
                         .anyRequest().authenticated()
@@ -63,16 +80,50 @@ public class SecurityConfig {
                 .formLogin(login -> login
                         .loginPage("/login")
                         .defaultSuccessUrl("/", true)
+                        .failureHandler(PasswordHashingBusyFilter.failureHandler(
+                                new SimpleUrlAuthenticationFailureHandler("/login?error")))
                         .permitAll()
                 )
                 .logout(logout -> logout
                         .logoutUrl("/logout")
                         .logoutSuccessUrl("/login?logout")
                         .permitAll()
+                )
+                // REST API clients log in with HTTP Basic and get a 401, not the login page
+                .httpBasic(basic -> basic
+                        .authenticationEntryPoint(PasswordHashingBusyFilter.entryPoint(basicEntryPoint()))
+                )
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(entryPoint())
                 );
 
         http.authenticationProvider(authProvider());
 
+        // Ends sessions of accounts deactivated since they logged in
+        http.addFilterBefore(new ActiveAccountFilter(userDetailsService), AnonymousAuthenticationFilter.class);
+
+        // Full password-hashing queue during a login (form or Basic) -> 429
+        http.addFilterBefore(new PasswordHashingBusyFilter(), UsernamePasswordAuthenticationFilter.class);
+
         return http.build();
     }
+
+    // /api/** and /actuator/** -> 401 with a Basic challenge, everything else -> login page
+    private AuthenticationEntryPoint entryPoint() {
+        AuthenticationEntryPoint api = basicEntryPoint();
+
+        LinkedHashMap<RequestMatcher, AuthenticationEntryPoint> entryPoints = new LinkedHashMap<>();
+        entryPoints.put(new AntPathRequestMatcher("/api/**"), api);
+        entryPoints.put(new AntPathRequestMatcher("/actuator/**"), api);
+
+        DelegatingAuthenticationEntryPoint entryPoint = new DelegatingAuthenticationEntryPoint(entryPoints);
+        entryPoint.setDefaultEntryPoint(new LoginUrlAuthenticationEntryPoint("/login"));
+        return entryPoint;
+    }
+
+    private BasicAuthenticationEntryPoint basicEntryPoint() {
+        BasicAuthenticationEntryPoint basic = new BasicAuthenticationEntryPoint();
+        basic.setRealmName("campusboard");
+        return basic;
+    }
 }
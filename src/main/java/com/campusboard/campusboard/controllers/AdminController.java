@@ -1,26 +1,54 @@
 package com.campusboard.campusboard.controllers;
 
+import com.campusboard.campusboard.dto.CacheStatsView;
+import com.campusboard.campusboard.dto.JobCardView;
+import com.campusboard.campusboard.dto.RosterImportProgress;
+import com.campusboard.campusboard.dto.UserPage;
+import com.campusboard.campusboard.dto.UserSort;
 import com.campusboard.campusboard.models.Job;
 import com.campusboard.campusboard.models.User;
 import com.campusboard.campusboard.services.JobService;
+import com.campusboard.campusboard.services.RosterImportService;
 import com.campusboard.campusboard.services.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 @Controller
 @RequestMapping("/admin")
 public class AdminController {
 
+    private static final Logger log = LoggerFactory.getLogger(AdminController.class);
+
+    // One JSON progress message per line
+    static final String NDJSON = "application/x-ndjson";
+
     @Autowired
     private JobService jobService;
 
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private RosterImportService rosterImportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     // ===========================================
     // ADMIN DASHBOARD
     // ===========================================
@@ -36,7 +64,7 @@ public class AdminController {
     public String viewPendingJobs(Model model) {
 
         // Correct: load ONLY jobs with PENDING status
-        List<Job> pendingJobs = jobService.getJobsByStatus(Job.Status.PENDING);
+        List<JobCardView> pendingJobs = jobService.getJobCardsByStatus(Job.Status.PENDING);
 
         model.addAttribute("jobs", pendingJobs);
         return "admin/pending-jobs";
@@ -62,12 +90,30 @@ public class AdminController {
 
     // ===========================================
     // MANAGE USERS
+    // Stat tiles come from one GROUP BY query; the table
+    // is one keyset page of a projection query
     // ===========================================
     @GetMapping("/users")
-    public String manageUsers(Model model) {
-
-        List<User> users = userService.getAllUsers();
-        model.addAttribute("users", users);
+    public String manageUsers(@RequestParam(defaultValue = "NEWEST") UserSort sort,
+                              @RequestParam(required = false) User.Role role,
+                              @RequestParam(required = false) User.Status status,
+                              @RequestParam(name = "q", required = false) String query,
+                              @RequestParam(required = false) String cursor,
+                              Model model) {
+
+        UserPage page = userService.getUserPage(sort, role, status, query, cursor);
+
+        model.addAttribute("counts", userService.getUserCounts());
+        model.addAttribute("users", page.users());
+        model.addAttribute("sort", page.sort());
+        model.addAttribute("sorts", UserSort.values());
+        model.addAttribute("role", page.role());
+        model.addAttribute("roles", User.Role.values());
+        model.addAttribute("status", page.status());
+        model.addAttribute("statuses", User.Status.values());
+        model.addAttribute("query", page.search());
+        model.addAttribute("firstPageUrl", usersUrl(page, null));
+        model.addAttribute("nextPageUrl", page.hasNext() ? usersUrl(page, page.nextCursor()) : null);
 
         return "admin/manage-users";
     }
@@ -89,4 +135,94 @@ public class AdminController {
         userService.updateStatus(id, User.Status.INACTIVE);
         return "redirect:/admin/users?deactivated";
     }
+
+    // ===========================================
+    // IMPORT STUDENT ROSTER (FORM)
+    // ===========================================
+    @GetMapping("/users/import")
+    public String showImportStudentsForm() {
+        return "admin/import-students";
+    }
+
+    // ===========================================
+    // IMPORT STUDENT ROSTER
+    // Answers with newline-delimited JSON: a RosterImportProgress
+    // after every chunk, written as soon as the chunk is saved,
+    // and a final one with done = true (js/roster-import.js)
+    // ===========================================
+    @PostMapping("/users/import")
+    public void importStudents(@RequestParam("file") MultipartFile file,
+                               HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        // Ask proxies not to hold the progress messages back
+        response.setHeader("X-Accel-Buffering", "no");
+        ProgressWriter progress = new ProgressWriter(response.getOutputStream());
+
+        if (file.isEmpty()) {
+            progress.accept(new RosterImportProgress(0, 0, 0, List.of(), "Please choose a roster file", true));
+            return;
+        }
+        try (InputStream in = file.getInputStream()) {
+            rosterImportService.importRoster(in, progress);
+        }
+    }
+
+    // ===========================================
+    // JOB CACHE STATISTICS (JSON, for sizing)
+    // ===========================================
+    @GetMapping("/cache/jobs")
+    @ResponseBody
+    public CacheStatsView jobCacheStats() {
+        return jobService.getCacheStats();
+    }
+
+    // The search is expanded as a variable so it is fully encoded:
+    // a "+" in an email must not come back as a space
+    private static String usersUrl(UserPage page, String cursor) {
+        UriComponentsBuilder url = UriComponentsBuilder.fromPath("/admin/users")
+                .queryParam("sort", page.sort());
+        if (page.role() != null) {
+            url.queryParam("role", page.role());
+        }
+        if (page.status() != null) {
+            url.queryParam("status", page.status());
+        }
+        if (page.search() != null) {
+            url.queryParam("q", "{q}");
+        }
+        if (cursor != null) {
+            url.queryParam("cursor", cursor);
+        }
+        return url.encode().buildAndExpand(Map.of("q", String.valueOf(page.search()))).toUriString();
+    }
+
+    /**
+     * Writes progress messages as they come. If the admin leaves
+     * the page the import carries on; there is just no one to tell.
+     */
+    private final class ProgressWriter implements Consumer<RosterImportProgress> {
+
+        private final OutputStream out;
+        private boolean gone;
+
+        private ProgressWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void accept(RosterImportProgress progress) {
+            if (gone) {
+                return;
+            }
+            try {
+                out.write(objectMapper.writeValueAsBytes(progress));
+                out.write('\n');
+                out.flush();
+            } catch (IOException e) {
+                gone = true;
+                log.debug("Roster import progress could not be sent, continuing without", e);
+            }
+        }
+    }
 }
@@ -0,0 +1,174 @@
+package com.campusboard.campusboard.controllers;
+
+import com.campusboard.campusboard.dto.ApiCursor;
+import com.campusboard.campusboard.exceptions.JobNotFoundException;
+import com.campusboard.campusboard.models.Job;
+import com.campusboard.campusboard.models.JobApplication;
+import com.campusboard.campusboard.models.User;
+import com.campusboard.campusboard.search.Suggestion;
+import com.campusboard.campusboard.security.CustomUserDetails;
+import com.campusboard.campusboard.services.ApplicationService;
+import com.campusboard.campusboard.services.JobSearchService;
+import com.campusboard.campusboard.services.JobService;
+import com.campusboard.campusboard.services.UserService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ============================================
+ * REST API (v1)
+ * ============================================
+ * JSON access to jobs, applications and users for the mobile
+ * app and campus portal integrations.
+ *
+ * - Lists are ordered by ID and paged with an opaque "cursor"
+ *   token (from the previous page's "nextCursor") and "limit"
+ * - Rows are written with Jackson's streaming generator while
+ *   they come off a database cursor, so even /jobs/export of
+ *   every approved job runs in constant memory
+ * - Authenticate with the session cookie or HTTP Basic
+ * ============================================
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class ApiController {
+
+    static final int DEFAULT_LIMIT = 100;
+    static final int MAX_LIMIT = 1000;
+    static final int DEFAULT_SUGGESTIONS = 8;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobSearchService jobSearchService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // ===========================================
+    // APPROVED JOBS (PAGED)
+    // ===========================================
+    @GetMapping("/jobs")
+    public void listJobs(@RequestParam(required = false) String cursor,
+                         @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit,
+                         HttpServletResponse response) throws IOException {
+        ApiCursor after = ApiCursor.decode(cursor);
+
+        JsonPageWriter<Job> page = JsonPageWriter.open(response, objectMapper, clamp(limit),
+                Job::getJobId, ApiJson::writeJob);
+        jobService.forEachApprovedJob(after, page.fetchLimit(), page);
+        page.finish();
+    }
+
+    // ===========================================
+    // APPROVED JOBS (FULL EXPORT, ONE RESPONSE)
+    // ===========================================
+    @GetMapping("/jobs/export")
+    public void exportJobs(HttpServletResponse response) throws IOException {
+        JsonPageWriter<Job> page = JsonPageWriter.open(response, objectMapper, JsonPageWriter.UNLIMITED,
+                Job::getJobId, ApiJson::writeJob);
+        jobService.forEachApprovedJob(ApiCursor.FIRST, page.fetchLimit(), page);
+        page.finish();
+    }
+
+    // ===========================================
+    // TYPEAHEAD SUGGESTIONS
+    // Answered from memory, no database round trip per keystroke
+    // ===========================================
+    @GetMapping("/jobs/suggest")
+    public Map<String, List<Suggestion>> suggest(@RequestParam(defaultValue = "") String q,
+                                                 @RequestParam(defaultValue = "" + DEFAULT_SUGGESTIONS) int limit) {
+        return Map.of("data", jobSearchService.suggest(q, limit));
+    }
+
+    // ===========================================
+    // SINGLE JOB
+    // Others' unapproved jobs are reported as not found
+    // ===========================================
+    @GetMapping("/jobs/{jobId}")
+    public void getJob(@PathVariable Long jobId, @AuthenticationPrincipal CustomUserDetails principal,
+                       HttpServletResponse response) throws IOException {
+        Job job = jobService.getJobById(jobId);
+
+        if (job.getStatus() != Job.Status.APPROVED) {
+            boolean owner = job.getEmployer().getUserId().equals(principal.getUserId());
+            if (!owner && principal.getRole() != User.Role.ADMIN) {
+                throw new JobNotFoundException("Job not found with ID: " + jobId);
+            }
+        }
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            ApiJson.writeJob(json, job);
+        }
+    }
+
+    // ===========================================
+    // APPLICATIONS (PAGED)
+    // Students: own; employers: to their jobs; admins: all
+    // ===========================================
+    @GetMapping("/applications")
+    public void listApplications(@RequestParam(required = false) String cursor,
+                                 @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit,
+                                 @AuthenticationPrincipal CustomUserDetails principal,
+                                 HttpServletResponse response) throws IOException {
+        ApiCursor after = ApiCursor.decode(cursor);
+
+        JsonPageWriter<JobApplication> page = JsonPageWriter.open(response, objectMapper, clamp(limit),
+                JobApplication::getApplicationId, ApiJson::writeApplication);
+        applicationService.forEachApplicationVisibleTo(principal.getUserId(), principal.getRole(), after, page.fetchLimit(), page);
+        page.finish();
+    }
+
+    // ===========================================
+    // USERS (PAGED, ADMIN ONLY - see SecurityConfig)
+    // ===========================================
+    @GetMapping("/users")
+    public void listUsers(@RequestParam(required = false) String cursor,
+                          @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit,
+                          HttpServletResponse response) throws IOException {
+        ApiCursor after = ApiCursor.decode(cursor);
+
+        JsonPageWriter<User> page = JsonPageWriter.open(response, objectMapper, clamp(limit),
+                User::getUserId, ApiJson::writeUser);
+        userService.forEachUser(after, page.fetchLimit(), page);
+        page.finish();
+    }
+
+    // ===========================================
+    // ERRORS (JSON instead of the HTML error page)
+    // ===========================================
+    @ExceptionHandler({IllegalArgumentException.class, TypeMismatchException.class})
+    public ResponseEntity<Map<String, String>> handleBadRequest(RuntimeException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", String.valueOf(ex.getMessage())));
+    }
+
+    @ExceptionHandler(JobNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleNotFound(JobNotFoundException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", String.valueOf(ex.getMessage())));
+    }
+
+    private static long clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
@@ -0,0 +1,84 @@
+package com.campusboard.campusboard.controllers;
+
+import com.campusboard.campusboard.models.Job;
+import com.campusboard.campusboard.models.JobApplication;
+import com.campusboard.campusboard.models.User;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * ============================================
+ * API JSON
+ * ============================================
+ * Field-by-field JSON for the /api/v1 resources, written
+ * with Jackson's streaming generator (no intermediate DTOs).
+ *
+ * This is the public API contract: add fields freely, but
+ * never rename or remove one without a new API version.
+ * Passwords are never written.
+ * ============================================
+ */
+final class ApiJson {
+
+    private ApiJson() {
+    }
+
+    static void writeJob(JsonGenerator json, Job job) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("jobId", job.getJobId());
+        json.writeStringField("title", job.getTitle());
+        json.writeStringField("summary", job.getSummary());
+        json.writeStringField("description", job.getDescription());
+        json.writeStringField("location", job.getLocation());
+        if (job.getSalary() == null) {
+            json.writeNullField("salary");
+        } else {
+            json.writeNumberField("salary", job.getSalary());
+        }
+        json.writeStringField("category", job.getCategory());
+        json.writeStringField("deadline", job.getDeadline() == null ? null : job.getDeadline().toString());
+        json.writeStringField("status", job.getStatus().name());
+        json.writeObjectFieldStart("employer");
+        json.writeNumberField("userId", job.getEmployer().getUserId());
+        json.writeStringField("fullName", job.getEmployer().getFullName());
+        json.writeEndObject();
+        writeTime(json, "createdAt", job.getCreatedAt());
+        writeTime(json, "updatedAt", job.getUpdatedAt());
+        json.writeEndObject();
+    }
+
+    static void writeApplication(JsonGenerator json, JobApplication application) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("applicationId", application.getApplicationId());
+        json.writeStringField("status", application.getStatus().name());
+        writeTime(json, "appliedAt", application.getAppliedAt());
+        json.writeObjectFieldStart("job");
+        json.writeNumberField("jobId", application.getJob().getJobId());
+        json.writeStringField("title", application.getJob().getTitle());
+        json.writeStringField("employerName", application.getJob().getEmployer().getFullName());
+        json.writeEndObject();
+        json.writeObjectFieldStart("student");
+        json.writeNumberField("userId", application.getStudent().getUserId());
+        json.writeStringField("fullName", application.getStudent().getFullName());
+        json.writeStringField("email", application.getStudent().getEmail());
+        json.writeEndObject();
+        json.writeEndObject();
+    }
+
+    static void writeUser(JsonGenerator json, User user) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("userId", user.getUserId());
+        json.writeStringField("fullName", user.getFullName());
+        json.writeStringField("email", user.getEmail());
+        json.writeStringField("role", user.getRole().name());
+        json.writeStringField("status", user.getStatus().name());
+        writeTime(json, "createdAt", user.getCreatedAt());
+        json.writeEndObject();
+    }
+
+    private static void writeTime(JsonGenerator json, String field, LocalDateTime time) throws IOException {
+        json.writeStringField(field, time == null ? null : time.toString());
+    }
+}
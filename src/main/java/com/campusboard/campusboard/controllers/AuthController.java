@@ -1,9 +1,13 @@
 package com.campusboard.campusboard.controllers;
 
+import com.campusboard.campusboard.exceptions.PasswordHashingBusyException;
 import com.campusboard.campusboard.models.User;
 import com.campusboard.campusboard.services.UserService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -46,7 +50,8 @@ public class AuthController {
     public String registerUser(
             @Valid @ModelAttribute("user") User user,
             BindingResult result,
-            Model model) {
+            Model model,
+            HttpServletResponse response) {
 
         if (result.hasErrors()) {
             return "register";
@@ -54,6 +59,12 @@ public class AuthController {
 
         try {
             userService.registerUser(user);
+        } catch (PasswordHashingBusyException e) {
+            // Registration burst: keep the form filled in and ask to retry
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            model.addAttribute("errorMessage", e.getMessage());
+            return "register";
         } catch (Exception e) {
             model.addAttribute("errorMessage", e.getMessage());
             return "register";
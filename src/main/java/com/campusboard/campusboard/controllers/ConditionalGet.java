@@ -0,0 +1,51 @@
+package com.campusboard.campusboard.controllers;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * ============================================
+ * CONDITIONAL GET
+ * ============================================
+ * Lets a page answer If-None-Match / If-Modified-Since with
+ * 304 Not Modified before it queries or renders anything.
+ *
+ * Usage in a handler method:
+ *     if (ConditionalGet.notModified(request, version, lastModified)) {
+ *         return null;
+ *     }
+ *
+ * Pages are rendered for one user: the menu depends on the role,
+ * and the content on the account (a student's "Applied" markers,
+ * an employer's own jobs). The data version alone doesn't say
+ * whose page it is, so the ETag also covers the session: after
+ * logging out and in as someone else on a shared browser (a new
+ * session), the cached page is never reused with a 304.
+ * ============================================
+ */
+final class ConditionalGet {
+
+    // Browser may store the page but must revalidate on every use
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * Sets ETag, Last-Modified and Cache-Control on the response and
+     * checks them against the request's validators.
+     *
+     * @param request - Current request
+     * @param version - Version of the data the page shows
+     * @param lastModified - When that data last changed (epoch millis)
+     * @return true if a 304 has been set and nothing should be rendered
+     */
+    static boolean notModified(ServletWebRequest request, String version, long lastModified) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+
+        String session = Integer.toHexString(request.getSessionId().hashCode());
+        return request.checkNotModified("W/\"" + version + "-" + session + "\"", lastModified);
+    }
+}
@@ -0,0 +1,78 @@
+package com.campusboard.campusboard.controllers;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * ============================================
+ * CSV TABLE WRITER
+ * ============================================
+ * RFC 4180 CSV in UTF-8 with a byte order mark (so Excel
+ * detects the encoding) and CRLF line endings.
+ *
+ * - Fields containing a comma, quote or line break are quoted
+ * - Text starting with = + - @ is prefixed with ' so a
+ *   spreadsheet never runs a student-supplied name as a formula
+ * ============================================
+ */
+final class CsvTableWriter implements TableWriter {
+
+    private static final char BOM = '\uFEFF';
+
+    private final Writer out;
+    private boolean started;
+
+    CsvTableWriter(OutputStream out) {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeRow(Object... cells) throws IOException {
+        if (!started) {
+            out.write(BOM);
+            started = true;
+        }
+        for (int i = 0; i < cells.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeField(cells[i]);
+        }
+        out.write("\r\n");
+    }
+
+    private void writeField(Object cell) throws IOException {
+        if (cell == null) {
+            return;
+        }
+        String value = cell instanceof TemporalAccessor temporal ? TableWriter.format(temporal) : cell.toString();
+        if (cell instanceof CharSequence && !value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
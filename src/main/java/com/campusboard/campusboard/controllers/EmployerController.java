@@ -1,19 +1,35 @@
 package com.campusboard.campusboard.controllers;
 
+import com.campusboard.campusboard.cache.JobCatalogVersion;
+import com.campusboard.campusboard.dto.ApplicantPage;
+import com.campusboard.campusboard.dto.ApplicantSort;
+import com.campusboard.campusboard.dto.JobCardView;
+import com.campusboard.campusboard.dto.JobImportResult;
 import com.campusboard.campusboard.models.Job;
 import com.campusboard.campusboard.models.JobApplication;
 import com.campusboard.campusboard.models.User;
+import com.campusboard.campusboard.security.CustomUserDetails;
 import com.campusboard.campusboard.services.ApplicationService;
+import com.campusboard.campusboard.services.JobImportService;
 import com.campusboard.campusboard.services.JobService;
 import com.campusboard.campusboard.services.UserService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @Controller
@@ -29,6 +45,13 @@ public class EmployerController {
     @Autowired
     private ApplicationService applicationService;
 
+    @Autowired
+    private JobImportService jobImportService;
+
+    // ETag / Last-Modified source for conditional GETs
+    @Autowired
+    private JobCatalogVersion jobCatalogVersion;
+
     // ===========================================
     // EMPLOYER DASHBOARD
     // ===========================================
@@ -39,12 +62,18 @@ public class EmployerController {
 
     // ===========================================
     // VIEW MY JOBS
+    // Unchanged catalog -> 304 without querying anything
     // ===========================================
     @GetMapping("/jobs")
-    public String viewMyJobs(Authentication auth, Model model) {
+    public String viewMyJobs(@AuthenticationPrincipal CustomUserDetails principal,
+                             ServletWebRequest request, Model model) {
+        if (ConditionalGet.notModified(request, jobCatalogVersion.catalogVersion(),
+                jobCatalogVersion.catalogLastModified())) {
+            return null;
+        }
 
-        User employer = userService.findByEmail(auth.getName());
-        List<Job> jobs = jobService.getJobsByEmployer(employer);
+        User employer = userService.getReference(principal.getUserId());
+        List<JobCardView> jobs = jobService.getJobCardsByEmployer(employer);
 
         model.addAttribute("jobs", jobs);
         return "employer/my-jobs";
@@ -65,18 +94,57 @@ public class EmployerController {
     @PostMapping("/jobs/create")
     public String createJob(@Valid @ModelAttribute("job") Job job,
                             BindingResult result,
-                            Authentication auth) {
+                            @AuthenticationPrincipal CustomUserDetails principal) {
 
         if (result.hasErrors()) {
             return "employer/create-job";
         }
 
-        User employer = userService.findByEmail(auth.getName());
+        User employer = userService.getReference(principal.getUserId());
         jobService.createJob(job, employer);
 
         return "redirect:/employer/jobs?created";
     }
 
+    // ===========================================
+    // SHOW BULK IMPORT FORM
+    // ===========================================
+    @GetMapping("/jobs/import")
+    public String showImportForm() {
+        return "employer/import-jobs";
+    }
+
+    // ===========================================
+    // HANDLE BULK IMPORT
+    // CSV or JSON file; valid rows become PENDING jobs,
+    // the others are listed with their row number
+    // ===========================================
+    @PostMapping("/jobs/import")
+    public String importJobs(@RequestParam("file") MultipartFile file,
+                             @AuthenticationPrincipal CustomUserDetails principal,
+                             Model model) {
+
+        if (file.isEmpty()) {
+            model.addAttribute("errorMessage", "Please choose a CSV or JSON file to import.");
+            return "employer/import-jobs";
+        }
+
+        User employer = userService.getReference(principal.getUserId());
+        JobImportService.Format format =
+                JobImportService.Format.detect(file.getOriginalFilename(), file.getContentType());
+
+        JobImportResult result;
+        try (InputStream in = file.getInputStream()) {
+            result = jobImportService.importJobs(in, format, employer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        model.addAttribute("result", result);
+        model.addAttribute("fileName", file.getOriginalFilename());
+        return "employer/import-jobs";
+    }
+
     // ===========================================
     // SHOW EDIT JOB FORM
     // ===========================================
@@ -116,17 +184,118 @@ public class EmployerController {
     }
 
     // ===========================================
-    // VIEW APPLICANTS FOR A JOB  (FIXED)
+    // VIEW APPLICANTS FOR A JOB
+    // Header job comes from JobCache; applicants are one
+    // keyset page of a projection query
     // ===========================================
     @GetMapping("/jobs/{jobId}/applicants")
-    public String viewApplicants(@PathVariable Long jobId, Model model) {
+    public String viewApplicants(@PathVariable Long jobId,
+                                 @RequestParam(defaultValue = "NEWEST") ApplicantSort sort,
+                                 @RequestParam(required = false) JobApplication.Status status,
+                                 @RequestParam(required = false) String cursor,
+                                 Model model) {
 
-        Job job = jobService.getJobById(jobId);                     // ← ADDED
-        List<JobApplication> applicants = applicationService.getApplicationsForJob(jobId);
+        Job job = jobService.getJobById(jobId);
+        ApplicantPage page = applicationService.getApplicantPage(jobId, sort, status, cursor);
 
-        model.addAttribute("job", job);                             // ← ADDED
-        model.addAttribute("applications", applicants);
+        model.addAttribute("job", job);
+        model.addAttribute("applications", page.applicants());
+        model.addAttribute("sort", page.sort());
+        model.addAttribute("sorts", ApplicantSort.values());
+        model.addAttribute("status", page.status());
+        model.addAttribute("statuses", JobApplication.Status.values());
+        model.addAttribute("firstPageUrl", applicantsUrl(jobId, page.sort(), page.status(), null));
+        model.addAttribute("nextPageUrl", page.hasNext()
+                ? applicantsUrl(jobId, page.sort(), page.status(), page.nextCursor())
+                : null);
 
         return "employer/applicants";
     }
+
+    // ===========================================
+    // ACCEPT / REJECT SELECTED APPLICANTS
+    // One set-based update; applications of jobs the
+    // employer does not own are left untouched
+    // ===========================================
+    @PostMapping("/jobs/{jobId}/applicants/status")
+    public String updateApplicantStatus(@PathVariable Long jobId,
+                                        @RequestParam(name = "applicationIds", required = false) List<Long> applicationIds,
+                                        @RequestParam JobApplication.Status status,
+                                        @AuthenticationPrincipal CustomUserDetails principal) {
+
+        UriComponentsBuilder applicantsUrl = UriComponentsBuilder.fromPath("/employer/jobs/{jobId}/applicants");
+        if (applicationIds == null || applicationIds.isEmpty()) {
+            return "redirect:" + applicantsUrl.queryParam("none").buildAndExpand(jobId).toUriString();
+        }
+
+        User employer = userService.getReference(principal.getUserId());
+        try {
+            int updated = applicationService.updateApplicationStatus(jobId, applicationIds, status, employer);
+            applicantsUrl.queryParam("updated", updated);
+        } catch (IllegalArgumentException e) {
+            applicantsUrl.queryParam("error", e.getMessage());
+        }
+        return "redirect:" + applicantsUrl.buildAndExpand(jobId).encode().toUriString();
+    }
+
+    // ===========================================
+    // EXPORT APPLICANTS (CSV / XLSX)
+    // Rows are written while they come off a database
+    // cursor; only the employer's own jobs are included
+    // ===========================================
+    @GetMapping("/jobs/{jobId}/applicants/export")
+    public void exportJobApplicants(@PathVariable Long jobId,
+                                    @RequestParam(defaultValue = "CSV") ExportFormat format,
+                                    @AuthenticationPrincipal CustomUserDetails principal,
+                                    HttpServletResponse response) throws IOException {
+        exportApplicants(jobId, "applicants-job-" + jobId, format, principal, response);
+    }
+
+    @GetMapping("/applicants/export")
+    public void exportAllApplicants(@RequestParam(defaultValue = "CSV") ExportFormat format,
+                                    @AuthenticationPrincipal CustomUserDetails principal,
+                                    HttpServletResponse response) throws IOException {
+        exportApplicants(null, "applicants", format, principal, response);
+    }
+
+    private void exportApplicants(Long jobId, String fileName, ExportFormat format,
+                                  CustomUserDetails principal, HttpServletResponse response) throws IOException {
+        User employer = userService.getReference(principal.getUserId());
+
+        response.setContentType(format.contentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(fileName + "." + format.extension())
+                .build().toString());
+
+        TableWriter table = format.open(response.getOutputStream());
+        table.writeRow("Job ID", "Job Title", "Application ID", "Student Name", "Student Email",
+                "Status", "Applied At");
+        // The download starts before the first row is read
+        table.flush();
+
+        applicationService.forEachApplicantForExport(employer, jobId, row -> {
+            try {
+                table.writeRow(row.jobId(), row.jobTitle(), row.applicationId(), row.studentName(),
+                        row.studentEmail(), row.status(), row.appliedAt());
+            } catch (IOException e) {
+                // Usually the client went away; abort the database cursor too
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        // Only a complete export is ended properly; a failed one stays truncated
+        table.close();
+    }
+
+    private static String applicantsUrl(Long jobId, ApplicantSort sort, JobApplication.Status status, String cursor) {
+        UriComponentsBuilder url = UriComponentsBuilder.fromPath("/employer/jobs/{jobId}/applicants")
+                .queryParam("sort", sort);
+        if (status != null) {
+            url.queryParam("status", status);
+        }
+        if (cursor != null) {
+            url.queryParam("cursor", cursor);
+        }
+        return url.buildAndExpand(jobId).encode().toUriString();
+    }
 }
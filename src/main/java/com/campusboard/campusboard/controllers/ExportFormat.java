@@ -0,0 +1,48 @@
+package com.campusboard.campusboard.controllers;
+
+import java.io.OutputStream;
+
+/**
+ * ============================================
+ * EXPORT FORMAT
+ * ============================================
+ * File formats offered by the export endpoints.
+ * ============================================
+ */
+enum ExportFormat {
+
+    CSV("text/csv;charset=UTF-8", "csv") {
+        @Override
+        TableWriter open(OutputStream out) {
+            return new CsvTableWriter(out);
+        }
+    },
+
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx") {
+        @Override
+        TableWriter open(OutputStream out) {
+            return new XlsxTableWriter(out);
+        }
+    };
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    String contentType() {
+        return contentType;
+    }
+
+    String extension() {
+        return extension;
+    }
+
+    /**
+     * @param out - Stream to write the file to (closed by the writer)
+     */
+    abstract TableWriter open(OutputStream out);
+}
@@ -0,0 +1,118 @@
+package com.campusboard.campusboard.controllers;
+
+import com.campusboard.campusboard.dto.ApiCursor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * ============================================
+ * JSON PAGE WRITER
+ * ============================================
+ * Writes one /api/v1 list response straight to the servlet
+ * output stream while rows are still coming off the database
+ * cursor, so no list of rows is ever built in memory:
+ *
+ *     {"data": [ {...}, {...} ], "nextCursor": "..."}
+ *
+ * Ask the source for fetchLimit() rows: one more than the page
+ * size, which only tells us that a next page exists.
+ *
+ * finish() is only called after the last row; if streaming fails
+ * half-way the response stays truncated (invalid JSON) instead
+ * of looking like a complete, shorter page.
+ * ============================================
+ */
+final class JsonPageWriter<T> implements Consumer<T> {
+
+    // Page size that means "no paging" (exports)
+    static final long UNLIMITED = Long.MAX_VALUE;
+
+    /**
+     * Writes one row as a JSON object.
+     */
+    @FunctionalInterface
+    interface RowWriter<T> {
+        void write(JsonGenerator json, T row) throws IOException;
+    }
+
+    private final JsonGenerator json;
+    private final long limit;
+    private final ToLongFunction<T> idOf;
+    private final RowWriter<T> rowWriter;
+
+    private long written;
+    private long lastId;
+    private boolean hasMore;
+
+    private JsonPageWriter(JsonGenerator json, long limit, ToLongFunction<T> idOf, RowWriter<T> rowWriter) {
+        this.json = json;
+        this.limit = limit;
+        this.idOf = idOf;
+        this.rowWriter = rowWriter;
+    }
+
+    /**
+     * Commits the JSON content type and writes the start of the page.
+     *
+     * @param response - Response to stream into
+     * @param mapper - Application ObjectMapper (for its JsonFactory)
+     * @param limit - Page size, or UNLIMITED
+     * @param idOf - Primary key of a row (becomes the cursor)
+     * @param rowWriter - Writes one row
+     */
+    static <T> JsonPageWriter<T> open(HttpServletResponse response, ObjectMapper mapper, long limit,
+                                      ToLongFunction<T> idOf, RowWriter<T> rowWriter) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        JsonGenerator json = mapper.getFactory().createGenerator(response.getOutputStream());
+        json.writeStartObject();
+        json.writeArrayFieldStart("data");
+        return new JsonPageWriter<>(json, limit, idOf, rowWriter);
+    }
+
+    /**
+     * @return Number of rows to ask the source for
+     */
+    long fetchLimit() {
+        return limit == UNLIMITED ? UNLIMITED : limit + 1;
+    }
+
+    @Override
+    public void accept(T row) {
+        if (written == limit) {
+            hasMore = true;
+            return;
+        }
+
+        try {
+            rowWriter.write(json, row);
+        } catch (IOException e) {
+            // Usually the client went away; abort the database cursor too
+            throw new UncheckedIOException(e);
+        }
+        written++;
+        lastId = idOf.applyAsLong(row);
+    }
+
+    /**
+     * Writes the cursor for the next page and ends the response.
+     */
+    void finish() throws IOException {
+        json.writeEndArray();
+        if (hasMore) {
+            json.writeStringField("nextCursor", new ApiCursor(lastId).encode());
+        } else {
+            json.writeNullField("nextCursor");
+        }
+        json.writeEndObject();
+        json.close();
+    }
+}
@@ -1,23 +1,50 @@
 package com.campusboard.campusboard.controllers;
 
+import com.campusboard.campusboard.cache.JobCatalogVersion;
+import com.campusboard.campusboard.dto.AppliedJobIds;
+import com.campusboard.campusboard.dto.DeadlineWindow;
+import com.campusboard.campusboard.dto.JobFacetFilter;
+import com.campusboard.campusboard.dto.JobFeedPage;
+import com.campusboard.campusboard.dto.JobSort;
+import com.campusboard.campusboard.dto.SalaryBucket;
+import com.campusboard.campusboard.exceptions.DuplicateApplicationException;
 import com.campusboard.campusboard.models.Job;
 import com.campusboard.campusboard.models.JobApplication;
+import com.campusboard.campusboard.models.SavedSearch;
 import com.campusboard.campusboard.models.User;
+import com.campusboard.campusboard.security.CustomUserDetails;
+import com.campusboard.campusboard.services.ApplicationIngestQueue;
 import com.campusboard.campusboard.services.ApplicationService;
+import com.campusboard.campusboard.services.JobFacetService;
+import com.campusboard.campusboard.services.JobFeedBroadcaster;
+import com.campusboard.campusboard.search.SearchHit;
+import com.campusboard.campusboard.services.JobSearchService;
 import com.campusboard.campusboard.services.JobService;
+import com.campusboard.campusboard.services.SavedSearchService;
 import com.campusboard.campusboard.services.UserService;
+import jakarta.servlet.http.HttpSession;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Set;
 
 @Controller
 @RequestMapping("/student")
 public class StudentController {
 
+    // Session attribute holding the student's AppliedJobIds
+    static final String APPLIED_JOB_IDS = "appliedJobIds";
+
     @Autowired
     private JobService jobService;
 
@@ -27,6 +54,26 @@ public class StudentController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private JobSearchService jobSearchService;
+
+    @Autowired
+    private JobFacetService jobFacetService;
+
+    @Autowired
+    private SavedSearchService savedSearchService;
+
+    @Autowired
+    private JobFeedBroadcaster jobFeedBroadcaster;
+
+    // Write-behind apply path (off unless configured)
+    @Autowired
+    private ApplicationIngestQueue applicationIngestQueue;
+
+    // ETag / Last-Modified source for conditional GETs
+    @Autowired
+    private JobCatalogVersion jobCatalogVersion;
+
     // ===========================================
     // STUDENT DASHBOARD
     // ===========================================
@@ -36,36 +83,128 @@ public class StudentController {
     }
 
     // ===========================================
-    // VIEW ALL APPROVED JOBS
+    // VIEW APPROVED JOBS (ONE FEED PAGE AT A TIME)
+    // Facet counts come from memory; with facet filters
+    // selected the page is picked from the facet index too.
+    // "Applied" markers come from the session's AppliedJobIds.
+    // Unchanged catalog and applications -> 304 without
+    // querying anything else
     // ===========================================
     @GetMapping("/jobs")
-    public String viewApprovedJobs(Model model) {
-        List<Job> jobs = jobService.getApprovedJobs();
-        model.addAttribute("jobs", jobs);
+    public String viewApprovedJobs(@RequestParam(defaultValue = "NEWEST") JobSort sort,
+                                   @RequestParam(required = false) String cursor,
+                                   @RequestParam(required = false) Set<String> category,
+                                   @RequestParam(required = false) Set<String> location,
+                                   @RequestParam(required = false) Set<SalaryBucket> salary,
+                                   @RequestParam(required = false) Set<DeadlineWindow> deadline,
+                                   @AuthenticationPrincipal CustomUserDetails principal,
+                                   ServletWebRequest request,
+                                   Model model) {
+        AppliedJobIds applied = appliedJobIds(principal, request.getRequest().getSession());
+
+        // Deadline windows and "closing soonest" also move with the date
+        LocalDate today = LocalDate.now();
+        long startOfDay = today.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (ConditionalGet.notModified(request,
+                jobCatalogVersion.catalogVersion() + "." + today + "." + applied.stamp(),
+                Math.max(Math.max(jobCatalogVersion.catalogLastModified(), startOfDay), applied.changedAt()))) {
+            return null;
+        }
+
+        JobFacetFilter filter = new JobFacetFilter(
+                category == null ? Set.of() : category,
+                location == null ? Set.of() : location,
+                salary == null ? Set.of() : salary,
+                deadline == null ? Set.of() : deadline);
+
+        JobFeedPage page = filter.isEmpty()
+                ? jobService.getApprovedJobFeed(sort, cursor)
+                : jobFacetService.getFilteredJobs(filter, sort, cursor);
+
+        model.addAttribute("jobs", page.jobs());
+        model.addAttribute("sort", page.sort());
+        model.addAttribute("sorts", JobSort.values());
+        model.addAttribute("nextCursor", page.nextCursor());
+        model.addAttribute("firstPageUrl", jobsUrl(page.sort(), filter, null));
+        model.addAttribute("nextPageUrl", page.hasNext() ? jobsUrl(page.sort(), filter, page.nextCursor()) : null);
+        model.addAttribute("filter", filter);
+        model.addAttribute("facets", jobFacetService.getFacets(filter));
+        model.addAttribute("applied", applied);
         return "student/jobs";
     }
 
+    // ===========================================
+    // LIVE FEED OF NEWLY APPROVED JOBS (SERVER-SENT EVENTS)
+    // The jobs page listens here and offers a reload
+    // instead of students polling /student/jobs
+    // ===========================================
+    @GetMapping(path = "/jobs/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter liveJobs() {
+        return jobFeedBroadcaster.subscribe();
+    }
+
+    // ===========================================
+    // SEARCH JOBS (IN-MEMORY FULL-TEXT INDEX)
+    // ===========================================
+    @GetMapping("/jobs/search")
+    public String searchJobs(@RequestParam(name = "q", defaultValue = "") String query, Model model) {
+        List<SearchHit> results = jobSearchService.search(query);
+
+        model.addAttribute("query", query);
+        model.addAttribute("results", results);
+        return "student/search";
+    }
+
     // ===========================================
     // VIEW JOB DETAILS
+    // Unchanged job -> 304 without loading it
     // ===========================================
     @GetMapping("/jobs/{jobId}")
-    public String viewJobDetails(@PathVariable Long jobId, Model model) {
+    public String viewJobDetails(@PathVariable Long jobId,
+                                 @AuthenticationPrincipal CustomUserDetails principal,
+                                 ServletWebRequest request, Model model) {
+        AppliedJobIds appliedIds = appliedJobIds(principal, request.getRequest().getSession());
+        boolean applied = appliedIds.contains(jobId);
+        if (ConditionalGet.notModified(request, jobCatalogVersion.jobVersion(jobId) + (applied ? ".applied" : ""),
+                Math.max(jobCatalogVersion.jobLastModified(jobId), appliedIds.changedAt()))) {
+            return null;
+        }
+
         Job job = jobService.getJobById(jobId);
         model.addAttribute("job", job);
+        model.addAttribute("applied", applied);
         return "student/job-details";
     }
 
     // ===========================================
     // APPLY TO A JOB
+    // With write-behind on, the application is checked in
+    // memory, queued and stored moments later
     // ===========================================
     @PostMapping("/apply/{jobId}")
-    public String applyToJob(@PathVariable Long jobId, Authentication auth, Model model) {
+    public String applyToJob(@PathVariable Long jobId, @AuthenticationPrincipal CustomUserDetails principal,
+                             HttpSession session, Model model) {
 
-        User student = userService.findByEmail(auth.getName());
+        User student = userService.getReference(principal.getUserId());
+        AppliedJobIds applied = (AppliedJobIds) session.getAttribute(APPLIED_JOB_IDS);
 
         try {
-            applicationService.applyToJob(jobId, student);
-            return "redirect:/student/applications?success";
+            boolean queued = applicationIngestQueue.isEnabled();
+            if (queued) {
+                if (applied != null && applied.contains(jobId)) {
+                    throw new DuplicateApplicationException("You have already applied to this job");
+                }
+                applicationIngestQueue.submit(jobId, student.getUserId());
+            } else {
+                applicationService.applyToJob(jobId, student);
+            }
+
+            // Keep the session's set current without reloading it
+            if (applied != null) {
+                session.setAttribute(APPLIED_JOB_IDS, applied.with(jobId));
+            }
+            return queued ? "redirect:/student/applications?queued" : "redirect:/student/applications?success";
         } catch (Exception e) {
             return "redirect:/student/jobs/" + jobId + "?error=" + e.getMessage();
         }
@@ -75,12 +214,81 @@ public class StudentController {
     // VIEW MY APPLICATIONS
     // ===========================================
     @GetMapping("/applications")
-    public String viewMyApplications(Authentication auth, Model model) {
+    public String viewMyApplications(@AuthenticationPrincipal CustomUserDetails principal, Model model) {
 
-        User student = userService.findByEmail(auth.getName());
+        User student = userService.getReference(principal.getUserId());
         List<JobApplication> apps = applicationService.getApplicationsByStudent(student);
 
         model.addAttribute("applications", apps);
         return "student/applications";
     }
+
+    // ===========================================
+    // SAVED SEARCHES + ALERTS FOR NEW MATCHES
+    // ===========================================
+    @GetMapping("/saved-searches")
+    public String viewSavedSearches(@AuthenticationPrincipal CustomUserDetails principal, Model model) {
+
+        User student = userService.getReference(principal.getUserId());
+
+        model.addAttribute("savedSearches", savedSearchService.getSavedSearches(student));
+        model.addAttribute("alerts", savedSearchService.getRecentAlerts(student));
+        model.addAttribute("savedSearch", new SavedSearch());
+        return "student/saved-searches";
+    }
+
+    @PostMapping("/saved-searches")
+    public String createSavedSearch(@ModelAttribute("savedSearch") SavedSearch savedSearch,
+                                    @AuthenticationPrincipal CustomUserDetails principal) {
+
+        User student = userService.getReference(principal.getUserId());
+
+        try {
+            savedSearchService.createSavedSearch(savedSearch, student);
+            return "redirect:/student/saved-searches?saved";
+        } catch (IllegalArgumentException e) {
+            return "redirect:" + UriComponentsBuilder.fromPath("/student/saved-searches")
+                    .queryParam("error", e.getMessage()).build().encode().toUriString();
+        }
+    }
+
+    @PostMapping("/saved-searches/{savedSearchId}/delete")
+    public String deleteSavedSearch(@PathVariable Long savedSearchId,
+                                    @AuthenticationPrincipal CustomUserDetails principal) {
+
+        User student = userService.getReference(principal.getUserId());
+        savedSearchService.deleteSavedSearch(savedSearchId, student);
+        return "redirect:/student/saved-searches?deleted";
+    }
+
+    // The student's applied job IDs: the session's copy while it still
+    // matches the database, else a fresh one (stored back in the session)
+    private AppliedJobIds appliedJobIds(CustomUserDetails principal, HttpSession session) {
+        AppliedJobIds cached = (AppliedJobIds) session.getAttribute(APPLIED_JOB_IDS);
+        AppliedJobIds applied = applicationService.getAppliedJobIds(principal.getUserId(), cached);
+        if (applied != cached) {
+            session.setAttribute(APPLIED_JOB_IDS, applied);
+        }
+        return applied;
+    }
+
+    // Builds a /student/jobs link that keeps the selected sort and facets
+    private String jobsUrl(JobSort sort, JobFacetFilter filter, String cursor) {
+        UriComponentsBuilder url = UriComponentsBuilder.fromPath("/student/jobs")
+                .queryParam("sort", sort);
+        addParam(url, "category", filter.categories());
+        addParam(url, "location", filter.locations());
+        addParam(url, "salary", filter.salaries());
+        addParam(url, "deadline", filter.deadlines());
+        if (cursor != null) {
+            url.queryParam("cursor", cursor);
+        }
+        return url.build().encode().toUriString();
+    }
+
+    private static void addParam(UriComponentsBuilder url, String name, Set<?> values) {
+        if (!values.isEmpty()) {
+            url.queryParam(name, values.toArray());
+        }
+    }
 }
@@ -0,0 +1,55 @@
+package com.campusboard.campusboard.controllers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * ============================================
+ * TABLE WRITER
+ * ============================================
+ * Writes a spreadsheet-like export one row at a time straight
+ * to an output stream (see ExportFormat). Nothing but the
+ * current row is held in memory, so an export can be as long
+ * as the database cursor feeding it.
+ *
+ * Cells may be null, Strings, Numbers, enums or
+ * LocalDate/LocalDateTime values.
+ * ============================================
+ */
+interface TableWriter extends Closeable {
+
+    DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /**
+     * Writes one row (the first one is the header).
+     */
+    void writeRow(Object... cells) throws IOException;
+
+    /**
+     * Pushes what has been written so far to the client.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Ends the file; the underlying stream is closed too.
+     */
+    @Override
+    void close() throws IOException;
+
+    /**
+     * Date/time cells as text in ISO order, so they sort correctly.
+     */
+    static String format(TemporalAccessor temporal) {
+        if (temporal instanceof LocalDateTime) {
+            return DATE_TIME.format(temporal);
+        }
+        if (temporal instanceof LocalDate) {
+            return DateTimeFormatter.ISO_LOCAL_DATE.format(temporal);
+        }
+        return temporal.toString();
+    }
+}
@@ -0,0 +1,160 @@
+package com.campusboard.campusboard.controllers;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * ============================================
+ * XLSX TABLE WRITER
+ * ============================================
+ * Minimal Office Open XML workbook with a single sheet, written
+ * as a stream: the fixed package parts go out first, then the
+ * sheet's rows are deflated into the zip as they arrive. Unlike
+ * a workbook library it never holds the sheet in memory.
+ *
+ * - Text is stored as inline strings (no shared string table,
+ *   which would need every value up front)
+ * - Numbers are numeric cells; dates are written as text in
+ *   ISO order so they sort correctly without a styles part
+ * ============================================
+ */
+final class XlsxTableWriter implements TableWriter {
+
+    static final String SHEET_NAME = "Export";
+
+    private static final String XML_HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String MAIN_NS = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    private static final String RELS_NS = "http://schemas.openxmlformats.org/package/2006/relationships";
+    private static final String DOC_RELS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    private static final String CONTENT_TYPES = XML_HEADER +
+            "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">" +
+            "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>" +
+            "<Default Extension=\"xml\" ContentType=\"application/xml\"/>" +
+            "<Override PartName=\"/xl/workbook.xml\" " +
+            "ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>" +
+            "<Override PartName=\"/xl/worksheets/sheet1.xml\" " +
+            "ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>" +
+            "</Types>";
+
+    private static final String ROOT_RELS = XML_HEADER +
+            "<Relationships xmlns=\"" + RELS_NS + "\">" +
+            "<Relationship Id=\"rId1\" Type=\"" + DOC_RELS + "/officeDocument\" Target=\"xl/workbook.xml\"/>" +
+            "</Relationships>";
+
+    private static final String WORKBOOK = XML_HEADER +
+            "<workbook xmlns=\"" + MAIN_NS + "\" xmlns:r=\"" + DOC_RELS + "\">" +
+            "<sheets><sheet name=\"" + SHEET_NAME + "\" sheetId=\"1\" r:id=\"rId1\"/></sheets>" +
+            "</workbook>";
+
+    private static final String WORKBOOK_RELS = XML_HEADER +
+            "<Relationships xmlns=\"" + RELS_NS + "\">" +
+            "<Relationship Id=\"rId1\" Type=\"" + DOC_RELS + "/worksheet\" Target=\"worksheets/sheet1.xml\"/>" +
+            "</Relationships>";
+
+    private final ZipOutputStream zip;
+    private final Writer sheet;
+    private boolean started;
+    private long rowNumber;
+
+    XlsxTableWriter(OutputStream out) {
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        this.sheet = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeRow(Object... cells) throws IOException {
+        start();
+        sheet.write("<row r=\"");
+        sheet.write(Long.toString(++rowNumber));
+        sheet.write("\">");
+        for (Object cell : cells) {
+            writeCell(cell);
+        }
+        sheet.write("</row>");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        start();
+        sheet.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        start();
+        sheet.write("</sheetData></worksheet>");
+        sheet.flush();
+        zip.closeEntry();
+        zip.finish();
+        zip.close();
+    }
+
+    // =============================
+    // INTERNALS
+    // =============================
+
+    // Fixed parts first; the sheet entry stays open for the rows
+    private void start() throws IOException {
+        if (started) {
+            return;
+        }
+        started = true;
+        writeEntry("[Content_Types].xml", CONTENT_TYPES);
+        writeEntry("_rels/.rels", ROOT_RELS);
+        writeEntry("xl/workbook.xml", WORKBOOK);
+        writeEntry("xl/_rels/workbook.xml.rels", WORKBOOK_RELS);
+
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+        sheet.write(XML_HEADER);
+        sheet.write("<worksheet xmlns=\"" + MAIN_NS + "\"><sheetData>");
+    }
+
+    private void writeEntry(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    private void writeCell(Object cell) throws IOException {
+        if (cell == null) {
+            sheet.write("<c/>");
+            return;
+        }
+        if (cell instanceof Number number) {
+            sheet.write("<c><v>");
+            sheet.write(number.toString());
+            sheet.write("</v></c>");
+            return;
+        }
+
+        String text = cell instanceof TemporalAccessor temporal ? TableWriter.format(temporal) : cell.toString();
+        sheet.write("<c t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+        writeEscaped(text);
+        sheet.write("</t></is></c>");
+    }
+
+    // Escapes markup and drops characters XML 1.0 cannot hold
+    private void writeEscaped(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> sheet.write("&amp;");
+                case '<' -> sheet.write("&lt;");
+                case '>' -> sheet.write("&gt;");
+                default -> {
+                    if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+                        sheet.write(c);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.campusboard.campusboard.dto;
+
+/**
+ * ============================================
+ * API CURSOR
+ * ============================================
+ * Position of the last row returned by an /api/v1 list
+ * endpoint. Every API list is ordered by primary key, so
+ * the ID of the last row is all the next page needs.
+ *
+ * Sent to clients as a KeysetCursor token without a sort key;
+ * clients must pass it back unchanged, never build or parse it.
+ * ============================================
+ */
+public record ApiCursor(long afterId) {
+
+    // Start of every list
+    public static final ApiCursor FIRST = new ApiCursor(0);
+
+    /**
+     * Encodes this cursor as an opaque token.
+     */
+    public String encode() {
+        return new KeysetCursor(null, afterId).encode();
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token - Cursor token from the request, may be null
+     * @return The cursor, or FIRST if the token is missing
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static ApiCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+
+        KeysetCursor cursor = KeysetCursor.decode(token);
+        if (cursor == null || cursor.key() != null || cursor.id() < 0) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+        return new ApiCursor(cursor.id());
+    }
+}
@@ -0,0 +1,34 @@
+package com.campusboard.campusboard.dto;
+
+import com.campusboard.campusboard.models.JobApplication;
+
+import java.time.LocalDateTime;
+
+/**
+ * ============================================
+ * APPLICANT EXPORT ROW
+ * ============================================
+ * One line of an employer's applicant export (CSV / XLSX).
+ *
+ * Built by a streaming JobApplicationRepository constructor
+ * query, so rows are plain values: nothing is kept by the
+ * persistence context while an export runs.
+ *
+ * @param applicationId - ID of the application
+ * @param jobId - ID of the job applied to
+ * @param jobTitle - Title of the job applied to
+ * @param studentName - Full name of the student
+ * @param studentEmail - Contact email of the student
+ * @param status - Current application status
+ * @param appliedAt - When the student applied
+ * ============================================
+ */
+public record ApplicantExportRow(
+        Long applicationId,
+        Long jobId,
+        String jobTitle,
+        String studentName,
+        String studentEmail,
+        JobApplication.Status status,
+        LocalDateTime appliedAt) {
+}
@@ -0,0 +1,27 @@
+package com.campusboard.campusboard.dto;
+
+import com.campusboard.campusboard.models.JobApplication;
+
+import java.util.List;
+
+/**
+ * ============================================
+ * APPLICANT PAGE
+ * ============================================
+ * One page of a job's applicants.
+ *
+ * @param applicants - Applicants on this page, in sort order
+ * @param sort - Sort order used to build the page
+ * @param status - Status filter applied, null for every status
+ * @param nextCursor - Token for the following page, null on the last page
+ * ============================================
+ */
+public record ApplicantPage(List<ApplicantView> applicants,
+                            ApplicantSort sort,
+                            JobApplication.Status status,
+                            String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
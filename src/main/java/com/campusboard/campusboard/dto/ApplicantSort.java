@@ -0,0 +1,27 @@
+package com.campusboard.campusboard.dto;
+
+/**
+ * ============================================
+ * APPLICANT SORT
+ * ============================================
+ * Sort orders employers can pick on the applicants page.
+ * Each one ends with applicationId as a tie-breaker so pages
+ * can continue from a (key, applicationId) cursor.
+ * ============================================
+ */
+public enum ApplicantSort {
+
+    NEWEST("Newest first"),
+    STATUS("Status"),
+    NAME("Student name");
+
+    private final String label;
+
+    ApplicantSort(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
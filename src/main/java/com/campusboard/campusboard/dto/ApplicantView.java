@@ -0,0 +1,34 @@
+package com.campusboard.campusboard.dto;
+
+import com.campusboard.campusboard.models.JobApplication;
+
+import java.time.LocalDateTime;
+
+/**
+ * ============================================
+ * APPLICANT VIEW
+ * ============================================
+ * Read-only projection of one application for the employer's
+ * applicants page.
+ *
+ * Built directly by a JobApplicationRepository constructor
+ * query that joins only the student: the Job (already shown
+ * in the page header) and the student's password hash are
+ * never loaded.
+ *
+ * @param applicationId - ID of the application
+ * @param studentId - ID of the applying student
+ * @param studentName - Full name of the student
+ * @param studentEmail - Contact email of the student
+ * @param status - Current application status
+ * @param appliedAt - When the student applied
+ * ============================================
+ */
+public record ApplicantView(
+        Long applicationId,
+        Long studentId,
+        String studentName,
+        String studentEmail,
+        JobApplication.Status status,
+        LocalDateTime appliedAt) {
+}
@@ -0,0 +1,171 @@
+package com.campusboard.campusboard.dto;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.zip.CRC32;
+
+/**
+ * ============================================
+ * APPLIED JOB IDS
+ * ============================================
+ * The IDs of every job one student has applied to, kept in the
+ * student's session so job pages can mark "Applied" without a
+ * query per job.
+ *
+ * - IDs are a sorted long[]: contains() is a binary search with
+ *   no boxing or allocation, however many cards a page shows
+ * - The Stamp (number of applications, XOR of their job IDs'
+ *   CRC32 and the highest application ID) identifies the set;
+ *   comparing it with the database's stamp tells whether an
+ *   application was added or removed elsewhere (another node,
+ *   another tab, a deleted job). Unlike a sum of job IDs, two
+ *   different sets of the same size rarely share a hash, and a
+ *   swap (one removed, one added) still moves the highest ID
+ * - Remembers when it was last checked against the database
+ *   (checkedVersion, checkedAt; see AppliedJobsVersion), so
+ *   most requests use it without the stamp query
+ * - changedAt: when this node last saw the set change (loaded
+ *   or added to), for Last-Modified on pages that mark jobs
+ * - Immutable: with() and checked() return a new set, so
+ *   concurrent requests of the same session never see a
+ *   half-updated one
+ * ============================================
+ */
+public final class AppliedJobIds implements Serializable {
+
+    private static final long[] NONE = new long[0];
+
+    private final Long studentId;
+    private final long[] jobIds;
+    private final Stamp stamp;
+    private final String checkedVersion;
+    private final long checkedAt;
+    private final long changedAt;
+
+    private AppliedJobIds(Long studentId, long[] jobIds, Stamp stamp, String checkedVersion, long checkedAt,
+                          long changedAt) {
+        this.studentId = studentId;
+        this.jobIds = jobIds;
+        this.stamp = stamp;
+        this.checkedVersion = checkedVersion;
+        this.checkedAt = checkedAt;
+        this.changedAt = changedAt;
+    }
+
+    /**
+     * @param studentId - Owner of the applications
+     * @param applications - The student's applications as read from the database
+     */
+    public static AppliedJobIds of(Long studentId, Collection<Applied> applications) {
+        long[] ids = applications.isEmpty() ? NONE
+                : applications.stream().mapToLong(Applied::jobId).sorted().toArray();
+        long jobIdHash = 0;
+        long maxApplicationId = 0;
+        for (Applied applied : applications) {
+            jobIdHash ^= hash(applied.jobId());
+            maxApplicationId = Math.max(maxApplicationId, applied.applicationId());
+        }
+        return new AppliedJobIds(studentId, ids, new Stamp(ids.length, jobIdHash, maxApplicationId), null, 0,
+                System.currentTimeMillis());
+    }
+
+    /**
+     * Same value as MySQL's CRC32(job_id), which hashes the ID's
+     * decimal digits.
+     */
+    static long hash(long jobId) {
+        CRC32 crc = new CRC32();
+        crc.update(Long.toString(jobId).getBytes(StandardCharsets.US_ASCII));
+        return crc.getValue();
+    }
+
+    /**
+     * @return True if the student has applied to the job
+     */
+    public boolean contains(long jobId) {
+        return Arrays.binarySearch(jobIds, jobId) >= 0;
+    }
+
+    /**
+     * The new application's ID isn't known here, so the stamp keeps
+     * the old highest ID: the next check against the database sees
+     * a higher one and reloads the set.
+     *
+     * @return A copy that also holds jobId (this set if it already does)
+     */
+    public AppliedJobIds with(long jobId) {
+        int index = Arrays.binarySearch(jobIds, jobId);
+        if (index >= 0) {
+            return this;
+        }
+        int insertAt = -index - 1;
+        long[] ids = new long[jobIds.length + 1];
+        System.arraycopy(jobIds, 0, ids, 0, insertAt);
+        ids[insertAt] = jobId;
+        System.arraycopy(jobIds, insertAt, ids, insertAt + 1, jobIds.length - insertAt);
+        return new AppliedJobIds(studentId, ids, new Stamp(stamp.count() + 1, stamp.jobIdHash() ^ hash(jobId), stamp.maxApplicationId()),
+                checkedVersion, checkedAt, System.currentTimeMillis());
+    }
+
+    /**
+     * @param version - AppliedJobsVersion read before the check
+     * @param at - When the set was found to match the database (epoch millis)
+     * @return A copy recording the check
+     */
+    public AppliedJobIds checked(String version, long at) {
+        return new AppliedJobIds(studentId, jobIds, stamp, version, at, changedAt);
+    }
+
+    public Long studentId() {
+        return studentId;
+    }
+
+    public int size() {
+        return jobIds.length;
+    }
+
+    public Stamp stamp() {
+        return stamp;
+    }
+
+    public String checkedVersion() {
+        return checkedVersion;
+    }
+
+    public long checkedAt() {
+        return checkedAt;
+    }
+
+    public long changedAt() {
+        return changedAt;
+    }
+
+    /**
+     * One application, as loaded into the set.
+     *
+     * @param jobId - The job applied to
+     * @param applicationId - ID of the application
+     */
+    public record Applied(long jobId, long applicationId) {
+    }
+
+    /**
+     * Cheap fingerprint of a student's applications, read from the
+     * database in one aggregate query.
+     *
+     * @param count - Number of applications
+     * @param jobIdHash - XOR of CRC32 of each job ID (order doesn't matter)
+     * @param maxApplicationId - Highest application ID, 0 if none
+     */
+    public record Stamp(long count, long jobIdHash, long maxApplicationId) implements Serializable {
+
+        // For ETags
+        @Override
+        public String toString() {
+            return Long.toHexString(count) + "-" + Long.toHexString(jobIdHash) + "-"
+                    + Long.toHexString(maxApplicationId);
+        }
+    }
+}
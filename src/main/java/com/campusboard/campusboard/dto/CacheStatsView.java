@@ -0,0 +1,28 @@
+package com.campusboard.campusboard.dto;
+
+/**
+ * ============================================
+ * CACHE STATS VIEW
+ * ============================================
+ * Snapshot of a cache's counters, returned to admins so the
+ * cache can be sized from real traffic.
+ *
+ * @param hits - Lookups answered from the cache
+ * @param misses - Lookups that went to the database
+ * @param hitRate - hits / (hits + misses)
+ * @param evictions - Entries dropped to stay under the weight limit
+ * @param invalidations - Entries dropped because a job changed
+ * @param entries - Entries currently cached
+ * @param weight - Current total weight (approximate bytes)
+ * @param maxWeight - Configured weight limit
+ * ============================================
+ */
+public record CacheStatsView(long hits,
+                             long misses,
+                             double hitRate,
+                             long evictions,
+                             long invalidations,
+                             long entries,
+                             long weight,
+                             long maxWeight) {
+}
@@ -0,0 +1,40 @@
+package com.campusboard.campusboard.dto;
+
+/**
+ * ============================================
+ * DEADLINE WINDOW
+ * ============================================
+ * Application deadline ranges offered as a filter on the job
+ * list, measured in days from today (inclusive bounds).
+ * Postings whose deadline already passed fall in no window.
+ * ============================================
+ */
+public enum DeadlineWindow {
+
+    THIS_WEEK("Closing this week", 0, 6),
+    THIS_MONTH("Closing this month", 7, 30),
+    LATER("Closing later", 31, Integer.MAX_VALUE),
+    NO_DEADLINE("No deadline", -1, -1);
+
+    private final String label;
+    private final int fromDays;
+    private final int toDays;
+
+    DeadlineWindow(String label, int fromDays, int toDays) {
+        this.label = label;
+        this.fromDays = fromDays;
+        this.toDays = toDays;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getFromDays() {
+        return fromDays;
+    }
+
+    public int getToDays() {
+        return toDays;
+    }
+}
@@ -0,0 +1,16 @@
+package com.campusboard.campusboard.dto;
+
+/**
+ * ============================================
+ * FACET VALUE
+ * ============================================
+ * One entry of a facet, e.g. "Tutoring (12)".
+ *
+ * @param key - Value sent back as a filter parameter
+ * @param label - Text shown to the student
+ * @param count - Matching jobs if this value were selected
+ * @param selected - Whether the value is currently selected
+ * ============================================
+ */
+public record FacetValue(String key, String label, int count, boolean selected) {
+}
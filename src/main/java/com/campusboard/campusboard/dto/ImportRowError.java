@@ -0,0 +1,16 @@
+package com.campusboard.campusboard.dto;
+
+/**
+ * ============================================
+ * IMPORT ROW ERROR
+ * ============================================
+ * Why one row of a bulk import was skipped (see JobImportResult
+ * and RosterImportProgress).
+ *
+ * @param row - Row number as a spreadsheet shows it (CSV header is row 1),
+ *              or position in a JSON array (first is 1)
+ * @param message - What is wrong with the row
+ * ============================================
+ */
+public record ImportRowError(int row, String message) {
+}
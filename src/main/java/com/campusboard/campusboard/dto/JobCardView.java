@@ -0,0 +1,45 @@
+package com.campusboard.campusboard.dto;
+
+import com.campusboard.campusboard.models.Job;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * ============================================
+ * JOB CARD VIEW
+ * ============================================
+ * Read-only projection of a job for the list pages
+ * (student feed, employer "My Jobs", admin pending queue).
+ *
+ * Built directly by JobRepository constructor queries, so
+ * only these columns are read: neither the full description
+ * nor the employer's User row (password hash included) is
+ * ever loaded.
+ *
+ * @param jobId - ID of the job
+ * @param title - Job title
+ * @param employerName - Full name of the posting employer
+ * @param employerEmail - Contact email of the posting employer
+ * @param location - Job location
+ * @param salary - Hourly salary, may be null
+ * @param category - Job category
+ * @param deadline - Application deadline
+ * @param summary - Stored description excerpt (see TextSummarizer)
+ * @param status - Approval status
+ * @param createdAt - When the job was posted
+ * ============================================
+ */
+public record JobCardView(
+        Long jobId,
+        String title,
+        String employerName,
+        String employerEmail,
+        String location,
+        Double salary,
+        String category,
+        LocalDate deadline,
+        String summary,
+        Job.Status status,
+        LocalDateTime createdAt) {
+}
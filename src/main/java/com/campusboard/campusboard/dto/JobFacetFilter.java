@@ -0,0 +1,24 @@
+package com.campusboard.campusboard.dto;
+
+import java.util.Set;
+
+/**
+ * ============================================
+ * JOB FACET FILTER
+ * ============================================
+ * Facet values selected on the job list.
+ * Values within one facet are OR-ed, facets are AND-ed.
+ * Category and location hold normalized keys (see FacetNormalizer).
+ * ============================================
+ */
+public record JobFacetFilter(Set<String> categories,
+                             Set<String> locations,
+                             Set<SalaryBucket> salaries,
+                             Set<DeadlineWindow> deadlines) {
+
+    public static final JobFacetFilter NONE = new JobFacetFilter(Set.of(), Set.of(), Set.of(), Set.of());
+
+    public boolean isEmpty() {
+        return categories.isEmpty() && locations.isEmpty() && salaries.isEmpty() && deadlines.isEmpty();
+    }
+}
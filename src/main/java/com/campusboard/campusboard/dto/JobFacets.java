@@ -0,0 +1,23 @@
+package com.campusboard.campusboard.dto;
+
+import java.util.List;
+
+/**
+ * ============================================
+ * JOB FACETS
+ * ============================================
+ * Facet counts for the job list under the current filter.
+ *
+ * @param categories - Category facet
+ * @param locations - Location facet (most common values only)
+ * @param salaries - Salary bucket facet
+ * @param deadlines - Deadline window facet
+ * @param total - Number of approved jobs matching the filter
+ * ============================================
+ */
+public record JobFacets(List<FacetValue> categories,
+                        List<FacetValue> locations,
+                        List<FacetValue> salaries,
+                        List<FacetValue> deadlines,
+                        int total) {
+}
@@ -0,0 +1,21 @@
+package com.campusboard.campusboard.dto;
+
+import java.util.List;
+
+/**
+ * ============================================
+ * JOB FEED PAGE
+ * ============================================
+ * One page of the student job feed.
+ *
+ * @param jobs - Jobs on this page, in feed order
+ * @param sort - Sort order used to build the page
+ * @param nextCursor - Token for the following page, null on the last page
+ * ============================================
+ */
+public record JobFeedPage(List<JobCardView> jobs, JobSort sort, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
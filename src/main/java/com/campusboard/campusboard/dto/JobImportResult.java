@@ -0,0 +1,29 @@
+package com.campusboard.campusboard.dto;
+
+import java.util.List;
+
+/**
+ * ============================================
+ * JOB IMPORT RESULT
+ * ============================================
+ * Outcome of one bulk job import (see JobImportService).
+ *
+ * @param imported - Jobs created (as PENDING)
+ * @param rejected - Rows skipped because they failed validation
+ * @param errors - Why rows were skipped; only the first few are kept
+ * @param fileError - Why the rest of the file could not be read,
+ *                    null if it was read to the end
+ * ============================================
+ */
+public record JobImportResult(int imported,
+                              int rejected,
+                              List<ImportRowError> errors,
+                              String fileError) {
+
+    /**
+     * @return True if more rows were rejected than errors are listed
+     */
+    public boolean hasMoreErrors() {
+        return rejected > errors.size();
+    }
+}
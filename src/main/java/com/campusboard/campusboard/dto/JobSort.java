@@ -0,0 +1,27 @@
+package com.campusboard.campusboard.dto;
+
+/**
+ * ============================================
+ * JOB SORT
+ * ============================================
+ * Sort orders students can pick on the job feed.
+ * Each one is backed by a (status, key, job_id) index on JOB
+ * so every page is a short index range scan.
+ * ============================================
+ */
+public enum JobSort {
+
+    NEWEST("Newest first"),
+    HIGHEST_SALARY("Highest salary"),
+    CLOSING_SOONEST("Closing soonest");
+
+    private final String label;
+
+    JobSort(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
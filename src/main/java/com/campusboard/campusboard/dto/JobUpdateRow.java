@@ -0,0 +1,17 @@
+package com.campusboard.campusboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * ============================================
+ * JOB UPDATE ROW
+ * ============================================
+ * One row of JobRepository.findUpdatedSince; JobCatalogVersion
+ * uses these to notice changes made on other nodes.
+ *
+ * @param jobId - ID of the changed job
+ * @param updatedAt - When it last changed
+ * ============================================
+ */
+public record JobUpdateRow(Long jobId, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,159 @@
+package com.campusboard.campusboard.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * ============================================
+ * KEYSET CURSOR
+ * ============================================
+ * Position of the last row on a keyset-paginated page: the
+ * value of the sort key plus the row's ID used as a tie-breaker,
+ * so the next page can continue with "WHERE (key, id) > (...)"
+ * instead of an OFFSET scan. Shared by the job feed, the
+ * applicant list, Manage Users and the /api/v1 lists.
+ *
+ * - Sent as an opaque URL-safe token
+ * - A null key is marked by a flag, not a reserved value, so
+ *   every string (including "~" or "") round-trips
+ * - keyAsDateTime() and friends read the key back; a missing
+ *   or tampered key gives null and the list restarts
+ * ============================================
+ */
+public record KeysetCursor(String key, long id) {
+
+    private static final char NULL_KEY = '-';
+    private static final char KEY = '+';
+
+    /**
+     * Encodes this cursor as an opaque token.
+     */
+    public String encode() {
+        String raw = id + "|" + (key == null ? String.valueOf(NULL_KEY) : KEY + key);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token - Cursor token from the request, may be null
+     * @return The cursor, or null if the token is missing or malformed
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int split = raw.indexOf('|');
+            if (split < 0 || split == raw.length() - 1) {
+                return null;
+            }
+
+            long id = Long.parseLong(raw.substring(0, split));
+            char flag = raw.charAt(split + 1);
+            if (flag == NULL_KEY && split + 2 == raw.length()) {
+                return new KeysetCursor(null, id);
+            }
+            return flag == KEY ? new KeysetCursor(raw.substring(split + 2), id) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // =============================
+    // READING THE KEY
+    // =============================
+
+    /**
+     * @return The key as a timestamp, or null if missing or unreadable
+     */
+    public LocalDateTime keyAsDateTime() {
+        if (key == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return The key as a date, or null if missing or unreadable
+     */
+    public LocalDate keyAsDate() {
+        if (key == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(key);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return The key as a number, or null if missing or unreadable
+     */
+    public Double keyAsNumber() {
+        if (key == null) {
+            return null;
+        }
+        try {
+            Double number = Double.valueOf(key);
+            return number.isNaN() ? null : number;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return The key as an int, or null if missing or unreadable
+     */
+    public Integer keyAsInt() {
+        if (key == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(key);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // =============================
+    // CUTTING A PAGE
+    // =============================
+
+    /**
+     * Cuts a page from rows fetched with one extra row (the extra
+     * row only says whether another page exists).
+     *
+     * @param fetched - Up to pageSize + 1 rows, in sort order
+     * @param pageSize - Rows per page
+     * @param position - Cursor of a row (its sort key and ID)
+     * @return The page's rows and the token for the next page
+     */
+    public static <T> Slice<T> slice(List<T> fetched, int pageSize, Function<T, KeysetCursor> position) {
+        if (fetched.size() <= pageSize) {
+            return new Slice<>(fetched, null);
+        }
+        List<T> rows = fetched.subList(0, pageSize);
+        return new Slice<>(rows, position.apply(rows.get(pageSize - 1)).encode());
+    }
+
+    /**
+     * @param rows - Rows on the page
+     * @param nextCursor - Token for the following page, null on the last page
+     */
+    public record Slice<T>(List<T> rows, String nextCursor) {
+    }
+}
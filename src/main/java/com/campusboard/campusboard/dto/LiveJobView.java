@@ -0,0 +1,38 @@
+package com.campusboard.campusboard.dto;
+
+import com.campusboard.campusboard.models.Job;
+
+/**
+ * ============================================
+ * LIVE JOB VIEW
+ * ============================================
+ * What the live feed (JobFeedBroadcaster) pushes for a newly
+ * approved job: just enough for a "new job" notice and a link,
+ * never the description.
+ *
+ * @param jobId - ID of the job
+ * @param title - Job title
+ * @param employerName - Full name of the posting employer
+ * @param location - Job location
+ * @param salary - Hourly salary, may be null
+ * @param category - Job category
+ * ============================================
+ */
+public record LiveJobView(
+        Long jobId,
+        String title,
+        String employerName,
+        String location,
+        Double salary,
+        String category) {
+
+    public static LiveJobView of(Job job) {
+        return new LiveJobView(
+                job.getJobId(),
+                job.getTitle(),
+                job.getEmployer() == null ? null : job.getEmployer().getFullName(),
+                job.getLocation(),
+                job.getSalary(),
+                job.getCategory());
+    }
+}
@@ -0,0 +1,29 @@
+package com.campusboard.campusboard.dto;
+
+import java.util.List;
+
+/**
+ * ============================================
+ * ROSTER IMPORT PROGRESS
+ * ============================================
+ * Where a student roster import stands (see RosterImportService).
+ * One is streamed to the admin after every chunk; the last one
+ * (done) also lists why rows were skipped.
+ *
+ * @param rows - Roster rows read so far
+ * @param imported - Student accounts created so far
+ * @param rejected - Rows skipped so far
+ * @param errors - Why rows were skipped, by row; only the first few
+ *                 are kept, and only the last message carries them
+ * @param fileError - Why the rest of the file could not be imported,
+ *                    null if it was read to the end
+ * @param done - True for the last message of the import
+ * ============================================
+ */
+public record RosterImportProgress(int rows,
+                                   int imported,
+                                   int rejected,
+                                   List<ImportRowError> errors,
+                                   String fileError,
+                                   boolean done) {
+}
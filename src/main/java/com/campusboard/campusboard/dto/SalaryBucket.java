@@ -0,0 +1,49 @@
+package com.campusboard.campusboard.dto;
+
+/**
+ * ============================================
+ * SALARY BUCKET
+ * ============================================
+ * Hourly wage ranges offered as a filter on the job list.
+ * Lower bound inclusive, upper bound exclusive.
+ * ============================================
+ */
+public enum SalaryBucket {
+
+    UNDER_12("Under $12/hr", 0, 12),
+    FROM_12_TO_15("$12 - $15/hr", 12, 15),
+    FROM_15_TO_20("$15 - $20/hr", 15, 20),
+    OVER_20("$20+/hr", 20, Double.MAX_VALUE),
+    NOT_LISTED("Not listed", -1, -1);
+
+    private final String label;
+    private final double min;
+    private final double max;
+
+    SalaryBucket(String label, double min, double max) {
+        this.label = label;
+        this.min = min;
+        this.max = max;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * @param salary - Hourly wage, may be null
+     * @return The bucket the wage falls into
+     */
+    public static SalaryBucket of(Double salary) {
+        if (salary == null) {
+            return NOT_LISTED;
+        }
+        for (SalaryBucket bucket : values()) {
+            if (salary >= bucket.min && salary < bucket.max) {
+                return bucket;
+            }
+        }
+        // Negative wages only come from bad data
+        return UNDER_12;
+    }
+}
@@ -0,0 +1,18 @@
+package com.campusboard.campusboard.dto;
+
+import com.campusboard.campusboard.models.User;
+
+/**
+ * ============================================
+ * USER COUNT ROW
+ * ============================================
+ * One row of UserRepository.countByRoleAndStatus (GROUP BY
+ * role, status); combined into UserCounts.
+ *
+ * @param role - Role of the counted users
+ * @param status - Status of the counted users
+ * @param count - Number of users with both
+ * ============================================
+ */
+public record UserCountRow(User.Role role, User.Status status, long count) {
+}
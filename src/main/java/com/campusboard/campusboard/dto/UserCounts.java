@@ -0,0 +1,52 @@
+package com.campusboard.campusboard.dto;
+
+import com.campusboard.campusboard.models.User;
+
+import java.util.List;
+
+/**
+ * ============================================
+ * USER COUNTS
+ * ============================================
+ * The stat tiles of the Manage Users page, from one
+ * GROUP BY role, status query instead of counting a list of
+ * every user.
+ *
+ * @param total - Every account
+ * @param active - ACTIVE accounts
+ * @param inactive - INACTIVE accounts
+ * @param students - STUDENT accounts
+ * @param employers - EMPLOYER accounts
+ * @param admins - ADMIN accounts
+ * ============================================
+ */
+public record UserCounts(long total,
+                         long active,
+                         long inactive,
+                         long students,
+                         long employers,
+                         long admins) {
+
+    /**
+     * @param rows - One count per (role, status) pair present
+     */
+    public static UserCounts from(List<UserCountRow> rows) {
+        long total = 0, active = 0, inactive = 0, students = 0, employers = 0, admins = 0;
+        for (UserCountRow row : rows) {
+            total += row.count();
+            if (row.status() == User.Status.ACTIVE) {
+                active += row.count();
+            } else if (row.status() == User.Status.INACTIVE) {
+                inactive += row.count();
+            }
+            if (row.role() == User.Role.STUDENT) {
+                students += row.count();
+            } else if (row.role() == User.Role.EMPLOYER) {
+                employers += row.count();
+            } else if (row.role() == User.Role.ADMIN) {
+                admins += row.count();
+            }
+        }
+        return new UserCounts(total, active, inactive, students, employers, admins);
+    }
+}
@@ -0,0 +1,31 @@
+package com.campusboard.campusboard.dto;
+
+import com.campusboard.campusboard.models.User;
+
+import java.util.List;
+
+/**
+ * ============================================
+ * USER PAGE
+ * ============================================
+ * One page of the admin's Manage Users table.
+ *
+ * @param users - Users on this page, in sort order
+ * @param sort - Sort order used to build the page
+ * @param role - Role filter applied, null for every role
+ * @param status - Status filter applied, null for every status
+ * @param search - Name/email search applied, null for none
+ * @param nextCursor - Token for the following page, null on the last page
+ * ============================================
+ */
+public record UserPage(List<UserView> users,
+                       UserSort sort,
+                       User.Role role,
+                       User.Status status,
+                       String search,
+                       String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
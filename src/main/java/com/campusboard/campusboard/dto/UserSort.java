@@ -0,0 +1,27 @@
+package com.campusboard.campusboard.dto;
+
+/**
+ * ============================================
+ * USER SORT
+ * ============================================
+ * Sort orders admins can pick on the Manage Users page.
+ * Each one ends with userId as a tie-breaker so pages can
+ * continue from a (key, userId) cursor.
+ * ============================================
+ */
+public enum UserSort {
+
+    NEWEST("Newest first"),
+    NAME("Name"),
+    EMAIL("Email");
+
+    private final String label;
+
+    UserSort(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,30 @@
+package com.campusboard.campusboard.dto;
+
+import com.campusboard.campusboard.models.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * ============================================
+ * USER VIEW
+ * ============================================
+ * Read-only projection of one account for the admin's Manage
+ * Users table, built by a UserRepository constructor query:
+ * the password hash is never loaded.
+ *
+ * @param userId - ID of the user
+ * @param fullName - Full name of the user
+ * @param email - Email the user logs in with
+ * @param role - STUDENT, EMPLOYER or ADMIN
+ * @param status - ACTIVE or INACTIVE
+ * @param createdAt - When the account was created
+ * ============================================
+ */
+public record UserView(
+        Long userId,
+        String fullName,
+        String email,
+        User.Role role,
+        User.Status status,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,44 @@
+package com.campusboard.campusboard.events;
+
+import com.campusboard.campusboard.models.Job;
+
+/**
+ * ============================================
+ * JOB CHANGED EVENT
+ * ============================================
+ * Published by JobService after a job has been saved or deleted,
+ * and by JobExpirySweeper for each job it closes.
+ * In-memory views of the job catalog (search index, etc.)
+ * listen for it to stay in sync without re-reading the database.
+ *
+ * Listeners use @TransactionalEventListener(AFTER_COMMIT) with
+ * fallbackExecution: inside a transaction (createJobs) they run
+ * only once it commits, so a rolled-back batch never reaches the
+ * caches, and ETags are never bumped before the new rows are
+ * visible to the requests that reload them. Outside one they run
+ * immediately, as before.
+ *
+ * @param type - What happened to the job
+ * @param jobId - ID of the affected job
+ * @param job - The job as saved, or null when it was deleted or
+ *              closed by a bulk update
+ * ============================================
+ */
+public record JobChangedEvent(Type type, Long jobId, Job job) {
+
+    public enum Type {
+        CREATED, UPDATED, APPROVED, REJECTED, DELETED, CLOSED
+    }
+
+    public static JobChangedEvent of(Type type, Job job) {
+        return new JobChangedEvent(type, job.getJobId(), job);
+    }
+
+    public static JobChangedEvent deleted(Long jobId) {
+        return new JobChangedEvent(Type.DELETED, jobId, null);
+    }
+
+    public static JobChangedEvent closed(Long jobId) {
+        return new JobChangedEvent(Type.CLOSED, jobId, null);
+    }
+}
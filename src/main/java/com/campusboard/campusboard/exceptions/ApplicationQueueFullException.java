@@ -0,0 +1,7 @@
+package com.campusboard.campusboard.exceptions;
+
+public class ApplicationQueueFullException extends RuntimeException {
+    public ApplicationQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,8 @@
 package com.campusboard.campusboard.exceptions;
 
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -34,6 +37,16 @@ public class GlobalExceptionHandler {
         return "error/custom-error";
     }
 
+    // ================================
+    // PASSWORD HASHING QUEUE FULL
+    // ================================
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public String handlePasswordHashingBusy(PasswordHashingBusyException ex, HttpServletResponse response) {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        return "error/429";
+    }
+
     // ================================
     // GENERIC EXCEPTION (fallback)
     // ================================
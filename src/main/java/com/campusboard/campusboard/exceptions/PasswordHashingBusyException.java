@@ -0,0 +1,7 @@
+package com.campusboard.campusboard.exceptions;
+
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,99 @@
+package com.campusboard.campusboard.migrations;
+
+import com.campusboard.campusboard.models.IdGenerators;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * ============================================
+ * ID GENERATOR MIGRATION
+ * ============================================
+ * One-off migration from IDENTITY columns to the pooled table
+ * generators (see IdGenerators). Hibernate creates ID_GENERATOR
+ * (ddl-auto=update), but would start every generator at 1 and
+ * collide with rows inserted under AUTO_INCREMENT; this moves
+ * each generator past the highest existing ID.
+ *
+ * - Runs while the context starts (after Hibernate, before the
+ *   web server), so no request can insert with a stale generator
+ * - Only ever raises next_val, so it is safe to run on every
+ *   start and from several nodes at once
+ * - Does nothing on an empty database
+ * ============================================
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class IdGeneratorMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(IdGeneratorMigration.class);
+
+    /**
+     * One pooled generator and the table whose IDs it hands out.
+     */
+    record Generator(String name, String table, String idColumn) {
+    }
+
+    static final List<Generator> GENERATORS = List.of(
+            new Generator("user", "user", "user_id"),
+            new Generator("job", "job", "job_id"),
+            new Generator("job_application", "job_application", "application_id"));
+
+    private static final String TABLE = IdGenerators.TABLE.toLowerCase();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void run() {
+        for (Generator generator : GENERATORS) {
+            if (seed(generator)) {
+                log.info("Moved ID generator '{}' past the existing {} rows", generator.name(), generator.table());
+            }
+        }
+    }
+
+    /**
+     * @return true if the generator had to be moved
+     */
+    boolean seed(Generator generator) {
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT MAX(" + generator.idColumn() + ") FROM " + generator.table(), Long.class);
+        if (maxId == null) {
+            return false;
+        }
+
+        // The pooled optimizer reading N uses IDs N - ALLOCATION_SIZE + 1 .. N
+        long nextValue = maxId + IdGenerators.ALLOCATION_SIZE;
+
+        int raised = jdbcTemplate.update("UPDATE " + TABLE + " SET " + IdGenerators.VALUE_COLUMN + " = ? " +
+                        "WHERE " + IdGenerators.NAME_COLUMN + " = ? AND " + IdGenerators.VALUE_COLUMN + " < ?",
+                nextValue, generator.name(), nextValue);
+        if (raised > 0) {
+            return true;
+        }
+
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + TABLE +
+                " WHERE " + IdGenerators.NAME_COLUMN + " = ?", Integer.class, generator.name());
+        if (rows != null && rows > 0) {
+            // Already ahead of the existing rows
+            return false;
+        }
+
+        try {
+            jdbcTemplate.update("INSERT INTO " + TABLE + " (" + IdGenerators.NAME_COLUMN + ", " +
+                    IdGenerators.VALUE_COLUMN + ") VALUES (?, ?)", generator.name(), nextValue);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // Another node inserted it first; make sure it is high enough
+            return seed(generator);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.campusboard.campusboard.migrations;
+
+import com.campusboard.campusboard.models.Job;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * ============================================
+ * JOB DEADLINE MIGRATION
+ * ============================================
+ * One-off MySQL migration for the typed JOB.deadline column and
+ * the new CLOSED status. ddl-auto=update adds columns but never
+ * changes the type of an existing one, so databases created
+ * before this release still have:
+ *
+ * - deadline as VARCHAR: values are rewritten as yyyy-MM-dd
+ *   (unparseable ones become NULL, i.e. "no deadline"), then the
+ *   column is altered to DATE so idx_job_status_deadline orders
+ *   and range-scans real dates
+ * - status as ENUM('PENDING','APPROVED','REJECTED'): widened to
+ *   every Job.Status value so jobs can be CLOSED
+ *
+ * Runs first among the startup runners, since loading a Job
+ * needs both columns in shape. Does nothing once migrated, or
+ * on other databases.
+ * ============================================
+ */
+@Component
+@Order(1)
+public class JobDeadlineMigration implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(JobDeadlineMigration.class);
+
+    static final int CHUNK_SIZE = 500;
+
+    // Formats seen in free-text deadlines, tried in order
+    private static final List<DateTimeFormatter> LEGACY_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("M/d/uuuu"),
+            DateTimeFormatter.ofPattern("d.M.uuuu"),
+            DateTimeFormatter.ofPattern("MMM d, uuuu", Locale.ENGLISH),
+            DateTimeFormatter.ofPattern("MMMM d, uuuu", Locale.ENGLISH));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        migrate();
+    }
+
+    /**
+     * @return true if the schema had to be changed
+     */
+    boolean migrate() {
+        String database = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equals(database)) {
+            return false;
+        }
+
+        Map<String, Column> columns = new HashMap<>();
+        jdbcTemplate.query("SELECT TABLE_NAME, COLUMN_NAME, COLUMN_TYPE FROM INFORMATION_SCHEMA.COLUMNS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND LOWER(TABLE_NAME) = 'job' " +
+                        "AND COLUMN_NAME IN ('deadline', 'status')",
+                rs -> {
+                    Column column = new Column(rs.getString(1), rs.getString(3).toLowerCase(Locale.ROOT));
+                    columns.put(rs.getString(2), column);
+                });
+
+        boolean changed = false;
+
+        Column deadline = columns.get("deadline");
+        if (deadline != null && !deadline.type().equals("date")) {
+            convertDeadlines(deadline.table());
+            changed = true;
+        }
+
+        Column status = columns.get("status");
+        if (status != null && status.type().startsWith("enum(") && !status.type().contains("'closed'")) {
+            String values = Arrays.stream(Job.Status.values())
+                    .map(value -> "'" + value.name() + "'")
+                    .collect(Collectors.joining(","));
+            jdbcTemplate.execute("ALTER TABLE `" + status.table() + "` MODIFY `status` ENUM(" + values + ")");
+            log.info("Widened {}.status to {}", status.table(), values);
+            changed = true;
+        }
+
+        return changed;
+    }
+
+    private void convertDeadlines(String table) {
+        int rewritten = 0;
+        int cleared = 0;
+        long lastId = 0;
+
+        while (true) {
+            List<Map<String, Object>> chunk = jdbcTemplate.queryForList(
+                    "SELECT job_id, deadline FROM `" + table + "` " +
+                            "WHERE job_id > ? AND deadline IS NOT NULL ORDER BY job_id LIMIT ?",
+                    lastId, CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> updates = new ArrayList<>();
+            for (Map<String, Object> row : chunk) {
+                String raw = String.valueOf(row.get("deadline"));
+                LocalDate date = parseLegacy(raw);
+                if (date == null) {
+                    updates.add(new Object[]{null, row.get("job_id")});
+                    cleared++;
+                } else if (!date.toString().equals(raw)) {
+                    updates.add(new Object[]{date.toString(), row.get("job_id")});
+                    rewritten++;
+                }
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE `" + table + "` SET deadline = ? WHERE job_id = ?", updates);
+            }
+
+            lastId = ((Number) chunk.get(chunk.size() - 1).get("job_id")).longValue();
+        }
+
+        jdbcTemplate.execute("ALTER TABLE `" + table + "` MODIFY `deadline` DATE NULL");
+        log.info("Converted {}.deadline to DATE ({} value(s) reformatted, {} unreadable cleared)",
+                table, rewritten, cleared);
+    }
+
+    /**
+     * @param raw - Deadline as typed before the column was a DATE
+     * @return The date, or null if it is blank or in no known format
+     */
+    static LocalDate parseLegacy(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return null;
+        }
+        for (DateTimeFormatter format : LEGACY_FORMATS) {
+            try {
+                return LocalDate.parse(raw.trim(), format);
+            } catch (DateTimeParseException e) {
+                // try the next format
+            }
+        }
+        return null;
+    }
+
+    private record Column(String table, String type) {
+    }
+}
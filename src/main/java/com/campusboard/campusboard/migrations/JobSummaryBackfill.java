@@ -0,0 +1,82 @@
+package com.campusboard.campusboard.migrations;
+
+import com.campusboard.campusboard.search.TextSummarizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ============================================
+ * JOB SUMMARY BACKFILL
+ * ============================================
+ * One-off migration for JOB.summary. Hibernate adds the
+ * column (ddl-auto=update), but jobs saved before it existed
+ * have no summary yet; this fills them in at startup.
+ *
+ * - Runs before ApplicationReadyEvent, so the search and facet
+ *   indexes are built from backfilled rows
+ * - Walks the missing rows in jobId order, CHUNK_SIZE at a time,
+ *   reading only (job_id, description) and writing the chunk
+ *   back as one batched UPDATE, like JobDeadlineMigration; no
+ *   entities are loaded or merged
+ * - Does nothing once every job has a summary
+ * ============================================
+ */
+@Component
+@Order(2)
+public class JobSummaryBackfill implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(JobSummaryBackfill.class);
+
+    static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int filled = backfill();
+        if (filled > 0) {
+            log.info("Backfilled summaries for {} job(s)", filled);
+        }
+    }
+
+    /**
+     * @return Number of jobs that got a summary
+     */
+    int backfill() {
+        int filled = 0;
+        long lastId = 0;
+
+        while (true) {
+            List<Missing> chunk = jdbcTemplate.query(
+                    "SELECT job_id, description FROM job " +
+                            "WHERE job_id > ? AND summary IS NULL ORDER BY job_id LIMIT ?",
+                    (rs, rowNum) -> new Missing(rs.getLong("job_id"), rs.getString("description")),
+                    lastId, CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                return filled;
+            }
+
+            List<Object[]> updates = new ArrayList<>(chunk.size());
+            for (Missing job : chunk) {
+                updates.add(new Object[]{TextSummarizer.summarize(job.description()), job.jobId()});
+            }
+            jdbcTemplate.batchUpdate("UPDATE job SET summary = ? WHERE job_id = ?", updates);
+
+            filled += chunk.size();
+            lastId = chunk.get(chunk.size() - 1).jobId();
+        }
+    }
+
+    private record Missing(long jobId, String description) {
+    }
+}
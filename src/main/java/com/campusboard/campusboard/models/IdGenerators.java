@@ -0,0 +1,35 @@
+package com.campusboard.campusboard.models;
+
+/**
+ * ============================================
+ * ID GENERATORS
+ * ============================================
+ * Shared settings of the pooled table generators used for
+ * USER, JOB and JOB_APPLICATION primary keys.
+ *
+ * MySQL has no sequences, and IDENTITY columns make Hibernate
+ * insert each row on its own as soon as it is persisted (it
+ * needs the generated key back), which silently turns JDBC
+ * batching off. A table generator instead hands out IDs from
+ * memory:
+ *
+ * - ID_GENERATOR holds one row per entity; each fetch reserves
+ *   ALLOCATION_SIZE IDs in a single UPDATE
+ * - With Hibernate's "pooled" optimizer a stored next_val of N
+ *   means IDs up to N are taken (see IdGeneratorMigration)
+ * - Reserved but unused IDs are lost on restart, so IDs stay
+ *   unique and increasing but may have gaps
+ * ============================================
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "ID_GENERATOR";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+
+    // IDs reserved per round trip; matches hibernate.jdbc.batch_size
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
@@ -3,14 +3,28 @@ package com.campusboard.campusboard.models;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "JOB")
+@Table(name = "JOB",
+        indexes = {
+                // Keyset indexes backing each student feed sort order (see JobSort)
+                @Index(name = "idx_job_status_created", columnList = "status, created_at, job_id"),
+                @Index(name = "idx_job_status_salary", columnList = "status, salary, job_id"),
+                @Index(name = "idx_job_status_deadline", columnList = "status, deadline, job_id"),
+                // Changes made on other nodes (JobCatalogVersion)
+                @Index(name = "idx_job_updated", columnList = "updated_at")
+        })
 public class Job {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "job_id")
+    @TableGenerator(name = "job_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.NAME_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "job", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long jobId;
 
     // =========== RELATIONSHIP ===========
@@ -26,13 +40,18 @@ public class Job {
     @NotBlank
     private String description;
 
+    // Card excerpt of the description, set by JobService on every save
+    private String summary;
+
     private String location;
 
     private Double salary;
 
     private String category;
 
-    private String deadline;
+    // Last day applications are accepted; past it the job is CLOSED (see JobExpirySweeper)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate deadline;
 
     @Enumerated(EnumType.STRING)
     private Status status = Status.PENDING;
@@ -42,7 +61,7 @@ public class Job {
 
     // =========== ENUM ===========
     public enum Status {
-        PENDING, APPROVED, REJECTED
+        PENDING, APPROVED, REJECTED, CLOSED
     }
 
     // =========== GETTERS & SETTERS ===========
@@ -79,6 +98,14 @@ public class Job {
         this.description = description;
     }
 
+    public String getSummary() {
+        return summary;
+    }
+
+    public void setSummary(String summary) {
+        this.summary = summary;
+    }
+
     public String getLocation() {
         return location;
     }
@@ -103,11 +130,11 @@ public class Job {
         this.category = category;
     }
 
-    public String getDeadline() {
+    public LocalDate getDeadline() {
         return deadline;
     }
 
-    public void setDeadline(String deadline) {
+    public void setDeadline(LocalDate deadline) {
         this.deadline = deadline;
     }
 
@@ -0,0 +1,76 @@
+package com.campusboard.campusboard.models;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+// A newly approved job that matched a student's saved search
+@Entity
+@Table(name = "JOB_ALERT",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"saved_search_id", "job_id"}),
+        indexes = @Index(name = "idx_job_alert_job", columnList = "job_id"))
+public class JobAlert {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long alertId;
+
+    // ========= RELATIONSHIPS =========
+    // Alerts go away with their saved search or job
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "saved_search_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private SavedSearch savedSearch;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Job job;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public JobAlert() {
+    }
+
+    public JobAlert(SavedSearch savedSearch, Job job) {
+        this.savedSearch = savedSearch;
+        this.job = job;
+    }
+
+    // ========= GETTERS & SETTERS ==========
+
+    public Long getAlertId() {
+        return alertId;
+    }
+
+    public void setAlertId(Long alertId) {
+        this.alertId = alertId;
+    }
+
+    public SavedSearch getSavedSearch() {
+        return savedSearch;
+    }
+
+    public void setSavedSearch(SavedSearch savedSearch) {
+        this.savedSearch = savedSearch;
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    public void setJob(Job job) {
+        this.job = job;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
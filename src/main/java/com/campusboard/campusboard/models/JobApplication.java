@@ -5,11 +5,19 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "JOB_APPLICATION",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"job_id", "student_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"job_id", "student_id"}),
+        indexes = {
+                // Keyset indexes backing the applicants page (see ApplicantSort)
+                @Index(name = "idx_application_job_applied", columnList = "job_id, applied_at, application_id"),
+                @Index(name = "idx_application_job_status", columnList = "job_id, status, application_id")
+        })
 public class JobApplication {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "job_application_id")
+    @TableGenerator(name = "job_application_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.NAME_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "job_application", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long applicationId;
 
     // ========= RELATIONSHIPS =========
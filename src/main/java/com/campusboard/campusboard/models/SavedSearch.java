@@ -0,0 +1,101 @@
+package com.campusboard.campusboard.models;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "SAVED_SEARCH",
+        indexes = @Index(name = "idx_saved_search_student", columnList = "student_id"))
+public class SavedSearch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long savedSearchId;
+
+    // ========= RELATIONSHIP =========
+
+    @ManyToOne
+    @JoinColumn(name = "student_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User student;
+
+    // ========= CRITERIA (all given ones must match) =========
+
+    // Every word must appear in the job's title, description, category or location
+    @Size(max = 200)
+    private String keywords;
+
+    @Size(max = 100)
+    private String category;
+
+    @Size(max = 100)
+    private String location;
+
+    @PositiveOrZero
+    private Double minSalary;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    // ========= GETTERS & SETTERS ==========
+
+    public Long getSavedSearchId() {
+        return savedSearchId;
+    }
+
+    public void setSavedSearchId(Long savedSearchId) {
+        this.savedSearchId = savedSearchId;
+    }
+
+    public User getStudent() {
+        return student;
+    }
+
+    public void setStudent(User student) {
+        this.student = student;
+    }
+
+    public String getKeywords() {
+        return keywords;
+    }
+
+    public void setKeywords(String keywords) {
+        this.keywords = keywords;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public Double getMinSalary() {
+        return minSalary;
+    }
+
+    public void setMinSalary(Double minSalary) {
+        this.minSalary = minSalary;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
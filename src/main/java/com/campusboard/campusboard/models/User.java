@@ -7,11 +7,22 @@ import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "USER")
+@Table(name = "USER",
+        indexes = {
+                // Keyset indexes backing the Manage Users sort orders (see UserSort);
+                // EMAIL uses the unique email index
+                @Index(name = "idx_user_created", columnList = "created_at, user_id"),
+                @Index(name = "idx_user_name", columnList = "full_name, user_id"),
+                // Stat tile counts (UserRepository.countByRoleAndStatus)
+                @Index(name = "idx_user_role_status", columnList = "role, status")
+        })
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id")
+    @TableGenerator(name = "user_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.NAME_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "user", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long userId;
 
     @NotBlank
@@ -0,0 +1,25 @@
+package com.campusboard.campusboard.repositories;
+
+import com.campusboard.campusboard.models.Job;
+import com.campusboard.campusboard.models.JobAlert;
+import com.campusboard.campusboard.models.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface JobAlertRepository extends JpaRepository<JobAlert, Long> {
+
+    // Searches already alerted about a job (it may be approved again after an edit)
+    @Query("SELECT a.savedSearch.savedSearchId FROM JobAlert a WHERE a.job.jobId = :jobId")
+    List<Long> findSavedSearchIdsByJobId(@Param("jobId") Long jobId);
+
+    // Newest alerts for a student's searches, jobs still open only
+    @Query("SELECT a FROM JobAlert a JOIN FETCH a.job j JOIN FETCH j.employer JOIN FETCH a.savedSearch s " +
+            "WHERE s.student = :student AND j.status = :status ORDER BY a.createdAt DESC, a.alertId DESC")
+    List<JobAlert> findRecentByStudent(@Param("student") User student,
+                                       @Param("status") Job.Status status,
+                                       Pageable page);
+}
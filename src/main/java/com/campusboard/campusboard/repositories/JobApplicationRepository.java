@@ -1,11 +1,27 @@
 package com.campusboard.campusboard.repositories;
 
+import com.campusboard.campusboard.dto.ApplicantExportRow;
+import com.campusboard.campusboard.dto.ApplicantView;
+import com.campusboard.campusboard.dto.AppliedJobIds;
 import com.campusboard.campusboard.models.Job;
 import com.campusboard.campusboard.models.JobApplication;
 import com.campusboard.campusboard.models.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
 
@@ -14,4 +30,159 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     List<JobApplication> findByStudent(User student);
 
     Optional<JobApplication> findByJobAndStudent(Job job, User student);
+
+    // =============================
+    // APPLICANTS PAGE (KEYSET, see ApplicantSort)
+    // One query per page: applications of one job joined to the
+    // student only. "statuses" holds every status when unfiltered.
+    // =============================
+    String APPLICANT_SELECT = "SELECT new com.campusboard.campusboard.dto.ApplicantView(" +
+            "a.applicationId, s.userId, s.fullName, s.email, a.status, a.appliedAt) " +
+            "FROM JobApplication a JOIN a.student s " +
+            "WHERE a.job.jobId = :jobId AND a.status IN :statuses ";
+
+    // idx_application_job_applied
+    @Query(APPLICANT_SELECT + "ORDER BY a.appliedAt DESC, a.applicationId DESC")
+    List<ApplicantView> findApplicantsByNewest(@Param("jobId") Long jobId,
+                                               @Param("statuses") Collection<JobApplication.Status> statuses,
+                                               Pageable page);
+
+    @Query(APPLICANT_SELECT +
+            "AND (a.appliedAt < :appliedAt OR (a.appliedAt = :appliedAt AND a.applicationId < :applicationId)) " +
+            "ORDER BY a.appliedAt DESC, a.applicationId DESC")
+    List<ApplicantView> findApplicantsByNewestAfter(@Param("jobId") Long jobId,
+                                                    @Param("statuses") Collection<JobApplication.Status> statuses,
+                                                    @Param("appliedAt") LocalDateTime appliedAt,
+                                                    @Param("applicationId") Long applicationId,
+                                                    Pageable page);
+
+    // Status order as a number: MySQL sorts its native ENUM column
+    // by declaration order but compares it with ">" as a string, so
+    // both the ORDER BY and the cursor use this rank instead.
+    // Must match ApplicationService.statusRank.
+    String STATUS_RANK = "CASE a.status " +
+            "WHEN com.campusboard.campusboard.models.JobApplication$Status.SUBMITTED THEN 0 " +
+            "WHEN com.campusboard.campusboard.models.JobApplication$Status.ACCEPTED THEN 1 " +
+            "ELSE 2 END";
+
+    // idx_application_job_status narrows to the job; the rank is sorted
+    @Query(APPLICANT_SELECT + "ORDER BY " + STATUS_RANK + " ASC, a.applicationId ASC")
+    List<ApplicantView> findApplicantsByStatus(@Param("jobId") Long jobId,
+                                               @Param("statuses") Collection<JobApplication.Status> statuses,
+                                               Pageable page);
+
+    @Query(APPLICANT_SELECT +
+            "AND (" + STATUS_RANK + " > :rank OR (" + STATUS_RANK + " = :rank AND a.applicationId > :applicationId)) " +
+            "ORDER BY " + STATUS_RANK + " ASC, a.applicationId ASC")
+    List<ApplicantView> findApplicantsByStatusAfter(@Param("jobId") Long jobId,
+                                                    @Param("statuses") Collection<JobApplication.Status> statuses,
+                                                    @Param("rank") Integer rank,
+                                                    @Param("applicationId") Long applicationId,
+                                                    Pageable page);
+
+    @Query(APPLICANT_SELECT + "ORDER BY s.fullName ASC, a.applicationId ASC")
+    List<ApplicantView> findApplicantsByName(@Param("jobId") Long jobId,
+                                             @Param("statuses") Collection<JobApplication.Status> statuses,
+                                             Pageable page);
+
+    @Query(APPLICANT_SELECT +
+            "AND (s.fullName > :fullName OR (s.fullName = :fullName AND a.applicationId > :applicationId)) " +
+            "ORDER BY s.fullName ASC, a.applicationId ASC")
+    List<ApplicantView> findApplicantsByNameAfter(@Param("jobId") Long jobId,
+                                                  @Param("statuses") Collection<JobApplication.Status> statuses,
+                                                  @Param("fullName") String fullName,
+                                                  @Param("applicationId") Long applicationId,
+                                                  Pageable page);
+
+    // =============================
+    // APPLIED JOB IDS (see AppliedJobIds)
+    // Neither query joins JOB: the job ID is the foreign key column
+    // =============================
+    @Query("SELECT new com.campusboard.campusboard.dto.AppliedJobIds$Applied(a.job.jobId, a.applicationId) " +
+            "FROM JobApplication a WHERE a.student.userId = :studentId")
+    List<AppliedJobIds.Applied> findAppliedByStudentId(@Param("studentId") Long studentId);
+
+    // BIT_XOR is MySQL's XOR aggregate; AppliedJobIds computes the same hash in Java
+    @Query("SELECT new com.campusboard.campusboard.dto.AppliedJobIds$Stamp(COUNT(a), " +
+            "COALESCE(CAST(FUNCTION('BIT_XOR', CRC32(a.job.jobId)) AS Long), 0L), " +
+            "COALESCE(MAX(a.applicationId), 0L)) " +
+            "FROM JobApplication a WHERE a.student.userId = :studentId")
+    AppliedJobIds.Stamp findStampByStudentId(@Param("studentId") Long studentId);
+
+    // =============================
+    // APPLY (ONE STATEMENT)
+    // Inserts the application only if the job exists and has the
+    // given status; returns 0 otherwise. A second application by
+    // the same student hits the (job_id, student_id) unique key.
+    // The ID comes from IdAllocator: HQL INSERT ... SELECT can't
+    // draw from a table generator itself.
+    // =============================
+    @Transactional
+    @Modifying
+    @Query("INSERT INTO JobApplication (applicationId, job, student, status, appliedAt) " +
+            "SELECT :applicationId, j, s, :status, :now FROM Job j, User s " +
+            "WHERE j.jobId = :jobId AND j.status = :jobStatus AND s.userId = :studentId")
+    int insertIfJobStatus(@Param("applicationId") Long applicationId,
+                          @Param("jobId") Long jobId,
+                          @Param("studentId") Long studentId,
+                          @Param("jobStatus") Job.Status jobStatus,
+                          @Param("status") JobApplication.Status status,
+                          @Param("now") LocalDateTime now);
+
+    // =============================
+    // ACCEPT / REJECT (SET-BASED)
+    // Changes only applications to the given job, and only if
+    // that job belongs to the given employer; returns the number
+    // of applications changed
+    // =============================
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE JobApplication a SET a.status = :status " +
+            "WHERE a.applicationId IN :ids AND a.job.jobId = :jobId " +
+            "AND EXISTS (SELECT 1 FROM Job j WHERE j.jobId = :jobId AND j.employer.userId = :employerId)")
+    int updateStatusForEmployer(@Param("ids") Collection<Long> ids,
+                                @Param("jobId") Long jobId,
+                                @Param("employerId") Long employerId,
+                                @Param("status") JobApplication.Status status);
+
+    // =============================
+    // STREAMING (API)
+    // Consume inside a read-only transaction and close the stream;
+    // the Limit goes into the SQL (see JobRepository)
+    // =============================
+    String APPLICATION_FETCH = "SELECT a FROM JobApplication a " +
+            "JOIN FETCH a.job j JOIN FETCH j.employer JOIN FETCH a.student ";
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JobRepository.STREAM_FETCH_SIZE))
+    @Query(APPLICATION_FETCH + "WHERE a.applicationId > :afterId ORDER BY a.applicationId")
+    Stream<JobApplication> streamAllAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JobRepository.STREAM_FETCH_SIZE))
+    @Query(APPLICATION_FETCH + "WHERE a.student.userId = :studentId AND a.applicationId > :afterId " +
+            "ORDER BY a.applicationId")
+    Stream<JobApplication> streamByStudentAfter(@Param("studentId") Long studentId, @Param("afterId") Long afterId,
+                                                 Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JobRepository.STREAM_FETCH_SIZE))
+    @Query(APPLICATION_FETCH + "WHERE j.employer.userId = :employerId AND a.applicationId > :afterId " +
+            "ORDER BY a.applicationId")
+    Stream<JobApplication> streamByEmployerAfter(@Param("employerId") Long employerId, @Param("afterId") Long afterId,
+                                                  Limit limit);
+
+    // =============================
+    // APPLICANT EXPORT (STREAMING)
+    // Only the employer's own jobs; consume inside a read-only
+    // transaction and close the stream
+    // =============================
+    String EXPORT_SELECT = "SELECT new com.campusboard.campusboard.dto.ApplicantExportRow(" +
+            "a.applicationId, j.jobId, j.title, s.fullName, s.email, a.status, a.appliedAt) " +
+            "FROM JobApplication a JOIN a.job j JOIN a.student s ";
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JobRepository.STREAM_FETCH_SIZE))
+    @Query(EXPORT_SELECT + "WHERE j.jobId = :jobId AND j.employer.userId = :employerId ORDER BY a.applicationId")
+    Stream<ApplicantExportRow> streamExportByJob(@Param("jobId") Long jobId, @Param("employerId") Long employerId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JobRepository.STREAM_FETCH_SIZE))
+    @Query(EXPORT_SELECT + "WHERE j.employer.userId = :employerId ORDER BY j.jobId, a.applicationId")
+    Stream<ApplicantExportRow> streamExportByEmployer(@Param("employerId") Long employerId);
 }
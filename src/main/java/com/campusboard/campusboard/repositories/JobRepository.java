@@ -1,13 +1,156 @@
 package com.campusboard.campusboard.repositories;
 
+import com.campusboard.campusboard.dto.JobCardView;
+import com.campusboard.campusboard.dto.JobUpdateRow;
 import com.campusboard.campusboard.models.Job;
 import com.campusboard.campusboard.models.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface JobRepository extends JpaRepository<Job, Long> {
 
+    // Card columns only (stored summary, never the full description),
+    // employer name/email from the same join
+    String CARD_SELECT = "SELECT new com.campusboard.campusboard.dto.JobCardView(" +
+            "j.jobId, j.title, e.fullName, e.email, j.location, j.salary, j.category, j.deadline, " +
+            "j.summary, j.status, j.createdAt) " +
+            "FROM Job j JOIN j.employer e ";
+
+    // Rows per round trip when streaming (needs useCursorFetch=true on MySQL)
+    String STREAM_FETCH_SIZE = "500";
+
     List<Job> findByEmployer(User employer);
 
     List<Job> findByStatus(Job.Status status);
+
+    // Changes since a point in time, for JobCatalogVersion (idx_job_updated)
+    @Query("SELECT new com.campusboard.campusboard.dto.JobUpdateRow(j.jobId, j.updatedAt) " +
+            "FROM Job j WHERE j.updatedAt >= :since")
+    List<JobUpdateRow> findUpdatedSince(@Param("since") LocalDateTime since);
+
+    // =============================
+    // STREAMING (API / EXPORTS)
+    // Consume inside a read-only transaction and close the stream.
+    // The Limit goes into the SQL: a server-side cursor
+    // (useCursorFetch) materializes the whole result before the
+    // first row, so an API page must not ask for more than it
+    // shows. Only exports pass Limit.unlimited().
+    // =============================
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT j FROM Job j JOIN FETCH j.employer " +
+            "WHERE j.status = :status AND j.jobId > :afterId ORDER BY j.jobId")
+    Stream<Job> streamByStatusAfter(@Param("status") Job.Status status, @Param("afterId") Long afterId, Limit limit);
+
+    // =============================
+    // LIST PAGE CARDS
+    // =============================
+    @Query(CARD_SELECT + "WHERE j.status = :status ORDER BY j.createdAt DESC, j.jobId DESC")
+    List<JobCardView> findCardsByStatus(@Param("status") Job.Status status);
+
+    @Query(CARD_SELECT + "WHERE e.userId = :employerId ORDER BY j.createdAt DESC, j.jobId DESC")
+    List<JobCardView> findCardsByEmployerId(@Param("employerId") Long employerId);
+
+    // Loads one page of jobs picked in memory (e.g. by facet filters)
+    @Query(CARD_SELECT + "WHERE j.jobId IN :ids")
+    List<JobCardView> findCardsByJobIdIn(@Param("ids") Collection<Long> ids);
+
+    // =============================
+    // KEYSET FEED: NEWEST FIRST
+    // idx_job_status_created
+    // =============================
+    @Query(CARD_SELECT +
+            "WHERE j.status = :status " +
+            "ORDER BY j.createdAt DESC, j.jobId DESC")
+    List<JobCardView> findFeedByNewest(@Param("status") Job.Status status, Pageable page);
+
+    @Query(CARD_SELECT +
+            "WHERE j.status = :status " +
+            "AND (j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.jobId < :jobId)) " +
+            "ORDER BY j.createdAt DESC, j.jobId DESC")
+    List<JobCardView> findFeedByNewestAfter(@Param("status") Job.Status status,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("jobId") Long jobId,
+                                    Pageable page);
+
+    // =============================
+    // KEYSET FEED: HIGHEST SALARY
+    // idx_job_status_salary (MySQL sorts NULL salaries last in DESC order)
+    // =============================
+    @Query(CARD_SELECT +
+            "WHERE j.status = :status " +
+            "ORDER BY j.salary DESC, j.jobId DESC")
+    List<JobCardView> findFeedBySalary(@Param("status") Job.Status status, Pageable page);
+
+    @Query(CARD_SELECT +
+            "WHERE j.status = :status " +
+            "AND (j.salary < :salary OR (j.salary = :salary AND j.jobId < :jobId) OR j.salary IS NULL) " +
+            "ORDER BY j.salary DESC, j.jobId DESC")
+    List<JobCardView> findFeedBySalaryAfter(@Param("status") Job.Status status,
+                                    @Param("salary") Double salary,
+                                    @Param("jobId") Long jobId,
+                                    Pageable page);
+
+    @Query(CARD_SELECT +
+            "WHERE j.status = :status AND j.salary IS NULL AND j.jobId < :jobId " +
+            "ORDER BY j.jobId DESC")
+    List<JobCardView> findFeedWithoutSalaryAfter(@Param("status") Job.Status status,
+                                         @Param("jobId") Long jobId,
+                                         Pageable page);
+
+    // =============================
+    // KEYSET FEED: CLOSING SOONEST
+    // idx_job_status_deadline
+    // =============================
+    @Query(CARD_SELECT +
+            "WHERE j.status = :status AND j.deadline >= :today " +
+            "ORDER BY j.deadline ASC, j.jobId ASC")
+    List<JobCardView> findFeedByDeadline(@Param("status") Job.Status status,
+                                 @Param("today") LocalDate today,
+                                 Pageable page);
+
+    @Query(CARD_SELECT +
+            "WHERE j.status = :status AND j.deadline >= :today " +
+            "AND (j.deadline > :deadline OR (j.deadline = :deadline AND j.jobId > :jobId)) " +
+            "ORDER BY j.deadline ASC, j.jobId ASC")
+    List<JobCardView> findFeedByDeadlineAfter(@Param("status") Job.Status status,
+                                      @Param("today") LocalDate today,
+                                      @Param("deadline") LocalDate deadline,
+                                      @Param("jobId") Long jobId,
+                                      Pageable page);
+
+    // =============================
+    // EXPIRY (JobExpirySweeper)
+    // Both walk idx_job_status_deadline; a chunk of IDs is picked
+    // first so each UPDATE locks a bounded number of rows
+    // =============================
+    @Query("SELECT j.jobId FROM Job j " +
+            "WHERE j.status = :status AND j.deadline < :today " +
+            "ORDER BY j.deadline ASC, j.jobId ASC")
+    List<Long> findIdsByStatusAndDeadlineBefore(@Param("status") Job.Status status,
+                                                @Param("today") LocalDate today,
+                                                Pageable page);
+
+    // Status is re-checked so a job edited meanwhile is left alone
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Job j SET j.status = :to, j.updatedAt = :now " +
+            "WHERE j.jobId IN :ids AND j.status = :from")
+    int updateStatusByJobIdIn(@Param("ids") Collection<Long> ids,
+                              @Param("from") Job.Status from,
+                              @Param("to") Job.Status to,
+                              @Param("now") LocalDateTime now);
 }
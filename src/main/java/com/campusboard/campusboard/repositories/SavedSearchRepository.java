@@ -0,0 +1,22 @@
+package com.campusboard.campusboard.repositories;
+
+import com.campusboard.campusboard.models.SavedSearch;
+import com.campusboard.campusboard.models.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    List<SavedSearch> findByStudentOrderByCreatedAtDesc(User student);
+
+    long countByStudent(User student);
+
+    // Searches saved since the last percolator refresh (possibly on another node)
+    List<SavedSearch> findBySavedSearchIdGreaterThanOrderBySavedSearchIdAsc(Long savedSearchId);
+
+    // Only the owner's search is deleted; returns 0 for anyone else's
+    @Transactional
+    long deleteBySavedSearchIdAndStudent(Long savedSearchId, User student);
+}
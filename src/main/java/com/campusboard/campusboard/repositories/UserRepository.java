@@ -1,12 +1,118 @@
 package com.campusboard.campusboard.repositories;
 
+import com.campusboard.campusboard.dto.UserCountRow;
+import com.campusboard.campusboard.dto.UserView;
 import com.campusboard.campusboard.models.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    // Which of these emails are taken, in one query (roster imports);
+    // MySQL compares them without case, as the unique key does
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findRegisteredEmails(@Param("emails") Collection<String> emails);
+
+    // =============================
+    // MANAGE USERS STAT TILES: one row per (role, status) present
+    // =============================
+    @Query("SELECT new com.campusboard.campusboard.dto.UserCountRow(u.role, u.status, COUNT(u)) " +
+            "FROM User u GROUP BY u.role, u.status")
+    List<UserCountRow> countByRoleAndStatus();
+
+    // =============================
+    // MANAGE USERS PAGE (KEYSET, see UserSort)
+    // "roles"/"statuses" hold every value when unfiltered and
+    // "pattern" is "%" when nothing is searched; it is matched
+    // against the lower-cased name and email with ! as escape.
+    // =============================
+    String USER_VIEW_SELECT = "SELECT new com.campusboard.campusboard.dto.UserView(" +
+            "u.userId, u.fullName, u.email, u.role, u.status, u.createdAt) " +
+            "FROM User u " +
+            "WHERE u.role IN :roles AND u.status IN :statuses " +
+            "AND (LOWER(u.fullName) LIKE :pattern ESCAPE '!' OR LOWER(u.email) LIKE :pattern ESCAPE '!') ";
+
+    // idx_user_created
+    @Query(USER_VIEW_SELECT + "ORDER BY u.createdAt DESC, u.userId DESC")
+    List<UserView> findUserViewsByNewest(@Param("roles") Collection<User.Role> roles,
+                                         @Param("statuses") Collection<User.Status> statuses,
+                                         @Param("pattern") String pattern,
+                                         Pageable page);
+
+    @Query(USER_VIEW_SELECT +
+            "AND (u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.userId < :userId)) " +
+            "ORDER BY u.createdAt DESC, u.userId DESC")
+    List<UserView> findUserViewsByNewestAfter(@Param("roles") Collection<User.Role> roles,
+                                              @Param("statuses") Collection<User.Status> statuses,
+                                              @Param("pattern") String pattern,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("userId") Long userId,
+                                              Pageable page);
+
+    // idx_user_name
+    @Query(USER_VIEW_SELECT + "ORDER BY u.fullName ASC, u.userId ASC")
+    List<UserView> findUserViewsByName(@Param("roles") Collection<User.Role> roles,
+                                       @Param("statuses") Collection<User.Status> statuses,
+                                       @Param("pattern") String pattern,
+                                       Pageable page);
+
+    @Query(USER_VIEW_SELECT +
+            "AND (u.fullName > :fullName OR (u.fullName = :fullName AND u.userId > :userId)) " +
+            "ORDER BY u.fullName ASC, u.userId ASC")
+    List<UserView> findUserViewsByNameAfter(@Param("roles") Collection<User.Role> roles,
+                                            @Param("statuses") Collection<User.Status> statuses,
+                                            @Param("pattern") String pattern,
+                                            @Param("fullName") String fullName,
+                                            @Param("userId") Long userId,
+                                            Pageable page);
+
+    // Unique email index (emails are unique, userId only breaks ties in theory)
+    @Query(USER_VIEW_SELECT + "ORDER BY u.email ASC, u.userId ASC")
+    List<UserView> findUserViewsByEmail(@Param("roles") Collection<User.Role> roles,
+                                        @Param("statuses") Collection<User.Status> statuses,
+                                        @Param("pattern") String pattern,
+                                        Pageable page);
+
+    @Query(USER_VIEW_SELECT +
+            "AND (u.email > :email OR (u.email = :email AND u.userId > :userId)) " +
+            "ORDER BY u.email ASC, u.userId ASC")
+    List<UserView> findUserViewsByEmailAfter(@Param("roles") Collection<User.Role> roles,
+                                             @Param("statuses") Collection<User.Status> statuses,
+                                             @Param("pattern") String pattern,
+                                             @Param("email") String email,
+                                             @Param("userId") Long userId,
+                                             Pageable page);
+
+    // Streaming (API): consume inside a read-only transaction and close the stream;
+    // the Limit goes into the SQL (see JobRepository)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JobRepository.STREAM_FETCH_SIZE))
+    @Query("SELECT u FROM User u WHERE u.userId > :afterId ORDER BY u.userId")
+    Stream<User> streamAllAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // =============================
+    // Rehash on login (AdaptiveBCryptPasswordEncoder): only the hash
+    // changes, so the user isn't loaded and updatedAt is left alone
+    // =============================
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :password WHERE u.userId = :userId")
+    int updatePassword(@Param("userId") Long userId, @Param("password") String password);
 }
@@ -0,0 +1,407 @@
+package com.campusboard.campusboard.search;
+
+import com.campusboard.campusboard.dto.DeadlineWindow;
+import com.campusboard.campusboard.dto.FacetValue;
+import com.campusboard.campusboard.dto.JobFacetFilter;
+import com.campusboard.campusboard.dto.JobFacets;
+import com.campusboard.campusboard.dto.SalaryBucket;
+import com.campusboard.campusboard.models.Job;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ============================================
+ * FACET INDEX
+ * ============================================
+ * In-memory facet structure over approved jobs.
+ *
+ * How it works:
+ * - Each indexed job occupies a slot (slots of removed jobs are reused)
+ * - Every facet value owns a BitSet of the slots that have it
+ * - Deadlines are kept per calendar day, so windows such as
+ *   "closing this week" are always relative to today
+ * - Filtering is a BitSet intersection; counting a value is the
+ *   cardinality of its BitSet AND-ed with the other facets' filters
+ *
+ * Reads run concurrently; writes take an exclusive lock.
+ * ============================================
+ */
+public class FacetIndex {
+
+    // How many location values are shown (there can be many)
+    private static final int MAX_LOCATIONS = 10;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> slotByJobId = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+
+    private final Map<String, BitSet> categories = new HashMap<>();
+    private final Map<String, BitSet> locations = new HashMap<>();
+    private final Map<SalaryBucket, BitSet> salaries = new EnumMap<>(SalaryBucket.class);
+    private final TreeMap<Long, BitSet> deadlineDays = new TreeMap<>();
+    private final BitSet noDeadline = new BitSet();
+
+    // Per-slot values, needed to clear a slot on removal
+    // (createdAt and salary only to sort filtered pages)
+    private long[] jobIds = new long[64];
+    private LocalDateTime[] createdAtBySlot = new LocalDateTime[64];
+    private Double[] salaryValueBySlot = new Double[64];
+    private String[] categoryBySlot = new String[64];
+    private String[] locationBySlot = new String[64];
+    private SalaryBucket[] salaryBySlot = new SalaryBucket[64];
+    private long[] deadlineBySlot = new long[64];
+    private int nextSlot = 0;
+
+    // =============================
+    // WRITE OPERATIONS
+    // =============================
+
+    /**
+     * Adds a job, replacing any previous version of it.
+     */
+    public void index(Job job) {
+        String category = FacetNormalizer.key(job.getCategory());
+        String location = FacetNormalizer.key(job.getLocation());
+        SalaryBucket salary = SalaryBucket.of(job.getSalary());
+        Long deadline = epochDay(job.getDeadline());
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(job.getJobId());
+
+            int slot = freeSlots.isEmpty() ? nextSlot++ : freeSlots.pop();
+            ensureCapacity(slot + 1);
+
+            jobIds[slot] = job.getJobId();
+            createdAtBySlot[slot] = job.getCreatedAt();
+            salaryValueBySlot[slot] = job.getSalary();
+            categoryBySlot[slot] = category;
+            locationBySlot[slot] = location;
+            salaryBySlot[slot] = salary;
+            deadlineBySlot[slot] = deadline == null ? Long.MIN_VALUE : deadline;
+
+            if (category != null) {
+                categories.computeIfAbsent(category, k -> new BitSet()).set(slot);
+            }
+            if (location != null) {
+                locations.computeIfAbsent(location, k -> new BitSet()).set(slot);
+            }
+            salaries.computeIfAbsent(salary, k -> new BitSet()).set(slot);
+            if (deadline == null) {
+                noDeadline.set(slot);
+            } else {
+                deadlineDays.computeIfAbsent(deadline, k -> new BitSet()).set(slot);
+            }
+
+            live.set(slot);
+            slotByJobId.put(job.getJobId(), slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a job (no-op if it is not indexed).
+     */
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops everything from the index.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            slotByJobId.clear();
+            freeSlots.clear();
+            live.clear();
+            categories.clear();
+            locations.clear();
+            salaries.clear();
+            deadlineDays.clear();
+            noDeadline.clear();
+            nextSlot = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // =============================
+    // READ OPERATIONS
+    // =============================
+
+    /**
+     * Computes facet counts under a filter. The count of each value
+     * ignores the filter on its own facet, so students see how many
+     * jobs they would get by adding that value.
+     *
+     * @param filter - Currently selected facet values
+     * @param today - Reference day for deadline windows
+     * @return Counts for every facet and the number of matching jobs
+     */
+    public JobFacets facets(JobFacetFilter filter, LocalDate today) {
+        lock.readLock().lock();
+        try {
+            Map<DeadlineWindow, BitSet> windows = deadlineWindows(today);
+
+            BitSet categoryMask = unionOf(categories, filter.categories());
+            BitSet locationMask = unionOf(locations, filter.locations());
+            BitSet salaryMask = unionOf(salaries, filter.salaries());
+            BitSet deadlineMask = unionOf(windows, filter.deadlines());
+
+            BitSet all = intersect(categoryMask, locationMask, salaryMask, deadlineMask);
+
+            return new JobFacets(
+                    values(categories, filter.categories(),
+                            intersect(null, locationMask, salaryMask, deadlineMask), Integer.MAX_VALUE),
+                    values(locations, filter.locations(),
+                            intersect(categoryMask, null, salaryMask, deadlineMask), MAX_LOCATIONS),
+                    enumValues(salaries, SalaryBucket.values(), filter.salaries(),
+                            intersect(categoryMask, locationMask, null, deadlineMask)),
+                    enumValues(windows, DeadlineWindow.values(), filter.deadlines(),
+                            intersect(categoryMask, locationMask, salaryMask, null)),
+                    all.cardinality()
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Tells whether a job is indexed (approved) and still takes
+     * applications on the given day.
+     *
+     * @param jobId - ID of the job
+     * @param today - Day to check the deadline against
+     */
+    public boolean isOpen(Long jobId, LocalDate today) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotByJobId.get(jobId);
+            if (slot == null) {
+                return false;
+            }
+            long deadline = deadlineBySlot[slot];
+            return deadline == Long.MIN_VALUE || deadline >= today.toEpochDay();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the jobs matching a filter with their sort keys, in no
+     * particular order; the caller sorts and pages them.
+     *
+     * @param filter - Selected facet values
+     * @param today - Reference day for deadline windows
+     */
+    public List<Match> matchingJobs(JobFacetFilter filter, LocalDate today) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = intersect(
+                    unionOf(categories, filter.categories()),
+                    unionOf(locations, filter.locations()),
+                    unionOf(salaries, filter.salaries()),
+                    unionOf(deadlineWindows(today), filter.deadlines()));
+
+            List<Match> result = new ArrayList<>(matches.cardinality());
+            for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                long deadline = deadlineBySlot[slot];
+                result.add(new Match(jobIds[slot], createdAtBySlot[slot], salaryValueBySlot[slot],
+                        deadline == Long.MIN_VALUE ? null : LocalDate.ofEpochDay(deadline)));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A job matching a filter, with the values the feed sorts by.
+     */
+    public record Match(long jobId, LocalDateTime createdAt, Double salary, LocalDate deadline) {
+    }
+
+    // =============================
+    // INTERNALS
+    // =============================
+
+    private void removeLocked(Long jobId) {
+        Integer slot = slotByJobId.remove(jobId);
+        if (slot == null) {
+            return;
+        }
+
+        clearBit(categories, categoryBySlot[slot], slot);
+        clearBit(locations, locationBySlot[slot], slot);
+        clearBit(salaries, salaryBySlot[slot], slot);
+        if (deadlineBySlot[slot] == Long.MIN_VALUE) {
+            noDeadline.clear(slot);
+        } else {
+            clearBit(deadlineDays, deadlineBySlot[slot], slot);
+        }
+
+        categoryBySlot[slot] = null;
+        locationBySlot[slot] = null;
+        createdAtBySlot[slot] = null;
+        salaryValueBySlot[slot] = null;
+        live.clear(slot);
+        freeSlots.push(slot);
+    }
+
+    private static <K> void clearBit(Map<K, BitSet> values, K key, int slot) {
+        if (key == null) {
+            return;
+        }
+        BitSet bits = values.get(key);
+        if (bits != null) {
+            bits.clear(slot);
+            if (bits.isEmpty()) {
+                values.remove(key);
+            }
+        }
+    }
+
+    private Map<DeadlineWindow, BitSet> deadlineWindows(LocalDate today) {
+        long day = today.toEpochDay();
+        Map<DeadlineWindow, BitSet> windows = new EnumMap<>(DeadlineWindow.class);
+
+        for (DeadlineWindow window : DeadlineWindow.values()) {
+            BitSet bits = new BitSet();
+            if (window == DeadlineWindow.NO_DEADLINE) {
+                bits.or(noDeadline);
+            } else {
+                long to = window.getToDays() == Integer.MAX_VALUE ? Long.MAX_VALUE : day + window.getToDays();
+                for (BitSet days : deadlineDays.subMap(day + window.getFromDays(), true, to, true).values()) {
+                    bits.or(days);
+                }
+            }
+            windows.put(window, bits);
+        }
+        return windows;
+    }
+
+    /**
+     * OR of the selected values' bitsets, or null when nothing is
+     * selected (meaning "no restriction on this facet").
+     */
+    private static <K> BitSet unionOf(Map<K, BitSet> values, Set<K> selected) {
+        if (selected.isEmpty()) {
+            return null;
+        }
+        BitSet union = new BitSet();
+        for (K key : selected) {
+            BitSet bits = values.get(key);
+            if (bits != null) {
+                union.or(bits);
+            }
+        }
+        return union;
+    }
+
+    /**
+     * AND of all live slots with every non-null mask.
+     */
+    private BitSet intersect(BitSet... masks) {
+        BitSet result = (BitSet) live.clone();
+        for (BitSet mask : masks) {
+            if (mask != null) {
+                result.and(mask);
+            }
+        }
+        return result;
+    }
+
+    private static int countIn(BitSet bits, BitSet mask) {
+        BitSet copy = (BitSet) bits.clone();
+        copy.and(mask);
+        return copy.cardinality();
+    }
+
+    private static List<FacetValue> values(Map<String, BitSet> values, Set<String> selected,
+                                           BitSet mask, int limit) {
+        List<FacetValue> result = new ArrayList<>();
+        for (Map.Entry<String, BitSet> entry : values.entrySet()) {
+            int count = countIn(entry.getValue(), mask);
+            boolean isSelected = selected.contains(entry.getKey());
+            if (count > 0 || isSelected) {
+                result.add(new FacetValue(entry.getKey(), FacetNormalizer.label(entry.getKey()), count, isSelected));
+            }
+        }
+
+        result.sort(Comparator.comparingInt(FacetValue::count).reversed().thenComparing(FacetValue::label));
+        if (result.size() <= limit) {
+            return result;
+        }
+
+        // Keep selected values visible even when they fall outside the top entries
+        List<FacetValue> top = new ArrayList<>(result.subList(0, limit));
+        for (FacetValue value : result.subList(limit, result.size())) {
+            if (value.selected()) {
+                top.add(value);
+            }
+        }
+        return top;
+    }
+
+    private static <E extends Enum<E>> List<FacetValue> enumValues(Map<E, BitSet> values, E[] order,
+                                                                   Set<E> selected, BitSet mask) {
+        List<FacetValue> result = new ArrayList<>();
+        for (E key : order) {
+            BitSet bits = values.get(key);
+            int count = bits == null ? 0 : countIn(bits, mask);
+            boolean isSelected = selected.contains(key);
+            if (count > 0 || isSelected) {
+                result.add(new FacetValue(key.name(), label(key), count, isSelected));
+            }
+        }
+        return result;
+    }
+
+    private static String label(Enum<?> key) {
+        if (key instanceof SalaryBucket bucket) {
+            return bucket.getLabel();
+        }
+        return ((DeadlineWindow) key).getLabel();
+    }
+
+    private static Long epochDay(LocalDate deadline) {
+        return deadline == null ? null : deadline.toEpochDay();
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > jobIds.length) {
+            int newSize = Math.max(capacity, jobIds.length * 2);
+            jobIds = Arrays.copyOf(jobIds, newSize);
+            createdAtBySlot = Arrays.copyOf(createdAtBySlot, newSize);
+            salaryValueBySlot = Arrays.copyOf(salaryValueBySlot, newSize);
+            categoryBySlot = Arrays.copyOf(categoryBySlot, newSize);
+            locationBySlot = Arrays.copyOf(locationBySlot, newSize);
+            salaryBySlot = Arrays.copyOf(salaryBySlot, newSize);
+            deadlineBySlot = Arrays.copyOf(deadlineBySlot, newSize);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.campusboard.campusboard.search;
+
+import java.util.Locale;
+
+/**
+ * ============================================
+ * FACET NORMALIZER
+ * ============================================
+ * Category and location are free text, so "Main Library",
+ * " main  library " and "MAIN LIBRARY." must all land on the
+ * same facet value.
+ *
+ * - key(): lowercase, "&" spelled out, punctuation dropped,
+ *   whitespace collapsed (used for grouping and filtering)
+ * - label(): the key in Title Case (used for display)
+ * ============================================
+ */
+public final class FacetNormalizer {
+
+    private FacetNormalizer() {
+    }
+
+    /**
+     * @param value - Raw category or location
+     * @return Normalized key, or null if the value is blank
+     */
+    public static String key(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        StringBuilder key = new StringBuilder(value.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '&') {
+                pendingSpace = key.length() > 0;
+                if (pendingSpace) {
+                    key.append(' ');
+                }
+                key.append("and");
+                pendingSpace = true;
+            } else if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && key.length() > 0) {
+                    key.append(' ');
+                }
+                pendingSpace = false;
+                key.append(Character.toLowerCase(c));
+            } else {
+                // Whitespace and punctuation both separate words
+                pendingSpace = true;
+            }
+        }
+
+        return key.length() == 0 ? null : key.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param key - Normalized key
+     * @return Display label for the key
+     */
+    public static String label(String key) {
+        StringBuilder label = new StringBuilder(key.length());
+        boolean startOfWord = true;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            label.append(startOfWord ? Character.toUpperCase(c) : c);
+            startOfWord = c == ' ';
+        }
+        return label.toString();
+    }
+}
@@ -0,0 +1,374 @@
+package com.campusboard.campusboard.search;
+
+import com.campusboard.campusboard.models.Job;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ============================================
+ * INVERTED INDEX
+ * ============================================
+ * In-memory full-text index over job postings, ranked with BM25.
+ *
+ * How it works:
+ * - Every indexed job gets an internal int docId
+ * - Each term maps to a posting list of (docId, weighted term frequency)
+ * - Title, category and location count more than the description
+ *   (a simple per-field boost folded into the term frequency)
+ * - Updating a job tombstones its old docId and appends a new one;
+ *   when too many tombstones pile up the index is compacted
+ *
+ * Reads run concurrently; writes take an exclusive lock.
+ * ============================================
+ */
+public class InvertedIndex {
+
+    // BM25 parameters (standard defaults)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // Field boosts
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CATEGORY_WEIGHT = 2;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    // Compact once this share of docIds are tombstones
+    private static final double MAX_DELETED_RATIO = 0.25;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> docIdByJobId = new HashMap<>();
+    private final BitSet live = new BitSet();
+
+    private JobDocument[] documents = new JobDocument[64];
+    private int[] lengths = new int[64];
+    private int nextDocId = 0;
+    private int liveCount = 0;
+    private long totalLength = 0;
+
+    // =============================
+    // WRITE OPERATIONS
+    // =============================
+
+    /**
+     * Adds a job to the index, replacing any previous version of it.
+     */
+    public void index(Job job) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        addField(frequencies, job.getTitle(), TITLE_WEIGHT);
+        addField(frequencies, job.getCategory(), CATEGORY_WEIGHT);
+        addField(frequencies, job.getLocation(), LOCATION_WEIGHT);
+        addField(frequencies, job.getDescription(), DESCRIPTION_WEIGHT);
+
+        int length = 0;
+        for (int tf : frequencies.values()) {
+            length += tf;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(job.getJobId());
+
+            int docId = nextDocId++;
+            ensureCapacity(docId + 1);
+            documents[docId] = JobDocument.from(job);
+            lengths[docId] = length;
+            live.set(docId);
+            liveCount++;
+            totalLength += length;
+            docIdByJobId.put(job.getJobId(), docId);
+
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), t -> new PostingList())
+                        .add(docId, entry.getValue());
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a job from the index (no-op if it is not indexed).
+     */
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops everything from the index.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            docIdByJobId.clear();
+            live.clear();
+            documents = new JobDocument[64];
+            lengths = new int[64];
+            nextDocId = 0;
+            liveCount = 0;
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // =============================
+    // READ OPERATIONS
+    // =============================
+
+    /**
+     * Runs a free-text query and returns the best matching jobs.
+     * Any query term may match; documents matching more (and rarer)
+     * terms rank higher.
+     *
+     * @param query - Free text typed by the student
+     * @param limit - Maximum number of hits to return
+     * @return Hits ordered by descending score
+     */
+    public List<SearchHit> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(TextAnalyzer.analyze(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (liveCount == 0) {
+                return List.of();
+            }
+
+            float lengthFactor = (float) (K1 * B * liveCount / totalLength);
+            float baseNorm = (float) (K1 * (1 - B));
+            float[] scores = new float[nextDocId];
+
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+
+                // Document frequency counts tombstones until the next compaction
+                int df = list.size;
+                float idf = (float) Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+                float weight = Math.max(idf, 1e-6f) * (float) (K1 + 1);
+                boolean checkLive = liveCount < nextDocId;
+
+                for (int i = 0; i < list.size; i++) {
+                    int doc = list.docs[i];
+                    if (checkLive && !live.get(doc)) {
+                        continue;
+                    }
+                    // BM25: idf * tf * (k1 + 1) / (tf + k1 * (1 - b + b * len / avgLen))
+                    int tf = list.freqs[i];
+                    scores[doc] += weight * tf / (tf + baseNorm + lengthFactor * lengths[doc]);
+                }
+            }
+
+            return topHits(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Number of jobs currently searchable
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // =============================
+    // INTERNALS
+    // =============================
+
+    private static void addField(Map<String, Integer> frequencies, String text, int weight) {
+        for (String term : TextAnalyzer.analyze(text)) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+    }
+
+    private List<SearchHit> topHits(float[] scores, int limit) {
+        // Primitive min-heap of the best "limit" docIds seen so far
+        int[] heap = new int[limit];
+        int size = 0;
+
+        for (int doc = 0; doc < scores.length; doc++) {
+            float score = scores[doc];
+            if (score <= 0) {
+                continue;
+            }
+            if (size < limit) {
+                heap[size] = doc;
+                siftUp(heap, size++, scores);
+            } else if (score > scores[heap[0]]) {
+                heap[0] = doc;
+                siftDown(heap, size, scores);
+            }
+        }
+
+        SearchHit[] hits = new SearchHit[size];
+        for (int i = size - 1; i >= 0; i--) {
+            int doc = heap[0];
+            hits[i] = new SearchHit(documents[doc], scores[doc]);
+            heap[0] = heap[i];
+            siftDown(heap, i, scores);
+        }
+        return Arrays.asList(hits);
+    }
+
+    private static void siftUp(int[] heap, int i, float[] scores) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (scores[heap[parent]] <= scores[heap[i]]) {
+                return;
+            }
+            swap(heap, i, parent);
+            i = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size, float[] scores) {
+        int i = 0;
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left + 1 < size && scores[heap[left + 1]] < scores[heap[left]] ? left + 1 : left;
+            if (scores[heap[i]] <= scores[heap[smallest]]) {
+                return;
+            }
+            swap(heap, i, smallest);
+            i = smallest;
+        }
+    }
+
+    private static void swap(int[] heap, int a, int b) {
+        int tmp = heap[a];
+        heap[a] = heap[b];
+        heap[b] = tmp;
+    }
+
+    private void removeLocked(Long jobId) {
+        Integer docId = docIdByJobId.remove(jobId);
+        if (docId == null) {
+            return;
+        }
+        live.clear(docId);
+        liveCount--;
+        totalLength -= lengths[docId];
+        documents[docId] = null;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > documents.length) {
+            int newSize = Math.max(capacity, documents.length * 2);
+            documents = Arrays.copyOf(documents, newSize);
+            lengths = Arrays.copyOf(lengths, newSize);
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (nextDocId > 64 && nextDocId - liveCount > nextDocId * MAX_DELETED_RATIO) {
+            compact();
+        }
+    }
+
+    /**
+     * Rewrites every posting list without tombstones and renumbers
+     * the remaining documents densely from 0.
+     */
+    private void compact() {
+        int[] remap = new int[nextDocId];
+        int newId = 0;
+        for (int doc = 0; doc < nextDocId; doc++) {
+            remap[doc] = live.get(doc) ? newId++ : -1;
+        }
+
+        JobDocument[] newDocuments = new JobDocument[Math.max(64, newId * 2)];
+        int[] newLengths = new int[newDocuments.length];
+        for (int doc = 0; doc < nextDocId; doc++) {
+            if (remap[doc] >= 0) {
+                newDocuments[remap[doc]] = documents[doc];
+                newLengths[remap[doc]] = lengths[doc];
+            }
+        }
+
+        Iterator<PostingList> it = postings.values().iterator();
+        while (it.hasNext()) {
+            PostingList list = it.next();
+            list.remap(remap);
+            if (list.size == 0) {
+                it.remove();
+            }
+        }
+
+        for (Map.Entry<Long, Integer> entry : docIdByJobId.entrySet()) {
+            entry.setValue(remap[entry.getValue()]);
+        }
+
+        documents = newDocuments;
+        lengths = newLengths;
+        live.clear();
+        live.set(0, newId);
+        nextDocId = newId;
+    }
+
+    /**
+     * Growable parallel arrays of docIds (ascending) and term frequencies.
+     */
+    private static final class PostingList {
+
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size = 0;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+
+        void remap(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int mapped = remap[docs[i]];
+                if (mapped >= 0) {
+                    docs[kept] = mapped;
+                    freqs[kept] = freqs[i];
+                    kept++;
+                }
+            }
+            size = kept;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.campusboard.campusboard.search;
+
+import com.campusboard.campusboard.models.Job;
+
+import java.time.LocalDate;
+
+/**
+ * ============================================
+ * JOB DOCUMENT
+ * ============================================
+ * Compact copy of an approved job kept inside the search
+ * index, holding just what a result card needs. Only the
+ * stored summary of the description is kept, not the full text.
+ * ============================================
+ */
+public record JobDocument(Long jobId,
+                          String title,
+                          String employerName,
+                          String location,
+                          Double salary,
+                          String category,
+                          LocalDate deadline,
+                          String snippet) {
+
+    public static JobDocument from(Job job) {
+        String employerName = job.getEmployer() != null ? job.getEmployer().getFullName() : null;
+        return new JobDocument(
+                job.getJobId(),
+                job.getTitle(),
+                employerName,
+                job.getLocation(),
+                job.getSalary(),
+                job.getCategory(),
+                job.getDeadline(),
+                job.getSummary() != null ? job.getSummary() : TextSummarizer.summarize(job.getDescription())
+        );
+    }
+}
@@ -0,0 +1,255 @@
+package com.campusboard.campusboard.search;
+
+import com.campusboard.campusboard.models.Job;
+import com.campusboard.campusboard.models.SavedSearch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ============================================
+ * QUERY PERCOLATOR
+ * ============================================
+ * Reverse search: saved searches are indexed, and a job is run
+ * against them to find every search it satisfies.
+ *
+ * How it works:
+ * - A saved search compiles to required tokens: "t:" + each
+ *   analyzed keyword, "c:" + category key, "l:" + location key
+ *   (keywords go through TextAnalyzer, filters through
+ *   FacetNormalizer, exactly like jobs do)
+ * - Each search is filed under one anchor token; a job can only
+ *   match searches whose anchor it contains, so a job looks at
+ *   the few lists for its own tokens instead of every search
+ * - Candidates are then checked for their other tokens and the
+ *   minimum salary; searches with no tokens at all (salary only)
+ *   are checked against every job
+ *
+ * Reads run concurrently; writes take an exclusive lock.
+ * ============================================
+ */
+public class QueryPercolator {
+
+    // Anchor preference: keywords are the most selective, then
+    // location, then category; longer words tend to be rarer
+    private static final Comparator<String> SELECTIVITY = Comparator
+            .comparingInt((String token) -> token.startsWith("t:") ? 0 : token.startsWith("l:") ? 1 : 2)
+            .thenComparing(token -> -token.length());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Map<Long, StoredQuery>> byAnchor = new HashMap<>();
+    private final Map<Long, StoredQuery> unanchored = new LinkedHashMap<>();
+    private final Map<Long, StoredQuery> byId = new HashMap<>();
+
+    // =============================
+    // WRITE OPERATIONS
+    // =============================
+
+    /**
+     * Adds a saved search, replacing any previous version of it.
+     */
+    public void add(SavedSearch search) {
+        StoredQuery query = compile(search);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(query.id());
+            if (query.anchor() == null) {
+                unanchored.put(query.id(), query);
+            } else {
+                byAnchor.computeIfAbsent(query.anchor(), t -> new HashMap<>()).put(query.id(), query);
+            }
+            byId.put(query.id(), query);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a saved search (no-op if it is not indexed).
+     */
+    public void remove(Long savedSearchId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(savedSearchId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every saved search not in the given set of IDs.
+     */
+    public void retainAll(Set<Long> savedSearchIds) {
+        lock.writeLock().lock();
+        try {
+            for (Long id : new ArrayList<>(byId.keySet())) {
+                if (!savedSearchIds.contains(id)) {
+                    removeLocked(id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops every saved search.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            byAnchor.clear();
+            unanchored.clear();
+            byId.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // =============================
+    // READ OPERATIONS
+    // =============================
+
+    /**
+     * Finds every saved search the job satisfies.
+     *
+     * @param job - Job to run against the saved searches
+     * @return IDs of the matching saved searches
+     */
+    public List<Long> match(Job job) {
+        Set<String> tokens = tokensOf(job);
+        Double salary = job.getSalary();
+        List<Long> matches = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (String token : tokens) {
+                Map<Long, StoredQuery> anchored = byAnchor.get(token);
+                if (anchored != null) {
+                    collect(anchored.values(), tokens, salary, matches);
+                }
+            }
+            collect(unanchored.values(), tokens, salary, matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return matches;
+    }
+
+    /**
+     * @return Number of saved searches indexed
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // =============================
+    // INTERNALS
+    // =============================
+
+    private static StoredQuery compile(SavedSearch search) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String term : TextAnalyzer.analyze(search.getKeywords())) {
+            tokens.add("t:" + term);
+        }
+        String category = FacetNormalizer.key(search.getCategory());
+        if (category != null) {
+            tokens.add("c:" + category);
+        }
+        String location = FacetNormalizer.key(search.getLocation());
+        if (location != null) {
+            tokens.add("l:" + location);
+        }
+
+        String anchor = tokens.stream().min(SELECTIVITY).orElse(null);
+        List<String> others = new ArrayList<>(tokens);
+        others.remove(anchor);
+        return new StoredQuery(search.getSavedSearchId(), anchor, others.toArray(new String[0]),
+                search.getMinSalary());
+    }
+
+    // Same fields a keyword search covers (see InvertedIndex)
+    private static Set<String> tokensOf(Job job) {
+        Set<String> tokens = new HashSet<>();
+        addTerms(tokens, job.getTitle());
+        addTerms(tokens, job.getDescription());
+        addTerms(tokens, job.getCategory());
+        addTerms(tokens, job.getLocation());
+
+        String category = FacetNormalizer.key(job.getCategory());
+        if (category != null) {
+            tokens.add("c:" + category);
+        }
+        String location = FacetNormalizer.key(job.getLocation());
+        if (location != null) {
+            tokens.add("l:" + location);
+        }
+        return tokens;
+    }
+
+    private static void addTerms(Set<String> tokens, String text) {
+        for (String term : TextAnalyzer.analyze(text)) {
+            tokens.add("t:" + term);
+        }
+    }
+
+    private static void collect(Iterable<StoredQuery> candidates, Set<String> tokens, Double salary,
+                                List<Long> matches) {
+        for (StoredQuery query : candidates) {
+            if (query.matches(tokens, salary)) {
+                matches.add(query.id());
+            }
+        }
+    }
+
+    private void removeLocked(Long savedSearchId) {
+        StoredQuery old = byId.remove(savedSearchId);
+        if (old == null) {
+            return;
+        }
+        if (old.anchor() == null) {
+            unanchored.remove(savedSearchId);
+            return;
+        }
+        Map<Long, StoredQuery> anchored = byAnchor.get(old.anchor());
+        anchored.remove(savedSearchId);
+        if (anchored.isEmpty()) {
+            byAnchor.remove(old.anchor());
+        }
+    }
+
+    /**
+     * A compiled saved search: the anchor it is filed under plus
+     * the remaining tokens and salary floor to verify.
+     */
+    private record StoredQuery(Long id, String anchor, String[] others, Double minSalary) {
+
+        boolean matches(Set<String> tokens, Double salary) {
+            if (minSalary != null && (salary == null || salary < minSalary)) {
+                return false;
+            }
+            for (String token : others) {
+                if (!tokens.contains(token)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
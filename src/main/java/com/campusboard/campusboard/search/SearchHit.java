@@ -0,0 +1,11 @@
+package com.campusboard.campusboard.search;
+
+/**
+ * ============================================
+ * SEARCH HIT
+ * ============================================
+ * One search result: the indexed job and its BM25 score.
+ * ============================================
+ */
+public record SearchHit(JobDocument job, double score) {
+}
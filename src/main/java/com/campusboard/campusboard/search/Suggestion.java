@@ -0,0 +1,20 @@
+package com.campusboard.campusboard.search;
+
+/**
+ * ============================================
+ * SUGGESTION
+ * ============================================
+ * One typeahead completion: a job title, category, location
+ * or employer name, and how many approved jobs carry it.
+ *
+ * @param text - Display text (Title Case, see FacetNormalizer)
+ * @param type - Which field the text comes from
+ * @param jobs - Number of approved jobs with this text (popularity)
+ * ============================================
+ */
+public record Suggestion(String text, Type type, int jobs) {
+
+    public enum Type {
+        TITLE, CATEGORY, LOCATION, EMPLOYER
+    }
+}
@@ -0,0 +1,409 @@
+package com.campusboard.campusboard.search;
+
+import com.campusboard.campusboard.models.Job;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ============================================
+ * SUGGESTION TRIE
+ * ============================================
+ * In-memory typeahead over job titles, categories, locations
+ * and employer names, weighted by how many approved jobs
+ * carry each phrase.
+ *
+ * How it works:
+ * - Phrases are normalized like facet values (FacetNormalizer),
+ *   so "Main Library" and "main  library." are one suggestion
+ * - A compressed (radix) trie: each edge holds a run of
+ *   characters, and single-child chains are merged on removal
+ * - Every phrase is also reachable from each of its first
+ *   MAX_WORD_STARTS word starts, so "lib" finds "Main Library"
+ * - Each node knows the highest weight below it; a lookup walks
+ *   the prefix and then expands best-first, touching only the
+ *   branches that can still make the top "limit"
+ * - Indexing a job counts its phrases once; updating or removing
+ *   it takes the old counts back, so no rebuild is needed
+ *
+ * Reads run concurrently; writes take an exclusive lock.
+ * ============================================
+ */
+public class SuggestionTrie {
+
+    // Word starts (after the first) a phrase can be found from
+    private static final int MAX_WORD_STARTS = 6;
+
+    // Best-first order: heavier first, an entry before a subtree of the
+    // same weight, then alphabetical
+    private static final Comparator<Candidate> ORDER = Comparator
+            .comparingInt((Candidate c) -> -c.weight())
+            .thenComparing(c -> c.entry() == null)
+            .thenComparing(c -> c.entry() == null ? "" : c.entry().label);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Node root = new Node("");
+    private final Map<Phrase, Entry> entries = new HashMap<>();
+    private final Map<Long, List<Phrase>> phrasesByJob = new HashMap<>();
+
+    // =============================
+    // WRITE OPERATIONS
+    // =============================
+
+    /**
+     * Adds a job's phrases, replacing any previous version of the job.
+     */
+    public void index(Job job) {
+        List<Phrase> phrases = phrasesOf(job);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(job.getJobId());
+            for (Phrase phrase : phrases) {
+                adjust(phrase, 1);
+            }
+            phrasesByJob.put(job.getJobId(), phrases);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Takes a job's phrases back out (no-op if it is not indexed).
+     */
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops everything from the trie.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            root.children.clear();
+            root.entries = Node.NO_ENTRIES;
+            root.maxWeight = 0;
+            entries.clear();
+            phrasesByJob.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // =============================
+    // READ OPERATIONS
+    // =============================
+
+    /**
+     * Completes what the student has typed so far.
+     *
+     * @param prefix - Text typed so far
+     * @param limit - Maximum number of suggestions
+     * @return Most popular matching phrases, most popular first
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = FacetNormalizer.key(prefix);
+        if (key == null || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node start = find(key);
+            return start == null ? List.of() : bestBelow(start, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Number of distinct phrases
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // =============================
+    // INTERNALS
+    // =============================
+
+    private static List<Phrase> phrasesOf(Job job) {
+        Set<Phrase> phrases = new LinkedHashSet<>();
+        addPhrase(phrases, Suggestion.Type.TITLE, job.getTitle());
+        addPhrase(phrases, Suggestion.Type.CATEGORY, job.getCategory());
+        addPhrase(phrases, Suggestion.Type.LOCATION, job.getLocation());
+        if (job.getEmployer() != null) {
+            addPhrase(phrases, Suggestion.Type.EMPLOYER, job.getEmployer().getFullName());
+        }
+        return List.copyOf(phrases);
+    }
+
+    private static void addPhrase(Set<Phrase> phrases, Suggestion.Type type, String text) {
+        String key = FacetNormalizer.key(text);
+        if (key != null) {
+            phrases.add(new Phrase(type, key));
+        }
+    }
+
+    private void removeLocked(Long jobId) {
+        List<Phrase> old = phrasesByJob.remove(jobId);
+        if (old != null) {
+            for (Phrase phrase : old) {
+                adjust(phrase, -1);
+            }
+        }
+    }
+
+    private void adjust(Phrase phrase, int delta) {
+        Entry entry = entries.get(phrase);
+        if (entry == null) {
+            entry = new Entry(phrase.type(), FacetNormalizer.label(phrase.key()));
+            entries.put(phrase, entry);
+            entry.weight = delta;
+            for (String suffix : wordStarts(phrase.key())) {
+                insert(root, suffix, entry);
+            }
+            return;
+        }
+
+        entry.weight += delta;
+        if (entry.weight <= 0) {
+            entries.remove(phrase);
+        }
+        for (String suffix : wordStarts(phrase.key())) {
+            if (entry.weight <= 0) {
+                delete(root, suffix, entry);
+            } else {
+                refresh(root, suffix);
+            }
+        }
+    }
+
+    private static List<String> wordStarts(String key) {
+        List<String> suffixes = new ArrayList<>();
+        suffixes.add(key);
+        for (int i = 1; i < key.length() && suffixes.size() <= MAX_WORD_STARTS; i++) {
+            if (key.charAt(i - 1) == ' ') {
+                suffixes.add(key.substring(i));
+            }
+        }
+        return suffixes;
+    }
+
+    // key: what is left of the suffix below this node
+    private static void insert(Node node, String key, Entry entry) {
+        if (key.isEmpty()) {
+            node.addEntry(entry);
+            node.recompute();
+            return;
+        }
+
+        char first = key.charAt(0);
+        Node child = node.children.get(first);
+        if (child == null) {
+            child = new Node(key);
+            child.addEntry(entry);
+            child.recompute();
+            node.children.put(first, child);
+            node.recompute();
+            return;
+        }
+
+        int common = commonPrefix(child.edge, key);
+        if (common < child.edge.length()) {
+            // Split the edge where the new key branches off
+            Node middle = new Node(child.edge.substring(0, common));
+            child.edge = child.edge.substring(common);
+            middle.children.put(child.edge.charAt(0), child);
+            middle.recompute();
+            node.children.put(first, middle);
+            child = middle;
+        }
+
+        insert(child, key.substring(common), entry);
+        node.recompute();
+    }
+
+    private static void delete(Node node, String key, Entry entry) {
+        if (key.isEmpty()) {
+            node.removeEntry(entry);
+            node.recompute();
+            return;
+        }
+
+        char first = key.charAt(0);
+        Node child = node.children.get(first);
+        if (child == null || !key.startsWith(child.edge)) {
+            return;
+        }
+
+        delete(child, key.substring(child.edge.length()), entry);
+
+        // Keep the trie compressed: drop dead leaves, merge pass-through nodes
+        if (child.entries.length == 0 && child.children.isEmpty()) {
+            node.children.remove(first);
+        } else if (child.entries.length == 0 && child.children.size() == 1) {
+            Node only = child.children.values().iterator().next();
+            only.edge = child.edge + only.edge;
+            node.children.put(first, only);
+        }
+        node.recompute();
+    }
+
+    // Recomputes maxWeight along the path after an entry's weight changed
+    private static void refresh(Node node, String key) {
+        if (!key.isEmpty()) {
+            Node child = node.children.get(key.charAt(0));
+            if (child == null || !key.startsWith(child.edge)) {
+                return;
+            }
+            refresh(child, key.substring(child.edge.length()));
+        }
+        node.recompute();
+    }
+
+    // Node whose subtree holds every key starting with "key"
+    private Node find(String key) {
+        Node node = root;
+        String rest = key;
+
+        while (!rest.isEmpty()) {
+            Node child = node.children.get(rest.charAt(0));
+            if (child == null) {
+                return null;
+            }
+            if (rest.length() <= child.edge.length()) {
+                return child.edge.startsWith(rest) ? child : null;
+            }
+            if (!rest.startsWith(child.edge)) {
+                return null;
+            }
+            rest = rest.substring(child.edge.length());
+            node = child;
+        }
+        return node;
+    }
+
+    private static List<Suggestion> bestBelow(Node start, int limit) {
+        List<Suggestion> results = new ArrayList<>(limit);
+        // A phrase can sit under several word starts of the same subtree
+        Set<Entry> seen = new HashSet<>();
+
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(ORDER);
+        queue.add(new Candidate(start.maxWeight, start, null));
+
+        while (!queue.isEmpty() && results.size() < limit) {
+            Candidate next = queue.poll();
+            if (next.entry() != null) {
+                if (seen.add(next.entry())) {
+                    Entry entry = next.entry();
+                    results.add(new Suggestion(entry.label, entry.type, entry.weight));
+                }
+                continue;
+            }
+            for (Entry entry : next.node().entries) {
+                queue.add(new Candidate(entry.weight, null, entry));
+            }
+            for (Node child : next.node().children.values()) {
+                queue.add(new Candidate(child.maxWeight, child, null));
+            }
+        }
+        // Ties may come out of different branches in any order
+        results.sort(Comparator.comparingInt((Suggestion s) -> -s.jobs()).thenComparing(Suggestion::text));
+        return results;
+    }
+
+    private static int commonPrefix(String a, String b) {
+        int max = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < max && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private record Phrase(Suggestion.Type type, String key) {
+    }
+
+    private record Candidate(int weight, Node node, Entry entry) {
+    }
+
+    /**
+     * A suggestion and its current popularity. Shared by every
+     * node it can be reached from, so weights change in one place.
+     */
+    private static final class Entry {
+
+        private final Suggestion.Type type;
+        private final String label;
+        private int weight;
+
+        Entry(Suggestion.Type type, String label) {
+            this.type = type;
+            this.label = label;
+        }
+    }
+
+    private static final class Node {
+
+        private static final Entry[] NO_ENTRIES = new Entry[0];
+
+        private String edge;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private Entry[] entries = NO_ENTRIES;
+        private int maxWeight;
+
+        Node(String edge) {
+            this.edge = edge;
+        }
+
+        void addEntry(Entry entry) {
+            entries = Arrays.copyOf(entries, entries.length + 1);
+            entries[entries.length - 1] = entry;
+        }
+
+        void removeEntry(Entry entry) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i] == entry) {
+                    Entry[] kept = Arrays.copyOf(entries, entries.length - 1);
+                    System.arraycopy(entries, i + 1, kept, i, entries.length - i - 1);
+                    entries = kept.length == 0 ? NO_ENTRIES : kept;
+                    return;
+                }
+            }
+        }
+
+        void recompute() {
+            int max = 0;
+            for (Entry entry : entries) {
+                max = Math.max(max, entry.weight);
+            }
+            for (Node child : children.values()) {
+                max = Math.max(max, child.maxWeight);
+            }
+            maxWeight = max;
+        }
+    }
+}
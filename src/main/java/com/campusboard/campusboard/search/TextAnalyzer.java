@@ -0,0 +1,110 @@
+package com.campusboard.campusboard.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * ============================================
+ * TEXT ANALYZER
+ * ============================================
+ * Turns free text into index terms:
+ * - splits on anything that is not a letter or digit
+ * - lowercases
+ * - drops common English stop words
+ * - applies a light suffix-stripping stemmer so that
+ *   "tutoring", "tutors" and "tutor" match each other
+ *
+ * Job postings and search queries go through the same
+ * analyzer, so their terms always line up.
+ * ============================================
+ */
+public final class TextAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from",
+            "has", "have", "in", "is", "it", "its", "of", "on", "or", "our",
+            "that", "the", "this", "to", "was", "we", "will", "with", "you", "your"
+    );
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Analyzes text into a list of terms (duplicates kept, in order).
+     *
+     * @param text - Text to analyze, may be null
+     * @return Terms found in the text
+     */
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addTerm(terms, text.substring(start, i));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static void addTerm(List<String> terms, String token) {
+        String lower = token.toLowerCase(Locale.ROOT);
+        if (STOP_WORDS.contains(lower)) {
+            return;
+        }
+        terms.add(stem(lower));
+    }
+
+    /**
+     * Light English stemmer: strips the most common inflectional
+     * suffixes. Deliberately conservative - it never shortens a
+     * word below three characters.
+     */
+    static String stem(String word) {
+        if (word.length() <= 3 || !Character.isLetter(word.charAt(word.length() - 1))) {
+            return word;
+        }
+
+        if (word.endsWith("ies") && word.length() > 4) {
+            return word.substring(0, word.length() - 3) + "y";
+        }
+        if (word.endsWith("sses")) {
+            return word.substring(0, word.length() - 2);
+        }
+        if (word.endsWith("ing") && word.length() > 5) {
+            return undouble(word.substring(0, word.length() - 3));
+        }
+        if (word.endsWith("ed") && word.length() > 4) {
+            return undouble(word.substring(0, word.length() - 2));
+        }
+        if (word.endsWith("ers") && word.length() > 5) {
+            return undouble(word.substring(0, word.length() - 3));
+        }
+        if (word.endsWith("er") && word.length() > 4) {
+            return undouble(word.substring(0, word.length() - 2));
+        }
+        if (word.endsWith("s") && !word.endsWith("ss") && !word.endsWith("us")) {
+            return word.substring(0, word.length() - 1);
+        }
+        return word;
+    }
+
+    // "programm" -> "program", "shipp" -> "ship"
+    private static String undouble(String stem) {
+        int n = stem.length();
+        if (n >= 4 && stem.charAt(n - 1) == stem.charAt(n - 2)
+                && "lsz".indexOf(stem.charAt(n - 1)) < 0) {
+            return stem.substring(0, n - 1);
+        }
+        return stem;
+    }
+}
@@ -0,0 +1,115 @@
+package com.campusboard.campusboard.search;
+
+/**
+ * ============================================
+ * TEXT SUMMARIZER
+ * ============================================
+ * Builds the short excerpt of a job description shown on
+ * list cards and search results. Computed once when a job
+ * is saved and stored in JOB.summary.
+ *
+ * - HTML tags are dropped and whitespace is collapsed
+ * - Text longer than MAX_LENGTH is cut at the last word
+ *   boundary before the limit and "..." is appended
+ * - A cut never splits an HTML entity (e.g. "&amp;")
+ *   or a surrogate pair
+ * ============================================
+ */
+public final class TextSummarizer {
+
+    // Characters kept before "..." is appended
+    public static final int MAX_LENGTH = 200;
+
+    // A word boundary this far back is too far; cut mid-word instead
+    private static final int MIN_CUT = MAX_LENGTH * 3 / 4;
+
+    private static final String ELLIPSIS = "...";
+
+    private TextSummarizer() {
+    }
+
+    /**
+     * @param text - Full description, may be null
+     * @return Excerpt of at most MAX_LENGTH + 3 characters, or null
+     */
+    public static String summarize(String text) {
+        if (text == null) {
+            return null;
+        }
+
+        String plain = plainText(text);
+        if (plain.length() <= MAX_LENGTH) {
+            return plain;
+        }
+
+        int cut = plain.lastIndexOf(' ', MAX_LENGTH);
+        if (cut < MIN_CUT) {
+            cut = MAX_LENGTH;
+        }
+        cut = avoidSplitEntity(plain, cut);
+        if (Character.isHighSurrogate(plain.charAt(cut - 1))) {
+            cut--;
+        }
+
+        // Don't leave "word, ..." or "word - ..."
+        int end = cut;
+        while (end > 0 && !Character.isLetterOrDigit(plain.charAt(end - 1))
+                && plain.charAt(end - 1) != ';') {
+            end--;
+        }
+        return plain.substring(0, end) + ELLIPSIS;
+    }
+
+    /**
+     * Strips tags and collapses runs of whitespace into one space.
+     */
+    private static String plainText(String text) {
+        StringBuilder plain = new StringBuilder(Math.min(text.length(), MAX_LENGTH * 4));
+        boolean inTag = false;
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (inTag) {
+                if (c == '>') {
+                    inTag = false;
+                    pendingSpace = true;
+                }
+            } else if (c == '<' && i + 1 < text.length()
+                    && (Character.isLetter(text.charAt(i + 1)) || text.charAt(i + 1) == '/')) {
+                inTag = true;
+            } else if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+            } else {
+                if (pendingSpace && plain.length() > 0) {
+                    plain.append(' ');
+                }
+                pendingSpace = false;
+                plain.append(c);
+            }
+
+            // Nothing past this point can end up in the excerpt
+            if (plain.length() > MAX_LENGTH + 1) {
+                break;
+            }
+        }
+        return plain.toString();
+    }
+
+    /**
+     * Moves the cut back to before an "&" whose entity has not
+     * been closed by ";" yet.
+     */
+    private static int avoidSplitEntity(String text, int cut) {
+        for (int i = cut - 1; i >= 0 && i >= cut - 10; i--) {
+            char c = text.charAt(i);
+            if (c == ';' || Character.isWhitespace(c)) {
+                return cut;
+            }
+            if (c == '&') {
+                return i;
+            }
+        }
+        return cut;
+    }
+}
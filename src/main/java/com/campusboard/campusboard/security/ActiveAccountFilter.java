@@ -0,0 +1,52 @@
+package com.campusboard.campusboard.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.logout.SecurityContextLogoutHandler;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * ============================================
+ * ACTIVE ACCOUNT FILTER
+ * ============================================
+ * The session's principal is a snapshot taken at login. On every
+ * request it is compared with the account's current state (from
+ * UserDetailsCache, so normally no query): a deactivated, deleted
+ * or re-roled account is logged out at once instead of keeping
+ * its old session until it expires.
+ *
+ * Added to the chain in SecurityConfig, before the anonymous
+ * filter, so a logged-out request continues as anonymous and
+ * gets the login page (or a 401 for the API).
+ * ============================================
+ */
+public class ActiveAccountFilter extends OncePerRequestFilter {
+
+    private final CustomUserDetailsService userDetailsService;
+    private final SecurityContextLogoutHandler logoutHandler = new SecurityContextLogoutHandler();
+
+    public ActiveAccountFilter(CustomUserDetailsService userDetailsService) {
+        this.userDetailsService = userDetailsService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof CustomUserDetails principal) {
+            CustomUserDetails current = userDetailsService.findCurrent(principal.getUsername());
+            if (current == null || !current.isEnabled() || current.getRole() != principal.getRole()) {
+                logoutHandler.logout(request, response, auth);
+            }
+        }
+
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,73 @@
+package com.campusboard.campusboard.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ============================================
+ * ADAPTIVE BCRYPT PASSWORD ENCODER
+ * ============================================
+ * BCrypt at the cost chosen for this machine (see
+ * BCryptCostCalibrator), delegating the hashing itself to
+ * Spring's BCryptPasswordEncoder.
+ *
+ * - encode() always uses the chosen cost
+ * - matches() accepts hashes of any cost (the cost is part
+ *   of the hash)
+ * - upgradeEncoding() is true for a hash of any other cost,
+ *   higher or lower: after a successful login Spring Security
+ *   then re-hashes the password just typed and stores it through
+ *   CustomUserDetailsService.updatePassword, so stored hashes
+ *   drift to the current cost without anyone resetting anything
+ * ============================================
+ */
+public class AdaptiveBCryptPasswordEncoder implements PasswordEncoder {
+
+    // $2a$10$... : version, two-digit cost, salt + hash
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final int cost;
+    private final BCryptPasswordEncoder delegate;
+
+    public AdaptiveBCryptPasswordEncoder(int cost) {
+        this.cost = cost;
+        this.delegate = new BCryptPasswordEncoder(cost);
+    }
+
+    /**
+     * @return BCrypt cost (log2 of the rounds) new hashes are made with
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int stored = costOf(encodedPassword);
+        return stored > 0 && stored != cost;
+    }
+
+    /**
+     * @return Cost of a BCrypt hash, or -1 if it isn't one
+     */
+    static int costOf(String encodedPassword) {
+        if (encodedPassword == null) {
+            return -1;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+}
@@ -0,0 +1,92 @@
+package com.campusboard.campusboard.security;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * ============================================
+ * BCRYPT COST CALIBRATOR
+ * ============================================
+ * Picks the BCrypt cost for the machine the application runs on:
+ * the highest cost whose hash still takes no longer than the
+ * target time, kept within [minCost, maxCost].
+ *
+ * How it works:
+ * - Hashes at a cheap probe cost a few times (after a warm-up)
+ *   and takes the median time
+ * - Each cost step doubles the work, so the time at any cost is
+ *   the probe time times 2^(cost - probe cost); measuring the
+ *   real cost directly would take seconds at startup
+ * ============================================
+ */
+public final class BCryptCostCalibrator {
+
+    // Cost actually measured; higher costs are extrapolated from it
+    static final int PROBE_COST = 8;
+
+    // Smallest and largest costs BCrypt accepts
+    static final int LOWEST_COST = 4;
+    static final int HIGHEST_COST = 31;
+
+    private static final int WARM_UP_ROUNDS = 3;
+    private static final int ROUNDS = 5;
+
+    private BCryptCostCalibrator() {
+    }
+
+    /**
+     * @param target - Longest one hash may take
+     * @param minCost - Never go below this cost, however slow the machine
+     * @param maxCost - Never go above this cost, however fast the machine
+     * @return The cost to hash passwords with
+     */
+    public static int calibrate(Duration target, int minCost, int maxCost) {
+        return choose(measureProbe(), target.toNanos(), minCost, maxCost);
+    }
+
+    /**
+     * @param probeNanos - Time of one hash at PROBE_COST
+     * @param targetNanos - Longest one hash may take
+     * @return Highest cost within the target (and the bounds)
+     */
+    static int choose(long probeNanos, long targetNanos, int minCost, int maxCost) {
+        int min = Math.max(LOWEST_COST, Math.min(minCost, HIGHEST_COST));
+        int max = Math.max(min, Math.min(maxCost, HIGHEST_COST));
+
+        int cost = min;
+        while (cost < max && estimateNanos(probeNanos, cost + 1) <= targetNanos) {
+            cost++;
+        }
+        return cost;
+    }
+
+    /**
+     * @return Expected time of one hash at the given cost
+     */
+    static long estimateNanos(long probeNanos, int cost) {
+        int steps = cost - PROBE_COST;
+        if (steps < 0) {
+            return probeNanos >> -steps;
+        }
+        // Saturate instead of overflowing at the highest costs
+        return steps >= Long.numberOfLeadingZeros(probeNanos) - 1 ? Long.MAX_VALUE : probeNanos << steps;
+    }
+
+    private static long measureProbe() {
+        String salt = BCrypt.gensalt(PROBE_COST);
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            BCrypt.hashpw("calibration", salt);
+        }
+
+        long[] nanos = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw("calibration", salt);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[ROUNDS / 2];
+    }
+}
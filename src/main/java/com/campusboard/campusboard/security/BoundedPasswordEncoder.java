@@ -0,0 +1,164 @@
+package com.campusboard.campusboard.security;
+
+import com.campusboard.campusboard.exceptions.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * ============================================
+ * BOUNDED PASSWORD ENCODER
+ * ============================================
+ * Runs the BCrypt work of registrations and logins (encode and
+ * matches) on a small pool of hashing threads instead of on
+ * Tomcat's request threads.
+ *
+ * How it works:
+ * - One hashing thread per CPU core by default: BCrypt is pure
+ *   CPU, more threads would only make every hash slower
+ * - Hashes wait in a bounded queue; when it is full the request
+ *   is refused at once (PasswordHashingBusyException -> 429)
+ *   instead of queueing, so at most threads + queue-capacity
+ *   request threads ever wait on credential work and the rest
+ *   of the pool keeps serving pages
+ * - upgradeEncoding() says no while hashes are queued: a rehash
+ *   on login costs a second hash, and it is retried at the
+ *   user's next login anyway
+ * - Metrics: campusboard.security.hashing.queue.size,
+ *   campusboard.security.hashing.time (per hash, tagged
+ *   operation=encode|matches), campusboard.security.hashing.wait
+ *   (time queued) and campusboard.security.hashing.rejected
+ * ============================================
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    static final String QUEUE_GAUGE = "campusboard.security.hashing.queue.size";
+    static final String HASH_TIMER = "campusboard.security.hashing.time";
+    static final String WAIT_TIMER = "campusboard.security.hashing.wait";
+    static final String REJECTED_COUNTER = "campusboard.security.hashing.rejected";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    /**
+     * @param delegate - Encoder doing the hashing
+     * @param threads - Hashing threads (0 = one per CPU core)
+     * @param queueCapacity - Hashes that may wait for a thread
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry,
+                                  int threads, int queueCapacity) {
+        this.delegate = delegate;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder(QUEUE_GAUGE, executor.getQueue(), BlockingQueue::size)
+                .description("Password hashes waiting for a hashing thread")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder(HASH_TIMER)
+                .description("Time taken to hash or verify one password")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder(HASH_TIMER)
+                .description("Time taken to hash or verify one password")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder(WAIT_TIMER)
+                .description("Time a password hash waited for a hashing thread")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(REJECTED_COUNTER)
+                .description("Registrations and logins refused because the hashing queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @throws PasswordHashingBusyException if the hashing queue is full
+     */
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    /**
+     * @throws PasswordHashingBusyException if the hashing queue is full
+     */
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return executor.getQueue().isEmpty() && delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * @return Hashes waiting for a hashing thread
+     */
+    public int queueSize() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Stops the hashing threads once the queued hashes are done;
+     * hashes submitted afterwards are refused.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // =============================
+    // INTERNALS
+    // =============================
+
+    private <T> T run(Timer hashTimer, Supplier<T> hash) {
+        long queuedAt = System.nanoTime();
+
+        Future<T> result;
+        try {
+            result = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.record(hash);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException("Too many sign-ins right now, please try again in a moment");
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a password hash", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.campusboard.campusboard.security;
 
 import com.campusboard.campusboard.models.User;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -8,30 +9,90 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.List;
 
-public class CustomUserDetails implements UserDetails {
+/**
+ * ============================================
+ * CUSTOM USER DETAILS (SECURITY PRINCIPAL)
+ * ============================================
+ * The logged-in user as kept in the HTTP session and handed to
+ * controllers with @AuthenticationPrincipal.
+ *
+ * - Holds only what requests need (userId, email, role, status),
+ *   not the User entity, so sessions stay small and nothing
+ *   lazy-loads from them
+ * - The password hash is only needed while logging in: Spring
+ *   Security calls eraseCredentials() once the login succeeds,
+ *   before the principal is stored in the session
+ * ============================================
+ */
+public final class CustomUserDetails implements UserDetails, CredentialsContainer {
 
-    private final User user;
+    private final Long userId;
+    private final String email;
+    private final User.Role role;
+    private final User.Status status;
+    private final List<GrantedAuthority> authorities;
+    private String password;
 
     public CustomUserDetails(User user) {
-        this.user = user;
+        this.userId = user.getUserId();
+        this.email = user.getEmail();
+        this.role = user.getRole();
+        this.status = user.getStatus();
+        this.password = user.getPassword();
+
+        // IMPORTANT: Spring Security requires "ROLE_" prefix
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    private CustomUserDetails(CustomUserDetails other, String password) {
+        this.userId = other.userId;
+        this.email = other.email;
+        this.role = other.role;
+        this.status = other.status;
+        this.authorities = other.authorities;
+        this.password = password;
+    }
+
+    /**
+     * @return A copy with its own password field, so erasing the
+     *         copy's credentials leaves this one intact
+     */
+    CustomUserDetails copy() {
+        return new CustomUserDetails(this, password);
+    }
+
+    /**
+     * @return A copy holding a new password hash (after a rehash on login)
+     */
+    CustomUserDetails withPassword(String encodedPassword) {
+        return new CustomUserDetails(this, encodedPassword);
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public User.Role getRole() {
+        return role;
+    }
+
+    public User.Status getStatus() {
+        return status;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        // IMPORTANT: Spring Security requires "ROLE_" prefix
-        return List.of(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
-        );
+        return authorities;
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     @Override
@@ -41,7 +102,7 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public boolean isAccountNonLocked() {
-        return user.getStatus() == User.Status.ACTIVE;
+        return status == User.Status.ACTIVE;
     }
 
     @Override
@@ -51,6 +112,11 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return user.getStatus() == User.Status.ACTIVE;
+        return status == User.Status.ACTIVE;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        password = null;
     }
 }
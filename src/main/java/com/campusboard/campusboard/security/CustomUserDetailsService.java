@@ -1,28 +1,77 @@
 package com.campusboard.campusboard.security;
 
-import com.campusboard.campusboard.models.User;
+import com.campusboard.campusboard.cache.UserDetailsCache;
 import com.campusboard.campusboard.repositories.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomUserDetailsService.class);
 
     @Autowired
     private UserRepository userRepository;
 
+    // Saves the USER query on logins and per-request status checks
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
     @Override
     public UserDetails loadUserByUsername(String email)
             throws UsernameNotFoundException {
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() ->
-                        new UsernameNotFoundException("User not found with email: " + email)
-                );
+        CustomUserDetails details = findCurrent(email);
+        if (details == null) {
+            throw new UsernameNotFoundException("User not found with email: " + email);
+        }
+
+        // The login erases the returned copy's password, not the cached one's
+        return details.copy();
+    }
+
+    /**
+     * Current state of an account, from the cache when possible.
+     * The result is shared: read it, don't hand it to Spring Security.
+     *
+     * @param email - Email the account logs in with
+     * @return The account, or null if there is none
+     */
+    public CustomUserDetails findCurrent(String email) {
+        return userDetailsCache.get(email, address -> userRepository.findByEmail(address)
+                .map(CustomUserDetails::new)
+                .orElse(null));
+    }
 
-        return new CustomUserDetails(user);
+    /**
+     * Called by Spring Security after a successful login whose stored
+     * hash was made at another BCrypt cost (AdaptiveBCryptPasswordEncoder),
+     * with the password just typed hashed at the current cost.
+     *
+     * A failed update doesn't fail the login: the old hash still
+     * works and the rehash is retried at the next login.
+     *
+     * @param user - The account being logged in (from loadUserByUsername)
+     * @param newPassword - The new hash
+     * @return The account holding the new hash
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        CustomUserDetails details = (CustomUserDetails) user;
+        try {
+            userRepository.updatePassword(details.getUserId(), newPassword);
+        } catch (DataAccessException e) {
+            log.warn("Could not store the rehashed password of user {}", details.getUserId(), e);
+            return user;
+        }
+        userDetailsCache.evict(details.getUsername());
+        return details.withPassword(newPassword);
     }
 }
@@ -0,0 +1,83 @@
+package com.campusboard.campusboard.security;
+
+import com.campusboard.campusboard.exceptions.PasswordHashingBusyException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * ============================================
+ * PASSWORD HASHING BUSY FILTER
+ * ============================================
+ * Logins (form and HTTP Basic) verify passwords inside the
+ * security filter chain, before any controller, so the
+ * GlobalExceptionHandler never sees a full hashing queue
+ * there. This turns it into 429 Too Many Requests with a
+ * Retry-After, rendered by templates/error/429.html.
+ *
+ * - The provider wraps anything thrown while loading the user
+ *   in an InternalAuthenticationServiceException, which the
+ *   login filters hand to their failure handler / entry point
+ *   instead of throwing; failureHandler() and entryPoint()
+ *   rethrow a full queue found inside so it still lands here
+ * ============================================
+ */
+public class PasswordHashingBusyFilter extends OncePerRequestFilter {
+
+    // Seconds a refused client is asked to wait
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } catch (PasswordHashingBusyException e) {
+            if (response.isCommitted()) {
+                throw e;
+            }
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), e.getMessage());
+        }
+    }
+
+    /**
+     * @param next - Handles every other failed form login
+     * @return A handler that lets a full hashing queue reach this filter
+     */
+    public static AuthenticationFailureHandler failureHandler(AuthenticationFailureHandler next) {
+        return (request, response, exception) -> {
+            rethrowIfBusy(exception);
+            next.onAuthenticationFailure(request, response, exception);
+        };
+    }
+
+    /**
+     * @param next - Handles every other failed HTTP Basic login
+     * @return An entry point that lets a full hashing queue reach this filter
+     */
+    public static AuthenticationEntryPoint entryPoint(AuthenticationEntryPoint next) {
+        return (request, response, exception) -> {
+            rethrowIfBusy(exception);
+            next.commence(request, response, exception);
+        };
+    }
+
+    private static void rethrowIfBusy(AuthenticationException exception) {
+        for (Throwable cause = exception.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof PasswordHashingBusyException busy) {
+                throw busy;
+            }
+        }
+    }
+}
@@ -0,0 +1,440 @@
+package com.campusboard.campusboard.services;
+
+import com.campusboard.campusboard.cache.AppliedJobsVersion;
+import com.campusboard.campusboard.exceptions.ApplicationQueueFullException;
+import com.campusboard.campusboard.exceptions.DuplicateApplicationException;
+import com.campusboard.campusboard.exceptions.JobNotFoundException;
+import com.campusboard.campusboard.models.JobApplication;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * ============================================
+ * APPLICATION INGEST QUEUE (WRITE-BEHIND)
+ * ============================================
+ * Optional apply path for deadline rushes, enabled with
+ * campusboard.applications.write-behind.enabled=true.
+ *
+ * How it works:
+ * - submit() checks the job against the in-memory facet index
+ *   (approved, deadline not passed; a job it doesn't know is
+ *   looked up once) and rejects an application that is already
+ *   waiting in the queue
+ * - The application goes on a bounded queue and the student is
+ *   answered at once; when the queue is full submit() waits up
+ *   to offer-timeout-ms, then refuses (ApplicationQueueFullException)
+ *   so a spike slows students down instead of exhausting memory
+ * - A few writer threads take everything waiting (up to
+ *   batch-size) and store it with one multi-row INSERT (IDs from
+ *   IdAllocator), so thousands of applies share a handful of
+ *   connections
+ * - ON DUPLICATE KEY UPDATE absorbs only a duplicate that reached
+ *   the database anyway, via the (job_id, student_id) unique key;
+ *   any other error (a job deleted meanwhile, bad data) fails the
+ *   statement instead of being turned into a warning
+ * - A batch the database refuses is written again one row at a
+ *   time, so one bad row doesn't lose the others
+ * - Any other failure (database down, ID allocation, the check
+ *   below) is logged and the batch retried with a growing pause,
+ *   IDs included, for as long as the queue is accepting; a writer
+ *   never stops on an error. Only during shutdown is a batch given
+ *   up after MAX_ATTEMPTS (and counted as failed)
+ * - Rows not stored under their new ID were duplicates; they are
+ *   counted and logged (the driver reports found rows, so the
+ *   update count can't tell them apart)
+ * - On shutdown new applications are refused and everything
+ *   already queued is written before the DataSource closes
+ * - Metrics: campusboard.applications.queue.size,
+ *   campusboard.applications.queue.commit (timer per batch),
+ *   campusboard.applications.queue.rejected (queue full),
+ *   campusboard.applications.queue.ignored (already stored) and
+ *   campusboard.applications.queue.failed (lost after retries)
+ * ============================================
+ */
+@Service
+public class ApplicationIngestQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationIngestQueue.class);
+
+    static final String SIZE_GAUGE = "campusboard.applications.queue.size";
+    static final String COMMIT_TIMER = "campusboard.applications.queue.commit";
+    static final String REJECTED_COUNTER = "campusboard.applications.queue.rejected";
+    static final String FAILED_COUNTER = "campusboard.applications.queue.failed";
+    static final String IGNORED_COUNTER = "campusboard.applications.queue.ignored";
+
+    // Attempts per batch before it is given up during shutdown
+    static final int MAX_ATTEMPTS = 3;
+
+    // Longest pause between two attempts at the same batch
+    private static final long MAX_RETRY_MILLIS = 5_000;
+
+    // How long an idle writer waits before checking for shutdown
+    private static final long POLL_MILLIS = 200;
+
+    private static final String INSERT = "INSERT INTO job_application " +
+            "(application_id, job_id, student_id, status, applied_at) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 5;
+    // A no-op that leaves the existing application as it was
+    private static final String ON_DUPLICATE = " ON DUPLICATE KEY UPDATE application_id = application_id";
+
+    private static final String STORED_IDS = "SELECT application_id FROM job_application WHERE application_id IN ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobFacetService jobFacetService;
+    private final IdAllocator idAllocator;
+    private final AppliedJobsVersion appliedJobsVersion;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long offerTimeoutMillis;
+    private final long drainTimeoutMillis;
+
+    private final BlockingQueue<QueuedApplication> queue;
+    private final Set<Key> queued = ConcurrentHashMap.newKeySet();
+    private final ExecutorService writers;
+    private volatile boolean accepting = true;
+
+    private final Timer commitTimer;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+    private final Counter ignoredCounter;
+
+    public ApplicationIngestQueue(JdbcTemplate jdbcTemplate,
+                                  JobFacetService jobFacetService,
+                                  IdAllocator idAllocator,
+                                  AppliedJobsVersion appliedJobsVersion,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${campusboard.applications.write-behind.enabled:false}") boolean enabled,
+                                  @Value("${campusboard.applications.write-behind.capacity:10000}") int capacity,
+                                  @Value("${campusboard.applications.write-behind.writers:2}") int writerThreads,
+                                  @Value("${campusboard.applications.write-behind.batch-size:200}") int batchSize,
+                                  @Value("${campusboard.applications.write-behind.offer-timeout-ms:250}") long offerTimeoutMillis,
+                                  @Value("${campusboard.applications.write-behind.drain-timeout-ms:30000}") long drainTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobFacetService = jobFacetService;
+        this.idAllocator = idAllocator;
+        this.appliedJobsVersion = appliedJobsVersion;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.drainTimeoutMillis = drainTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+
+        Gauge.builder(SIZE_GAUGE, queue, BlockingQueue::size)
+                .description("Applications waiting to be written")
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder(COMMIT_TIMER)
+                .description("Time taken to write one batch of queued applications")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(REJECTED_COUNTER)
+                .description("Applications refused because the queue was full")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(FAILED_COUNTER)
+                .description("Queued applications that could not be written")
+                .register(meterRegistry);
+        this.ignoredCounter = Counter.builder(IGNORED_COUNTER)
+                .description("Queued applications skipped because they were already stored")
+                .register(meterRegistry);
+
+        if (enabled && writerThreads > 0) {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("application-writer-");
+            this.writers = Executors.newFixedThreadPool(writerThreads, threadFactory);
+            for (int i = 0; i < writerThreads; i++) {
+                writers.execute(this::writeLoop);
+            }
+        } else {
+            this.writers = null;
+        }
+    }
+
+    /**
+     * @return True if applications should go through submit()
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * =============================
+     * SUBMIT AN APPLICATION
+     * =============================
+     * Returns once the application is queued; it is stored
+     * moments later by a writer.
+     *
+     * @param jobId - ID of the job to apply to
+     * @param studentId - ID of the applying student
+     * @throws JobNotFoundException if the job is not open for applications
+     * @throws DuplicateApplicationException if the same application is still queued
+     * @throws ApplicationQueueFullException if the queue stayed full (or is shut down)
+     */
+    public void submit(Long jobId, Long studentId) {
+        if (!accepting) {
+            throw new ApplicationQueueFullException("Applications are paused, please try again shortly");
+        }
+        if (!jobFacetService.isOpen(jobId)) {
+            throw new JobNotFoundException("No open job found with ID: " + jobId);
+        }
+
+        Key key = new Key(jobId, studentId);
+        if (!queued.add(key)) {
+            throw new DuplicateApplicationException("You have already applied to this job");
+        }
+
+        QueuedApplication application = new QueuedApplication(key, LocalDateTime.now());
+        boolean offered;
+        try {
+            offered = queue.offer(application, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            offered = false;
+        }
+
+        if (!offered) {
+            queued.remove(key);
+            rejectedCounter.increment();
+            throw new ApplicationQueueFullException("Too many applications right now, please try again in a moment");
+        }
+
+        // shutdown() may have drained the queue for the last time
+        // between the check above and the offer. Still in the queue
+        // means nobody will write it: take it back. Gone means a
+        // writer or the drain has it.
+        if (!accepting && queue.remove(application)) {
+            queued.remove(key);
+            throw new ApplicationQueueFullException("Applications are paused, please try again shortly");
+        }
+    }
+
+    /**
+     * @return Number of applications waiting to be written
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * =============================
+     * DRAIN ON SHUTDOWN
+     * =============================
+     * Refuses new applications and waits for the writers to empty
+     * the queue; whatever is left after drain-timeout-ms (or with
+     * no writers) is written by the calling thread.
+     */
+    @PreDestroy
+    public void shutdown() {
+        accepting = false;
+        if (writers != null) {
+            writers.shutdown();
+            try {
+                writers.awaitTermination(drainTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        List<QueuedApplication> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            commit(batch);
+            batch.clear();
+        }
+    }
+
+    // =============================
+    // INTERNALS
+    // =============================
+
+    private void writeLoop() {
+        List<QueuedApplication> batch = new ArrayList<>(batchSize);
+
+        while (accepting || !queue.isEmpty()) {
+            QueuedApplication first;
+            try {
+                first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                continue;
+            }
+
+            // Everything that piled up meanwhile goes into the same INSERT
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+            commit(batch);
+            batch.clear();
+        }
+    }
+
+    private void commit(List<QueuedApplication> batch) {
+        try {
+            List<Row> written = write(batch);
+            if (!written.isEmpty()) {
+                checkStored(written);
+            }
+        } catch (RuntimeException e) {
+            // Not expected (write() handles its own errors), but the
+            // writer must keep going either way
+            failedCounter.increment(batch.size());
+            log.error("Could not store {} queued application(s): {}", batch.size(), batch, e);
+        } finally {
+            for (QueuedApplication application : batch) {
+                queued.remove(application.key());
+            }
+        }
+    }
+
+    /**
+     * One multi-row INSERT with freshly allocated IDs, retried on
+     * failure (see the class comment).
+     *
+     * @return The rows that were written (stored or found already stored)
+     */
+    private List<Row> write(List<QueuedApplication> batch) {
+        for (int attempt = 1; ; attempt++) {
+            List<Row> rows = new ArrayList<>(batch.size());
+            try {
+                for (QueuedApplication application : batch) {
+                    rows.add(new Row(idAllocator.nextId(JobApplication.class), application));
+                }
+                String sql = insertSql(rows.size());
+                Object[] args = insertArgs(rows);
+                commitTimer.record(() -> jdbcTemplate.update(sql, args));
+                return rows;
+            } catch (DataIntegrityViolationException e) {
+                // Retrying the same rows won't help
+                log.warn("Storing {} queued application(s) was refused, storing them one by one", batch.size(), e);
+                return insertOneByOne(rows);
+            } catch (RuntimeException e) {
+                if (!accepting && attempt >= MAX_ATTEMPTS) {
+                    failedCounter.increment(batch.size());
+                    log.error("Storing {} queued application(s) kept failing on shutdown, giving up: {}",
+                            batch.size(), batch, e);
+                    return List.of();
+                }
+                log.warn("Storing {} queued application(s) failed (attempt {}), retrying", batch.size(), attempt, e);
+                sleep(Math.min(attempt * POLL_MILLIS, MAX_RETRY_MILLIS));
+            }
+        }
+    }
+
+    /**
+     * @return The rows that were written (stored or found already stored)
+     */
+    private List<Row> insertOneByOne(List<Row> rows) {
+        String sql = insertSql(1);
+        List<Row> written = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            try {
+                jdbcTemplate.update(sql, insertArgs(List.of(row)));
+                written.add(row);
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                log.error("Could not store queued application {}", row.application(), e);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Finds which written rows were stored under their new ID; the
+     * others were duplicates absorbed by ON DUPLICATE KEY UPDATE.
+     */
+    private void checkStored(List<Row> written) {
+        Object[] ids = written.stream().map(Row::applicationId).toArray();
+        Set<Long> stored;
+        try {
+            stored = new HashSet<>(jdbcTemplate.queryForList(
+                    STORED_IDS + "(" + String.join(", ", Collections.nCopies(ids.length, "?")) + ")",
+                    Long.class, ids));
+        } catch (DataAccessException e) {
+            // The rows are written either way; only the count of
+            // duplicates is lost, so assume every row is new
+            log.warn("Could not check which of {} written application(s) were duplicates", ids.length, e);
+            stored = written.stream().map(Row::applicationId).collect(Collectors.toSet());
+        }
+
+        List<QueuedApplication> ignored = new ArrayList<>();
+        Set<Long> students = new HashSet<>();
+        for (Row row : written) {
+            if (stored.contains(row.applicationId())) {
+                students.add(row.application().key().studentId());
+            } else {
+                ignored.add(row.application());
+            }
+        }
+
+        if (!ignored.isEmpty()) {
+            ignoredCounter.increment(ignored.size());
+            log.warn("{} queued application(s) were already stored and were skipped: {}", ignored.size(), ignored);
+        }
+        // Other sessions of these students recheck their applied sets
+        students.forEach(appliedJobsVersion::applied);
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT.length() + rows * (ROW.length() + 2) + ON_DUPLICATE.length())
+                .append(INSERT);
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? "" : ", ").append(ROW);
+        }
+        return sql.append(ON_DUPLICATE).toString();
+    }
+
+    private static Object[] insertArgs(List<Row> rows) {
+        Object[] args = new Object[rows.size() * COLUMNS];
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            int column = i * COLUMNS;
+            args[column] = row.applicationId();
+            args[column + 1] = row.application().key().jobId();
+            args[column + 2] = row.application().key().studentId();
+            args[column + 3] = JobApplication.Status.SUBMITTED.name();
+            args[column + 4] = Timestamp.valueOf(row.application().appliedAt());
+        }
+        return args;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Key(Long jobId, Long studentId) {
+    }
+
+    private record QueuedApplication(Key key, LocalDateTime appliedAt) {
+    }
+
+    private record Row(Long applicationId, QueuedApplication application) {
+    }
+}
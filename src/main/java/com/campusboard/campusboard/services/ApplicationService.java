@@ -1,5 +1,13 @@
 package com.campusboard.campusboard.services;
 
+import com.campusboard.campusboard.cache.AppliedJobsVersion;
+import com.campusboard.campusboard.dto.ApiCursor;
+import com.campusboard.campusboard.dto.ApplicantExportRow;
+import com.campusboard.campusboard.dto.ApplicantPage;
+import com.campusboard.campusboard.dto.ApplicantSort;
+import com.campusboard.campusboard.dto.ApplicantView;
+import com.campusboard.campusboard.dto.AppliedJobIds;
+import com.campusboard.campusboard.dto.KeysetCursor;
 import com.campusboard.campusboard.exceptions.DuplicateApplicationException;
 import com.campusboard.campusboard.exceptions.JobNotFoundException;
 import com.campusboard.campusboard.models.Job;
@@ -7,11 +15,23 @@ import com.campusboard.campusboard.models.JobApplication;
 import com.campusboard.campusboard.models.User;
 import com.campusboard.campusboard.repositories.JobApplicationRepository;
 import com.campusboard.campusboard.repositories.JobRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * ============================================
@@ -24,11 +44,19 @@ import java.util.Optional;
  * - Allow students to apply to jobs
  * - Prevent duplicate applications
  * - Retrieve applications by student or job
+ * - Tell job pages which jobs a student already applied to
+ * - Let employers accept or reject many applicants at once
  * ============================================
  */
 @Service
 public class ApplicationService {
 
+    // Application IDs per UPDATE statement (keeps the IN list bounded)
+    public static final int STATUS_UPDATE_CHUNK = 500;
+
+    // Applicants per page on the employer's applicants list
+    public static final int APPLICANT_PAGE_SIZE = 50;
+
     // =============================
     // DEPENDENCY INJECTION
     // =============================
@@ -39,58 +67,137 @@ public class ApplicationService {
     @Autowired
     private JobRepository jobRepository;
 
+    // IDs for rows inserted without persist()
+    @Autowired
+    private IdAllocator idAllocator;
+
+    // Tells when a session's AppliedJobIds needs checking
+    @Autowired
+    private AppliedJobsVersion appliedJobsVersion;
+
+    // Cleared while streaming so rows don't pile up in memory
+    @PersistenceContext
+    private EntityManager entityManager;
+
     /**
      * =============================
      * APPLY TO A JOB
      * =============================
-     * Allows a student to apply to a specific job.
-     * Prevents duplicate applications using database constraint.
+     * Allows a student to apply to an approved job in a single
+     * INSERT ... SELECT: the job's existence and status are
+     * checked by the same statement, and the JOB_APPLICATION
+     * unique key settles duplicates (no read-then-write race).
      *
      * @param jobId - ID of the job to apply to
      * @param student - Student user who is applying
-     * @throws JobNotFoundException if job doesn't exist
+     * @throws JobNotFoundException if no approved job has this ID
      * @throws DuplicateApplicationException if student already applied
      */
     public void applyToJob(Long jobId, User student) {
-        // Find the job by ID, throw exception if not found
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new JobNotFoundException("Job not found with ID: " + jobId));
-
-        // Check if student has already applied to this job
-        Optional<JobApplication> existing = applicationRepository.findByJobAndStudent(job, student);
-
-        if (existing.isPresent()) {
-            // Student already applied - throw custom exception
+        int inserted;
+        try {
+            inserted = applicationRepository.insertIfJobStatus(idAllocator.nextId(JobApplication.class),
+                    jobId, student.getUserId(),
+                    Job.Status.APPROVED, JobApplication.Status.SUBMITTED, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            // The only key a valid student and job can break is (job_id, student_id)
             throw new DuplicateApplicationException("You have already applied to this job");
         }
 
-        // Create new application
-        JobApplication application = new JobApplication();
-        application.setJob(job);  // Set the job reference
-        application.setStudent(student);  // Set the student reference
-        application.setStatus(JobApplication.Status.SUBMITTED);  // Default status
-
-        // Save to database
-        applicationRepository.save(application);
+        if (inserted == 0) {
+            throw new JobNotFoundException("No open job found with ID: " + jobId);
+        }
+        appliedJobsVersion.applied(student.getUserId());
     }
 
     /**
      * =============================
-     * GET APPLICATIONS FOR A JOB
+     * GET APPLICANTS FOR A JOB (KEYSET PAGINATED)
      * =============================
-     * Retrieves all applications submitted for a specific job.
-     * Used by employers to see who applied.
+     * Retrieves one page of a job's applicants for its employer.
+     * A single projection query per page, joined to the student
+     * only; the job itself is not read here (the page header
+     * takes it from JobCache). Pages continue from the last
+     * (sort key, applicationId) seen, so the 40th page of a
+     * popular posting costs the same as the first.
      *
      * @param jobId - ID of the job
-     * @return List of all applications for this job
+     * @param sort - Sort order selected by the employer
+     * @param status - Only applicants with this status, or null for all
+     * @param cursor - Token from the previous page, or null for the first page
+     * @return The page of applicants and the cursor for the next page
+     */
+    public ApplicantPage getApplicantPage(Long jobId, ApplicantSort sort, JobApplication.Status status, String cursor) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Collection<JobApplication.Status> statuses = status == null
+                ? EnumSet.allOf(JobApplication.Status.class)
+                : EnumSet.of(status);
+
+        // Fetch one extra row to find out whether another page exists
+        Pageable limit = PageRequest.of(0, APPLICANT_PAGE_SIZE + 1);
+        List<ApplicantView> applicants = switch (sort) {
+            case NEWEST -> findNewest(jobId, statuses, after, limit);
+            case STATUS -> findByStatus(jobId, statuses, after, limit);
+            case NAME -> findByName(jobId, statuses, after, limit);
+        };
+
+        KeysetCursor.Slice<ApplicantView> page = KeysetCursor.slice(applicants, APPLICANT_PAGE_SIZE,
+                applicant -> new KeysetCursor(sortKey(sort, applicant), applicant.applicationId()));
+        return new ApplicantPage(page.rows(), sort, status, page.nextCursor());
+    }
+
+    private List<ApplicantView> findNewest(Long jobId, Collection<JobApplication.Status> statuses,
+                                           KeysetCursor after, Pageable limit) {
+        LocalDateTime appliedAt = after == null ? null : after.keyAsDateTime();
+        if (appliedAt == null) {
+            return applicationRepository.findApplicantsByNewest(jobId, statuses, limit);
+        }
+        return applicationRepository.findApplicantsByNewestAfter(jobId, statuses,
+                appliedAt, after.id(), limit);
+    }
+
+    private List<ApplicantView> findByStatus(Long jobId, Collection<JobApplication.Status> statuses,
+                                             KeysetCursor after, Pageable limit) {
+        Integer rank = after == null ? null : validStatusRank(after.keyAsInt());
+        if (rank == null) {
+            return applicationRepository.findApplicantsByStatus(jobId, statuses, limit);
+        }
+        return applicationRepository.findApplicantsByStatusAfter(jobId, statuses,
+                rank, after.id(), limit);
+    }
+
+    private List<ApplicantView> findByName(Long jobId, Collection<JobApplication.Status> statuses,
+                                           KeysetCursor after, Pageable limit) {
+        if (after == null || after.key() == null) {
+            return applicationRepository.findApplicantsByName(jobId, statuses, limit);
+        }
+        return applicationRepository.findApplicantsByNameAfter(jobId, statuses,
+                after.key(), after.id(), limit);
+    }
+
+    private static String sortKey(ApplicantSort sort, ApplicantView applicant) {
+        return switch (sort) {
+            case NEWEST -> applicant.appliedAt() == null ? null : applicant.appliedAt().toString();
+            case STATUS -> applicant.status() == null ? null : Integer.toString(statusRank(applicant.status()));
+            case NAME -> applicant.studentName();
+        };
+    }
+
+    /**
+     * Position of a status in the STATUS sort, the same number as
+     * JobApplicationRepository.STATUS_RANK computes in the query.
      */
-    public List<JobApplication> getApplicationsForJob(Long jobId) {
-        // Find the job first
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new JobNotFoundException("Job not found"));
+    private static int statusRank(JobApplication.Status status) {
+        return switch (status) {
+            case SUBMITTED -> 0;
+            case ACCEPTED -> 1;
+            case REJECTED -> 2;
+        };
+    }
 
-        // Return all applications for this job
-        return applicationRepository.findByJob(job);
+    // A tampered cursor key restarts the list, like a malformed token
+    private static Integer validStatusRank(Integer rank) {
+        return rank != null && rank >= 0 && rank <= statusRank(JobApplication.Status.REJECTED) ? rank : null;
     }
 
     /**
@@ -107,4 +214,114 @@ public class ApplicationService {
         // Query database for all applications by this student
         return applicationRepository.findByStudent(student);
     }
-}
\ No newline at end of file
+
+    /**
+     * =============================
+     * ACCEPT / REJECT APPLICANTS (EMPLOYER FUNCTION)
+     * =============================
+     * Sets the status of many applications to one job with
+     * set-based UPDATEs of at most STATUS_UPDATE_CHUNK IDs each,
+     * all in one transaction. Each statement also checks that the
+     * job belongs to the employer, so IDs of other jobs or other
+     * employers' jobs are silently left alone.
+     *
+     * @param jobId - Job the applications were sent to
+     * @param applicationIds - Applications to change
+     * @param status - ACCEPTED or REJECTED
+     * @param employer - Employer making the decision
+     * @return Number of applications changed
+     * @throws IllegalArgumentException if status is SUBMITTED
+     */
+    @Transactional
+    public int updateApplicationStatus(Long jobId, Collection<Long> applicationIds,
+                                       JobApplication.Status status, User employer) {
+        if (status == JobApplication.Status.SUBMITTED) {
+            throw new IllegalArgumentException("Applicants can only be accepted or rejected");
+        }
+
+        List<Long> ids = applicationIds.stream().filter(Objects::nonNull).distinct().toList();
+        int updated = 0;
+        for (int from = 0; from < ids.size(); from += STATUS_UPDATE_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + STATUS_UPDATE_CHUNK, ids.size()));
+            updated += applicationRepository.updateStatusForEmployer(chunk, jobId, employer.getUserId(), status);
+        }
+        return updated;
+    }
+
+    /**
+     * =============================
+     * GET APPLIED JOB IDS
+     * =============================
+     * Returns the student's applied job IDs, reusing the set kept
+     * in the session. While AppliedJobsVersion says it is current
+     * nothing is queried; otherwise one aggregate query checks the
+     * stamp, and the IDs are only re-read when an application was
+     * added or removed elsewhere.
+     *
+     * @param studentId - ID of the student
+     * @param cached - Set kept in the session, or null
+     * @return "cached" if still current, otherwise a checked or freshly loaded set
+     */
+    public AppliedJobIds getAppliedJobIds(Long studentId, AppliedJobIds cached) {
+        boolean ownSet = cached != null && cached.studentId().equals(studentId);
+        if (ownSet && appliedJobsVersion.isCurrent(cached)) {
+            return cached;
+        }
+
+        // Read before the query: a change made meanwhile forces another check
+        String version = appliedJobsVersion.version(studentId);
+        if (ownSet && cached.stamp().equals(applicationRepository.findStampByStudentId(studentId))) {
+            return cached.checked(version, System.currentTimeMillis());
+        }
+        return AppliedJobIds.of(studentId, applicationRepository.findAppliedByStudentId(studentId))
+                .checked(version, System.currentTimeMillis());
+    }
+
+    /**
+     * =============================
+     * STREAM APPLICATIONS VISIBLE TO A USER
+     * =============================
+     * Hands applications to the caller one at a time, in
+     * applicationId order, straight from a database cursor.
+     * Students see their own applications, employers the ones
+     * sent to their jobs, admins all of them.
+     *
+     * @param viewerId - ID of the user asking for the applications
+     * @param role - That user's role
+     * @param after - Position to continue from (ApiCursor.FIRST to start)
+     * @param limit - Maximum number of applications to hand out
+     * @param action - Called once per application; must not keep it
+     */
+    @Transactional(readOnly = true)
+    public void forEachApplicationVisibleTo(Long viewerId, User.Role role, ApiCursor after, long limit,
+                                            Consumer<JobApplication> action) {
+        Limit sqlLimit = ResultStreams.sqlLimit(limit);
+        Stream<JobApplication> applications = switch (role) {
+            case STUDENT -> applicationRepository.streamByStudentAfter(viewerId, after.afterId(), sqlLimit);
+            case EMPLOYER -> applicationRepository.streamByEmployerAfter(viewerId, after.afterId(), sqlLimit);
+            case ADMIN -> applicationRepository.streamAllAfter(after.afterId(), sqlLimit);
+        };
+        ResultStreams.forEach(applications, limit, entityManager, action);
+    }
+
+    /**
+     * =============================
+     * STREAM APPLICANTS FOR EXPORT (EMPLOYER FUNCTION)
+     * =============================
+     * Hands an employer's applicants to the caller one row at a
+     * time, straight from a forward-only database cursor, so an
+     * export of any size starts at once and holds constant memory.
+     * Applications to other employers' jobs are never returned.
+     *
+     * @param employer - Employer exporting their applicants
+     * @param jobId - Only this job's applicants, or null for all of the employer's jobs
+     * @param action - Called once per row, in job then application order
+     */
+    @Transactional(readOnly = true)
+    public void forEachApplicantForExport(User employer, Long jobId, Consumer<ApplicantExportRow> action) {
+        Stream<ApplicantExportRow> rows = jobId == null
+                ? applicationRepository.streamExportByEmployer(employer.getUserId())
+                : applicationRepository.streamExportByJob(jobId, employer.getUserId());
+        ResultStreams.forEach(rows, Long.MAX_VALUE, entityManager, action);
+    }
+}
@@ -0,0 +1,113 @@
+package com.campusboard.campusboard.services;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ============================================
+ * CSV ROW READER
+ * ============================================
+ * Reads RFC 4180 CSV one record at a time, so a large upload is
+ * never held in memory as a whole. Counterpart of the export's
+ * CsvTableWriter.
+ *
+ * - Quoted fields may contain commas, "" (one quote) and line breaks
+ * - CRLF, LF and CR line endings are accepted
+ * - A leading byte order mark (as Excel writes it) is skipped
+ * ============================================
+ */
+final class CsvRowReader {
+
+    private static final char BOM = '\uFEFF';
+    private static final int EOF = -1;
+
+    private final Reader in;
+    private int pending = EOF;
+    private boolean pendingSet;
+    private boolean started;
+    private int rows;
+
+    CsvRowReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * @return The fields of the next record, or null at the end of the input
+     * @throws IOException if the input can't be read or a quoted field is never closed
+     */
+    List<String> next() throws IOException {
+        int c = read();
+        if (!started) {
+            started = true;
+            if (c == BOM) {
+                c = read();
+            }
+        }
+        if (c == EOF) {
+            return null;
+        }
+        rows++;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == EOF) {
+                    throw new IOException("Row " + rows + ": quoted field is never closed");
+                }
+                if (c == '"') {
+                    int after = read();
+                    if (after == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(after);
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == EOF) {
+                if (c == '\r') {
+                    int after = read();
+                    if (after != '\n') {
+                        unread(after);
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * @return Number of the record last returned by next() (the first is 1)
+     */
+    int row() {
+        return rows;
+    }
+
+    private int read() throws IOException {
+        if (pendingSet) {
+            pendingSet = false;
+            return pending;
+        }
+        return in.read();
+    }
+
+    private void unread(int c) {
+        pending = c;
+        pendingSet = true;
+    }
+}
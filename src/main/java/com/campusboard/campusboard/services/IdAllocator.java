@@ -0,0 +1,48 @@
+package com.campusboard.campusboard.services;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * ============================================
+ * ID ALLOCATOR
+ * ============================================
+ * Hands out primary keys from an entity's own pooled table
+ * generator (see IdGenerators) to code that inserts rows
+ * without persisting an entity: HQL INSERT ... SELECT and the
+ * write-behind JDBC batches. Those IDs come from the same
+ * in-memory pool as persist(), so the two can never collide.
+ *
+ * Almost every call is served from memory; only every
+ * ALLOCATION_SIZE-th one updates ID_GENERATOR, in its own
+ * short transaction.
+ * ============================================
+ */
+@Component
+public class IdAllocator {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * @param entityType - Entity whose generator to draw from
+     * @return A new, unused primary key for that entity
+     */
+    public long nextId(Class<?> entityType) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(entityType)
+                .getGenerator();
+
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Object id = generator.generate((SharedSessionContractImplementor) session, null, null, EventType.INSERT);
+            return ((Number) id).longValue();
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.campusboard.campusboard.services;
+
+import com.campusboard.campusboard.dto.ImportRowError;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ============================================
+ * IMPORT RUN
+ * ============================================
+ * State of one bulk import, shared by JobImportService and
+ * RosterImportService; each keeps only its row -> entity mapping
+ * and its save step.
+ *
+ * - readCsv(): header row, missing-column check, one values map
+ *   per record (blank lines skipped)
+ * - add(): a row with problems is rejected with its row number
+ *   (the first MAX_ERRORS are listed, the rest only counted);
+ *   valid rows are collected into chunks of chunkSize
+ * - flush(): saves a chunk; a database failure stops the run and
+ *   keeps the chunks saved before it
+ * - fail(): the first problem with the file is reported and the
+ *   rest of the file is not read
+ *
+ * @param <T> - Entity created from each row
+ * ============================================
+ */
+abstract class ImportRun<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportRun.class);
+
+    // Row errors listed in the result; the rest are only counted
+    static final int MAX_ERRORS = 200;
+
+    private final String noun;
+    private final List<String> columns;
+    private final int chunkSize;
+
+    private final List<ImportRowError> errors = new ArrayList<>();
+    private List<Row<T>> chunk = new ArrayList<>();
+    private int rows;
+    private int imported;
+    private int rejected;
+    private String fileError;
+    private boolean stopped;
+
+    /**
+     * @param noun - What the rows are, for messages ("jobs")
+     * @param columns - Column names read from each row
+     * @param chunkSize - Valid rows saved together
+     */
+    ImportRun(String noun, List<String> columns, int chunkSize) {
+        this.noun = noun;
+        this.columns = columns;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    // =============================
+    // PER IMPORT
+    // =============================
+
+    /**
+     * Turns one row into an entity.
+     *
+     * @param values - Cell values by column name (missing cells absent)
+     * @param problems - Add why the row can't be imported, if it can't
+     */
+    abstract T toEntity(Map<String, String> values, List<String> problems);
+
+    /**
+     * Saves a chunk of valid rows; may still reject some of them.
+     *
+     * @return Number of entities saved
+     * @throws DataAccessException if the chunk could not be saved
+     */
+    abstract int save(List<Row<T>> chunk);
+
+    /**
+     * Called after every chunk saved.
+     */
+    void chunkSaved() {
+    }
+
+    /**
+     * @return The column a CSV header cell names
+     */
+    String columnName(String header) {
+        return header.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return How a missing column is named in the error
+     */
+    String columnLabel(String column) {
+        return column;
+    }
+
+    // =============================
+    // READING
+    // =============================
+
+    /**
+     * Reads a CSV file with a header row and adds every record.
+     *
+     * @param in - The uploaded file (UTF-8)
+     * @param required - Columns the header must name
+     * @throws IOException if the file can't be read
+     */
+    void readCsv(InputStream in, List<String> required) throws IOException {
+        CsvRowReader reader = new CsvRowReader(
+                new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+
+        List<String> header = reader.next();
+        if (header == null) {
+            fail("The file is empty");
+            return;
+        }
+        List<String> names = new ArrayList<>(header.size());
+        for (String name : header) {
+            names.add(columnName(name));
+        }
+        List<String> missing = new ArrayList<>();
+        for (String column : required) {
+            if (!names.contains(column)) {
+                missing.add(columnLabel(column));
+            }
+        }
+        if (!missing.isEmpty()) {
+            fail("Missing column(s) in the header row: " + String.join(", ", missing));
+            return;
+        }
+
+        List<String> fields;
+        while (!stopped && (fields = reader.next()) != null) {
+            // Blank line
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < names.size() && i < fields.size(); i++) {
+                if (columns.contains(names.get(i))) {
+                    values.put(names.get(i), fields.get(i));
+                }
+            }
+            add(reader.row(), values, new ArrayList<>());
+        }
+    }
+
+    // =============================
+    // ROWS AND CHUNKS
+    // =============================
+
+    /**
+     * @param row - Row number to report problems with
+     * @param values - Cell values by column name
+     * @param problems - Problems already found while reading the row
+     */
+    void add(int row, Map<String, String> values, List<String> problems) {
+        rows++;
+        T entity = toEntity(values, problems);
+        if (!problems.isEmpty()) {
+            reject(row, String.join("; ", problems));
+            return;
+        }
+
+        chunk.add(new Row<>(row, entity));
+        if (chunk.size() >= chunkSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Saves the rows collected so far.
+     */
+    void flush() {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        int firstRow = chunk.get(0).row();
+        try {
+            imported += save(chunk);
+        } catch (DataAccessException e) {
+            log.error("Saving imported {} from row {} on failed", noun, firstRow, e);
+            fail("Could not save the " + noun + " from row " + firstRow + " on; rows before it were imported");
+        }
+        chunk = new ArrayList<>();
+
+        if (!stopped) {
+            chunkSaved();
+        }
+    }
+
+    /**
+     * Adds the entity's Bean Validation violations to the row's
+     * problems, by property so messages come out the same every time.
+     */
+    static <E> void validate(Validator validator, E entity, List<String> problems) {
+        Set<ConstraintViolation<E>> violations = validator.validate(entity);
+        violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .forEach(violation -> problems.add(violation.getPropertyPath() + ": " + violation.getMessage()));
+    }
+
+    void reject(int row, String message) {
+        rejected++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(new ImportRowError(row, message));
+        }
+    }
+
+    void fail(String message) {
+        if (fileError == null) {
+            fileError = message;
+        }
+        stopped = true;
+    }
+
+    // =============================
+    // RESULT
+    // =============================
+
+    int rows() {
+        return rows;
+    }
+
+    int imported() {
+        return imported;
+    }
+
+    int rejected() {
+        return rejected;
+    }
+
+    /**
+     * @return The listed row errors, by row
+     */
+    List<ImportRowError> errors() {
+        List<ImportRowError> sorted = new ArrayList<>(errors);
+        sorted.sort(Comparator.comparingInt(ImportRowError::row));
+        return List.copyOf(sorted);
+    }
+
+    String fileError() {
+        return fileError;
+    }
+
+    boolean stopped() {
+        return stopped;
+    }
+
+    /**
+     * A valid row waiting to be saved.
+     *
+     * @param row - Row number to report problems with
+     * @param entity - What the row became
+     */
+    record Row<T>(int row, T entity) {
+    }
+}
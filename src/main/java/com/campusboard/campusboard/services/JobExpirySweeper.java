@@ -0,0 +1,124 @@
+package com.campusboard.campusboard.services;
+
+import com.campusboard.campusboard.events.JobChangedEvent;
+import com.campusboard.campusboard.models.Job;
+import com.campusboard.campusboard.repositories.JobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ============================================
+ * JOB EXPIRY SWEEPER
+ * ============================================
+ * Moves APPROVED jobs whose deadline has passed to CLOSED, so
+ * they leave the student feed, search and facet indexes and
+ * the cached findByStatus(APPROVED) list.
+ *
+ * - Runs once at startup (before the indexes are built) and
+ *   then nightly, see campusboard.jobs.expiry.cron
+ * - Closes jobs with bulk UPDATEs of at most chunk-size rows,
+ *   each in its own short transaction, instead of loading and
+ *   saving every entity
+ * - Publishes JobChangedEvent.closed per job so in-memory
+ *   views drop it
+ * - Metrics: campusboard.jobs.expiry.sweep (timer per run) and
+ *   campusboard.jobs.expiry.closed (jobs closed)
+ * ============================================
+ */
+@Service
+@Order(3)
+public class JobExpirySweeper implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(JobExpirySweeper.class);
+
+    static final String SWEEP_TIMER = "campusboard.jobs.expiry.sweep";
+    static final String CLOSED_COUNTER = "campusboard.jobs.expiry.closed";
+
+    private final JobRepository jobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    private final Timer sweepTimer;
+    private final Counter closedCounter;
+
+    public JobExpirySweeper(JobRepository jobRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            MeterRegistry meterRegistry,
+                            @Value("${campusboard.jobs.expiry.chunk-size:500}") int chunkSize) {
+        this.jobRepository = jobRepository;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.sweepTimer = Timer.builder(SWEEP_TIMER)
+                .description("Time taken by one job expiry sweep")
+                .register(meterRegistry);
+        this.closedCounter = Counter.builder(CLOSED_COUNTER)
+                .description("Approved jobs closed because their deadline passed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        sweep();
+    }
+
+    /**
+     * =============================
+     * CLOSE EXPIRED JOBS
+     * =============================
+     * A job stays open through its deadline day and is closed
+     * from the day after.
+     *
+     * @return Number of jobs closed
+     */
+    @Scheduled(cron = "${campusboard.jobs.expiry.cron:0 5 0 * * *}")
+    public int sweep() {
+        return sweepTimer.record(() -> closeExpiredBefore(LocalDate.now()));
+    }
+
+    private int closeExpiredBefore(LocalDate today) {
+        int closed = 0;
+
+        while (true) {
+            List<Long> ids = jobRepository.findIdsByStatusAndDeadlineBefore(
+                    Job.Status.APPROVED, today, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            int updated = jobRepository.updateStatusByJobIdIn(
+                    ids, Job.Status.APPROVED, Job.Status.CLOSED, LocalDateTime.now());
+            closed += updated;
+            closedCounter.increment(updated);
+
+            for (Long jobId : ids) {
+                eventPublisher.publishEvent(JobChangedEvent.closed(jobId));
+            }
+
+            // Rows that changed status concurrently drop out of the next
+            // query anyway; a short chunk means this was the last one
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+
+        if (closed > 0) {
+            log.info("Closed {} job(s) past their deadline", closed);
+        }
+        return closed;
+    }
+}
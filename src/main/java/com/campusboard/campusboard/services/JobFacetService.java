@@ -0,0 +1,219 @@
+package com.campusboard.campusboard.services;
+
+import com.campusboard.campusboard.dto.JobCardView;
+import com.campusboard.campusboard.dto.JobFacetFilter;
+import com.campusboard.campusboard.dto.JobFacets;
+import com.campusboard.campusboard.dto.JobFeedPage;
+import com.campusboard.campusboard.dto.JobSort;
+import com.campusboard.campusboard.dto.KeysetCursor;
+import com.campusboard.campusboard.events.JobChangedEvent;
+import com.campusboard.campusboard.models.Job;
+import com.campusboard.campusboard.repositories.JobRepository;
+import com.campusboard.campusboard.search.FacetIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.Collectors;
+
+/**
+ * ============================================
+ * JOB FACET SERVICE
+ * ============================================
+ * Facet counts and facet filtering for the student job list.
+ *
+ * Key responsibilities:
+ * - Build the in-memory facet index once at startup
+ * - Keep it in sync with JobService changes (JobChangedEvent)
+ * - Compute live counts per category, location, salary and deadline
+ * - Return filtered pages without running a filter query in SQL
+ * ============================================
+ */
+@Service
+public class JobFacetService {
+
+    // =============================
+    // DEPENDENCY INJECTION
+    // =============================
+    @Autowired
+    private JobRepository jobRepository;
+
+    private final FacetIndex index = new FacetIndex();
+
+    /**
+     * =============================
+     * BUILD INDEX ON STARTUP
+     * =============================
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        index.clear();
+        for (Job job : jobRepository.findByStatus(Job.Status.APPROVED)) {
+            index.index(job);
+        }
+    }
+
+    /**
+     * =============================
+     * KEEP INDEX IN SYNC
+     * =============================
+     * Only APPROVED jobs are counted.
+     *
+     * @param event - Change published by JobService
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        Job job = event.job();
+
+        if (job != null && job.getStatus() == Job.Status.APPROVED) {
+            index.index(job);
+        } else {
+            index.remove(event.jobId());
+        }
+    }
+
+    /**
+     * =============================
+     * IS JOB OPEN
+     * =============================
+     * Answered from the index. A job the index doesn't have as open
+     * is looked up once: it may have been approved on another node,
+     * whose JobChangedEvent this node never sees. Found approved, it
+     * is indexed, so later checks stay in memory.
+     *
+     * @param jobId - ID of the job
+     * @return True if the job is approved and its deadline has not passed
+     */
+    public boolean isOpen(Long jobId) {
+        LocalDate today = LocalDate.now();
+        if (index.isOpen(jobId, today)) {
+            return true;
+        }
+
+        Job job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() != Job.Status.APPROVED) {
+            return false;
+        }
+        index.index(job);
+        return index.isOpen(jobId, today);
+    }
+
+    /**
+     * =============================
+     * GET FACET COUNTS
+     * =============================
+     *
+     * @param filter - Facet values the student selected
+     * @return Counts for every facet value under that filter
+     */
+    public JobFacets getFacets(JobFacetFilter filter) {
+        return index.facets(filter, LocalDate.now());
+    }
+
+    /**
+     * =============================
+     * GET FILTERED PAGE
+     * =============================
+     * Picks the matching jobs from the facet bitsets, sorts them in
+     * memory in the same order as the unfiltered feed (JobService),
+     * then loads only that page of job cards by primary key.
+     * Cursors have the same format as the feed's, so changing the
+     * filters or sort keeps working links.
+     *
+     * @param filter - Facet values the student selected
+     * @param sort - Sort order selected by the student
+     * @param cursor - Token from the previous page, or null for the first page
+     * @return The page of jobs and the cursor for the next page
+     */
+    public JobFeedPage getFilteredJobs(JobFacetFilter filter, JobSort sort, String cursor) {
+        LocalDate today = LocalDate.now();
+        Comparator<FacetIndex.Match> order = order(sort);
+
+        Stream<FacetIndex.Match> matches = index.matchingJobs(filter, today).stream();
+        if (sort == JobSort.CLOSING_SOONEST) {
+            // Only postings still open are listed when sorting by deadline
+            matches = matches.filter(match -> match.deadline() != null && !match.deadline().isBefore(today));
+        }
+        FacetIndex.Match after = position(sort, KeysetCursor.decode(cursor));
+        if (after != null) {
+            matches = matches.filter(match -> order.compare(match, after) > 0);
+        }
+
+        KeysetCursor.Slice<FacetIndex.Match> page = KeysetCursor.slice(
+                matches.sorted(order).limit(JobService.FEED_PAGE_SIZE + 1).toList(), JobService.FEED_PAGE_SIZE,
+                match -> new KeysetCursor(sortKey(sort, match), match.jobId()));
+        if (page.rows().isEmpty()) {
+            return new JobFeedPage(List.of(), sort, null);
+        }
+
+        // Restore the in-memory order (IN (...) returns rows in any order)
+        List<Long> ids = page.rows().stream().map(FacetIndex.Match::jobId).toList();
+        Map<Long, JobCardView> byId = jobRepository.findCardsByJobIdIn(ids).stream()
+                .collect(Collectors.toMap(JobCardView::jobId, Function.identity()));
+        List<JobCardView> jobs = ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new JobFeedPage(jobs, sort, page.nextCursor());
+    }
+
+    // Same orders as the JobRepository feed queries (MySQL puts NULL last when descending)
+    private static Comparator<FacetIndex.Match> order(JobSort sort) {
+        return switch (sort) {
+            case NEWEST -> Comparator.comparing(FacetIndex.Match::createdAt,
+                            Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+                    .thenComparing(FacetIndex.Match::jobId, Comparator.reverseOrder());
+            case HIGHEST_SALARY -> Comparator.comparing(FacetIndex.Match::salary,
+                            Comparator.nullsLast(Comparator.<Double>reverseOrder()))
+                    .thenComparing(FacetIndex.Match::jobId, Comparator.reverseOrder());
+            case CLOSING_SOONEST -> Comparator.comparing(FacetIndex.Match::deadline,
+                            Comparator.nullsLast(Comparator.<LocalDate>naturalOrder()))
+                    .thenComparing(FacetIndex.Match::jobId);
+        };
+    }
+
+    private static String sortKey(JobSort sort, FacetIndex.Match match) {
+        return switch (sort) {
+            case NEWEST -> match.createdAt() == null ? null : match.createdAt().toString();
+            case HIGHEST_SALARY -> match.salary() == null ? null : match.salary().toString();
+            case CLOSING_SOONEST -> match.deadline() == null ? null : match.deadline().toString();
+        };
+    }
+
+    /**
+     * The cursor as a position in the sort order, or null to start
+     * from the first page (no cursor, or a key that can't be read).
+     */
+    private static FacetIndex.Match position(JobSort sort, KeysetCursor after) {
+        if (after == null) {
+            return null;
+        }
+        return switch (sort) {
+            case NEWEST -> {
+                LocalDateTime createdAt = after.keyAsDateTime();
+                yield createdAt == null ? null : new FacetIndex.Match(after.id(), createdAt, null, null);
+            }
+            // Jobs without a salary come last, ordered by jobId only
+            case HIGHEST_SALARY -> {
+                Double salary = after.keyAsNumber();
+                yield salary == null && after.key() != null ? null
+                        : new FacetIndex.Match(after.id(), null, salary, null);
+            }
+            case CLOSING_SOONEST -> {
+                LocalDate deadline = after.keyAsDate();
+                yield deadline == null ? null : new FacetIndex.Match(after.id(), null, null, deadline);
+            }
+        };
+    }
+}
@@ -0,0 +1,380 @@
+package com.campusboard.campusboard.services;
+
+import com.campusboard.campusboard.dto.LiveJobView;
+import com.campusboard.campusboard.events.JobChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * ============================================
+ * JOB FEED BROADCASTER
+ * ============================================
+ * Pushes newly approved jobs to every student who has the job
+ * list open (Server-Sent Events), so nobody has to keep
+ * reloading /student/jobs during a hiring drop.
+ *
+ * How it works:
+ * - Each subscriber is an SseEmitter (async servlet): an idle
+ *   connection holds no thread, only a small outbox
+ * - approveJob's JobChangedEvent only appends to a queue, so
+ *   publishing never waits on a client
+ * - Every flush-interval the queue is drained into one "jobs"
+ *   message (at most MAX_BATCH jobs each), serialized once and
+ *   handed to every subscriber's outbox; a burst of approvals
+ *   reaches the browser as a single message
+ * - A small delivery pool writes outboxes to the network, one
+ *   task per subscriber at a time; a subscriber whose outbox
+ *   is full (its client stopped reading) is dropped and the
+ *   browser's EventSource reconnects later
+ * - A write can block on a client that stopped reading. One
+ *   still running after send-timeout-ms gets its subscriber
+ *   dropped, and the pool gets an extra thread until the write
+ *   returns (the container's write timeout ends it), so stuck
+ *   clients never hold back the others
+ * - A comment line goes out when nothing was sent for a while,
+ *   so proxies keep the connection and dead clients surface
+ * - Metrics: campusboard.live.subscribers (open connections) and
+ *   campusboard.live.dropped (slow or broken subscribers dropped)
+ * ============================================
+ */
+@Service
+public class JobFeedBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(JobFeedBroadcaster.class);
+
+    static final String EVENT_NAME = "jobs";
+    static final String SUBSCRIBERS_GAUGE = "campusboard.live.subscribers";
+    static final String DROPPED_COUNTER = "campusboard.live.dropped";
+
+    // Most jobs in one message; a larger burst goes out as several
+    static final int MAX_BATCH = 50;
+
+    // Messages a subscriber may have waiting before it counts as too slow
+    static final int OUTBOX_CAPACITY = 8;
+
+    // How long a browser waits before reconnecting after a drop
+    private static final long RECONNECT_MILLIS = 5_000;
+
+    private final ObjectMapper objectMapper;
+    private final Executor delivery;
+    private final long timeoutMillis;
+    private final long heartbeatMillis;
+    private final long sendTimeoutMillis;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Queue<LiveJobView> pending = new ConcurrentLinkedQueue<>();
+    private final Counter droppedCounter;
+    private volatile long lastMessageAt = System.currentTimeMillis();
+
+    @Autowired
+    public JobFeedBroadcaster(ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${campusboard.live.delivery-threads:4}") int deliveryThreads,
+                              @Value("${campusboard.live.timeout-ms:1800000}") long timeoutMillis,
+                              @Value("${campusboard.live.heartbeat-ms:20000}") long heartbeatMillis,
+                              @Value("${campusboard.live.send-timeout-ms:5000}") long sendTimeoutMillis) {
+        this(objectMapper, meterRegistry, newDeliveryPool(deliveryThreads), timeoutMillis, heartbeatMillis,
+                sendTimeoutMillis);
+    }
+
+    JobFeedBroadcaster(ObjectMapper objectMapper, MeterRegistry meterRegistry, Executor delivery,
+                       long timeoutMillis, long heartbeatMillis, long sendTimeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.delivery = delivery;
+        this.timeoutMillis = timeoutMillis;
+        this.heartbeatMillis = heartbeatMillis;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        Gauge.builder(SUBSCRIBERS_GAUGE, subscribers, Set::size)
+                .description("Open live job feed connections")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder(DROPPED_COUNTER)
+                .description("Live job feed subscribers dropped for not keeping up")
+                .register(meterRegistry);
+    }
+
+    /**
+     * =============================
+     * SUBSCRIBE
+     * =============================
+     *
+     * @return Emitter to return from the controller; it stays open
+     *         until the client leaves, times out or is dropped
+     */
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        // Ends the response cleanly; the browser reconnects
+        emitter.onTimeout(() -> {
+            subscriber.close();
+            emitter.complete();
+        });
+        subscribers.add(subscriber);
+
+        // Tells the browser how soon to come back if the stream ends
+        subscriber.offer(() -> SseEmitter.event().reconnectTime(RECONNECT_MILLIS).comment("connected"));
+        return emitter;
+    }
+
+    /**
+     * =============================
+     * QUEUE APPROVED JOBS
+     * =============================
+     * Runs on approveJob's thread, so it only queues the job.
+     *
+     * @param event - Change published by JobService
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.type() == JobChangedEvent.Type.APPROVED && event.job() != null && !subscribers.isEmpty()) {
+            pending.add(LiveJobView.of(event.job()));
+        }
+    }
+
+    /**
+     * =============================
+     * FLUSH
+     * =============================
+     * Sends everything approved since the last flush, or a
+     * keep-alive comment once the stream has been quiet for
+     * heartbeat-ms, after dropping subscribers stuck in a write.
+     */
+    @Scheduled(fixedDelayString = "${campusboard.live.flush-interval-ms:1000}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.checkStalled(now);
+        }
+
+        List<LiveJobView> batch = new ArrayList<>();
+        boolean sent = false;
+
+        LiveJobView job;
+        while ((job = pending.poll()) != null) {
+            batch.add(job);
+            if (batch.size() == MAX_BATCH) {
+                sent |= broadcast(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            sent |= broadcast(batch);
+        }
+
+        if (!sent && System.currentTimeMillis() - lastMessageAt >= heartbeatMillis) {
+            broadcast(() -> SseEmitter.event().comment("keep-alive"));
+        }
+    }
+
+    /**
+     * @return Number of open connections
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+            subscriber.emitter.complete();
+        }
+        if (delivery instanceof ExecutorService pool) {
+            pool.shutdownNow();
+        }
+    }
+
+    // =============================
+    // INTERNALS
+    // =============================
+
+    private boolean broadcast(List<LiveJobView> batch) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(Map.of("jobs", batch));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize live job feed message", e);
+            return false;
+        }
+        broadcast(() -> SseEmitter.event().name(EVENT_NAME).data(json, MediaType.APPLICATION_JSON));
+        return true;
+    }
+
+    // One message per call; every subscriber builds its own event from it
+    private void broadcast(Supplier<SseEmitter.SseEventBuilder> message) {
+        lastMessageAt = System.currentTimeMillis();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(message);
+        }
+    }
+
+    // A stalled write keeps its thread; lend the pool another meanwhile
+    private synchronized void resizeDelivery(int delta) {
+        if (delivery instanceof ThreadPoolExecutor pool) {
+            if (delta > 0) {
+                pool.setMaximumPoolSize(pool.getMaximumPoolSize() + delta);
+                pool.setCorePoolSize(pool.getCorePoolSize() + delta);
+            } else {
+                pool.setCorePoolSize(pool.getCorePoolSize() + delta);
+                pool.setMaximumPoolSize(pool.getMaximumPoolSize() + delta);
+            }
+        }
+    }
+
+    private static ExecutorService newDeliveryPool(int threads) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("job-feed-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(threads, threadFactory);
+    }
+
+    /**
+     * One open connection. At most one delivery task runs for it
+     * at a time, so its messages arrive in order and a stuck
+     * client ties up a single delivery thread, which the pool
+     * replaces once the write counts as stalled.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Supplier<SseEmitter.SseEventBuilder>> outbox =
+                new ArrayBlockingQueue<>(OUTBOX_CAPACITY);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        // Start of the write in progress (0 when idle); guarded by this
+        private long sendingSince;
+        private boolean stalled;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        // Called by the flusher: never blocks
+        void offer(Supplier<SseEmitter.SseEventBuilder> message) {
+            if (closed.get()) {
+                return;
+            }
+            if (!outbox.offer(message)) {
+                drop();
+                return;
+            }
+            schedule();
+        }
+
+        // Too slow: the delivery task ends the response
+        void drop() {
+            if (closed.compareAndSet(false, true)) {
+                subscribers.remove(this);
+                droppedCounter.increment();
+                schedule();
+            }
+        }
+
+        // Called by the flusher: a write running too long drops the
+        // subscriber; its thread is replaced until the write returns
+        synchronized void checkStalled(long now) {
+            if (sendingSince != 0 && !stalled && now - sendingSince >= sendTimeoutMillis) {
+                stalled = true;
+                resizeDelivery(1);
+                drop();
+            }
+        }
+
+        // Client left, timed out or failed: nothing left to end
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                subscribers.remove(this);
+            }
+            completed.set(true);
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            synchronized (this) {
+                sendingSince = System.currentTimeMillis();
+            }
+            try {
+                emitter.send(event);
+            } finally {
+                synchronized (this) {
+                    sendingSince = 0;
+                    if (stalled) {
+                        stalled = false;
+                        resizeDelivery(-1);
+                    }
+                }
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    delivery.execute(this::drain);
+                } catch (RuntimeException e) {
+                    // Pool shut down; the emitter times out on its own
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Supplier<SseEmitter.SseEventBuilder> message;
+                while (!closed.get() && (message = outbox.poll()) != null) {
+                    send(message.get());
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Connection gone; the container reports it through onError
+                close();
+            } finally {
+                scheduled.set(false);
+            }
+
+            if (closed.get()) {
+                outbox.clear();
+                if (completed.compareAndSet(false, true)) {
+                    emitter.complete();
+                }
+            } else if (!outbox.isEmpty()) {
+                // A message arrived while this task was finishing
+                schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.campusboard.campusboard.services;
+
+import com.campusboard.campusboard.dto.JobImportResult;
+import com.campusboard.campusboard.models.Job;
+import com.campusboard.campusboard.models.User;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ============================================
+ * JOB IMPORT SERVICE
+ * ============================================
+ * Bulk job posting for career fairs: one CSV or JSON file
+ * instead of hundreds of trips through the create form.
+ *
+ * How it works:
+ * - The file is parsed as it is read (CsvRowReader, Jackson's
+ *   streaming parser), never held in memory as a whole
+ * - Each row becomes a Job and is checked with the same Bean
+ *   Validation constraints as the create form; a bad row is
+ *   skipped and reported with its row number
+ * - Valid rows are collected into chunks of chunk-size and
+ *   saved with JobService.createJobs: one transaction and a few
+ *   JDBC batches per chunk, PENDING like every new posting
+ * - If the file turns out to be broken half way, the rows
+ *   before the problem are kept and the problem is reported
+ *
+ * Columns (CSV header / JSON keys, any case): title,
+ * description, location, salary, category, deadline (yyyy-MM-dd)
+ * ============================================
+ */
+@Service
+public class JobImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobImportService.class);
+
+    static final List<String> COLUMNS = List.of("title", "description", "location", "salary", "category", "deadline");
+
+    /**
+     * Supported file formats.
+     */
+    public enum Format {
+        CSV, JSON;
+
+        /**
+         * @return JSON for a .json file or JSON content type, CSV otherwise
+         */
+        public static Format detect(String fileName, String contentType) {
+            boolean json = (fileName != null && fileName.toLowerCase(Locale.ROOT).endsWith(".json"))
+                    || (contentType != null && contentType.toLowerCase(Locale.ROOT).contains("json"));
+            return json ? JSON : CSV;
+        }
+    }
+
+    private final JobService jobService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public JobImportService(JobService jobService,
+                            Validator validator,
+                            ObjectMapper objectMapper,
+                            @Value("${campusboard.jobs.import.chunk-size:500}") int chunkSize) {
+        this.jobService = jobService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * =============================
+     * IMPORT JOBS
+     * =============================
+     * Creates a PENDING job for every valid row of the file.
+     *
+     * @param in - The uploaded file (UTF-8)
+     * @param format - How the file is written
+     * @param employer - User who is posting the jobs
+     * @return How many jobs were created and why rows were skipped
+     */
+    public JobImportResult importJobs(InputStream in, Format format, User employer) {
+        Import run = new Import(employer);
+
+        try {
+            if (format == Format.JSON) {
+                readJson(in, run);
+            } else {
+                run.readCsv(in, List.of("title", "description"));
+            }
+        } catch (JsonProcessingException e) {
+            run.fail("Invalid JSON at line " + e.getLocation().getLineNr() + ": " + e.getOriginalMessage());
+        } catch (IOException e) {
+            run.fail(e.getMessage());
+        }
+        run.flush();
+
+        log.info("Imported {} job(s) for user {}, {} row(s) rejected",
+                run.imported(), employer.getUserId(), run.rejected());
+        return new JobImportResult(run.imported(), run.rejected(), run.errors(), run.fileError());
+    }
+
+    // =============================
+    // PARSING
+    // =============================
+
+    private void readJson(InputStream in, Import run) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                run.fail("Expected a JSON array of jobs");
+                return;
+            }
+
+            int row = 0;
+            JsonToken token;
+            while (!run.stopped() && (token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IOException("The JSON array is never closed");
+                }
+                row++;
+
+                List<String> problems = new ArrayList<>();
+                Map<String, String> values = new HashMap<>();
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    problems.add("expected an object");
+                } else {
+                    JsonNode node = objectMapper.readTree(parser);
+                    Iterator<Map.Entry<String, JsonNode>> entries = node.fields();
+                    while (entries.hasNext()) {
+                        Map.Entry<String, JsonNode> entry = entries.next();
+                        String name = entry.getKey().trim().toLowerCase(Locale.ROOT);
+                        JsonNode value = entry.getValue();
+                        if (!COLUMNS.contains(name) || value.isNull()) {
+                            continue;
+                        }
+                        if (value.isValueNode()) {
+                            values.put(name, value.asText());
+                        } else {
+                            problems.add(name + ": expected a single value");
+                        }
+                    }
+                }
+                run.add(row, values, problems);
+            }
+        }
+    }
+
+    // =============================
+    // ROW -> JOB
+    // =============================
+
+    private Job toJob(Map<String, String> values, List<String> problems) {
+        Job job = new Job();
+        job.setTitle(trimmed(values.get("title")));
+        job.setDescription(trimmed(values.get("description")));
+        job.setLocation(optional(values.get("location")));
+        job.setCategory(optional(values.get("category")));
+
+        String salary = optional(values.get("salary"));
+        if (salary != null) {
+            try {
+                double parsed = Double.parseDouble(salary);
+                if (!Double.isFinite(parsed)) {
+                    throw new NumberFormatException(salary);
+                }
+                job.setSalary(parsed);
+            } catch (NumberFormatException e) {
+                problems.add("salary: not a number");
+            }
+        }
+
+        String deadline = optional(values.get("deadline"));
+        if (deadline != null) {
+            try {
+                job.setDeadline(LocalDate.parse(deadline));
+            } catch (DateTimeParseException e) {
+                problems.add("deadline: expected a date like 2025-03-31");
+            }
+        }
+
+        ImportRun.validate(validator, job, problems);
+        return job;
+    }
+
+    private static String trimmed(String value) {
+        return value == null ? null : value.trim();
+    }
+
+    private static String optional(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /**
+     * State of one import run: jobs are saved as PENDING postings
+     * of the employer.
+     */
+    private final class Import extends ImportRun<Job> {
+
+        private final User employer;
+
+        private Import(User employer) {
+            super("jobs", COLUMNS, chunkSize);
+            this.employer = employer;
+        }
+
+        @Override
+        Job toEntity(Map<String, String> values, List<String> problems) {
+            return toJob(values, problems);
+        }
+
+        @Override
+        int save(List<Row<Job>> chunk) {
+            return jobService.createJobs(chunk.stream().map(Row::entity).toList(), employer).size();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.campusboard.campusboard.services;
+
+import com.campusboard.campusboard.events.JobChangedEvent;
+import com.campusboard.campusboard.models.Job;
+import com.campusboard.campusboard.repositories.JobRepository;
+import com.campusboard.campusboard.search.InvertedIndex;
+import com.campusboard.campusboard.search.SearchHit;
+import com.campusboard.campusboard.search.Suggestion;
+import com.campusboard.campusboard.search.SuggestionTrie;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * ============================================
+ * JOB SEARCH SERVICE
+ * ============================================
+ * Full-text search and typeahead over approved job postings.
+ *
+ * Key responsibilities:
+ * - Build the in-memory indexes once at startup
+ * - Keep them in sync with JobService changes (JobChangedEvent)
+ * - Answer student searches and keystrokes without touching
+ *   the database
+ * ============================================
+ */
+@Service
+public class JobSearchService {
+
+    // Maximum number of results shown for a search
+    public static final int MAX_RESULTS = 50;
+
+    // Maximum number of typeahead suggestions per keystroke
+    public static final int MAX_SUGGESTIONS = 20;
+
+    // =============================
+    // DEPENDENCY INJECTION
+    // =============================
+    @Autowired
+    private JobRepository jobRepository;
+
+    private final InvertedIndex index = new InvertedIndex();
+    private final SuggestionTrie suggestions = new SuggestionTrie();
+
+    /**
+     * =============================
+     * BUILD INDEX ON STARTUP
+     * =============================
+     * Loads every approved job once and indexes it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        index.clear();
+        suggestions.clear();
+        for (Job job : jobRepository.findByStatus(Job.Status.APPROVED)) {
+            index.index(job);
+            suggestions.index(job);
+        }
+    }
+
+    /**
+     * =============================
+     * KEEP INDEX IN SYNC
+     * =============================
+     * Only APPROVED jobs are searchable, so any other status
+     * (or a deletion) removes the job from the index.
+     *
+     * @param event - Change published by JobService
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        Job job = event.job();
+
+        if (job != null && job.getStatus() == Job.Status.APPROVED) {
+            index.index(job);
+            suggestions.index(job);
+        } else {
+            index.remove(event.jobId());
+            suggestions.remove(event.jobId());
+        }
+    }
+
+    /**
+     * =============================
+     * SEARCH JOBS
+     * =============================
+     * Runs a free-text query against title, description,
+     * category and location, ranked by relevance.
+     *
+     * @param query - Text typed by the student
+     * @return Best matching jobs, most relevant first
+     */
+    public List<SearchHit> search(String query) {
+        return index.search(query, MAX_RESULTS);
+    }
+
+    /**
+     * =============================
+     * SUGGEST (TYPEAHEAD)
+     * =============================
+     * Completes a partly typed title, category, location or
+     * employer name, most common first.
+     *
+     * @param prefix - Text typed so far
+     * @param limit - Maximum number of suggestions (capped at MAX_SUGGESTIONS)
+     * @return Matching suggestions, most popular first
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        return suggestions.suggest(prefix, Math.min(limit, MAX_SUGGESTIONS));
+    }
+}
@@ -1,14 +1,31 @@
 package com.campusboard.campusboard.services;
 
+import com.campusboard.campusboard.cache.JobCache;
+import com.campusboard.campusboard.dto.ApiCursor;
+import com.campusboard.campusboard.dto.CacheStatsView;
+import com.campusboard.campusboard.dto.JobCardView;
+import com.campusboard.campusboard.dto.JobFeedPage;
+import com.campusboard.campusboard.dto.JobSort;
+import com.campusboard.campusboard.dto.KeysetCursor;
+import com.campusboard.campusboard.events.JobChangedEvent;
 import com.campusboard.campusboard.exceptions.JobNotFoundException;
 import com.campusboard.campusboard.models.Job;
 import com.campusboard.campusboard.models.User;
 import com.campusboard.campusboard.repositories.JobRepository;
+import com.campusboard.campusboard.search.TextSummarizer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * ============================================
@@ -26,12 +43,27 @@ import java.util.List;
 @Service
 public class JobService {
 
+    // Number of jobs shown per page of the student feed
+    public static final int FEED_PAGE_SIZE = 20;
+
     // =============================
     // DEPENDENCY INJECTION
     // =============================
     @Autowired
     private JobRepository jobRepository;
 
+    // Notifies in-memory views (search index, cache, ...) of every change
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Cleared while streaming so rows don't pile up in memory
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Read-through cache for getJobById / getJobsByStatus / getJobCardsByStatus
+    @Autowired
+    private JobCache jobCache;
+
     /**
      * =============================
      * CREATE JOB
@@ -44,18 +76,53 @@ public class JobService {
      * @return The saved job with generated ID
      */
     public Job createJob(Job job, User employer) {
+        prepareNewJob(job, employer, LocalDateTime.now());
+
+        // Save to database and return
+        Job saved = jobRepository.save(job);
+        eventPublisher.publishEvent(JobChangedEvent.of(JobChangedEvent.Type.CREATED, saved));
+        return saved;
+    }
+
+    /**
+     * =============================
+     * CREATE JOBS (BULK)
+     * =============================
+     * Same as createJob for a whole batch of postings, in one
+     * transaction: the INSERTs go out in JDBC batches instead of
+     * one round trip per job. Used by JobImportService.
+     *
+     * @param jobs - Validated jobs to post
+     * @param employer - User who is posting the jobs
+     * @return The saved jobs with generated IDs
+     */
+    @Transactional
+    public List<Job> createJobs(List<Job> jobs, User employer) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Job job : jobs) {
+            prepareNewJob(job, employer, now);
+        }
+
+        List<Job> saved = jobRepository.saveAll(jobs);
+        for (Job job : saved) {
+            eventPublisher.publishEvent(JobChangedEvent.of(JobChangedEvent.Type.CREATED, job));
+        }
+        return saved;
+    }
+
+    private static void prepareNewJob(Job job, User employer, LocalDateTime now) {
         // Set the employer who posted this job
         job.setEmployer(employer);
 
         // New jobs start as PENDING (awaiting admin approval)
         job.setStatus(Job.Status.PENDING);
 
-        // Set creation timestamp
-        job.setCreatedAt(LocalDateTime.now());
-        job.setUpdatedAt(LocalDateTime.now());
+        // Card excerpt is computed once here, not on every page render
+        job.setSummary(TextSummarizer.summarize(job.getDescription()));
 
-        // Save to database and return
-        return jobRepository.save(job);
+        // Set creation timestamp
+        job.setCreatedAt(now);
+        job.setUpdatedAt(now);
     }
 
     /**
@@ -78,6 +145,7 @@ public class JobService {
         // Update all fields with new values
         job.setTitle(updatedJob.getTitle());
         job.setDescription(updatedJob.getDescription());
+        job.setSummary(TextSummarizer.summarize(updatedJob.getDescription()));
         job.setLocation(updatedJob.getLocation());
         job.setSalary(updatedJob.getSalary());
         job.setCategory(updatedJob.getCategory());
@@ -93,7 +161,9 @@ public class JobService {
         // }
 
         // Save and return
-        return jobRepository.save(job);
+        Job saved = jobRepository.save(job);
+        eventPublisher.publishEvent(JobChangedEvent.of(JobChangedEvent.Type.UPDATED, saved));
+        return saved;
     }
 
     /**
@@ -115,6 +185,7 @@ public class JobService {
         // Delete from database
         // Note: This will also delete related applications due to cascade settings
         jobRepository.deleteById(jobId);
+        eventPublisher.publishEvent(JobChangedEvent.deleted(jobId));
     }
 
     /**
@@ -138,6 +209,7 @@ public class JobService {
 
         // Save changes
         jobRepository.save(job);
+        eventPublisher.publishEvent(JobChangedEvent.of(JobChangedEvent.Type.APPROVED, job));
     }
 
     /**
@@ -161,6 +233,7 @@ public class JobService {
 
         // Save changes
         jobRepository.save(job);
+        eventPublisher.publishEvent(JobChangedEvent.of(JobChangedEvent.Type.REJECTED, job));
     }
 
     /**
@@ -168,14 +241,15 @@ public class JobService {
      * GET JOB BY ID
      * =============================
      * Retrieves a single job by its ID.
+     * Served from JobCache; only a miss reaches the database.
      *
      * @param jobId - ID of the job
      * @return The job object
      * @throws JobNotFoundException if job doesn't exist
      */
     public Job getJobById(Long jobId) {
-        return jobRepository.findById(jobId)
-                .orElseThrow(() -> new JobNotFoundException("Job not found with ID: " + jobId));
+        return jobCache.getJob(jobId, () -> jobRepository.findById(jobId)
+                .orElseThrow(() -> new JobNotFoundException("Job not found with ID: " + jobId)));
     }
 
     /**
@@ -188,7 +262,99 @@ public class JobService {
      * @return List of approved jobs
      */
     public List<Job> getApprovedJobs() {
-        return jobRepository.findByStatus(Job.Status.APPROVED);
+        return getJobsByStatus(Job.Status.APPROVED);
+    }
+
+    /**
+     * =============================
+     * GET APPROVED JOB FEED (KEYSET PAGINATED)
+     * =============================
+     * Retrieves one page of approved jobs for the student feed.
+     * Pages continue from the last (sort key, jobId) seen instead
+     * of using OFFSET, so every page costs the same index range
+     * scan no matter how many approved jobs exist.
+     *
+     * @param sort - Sort order selected by the student
+     * @param cursor - Token from the previous page, or null for the first page
+     * @return The page of jobs and the cursor for the next page
+     */
+    public JobFeedPage getApprovedJobFeed(JobSort sort, String cursor) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        // Fetch one extra row to find out whether another page exists
+        Pageable limit = PageRequest.of(0, FEED_PAGE_SIZE + 1);
+        List<JobCardView> jobs = switch (sort) {
+            case NEWEST -> findNewest(after, limit);
+            case HIGHEST_SALARY -> findBySalary(after, limit);
+            case CLOSING_SOONEST -> findByDeadline(after, limit);
+        };
+
+        KeysetCursor.Slice<JobCardView> page = KeysetCursor.slice(jobs, FEED_PAGE_SIZE,
+                job -> new KeysetCursor(sortKey(sort, job), job.jobId()));
+        return new JobFeedPage(page.rows(), sort, page.nextCursor());
+    }
+
+    private List<JobCardView> findNewest(KeysetCursor after, Pageable limit) {
+        LocalDateTime createdAt = after == null ? null : after.keyAsDateTime();
+        if (createdAt == null) {
+            return jobRepository.findFeedByNewest(Job.Status.APPROVED, limit);
+        }
+        return jobRepository.findFeedByNewestAfter(Job.Status.APPROVED,
+                createdAt, after.id(), limit);
+    }
+
+    private List<JobCardView> findBySalary(KeysetCursor after, Pageable limit) {
+        if (after == null) {
+            return jobRepository.findFeedBySalary(Job.Status.APPROVED, limit);
+        }
+        // Jobs without a salary come last, ordered by jobId only
+        if (after.key() == null) {
+            return jobRepository.findFeedWithoutSalaryAfter(Job.Status.APPROVED, after.id(), limit);
+        }
+        // A tampered cursor key restarts the feed, like a malformed token
+        Double salary = after.keyAsNumber();
+        if (salary == null) {
+            return jobRepository.findFeedBySalary(Job.Status.APPROVED, limit);
+        }
+        return jobRepository.findFeedBySalaryAfter(Job.Status.APPROVED,
+                salary, after.id(), limit);
+    }
+
+    private List<JobCardView> findByDeadline(KeysetCursor after, Pageable limit) {
+        // Only postings still open are listed when sorting by deadline
+        LocalDate today = LocalDate.now();
+        LocalDate deadline = after == null ? null : after.keyAsDate();
+        if (deadline == null) {
+            return jobRepository.findFeedByDeadline(Job.Status.APPROVED, today, limit);
+        }
+        return jobRepository.findFeedByDeadlineAfter(Job.Status.APPROVED, today,
+                deadline, after.id(), limit);
+    }
+
+    private String sortKey(JobSort sort, JobCardView job) {
+        return switch (sort) {
+            case NEWEST -> job.createdAt().toString();
+            case HIGHEST_SALARY -> job.salary() == null ? null : job.salary().toString();
+            case CLOSING_SOONEST -> job.deadline() == null ? null : job.deadline().toString();
+        };
+    }
+
+    /**
+     * =============================
+     * STREAM APPROVED JOBS
+     * =============================
+     * Hands approved jobs to the caller one at a time, in jobId
+     * order, straight from a database cursor. Used by the REST API
+     * so large exports run in constant memory.
+     *
+     * @param after - Position to continue from (ApiCursor.FIRST to start)
+     * @param limit - Maximum number of jobs to hand out
+     * @param action - Called once per job; must not keep the job
+     */
+    @Transactional(readOnly = true)
+    public void forEachApprovedJob(ApiCursor after, long limit, Consumer<Job> action) {
+        ResultStreams.forEach(jobRepository.streamByStatusAfter(Job.Status.APPROVED, after.afterId(),
+                ResultStreams.sqlLimit(limit)), limit, entityManager, action);
     }
 
     /**
@@ -196,12 +362,39 @@ public class JobService {
      * GET JOBS BY STATUS
      * =============================
      * Retrieves all jobs with a specific status.
+     * Served from JobCache; only a miss reaches the database.
      *
      * @param status - The job status to filter by
      * @return List of jobs with that status
      */
     public List<Job> getJobsByStatus(Job.Status status) {
-        return jobRepository.findByStatus(status);
+        return jobCache.getJobsByStatus(status, () -> jobRepository.findByStatus(status));
+    }
+
+    /**
+     * =============================
+     * GET JOB CARDS BY STATUS
+     * =============================
+     * Same jobs as getJobsByStatus, as list-page cards
+     * (newest first). Used by the admin pending queue.
+     * Served from JobCache; only a miss reaches the database.
+     *
+     * @param status - The job status to filter by
+     * @return Cards of the jobs with that status
+     */
+    public List<JobCardView> getJobCardsByStatus(Job.Status status) {
+        return jobCache.getJobCardsByStatus(status, () -> jobRepository.findCardsByStatus(status));
+    }
+
+    /**
+     * =============================
+     * GET JOB CACHE STATISTICS
+     * =============================
+     *
+     * @return Hit/miss/eviction counters of the job cache
+     */
+    public CacheStatsView getCacheStats() {
+        return jobCache.stats();
     }
 
     /**
@@ -217,4 +410,17 @@ public class JobService {
     public List<Job> getJobsByEmployer(User employer) {
         return jobRepository.findByEmployer(employer);
     }
+
+    /**
+     * =============================
+     * GET JOB CARDS BY EMPLOYER
+     * =============================
+     * Cards for the employer's "My Jobs" page, newest first.
+     *
+     * @param employer - The employer user
+     * @return Cards of the jobs posted by this employer
+     */
+    public List<JobCardView> getJobCardsByEmployer(User employer) {
+        return jobRepository.findCardsByEmployerId(employer.getUserId());
+    }
 }
\ No newline at end of file
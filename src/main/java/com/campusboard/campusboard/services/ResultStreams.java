@@ -0,0 +1,57 @@
+package com.campusboard.campusboard.services;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * ============================================
+ * RESULT STREAMS
+ * ============================================
+ * Walks a repository Stream (a database cursor) row by row.
+ *
+ * Every entity read is also kept by the persistence context,
+ * so it is cleared every CLEAR_EVERY rows; memory then stays
+ * flat no matter how many rows are streamed.
+ * Must be called inside a read-only transaction.
+ * ============================================
+ */
+final class ResultStreams {
+
+    // Matches the JDBC fetch size of the streaming queries
+    static final int CLEAR_EVERY = 500;
+
+    private ResultStreams() {
+    }
+
+    /**
+     * @param limit - Maximum number of rows, Long.MAX_VALUE for all
+     * @return The same limit for a repository query, so the database
+     *         stops there too
+     */
+    static Limit sqlLimit(long limit) {
+        return limit >= Integer.MAX_VALUE ? Limit.unlimited() : Limit.of((int) limit);
+    }
+
+    /**
+     * @param rows - Stream returned by the repository (closed here)
+     * @param limit - Maximum number of rows to hand out
+     * @param entityManager - Persistence context to clear as rows go by
+     * @param action - Called once per row, in stream order
+     */
+    static <T> void forEach(Stream<T> rows, long limit, EntityManager entityManager, Consumer<T> action) {
+        try (rows) {
+            Iterator<T> iterator = rows.limit(limit).iterator();
+            long count = 0;
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+                if (++count % CLEAR_EVERY == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.campusboard.campusboard.services;
+
+import com.campusboard.campusboard.dto.RosterImportProgress;
+import com.campusboard.campusboard.models.User;
+import com.campusboard.campusboard.security.AdaptiveBCryptPasswordEncoder;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Consumer;
+
+/**
+ * ============================================
+ * ROSTER IMPORT SERVICE
+ * ============================================
+ * Creates the student accounts of a whole incoming class from
+ * one CSV roster, instead of every student going through
+ * /register.
+ *
+ * How it works:
+ * - The file is parsed as it is read (CsvRowReader); each row
+ *   becomes a STUDENT checked with the registration form's
+ *   Bean Validation constraints, and an email may appear only
+ *   once in the file
+ * - Valid rows are collected into chunks of chunk-size; per chunk
+ *   - one query finds the emails that are already registered
+ *   - the passwords are hashed in parallel on a fork-join pool
+ *     (parallelism threads), not on the request thread
+ *   - the accounts are saved with UserService.createUsers: one
+ *     transaction and a few JDBC batches
+ *   - progress is reported to the caller
+ * - Passwords are hashed at bcrypt-cost, cheaper than the login
+ *   cost so a class imports in seconds; they are the initial
+ *   passwords handed out with the roster, and the student's first
+ *   login rehashes them at the current cost
+ *   (AdaptiveBCryptPasswordEncoder)
+ *
+ * Columns (header names ignore case, spaces and underscores):
+ * full name, email, password
+ * ============================================
+ */
+@Service
+public class RosterImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(RosterImportService.class);
+
+    static final List<String> COLUMNS = List.of("fullname", "email", "password");
+
+    private final UserService userService;
+    private final Validator validator;
+    private final PasswordEncoder passwordEncoder;
+    private final ForkJoinPool hashingPool;
+    private final int chunkSize;
+
+    public RosterImportService(UserService userService,
+                               Validator validator,
+                               @Value("${campusboard.users.import.chunk-size:1000}") int chunkSize,
+                               @Value("${campusboard.users.import.parallelism:0}") int parallelism,
+                               @Value("${campusboard.users.import.bcrypt-cost:8}") int bcryptCost) {
+        this.userService = userService;
+        this.validator = validator;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.passwordEncoder = new AdaptiveBCryptPasswordEncoder(bcryptCost);
+
+        // Leaves a core for logins and page views unless told otherwise
+        int threads = parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.hashingPool = new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("roster-hashing-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * =============================
+     * IMPORT ROSTER
+     * =============================
+     * Creates an ACTIVE student account for every valid row.
+     *
+     * @param in - The uploaded roster (CSV, UTF-8)
+     * @param progress - Called after every chunk, and with the final
+     *                   result (done) at the end
+     * @return The final result, as also passed to progress
+     */
+    public RosterImportProgress importRoster(InputStream in, Consumer<RosterImportProgress> progress) {
+        long start = System.nanoTime();
+        Import run = new Import(progress);
+
+        try {
+            run.readCsv(in, COLUMNS);
+        } catch (IOException e) {
+            run.fail(e.getMessage());
+        }
+        run.flush();
+
+        RosterImportProgress result = run.snapshot(true);
+        log.info("Imported {} student(s) from a roster in {} ms, {} row(s) rejected",
+                run.imported(), (System.nanoTime() - start) / 1_000_000, run.rejected());
+        progress.accept(result);
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingPool.shutdown();
+    }
+
+    // =============================
+    // ROW -> STUDENT
+    // =============================
+
+    private User toStudent(Map<String, String> values, List<String> problems) {
+        User student = new User();
+        student.setFullName(trimmed(values.get("fullname")));
+        student.setEmail(trimmed(values.get("email")));
+        // Passwords are taken as written, spaces included
+        student.setPassword(values.get("password"));
+        student.setRole(User.Role.STUDENT);
+
+        ImportRun.validate(validator, student, problems);
+        return student;
+    }
+
+    private static String trimmed(String value) {
+        return value == null ? null : value.trim();
+    }
+
+    private static String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Hashes every password of the chunk, one fork-join task per
+     * student, and waits for all of them.
+     */
+    private void hashPasswords(List<ImportRun.Row<User>> chunk) {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(chunk.size());
+        for (ImportRun.Row<User> row : chunk) {
+            User student = row.entity();
+            tasks.add(ForkJoinTask.adapt(() -> student.setPassword(passwordEncoder.encode(student.getPassword()))));
+        }
+        hashingPool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+    }
+
+    /**
+     * State of one import run: an email may appear only once in
+     * the file, and progress is reported after every chunk.
+     */
+    private final class Import extends ImportRun<User> {
+
+        private final Consumer<RosterImportProgress> progress;
+        // Lower-cased emails of the file so far, to catch a student listed twice
+        private final Set<String> emails = new HashSet<>();
+
+        private Import(Consumer<RosterImportProgress> progress) {
+            super("students", COLUMNS, chunkSize);
+            this.progress = progress;
+        }
+
+        // "Full Name", "full_name" and "fullName" all mean fullname
+        @Override
+        String columnName(String header) {
+            return header.replaceAll("[\\s_-]", "").toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        String columnLabel(String column) {
+            return column.equals("fullname") ? "full name" : column;
+        }
+
+        @Override
+        User toEntity(Map<String, String> values, List<String> problems) {
+            User student = toStudent(values, problems);
+            if (problems.isEmpty() && !emails.add(key(student.getEmail()))) {
+                problems.add("email: listed more than once in the file");
+            }
+            return student;
+        }
+
+        @Override
+        int save(List<Row<User>> chunk) {
+            List<Row<User>> rowsToSave = new ArrayList<>(chunk.size());
+            Set<String> registered = userService.findRegisteredEmails(
+                    chunk.stream().map(row -> row.entity().getEmail()).toList());
+            for (Row<User> row : chunk) {
+                if (registered.contains(key(row.entity().getEmail()))) {
+                    reject(row.row(), "email: already registered");
+                } else {
+                    rowsToSave.add(row);
+                }
+            }
+
+            if (rowsToSave.isEmpty()) {
+                return 0;
+            }
+            hashPasswords(rowsToSave);
+            return userService.createUsers(rowsToSave.stream().map(Row::entity).toList()).size();
+        }
+
+        @Override
+        void chunkSaved() {
+            progress.accept(snapshot(false));
+        }
+
+        private RosterImportProgress snapshot(boolean done) {
+            if (!done) {
+                return new RosterImportProgress(rows(), imported(), rejected(), List.of(), null, false);
+            }
+            return new RosterImportProgress(rows(), imported(), rejected(), errors(), fileError(), true);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.campusboard.campusboard.services;
+
+import com.campusboard.campusboard.events.JobChangedEvent;
+import com.campusboard.campusboard.models.Job;
+import com.campusboard.campusboard.models.JobAlert;
+import com.campusboard.campusboard.models.SavedSearch;
+import com.campusboard.campusboard.models.User;
+import com.campusboard.campusboard.repositories.JobAlertRepository;
+import com.campusboard.campusboard.repositories.SavedSearchRepository;
+import com.campusboard.campusboard.search.QueryPercolator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * ============================================
+ * SAVED SEARCH SERVICE
+ * ============================================
+ * Students save a search (keywords plus category, location and
+ * minimum wage) and get an alert for every newly approved job
+ * that matches it.
+ *
+ * Key responsibilities:
+ * - Create, list and delete a student's saved searches
+ * - Keep every saved search in an in-memory QueryPercolator
+ * - On approval, run the one new job against the percolator
+ *   instead of re-running every saved search
+ * - Every refresh-ms, add searches saved on other nodes (IDs
+ *   above the highest one loaded) and rebuild if the count
+ *   still differs (deleted elsewhere, or committed out of order)
+ * ============================================
+ */
+@Service
+public class SavedSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(SavedSearchService.class);
+
+    // Saved searches a single student may keep
+    public static final int MAX_PER_STUDENT = 20;
+
+    // Alerts shown on the saved searches page
+    public static final int RECENT_ALERTS = 50;
+
+    // =============================
+    // DEPENDENCY INJECTION
+    // =============================
+    @Autowired
+    private SavedSearchRepository savedSearchRepository;
+
+    @Autowired
+    private JobAlertRepository jobAlertRepository;
+
+    private final QueryPercolator percolator = new QueryPercolator();
+
+    // Highest savedSearchId loaded from the database
+    private long lastSeenId;
+
+    /**
+     * =============================
+     * BUILD PERCOLATOR ON STARTUP
+     * =============================
+     * Also used by refresh(). Searches are replaced in place
+     * rather than cleared first, so approvals matched meanwhile
+     * still see them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuildIndex() {
+        List<SavedSearch> searches = savedSearchRepository.findAll();
+        for (SavedSearch search : searches) {
+            add(search);
+        }
+        percolator.retainAll(searches.stream().map(SavedSearch::getSavedSearchId).collect(Collectors.toSet()));
+    }
+
+    /**
+     * =============================
+     * REFRESH PERCOLATOR
+     * =============================
+     * Picks up searches saved or deleted on other nodes. A failed
+     * refresh is logged and retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${campusboard.saved-searches.refresh-ms:30000}")
+    public synchronized void refresh() {
+        try {
+            List<SavedSearch> added =
+                    savedSearchRepository.findBySavedSearchIdGreaterThanOrderBySavedSearchIdAsc(lastSeenId);
+            for (SavedSearch search : added) {
+                add(search);
+            }
+            if (savedSearchRepository.count() != percolator.size()) {
+                rebuildIndex();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh saved searches", e);
+        }
+    }
+
+    private void add(SavedSearch search) {
+        percolator.add(search);
+        lastSeenId = Math.max(lastSeenId, search.getSavedSearchId());
+    }
+
+    /**
+     * =============================
+     * MATCH APPROVED JOBS
+     * =============================
+     * Records an alert for every saved search the newly approved
+     * job satisfies. A job approved again (e.g. after an edit)
+     * alerts only searches it did not match before. Runs after
+     * the approval has committed, so the alerts get their own
+     * transaction.
+     *
+     * @param event - Change published by JobService
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onJobChanged(JobChangedEvent event) {
+        Job job = event.job();
+        if (event.type() != JobChangedEvent.Type.APPROVED || job == null) {
+            return;
+        }
+
+        List<Long> matches = percolator.match(job);
+        if (matches.isEmpty()) {
+            return;
+        }
+
+        Set<Long> alerted = new HashSet<>(jobAlertRepository.findSavedSearchIdsByJobId(job.getJobId()));
+        List<JobAlert> alerts = new ArrayList<>();
+        for (Long savedSearchId : matches) {
+            if (!alerted.contains(savedSearchId)) {
+                alerts.add(new JobAlert(savedSearchRepository.getReferenceById(savedSearchId), job));
+            }
+        }
+        jobAlertRepository.saveAll(alerts);
+    }
+
+    /**
+     * =============================
+     * CREATE SAVED SEARCH
+     * =============================
+     *
+     * @param search - Criteria entered by the student
+     * @param student - Owner of the search
+     * @return The saved search
+     * @throws IllegalArgumentException if no criteria are given or
+     *         the student already has MAX_PER_STUDENT searches
+     */
+    public SavedSearch createSavedSearch(SavedSearch search, User student) {
+        search.setKeywords(trimToNull(search.getKeywords()));
+        search.setCategory(trimToNull(search.getCategory()));
+        search.setLocation(trimToNull(search.getLocation()));
+
+        if (search.getKeywords() == null && search.getCategory() == null
+                && search.getLocation() == null && search.getMinSalary() == null) {
+            throw new IllegalArgumentException("Enter keywords or at least one filter to save a search");
+        }
+        if (savedSearchRepository.countByStudent(student) >= MAX_PER_STUDENT) {
+            throw new IllegalArgumentException("You can keep up to " + MAX_PER_STUDENT + " saved searches");
+        }
+
+        search.setSavedSearchId(null);
+        search.setStudent(student);
+        SavedSearch saved = savedSearchRepository.save(search);
+        percolator.add(saved);
+        return saved;
+    }
+
+    /**
+     * =============================
+     * DELETE SAVED SEARCH
+     * =============================
+     * Its alerts are removed with it (ON DELETE CASCADE).
+     *
+     * @param savedSearchId - ID of the search
+     * @param student - Student deleting it; others' searches are left alone
+     */
+    public void deleteSavedSearch(Long savedSearchId, User student) {
+        if (savedSearchRepository.deleteBySavedSearchIdAndStudent(savedSearchId, student) > 0) {
+            percolator.remove(savedSearchId);
+        }
+    }
+
+    public List<SavedSearch> getSavedSearches(User student) {
+        return savedSearchRepository.findByStudentOrderByCreatedAtDesc(student);
+    }
+
+    /**
+     * @param student - Owner of the saved searches
+     * @return Newest alerts for jobs that are still open
+     */
+    public List<JobAlert> getRecentAlerts(User student) {
+        return jobAlertRepository.findRecentByStudent(student, Job.Status.APPROVED,
+                PageRequest.of(0, RECENT_ALERTS));
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -1,14 +1,32 @@
 package com.campusboard.campusboard.services;
 
+import com.campusboard.campusboard.cache.UserDetailsCache;
+import com.campusboard.campusboard.dto.ApiCursor;
+import com.campusboard.campusboard.dto.KeysetCursor;
+import com.campusboard.campusboard.dto.UserCounts;
+import com.campusboard.campusboard.dto.UserPage;
+import com.campusboard.campusboard.dto.UserSort;
+import com.campusboard.campusboard.dto.UserView;
 import com.campusboard.campusboard.exceptions.UserNotFoundException;
 import com.campusboard.campusboard.models.User;
 import com.campusboard.campusboard.repositories.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * ============================================
@@ -27,6 +45,9 @@ import java.util.List;
 @Service
 public class UserService {
 
+    // Users per page on the admin's Manage Users table
+    public static final int USER_PAGE_SIZE = 50;
+
     // =============================
     // DEPENDENCY INJECTION
     // =============================
@@ -36,6 +57,14 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;  // BCrypt encoder from SecurityBeans
 
+    // Logins and session checks read accounts from here; evicted on every change
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    // Cleared while streaming so rows don't pile up in memory
+    @PersistenceContext
+    private EntityManager entityManager;
+
     /**
      * =============================
      * REGISTER USER
@@ -46,6 +75,8 @@ public class UserService {
      * @param user - User object with registration details
      * @return The saved user with generated ID
      * @throws Exception if email already exists
+     * @throws com.campusboard.campusboard.exceptions.PasswordHashingBusyException
+     *         if too many passwords are being hashed right now
      */
     public User registerUser(User user) throws Exception {
         // Check if email is already registered
@@ -69,6 +100,50 @@ public class UserService {
         return userRepository.save(user);
     }
 
+    /**
+     * =============================
+     * CREATE USERS (BULK)
+     * =============================
+     * Saves many new, ACTIVE accounts in one transaction; with
+     * pooled IDs Hibernate sends them as a few JDBC batches.
+     * Used by the roster import, which has already checked the
+     * emails and hashed the passwords.
+     *
+     * @param users - New users, passwords already encoded
+     * @return The saved users with their generated IDs
+     */
+    @Transactional
+    public List<User> createUsers(List<User> users) {
+        LocalDateTime now = LocalDateTime.now();
+        for (User user : users) {
+            user.setStatus(User.Status.ACTIVE);
+            user.setCreatedAt(now);
+            user.setUpdatedAt(now);
+        }
+        return userRepository.saveAll(users);
+    }
+
+    /**
+     * =============================
+     * FIND REGISTERED EMAILS
+     * =============================
+     * Which of the given emails already have an account, with one
+     * query instead of one existsByEmail per email.
+     *
+     * @param emails - Emails to check
+     * @return The registered ones, lower-cased
+     */
+    public Set<String> findRegisteredEmails(Collection<String> emails) {
+        Set<String> registered = new HashSet<>();
+        if (emails.isEmpty()) {
+            return registered;
+        }
+        for (String email : userRepository.findRegisteredEmails(emails)) {
+            registered.add(email.toLowerCase(Locale.ROOT));
+        }
+        return registered;
+    }
+
     /**
      * =============================
      * FIND USER BY EMAIL
@@ -100,6 +175,21 @@ public class UserService {
                 .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
     }
 
+    /**
+     * =============================
+     * GET USER REFERENCE
+     * =============================
+     * The logged-in user for passing to other services, without a
+     * query: a lazy reference that is only loaded if something
+     * other than its ID is read.
+     *
+     * @param userId - User's ID (from the security principal)
+     * @return Reference to the user
+     */
+    public User getReference(Long userId) {
+        return userRepository.getReferenceById(userId);
+    }
+
     /**
      * =============================
      * GET ALL USERS
@@ -113,6 +203,120 @@ public class UserService {
         return userRepository.findAll();
     }
 
+    /**
+     * =============================
+     * GET USERS (KEYSET PAGINATED)
+     * =============================
+     * Retrieves one page of the admin's Manage Users table: a
+     * single projection query (no password hashes), filtered by
+     * role, status and a name/email search. Pages continue from
+     * the last (sort key, userId) seen instead of an OFFSET.
+     *
+     * @param sort - Sort order selected by the admin
+     * @param role - Only users with this role, or null for all
+     * @param status - Only users with this status, or null for all
+     * @param search - Part of the name or email, or null/blank for all
+     * @param cursor - Token from the previous page, or null for the first page
+     * @return The page of users and the cursor for the next page
+     */
+    public UserPage getUserPage(UserSort sort, User.Role role, User.Status status, String search, String cursor) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Collection<User.Role> roles = role == null ? EnumSet.allOf(User.Role.class) : EnumSet.of(role);
+        Collection<User.Status> statuses = status == null ? EnumSet.allOf(User.Status.class) : EnumSet.of(status);
+        String term = search == null || search.isBlank() ? null : search.trim();
+        String pattern = likePattern(term);
+
+        // Fetch one extra row to find out whether another page exists
+        Pageable limit = PageRequest.of(0, USER_PAGE_SIZE + 1);
+        List<UserView> users = switch (sort) {
+            case NEWEST -> findNewest(roles, statuses, pattern, after, limit);
+            case NAME -> findByName(roles, statuses, pattern, after, limit);
+            case EMAIL -> findByEmail(roles, statuses, pattern, after, limit);
+        };
+
+        KeysetCursor.Slice<UserView> page = KeysetCursor.slice(users, USER_PAGE_SIZE,
+                user -> new KeysetCursor(sortKey(sort, user), user.userId()));
+        return new UserPage(page.rows(), sort, role, status, term, page.nextCursor());
+    }
+
+    private List<UserView> findNewest(Collection<User.Role> roles, Collection<User.Status> statuses,
+                                      String pattern, KeysetCursor after, Pageable limit) {
+        LocalDateTime createdAt = after == null ? null : after.keyAsDateTime();
+        if (createdAt == null) {
+            return userRepository.findUserViewsByNewest(roles, statuses, pattern, limit);
+        }
+        return userRepository.findUserViewsByNewestAfter(roles, statuses, pattern,
+                createdAt, after.id(), limit);
+    }
+
+    private List<UserView> findByName(Collection<User.Role> roles, Collection<User.Status> statuses,
+                                      String pattern, KeysetCursor after, Pageable limit) {
+        if (after == null || after.key() == null) {
+            return userRepository.findUserViewsByName(roles, statuses, pattern, limit);
+        }
+        return userRepository.findUserViewsByNameAfter(roles, statuses, pattern,
+                after.key(), after.id(), limit);
+    }
+
+    private List<UserView> findByEmail(Collection<User.Role> roles, Collection<User.Status> statuses,
+                                       String pattern, KeysetCursor after, Pageable limit) {
+        if (after == null || after.key() == null) {
+            return userRepository.findUserViewsByEmail(roles, statuses, pattern, limit);
+        }
+        return userRepository.findUserViewsByEmailAfter(roles, statuses, pattern,
+                after.key(), after.id(), limit);
+    }
+
+    private static String sortKey(UserSort sort, UserView user) {
+        return switch (sort) {
+            case NEWEST -> user.createdAt() == null ? null : user.createdAt().toString();
+            case NAME -> user.fullName();
+            case EMAIL -> user.email();
+        };
+    }
+
+    // "Contains" pattern for LIKE ... ESCAPE '!': the term's own % and _ match literally
+    static String likePattern(String term) {
+        if (term == null) {
+            return "%";
+        }
+        String escaped = term.toLowerCase(Locale.ROOT)
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+
+    /**
+     * =============================
+     * COUNT USERS
+     * =============================
+     * The Manage Users stat tiles (total, per status, per role)
+     * from one GROUP BY role, status query.
+     *
+     * @return The counts
+     */
+    public UserCounts getUserCounts() {
+        return UserCounts.from(userRepository.countByRoleAndStatus());
+    }
+
+    /**
+     * =============================
+     * STREAM ALL USERS
+     * =============================
+     * Hands users to the caller one at a time, in userId order,
+     * straight from a database cursor. Used by the REST API.
+     *
+     * @param after - Position to continue from (ApiCursor.FIRST to start)
+     * @param limit - Maximum number of users to hand out
+     * @param action - Called once per user; must not keep the user
+     */
+    @Transactional(readOnly = true)
+    public void forEachUser(ApiCursor after, long limit, Consumer<User> action) {
+        ResultStreams.forEach(userRepository.streamAllAfter(after.afterId(), ResultStreams.sqlLimit(limit)),
+                limit, entityManager, action);
+    }
+
     /**
      * =============================
      * UPDATE USER STATUS
@@ -135,5 +339,8 @@ public class UserService {
 
         // Save changes
         userRepository.save(user);
+
+        // Next request of a deactivated user ends its session (ActiveAccountFilter)
+        userDetailsCache.evict(user.getEmail());
     }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+/* ============================================
+   LIVE JOB FEED
+   ============================================
+   Listens to /student/jobs/live (Server-Sent Events) and shows
+   a banner when new jobs are approved, instead of the student
+   reloading the page to check.
+
+   Each "jobs" message carries {"jobs": [{jobId, title, ...}]}.
+   EventSource reconnects on its own after a drop.
+   ============================================ */
+(function () {
+    var banner = document.getElementById('live-jobs');
+    if (!banner || !window.EventSource) {
+        return;
+    }
+
+    var text = banner.querySelector('[data-live-text]');
+    var seen = {};
+    var count = 0;
+
+    var source = new EventSource(banner.getAttribute('data-stream'));
+    source.addEventListener('jobs', function (event) {
+        var jobs = JSON.parse(event.data).jobs || [];
+        var latest = null;
+        jobs.forEach(function (job) {
+            if (!seen[job.jobId]) {
+                seen[job.jobId] = true;
+                count++;
+                latest = job;
+            }
+        });
+        if (latest === null) {
+            return;
+        }
+        text.textContent = count === 1
+            ? 'New job posted: ' + latest.title + (latest.employerName ? ' (' + latest.employerName + ')' : '')
+            : count + ' new jobs posted since you opened this page';
+        banner.style.display = '';
+    });
+
+    window.addEventListener('beforeunload', function () {
+        source.close();
+    });
+})();
@@ -0,0 +1,134 @@
+/* ============================================
+   ROSTER IMPORT
+   ============================================
+   Uploads the roster from the admin import page and shows the
+   import's progress as it happens, instead of a page that hangs
+   until the whole class is created.
+
+   /admin/users/import answers with one JSON message per line
+   (RosterImportProgress): {rows, imported, rejected} after every
+   chunk, then a last one with done, errors and fileError.
+   Without fetch streaming the form simply posts as usual.
+   ============================================ */
+(function () {
+    var form = document.getElementById('roster-form');
+    var panel = document.getElementById('roster-progress');
+    if (!form || !panel || !window.fetch || !window.TextDecoder || !window.ReadableStream) {
+        return;
+    }
+
+    function part(name) {
+        return panel.querySelector('[data-' + name + ']');
+    }
+
+    function show(name, text) {
+        var element = part(name);
+        element.style.display = '';
+        if (text !== undefined) {
+            part(name + '-text').textContent = text;
+        }
+    }
+
+    function reset() {
+        ['imported', 'file-error', 'rejected', 'errors', 'more-errors'].forEach(function (name) {
+            part(name).style.display = 'none';
+        });
+        part('error-rows').innerHTML = '';
+        part('progress-text').textContent = 'Uploading…';
+        show('running');
+        panel.style.display = '';
+    }
+
+    function update(progress) {
+        if (!progress.done) {
+            part('progress-text').textContent = progress.rows + ' row(s) read: '
+                + progress.imported + ' student(s) created, ' + progress.rejected + ' skipped…';
+            return;
+        }
+
+        part('running').style.display = 'none';
+        if (progress.imported > 0) {
+            show('imported', progress.imported + ' student account(s) created.');
+        }
+        if (progress.fileError) {
+            show('file-error', 'The roster could not be imported to the end: ' + progress.fileError);
+        }
+        if (progress.rejected > 0) {
+            show('rejected', progress.rejected + ' row(s) were skipped. Fix them and import those rows again.');
+        }
+        if (progress.imported === 0 && progress.rejected === 0 && !progress.fileError) {
+            show('file-error', 'The roster contained no students.');
+        }
+
+        var rows = part('error-rows');
+        (progress.errors || []).forEach(function (error) {
+            var tr = document.createElement('tr');
+            [error.row, error.message].forEach(function (value) {
+                var td = document.createElement('td');
+                td.textContent = value;
+                tr.appendChild(td);
+            });
+            rows.appendChild(tr);
+        });
+        if (rows.children.length > 0) {
+            show('errors');
+        }
+        if (progress.rejected > rows.children.length && rows.children.length > 0) {
+            part('error-count').textContent = rows.children.length;
+            show('more-errors');
+        }
+    }
+
+    function failed(message) {
+        part('running').style.display = 'none';
+        show('file-error', message);
+    }
+
+    form.addEventListener('submit', function (event) {
+        event.preventDefault();
+        var button = form.querySelector('button[type=submit]');
+        button.disabled = true;
+        reset();
+
+        fetch(form.action, {method: 'POST', body: new FormData(form)})
+            .then(function (response) {
+                if (!response.ok) {
+                    throw new Error('The server answered ' + response.status);
+                }
+                part('progress-text').textContent = 'Importing…';
+
+                var reader = response.body.getReader();
+                var decoder = new TextDecoder();
+                var buffered = '';
+                var finished = false;
+
+                function read() {
+                    return reader.read().then(function (chunk) {
+                        buffered += decoder.decode(chunk.value || new Uint8Array(), {stream: !chunk.done});
+                        var lines = buffered.split('\n');
+                        buffered = lines.pop();
+                        lines.forEach(function (line) {
+                            if (line.trim()) {
+                                var progress = JSON.parse(line);
+                                finished = finished || progress.done;
+                                update(progress);
+                            }
+                        });
+                        if (!chunk.done) {
+                            return read();
+                        }
+                        if (!finished) {
+                            throw new Error('The connection was lost before the import finished');
+                        }
+                    });
+                }
+                return read();
+            })
+            .catch(function (error) {
+                failed(error.message + '. Check the user list before importing again.');
+            })
+            .then(function () {
+                button.disabled = false;
+            });
+    });
+})();
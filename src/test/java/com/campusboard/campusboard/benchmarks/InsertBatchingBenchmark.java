@@ -0,0 +1,122 @@
+package com.campusboard.campusboard.benchmarks;
+
+import com.campusboard.campusboard.models.IdGenerators;
+import com.campusboard.campusboard.models.Job;
+import com.campusboard.campusboard.models.JobApplication;
+import com.campusboard.campusboard.models.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * ============================================
+ * INSERT BATCHING BENCHMARK
+ * ============================================
+ * Bulk-creates jobs and applications through JPA, once with
+ * JDBC batching off (batch size 1, what IDENTITY IDs forced)
+ * and once with the configured batch size, and prints the
+ * insert throughput of both.
+ *
+ * Not part of the regular build (surefire only picks up *Test
+ * classes). Run it against the configured database with:
+ *
+ *     mvn test -Dtest=InsertBatchingBenchmark -Dbenchmark.rows=20000
+ *
+ * Every run is rolled back, so no rows are left behind; only
+ * the ID generators move on.
+ * ============================================
+ */
+@SpringBootTest
+class InsertBatchingBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 5_000);
+    private static final int WARM_UP_ROWS = 500;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void compareBatchSizes() {
+        insert(1, WARM_UP_ROWS);
+        insert(IdGenerators.ALLOCATION_SIZE, WARM_UP_ROWS);
+
+        Result unbatched = insert(1, ROWS);
+        Result batched = insert(IdGenerators.ALLOCATION_SIZE, ROWS);
+
+        System.out.println(unbatched);
+        System.out.println(batched);
+        System.out.printf("Batching speed-up: %.1fx%n", batched.rowsPerSecond() / unbatched.rowsPerSecond());
+    }
+
+    /**
+     * Persists "jobs" jobs with one application each, alternating
+     * the two entity types the way a bulk import would.
+     */
+    private Result insert(int batchSize, int jobs) {
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+            User employer = newUser("benchmark-employer", User.Role.EMPLOYER);
+            User student = newUser("benchmark-student", User.Role.STUDENT);
+            entityManager.flush();
+
+            long start = System.nanoTime();
+            for (int i = 0; i < jobs; i++) {
+                Job job = new Job();
+                job.setTitle("Benchmark job " + i);
+                job.setDescription("Inserted by InsertBatchingBenchmark");
+                job.setLocation("Library");
+                job.setSalary(15.0);
+                job.setEmployer(employer);
+                entityManager.persist(job);
+
+                JobApplication application = new JobApplication();
+                application.setJob(job);
+                application.setStudent(student);
+                entityManager.persist(application);
+
+                // Keep the persistence context small, like a chunked import
+                if ((i + 1) % IdGenerators.ALLOCATION_SIZE == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.flush();
+            long elapsed = System.nanoTime() - start;
+
+            entityManager.clear();
+            return new Result(batchSize, jobs * 2L, elapsed);
+        });
+    }
+
+    private User newUser(String name, User.Role role) {
+        User user = new User();
+        user.setFullName(name);
+        user.setEmail(name + "-" + System.nanoTime() + "@benchmark.invalid");
+        user.setPassword("not-a-real-hash");
+        user.setRole(role);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private record Result(int batchSize, long rows, long nanos) {
+
+        double rowsPerSecond() {
+            return rows / (nanos / 1_000_000_000.0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("batch size %3d: %,d rows in %,d ms (%,.0f rows/s)",
+                    batchSize, rows, nanos / 1_000_000, rowsPerSecond());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.campusboard.campusboard.benchmarks;
+
+import com.campusboard.campusboard.security.AdaptiveBCryptPasswordEncoder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * ============================================
+ * PASSWORD HASHING BENCHMARK
+ * ============================================
+ * Login verification throughput (PasswordEncoder.matches, the
+ * CPU a login costs) at each BCrypt cost, with all cores busy
+ * the way they are at the start of a semester. Use it to pick
+ * campusboard.security.bcrypt.target-ms / min-cost / max-cost:
+ * logins per second per instance is roughly the figure printed
+ * for the chosen cost.
+ *
+ * Not part of the regular build (surefire only picks up *Test
+ * classes), and needs no database. Run it with:
+ *
+ *     mvn test -Dtest=PasswordHashingBenchmark -Dbenchmark.min-cost=8 -Dbenchmark.max-cost=14
+ *
+ * Each cost gets a warm-up pass, then a measured pass of
+ * benchmark.seconds on benchmark.threads threads.
+ * ============================================
+ */
+class PasswordHashingBenchmark {
+
+    private static final int MIN_COST = Integer.getInteger("benchmark.min-cost", 8);
+    private static final int MAX_COST = Integer.getInteger("benchmark.max-cost", 13);
+    private static final int THREADS = Integer.getInteger("benchmark.threads", Runtime.getRuntime().availableProcessors());
+    private static final long SECONDS = Long.getLong("benchmark.seconds", 5);
+    private static final long WARM_UP_SECONDS = 1;
+
+    @Test
+    void verifyThroughputPerCost() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int cost = MIN_COST; cost <= MAX_COST; cost++) {
+                AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(cost);
+                String hash = encoder.encode("correct horse battery staple");
+
+                run(pool, encoder, hash, WARM_UP_SECONDS);
+                System.out.println(run(pool, encoder, hash, SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Result run(ExecutorService pool, AdaptiveBCryptPasswordEncoder encoder, String hash, long seconds)
+            throws Exception {
+        long start = System.nanoTime();
+        long deadline = start + seconds * 1_000_000_000L;
+
+        List<Future<Long>> workers = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            workers.add(pool.submit(() -> {
+                long verified = 0;
+                // Always finish at least one, however slow the cost
+                do {
+                    if (!encoder.matches("correct horse battery staple", hash)) {
+                        throw new IllegalStateException("Password did not verify");
+                    }
+                    verified++;
+                } while (System.nanoTime() < deadline);
+                return verified;
+            }));
+        }
+
+        long verified = 0;
+        for (Future<Long> worker : workers) {
+            verified += worker.get();
+        }
+        return new Result(encoder.getCost(), verified, System.nanoTime() - start);
+    }
+
+    private record Result(int cost, long verified, long nanos) {
+
+        double perSecond() {
+            return verified / (nanos / 1_000_000_000.0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("cost %2d: %,8.1f logins/s on %d thread(s), %,7.1f ms per login",
+                    cost, perSecond(), THREADS, THREADS * 1000.0 / perSecond());
+        }
+    }
+}
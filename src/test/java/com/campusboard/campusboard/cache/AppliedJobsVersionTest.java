@@ -0,0 +1,60 @@
+package com.campusboard.campusboard.cache;
+
+import com.campusboard.campusboard.dto.AppliedJobIds;
+import com.campusboard.campusboard.events.JobChangedEvent;
+import com.campusboard.campusboard.models.Job;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AppliedJobsVersionTest {
+
+    private AppliedJobIds checked(AppliedJobsVersion versions, Long studentId) {
+        return AppliedJobIds.of(studentId, List.of(new AppliedJobIds.Applied(1L, 1L))).checked(versions.version(studentId), System.currentTimeMillis());
+    }
+
+    // Test that a set stays current until that student applies again
+    @Test
+    void testApplied() {
+        AppliedJobsVersion versions = new AppliedJobsVersion(30);
+        AppliedJobIds student7 = checked(versions, 7L);
+        AppliedJobIds student8 = checked(versions, 8L);
+        assertTrue(versions.isCurrent(student7));
+
+        versions.applied(7L);
+
+        assertFalse(versions.isCurrent(student7));
+        assertTrue(versions.isCurrent(student8));
+        assertTrue(versions.isCurrent(checked(versions, 7L)));
+    }
+
+    // Test that deleting a job makes every set stale, other job changes none
+    @Test
+    void testOnJobChanged() {
+        AppliedJobsVersion versions = new AppliedJobsVersion(30);
+        AppliedJobIds applied = checked(versions, 7L);
+        Job job = new Job();
+        job.setJobId(1L);
+
+        versions.onJobChanged(JobChangedEvent.of(JobChangedEvent.Type.UPDATED, job));
+        assertTrue(versions.isCurrent(applied));
+
+        versions.onJobChanged(JobChangedEvent.deleted(1L));
+        assertFalse(versions.isCurrent(applied));
+    }
+
+    // Test that a set is rechecked once recheck-seconds have passed, or if never checked
+    @Test
+    void testRecheckAfterTtl() {
+        AppliedJobsVersion versions = new AppliedJobsVersion(30);
+        String version = versions.version(7L);
+
+        assertFalse(versions.isCurrent(AppliedJobIds.of(7L, List.of())));
+        assertFalse(versions.isCurrent(AppliedJobIds.of(7L, List.of())
+                .checked(version, System.currentTimeMillis() - 31_000)));
+        assertTrue(versions.isCurrent(AppliedJobIds.of(7L, List.of())
+                .checked(version, System.currentTimeMillis() - 29_000)));
+    }
+}
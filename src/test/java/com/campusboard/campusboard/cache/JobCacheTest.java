@@ -0,0 +1,163 @@
+package com.campusboard.campusboard.cache;
+
+import com.campusboard.campusboard.dto.CacheStatsView;
+import com.campusboard.campusboard.dto.JobCardView;
+import com.campusboard.campusboard.events.JobChangedEvent;
+import com.campusboard.campusboard.models.Job;
+import com.campusboard.campusboard.models.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobCacheTest {
+
+    private JobCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new JobCache(1 << 20, 60);
+        loads = new AtomicInteger();
+    }
+
+    private Job job(long id, Job.Status status) {
+        Job job = new Job();
+        job.setJobId(id);
+        job.setStatus(status);
+        job.setTitle("Job " + id);
+        return job;
+    }
+
+    private List<Job> load(List<Job> jobs) {
+        loads.incrementAndGet();
+        return jobs;
+    }
+
+    // Test that approving a job evicts both its old and new status lists
+    @Test
+    void testOnJobChanged_EvictsAffectedSegments() {
+        Job pending = job(1L, Job.Status.PENDING);
+        cache.getJobsByStatus(Job.Status.PENDING, () -> load(List.of(pending)));
+        cache.getJobsByStatus(Job.Status.APPROVED, () -> load(List.of()));
+        cache.getJobsByStatus(Job.Status.REJECTED, () -> load(List.of()));
+        cache.getJob(1L, () -> pending);
+
+        Job approved = job(1L, Job.Status.APPROVED);
+        cache.onJobChanged(JobChangedEvent.of(JobChangedEvent.Type.APPROVED, approved));
+
+        // PENDING and APPROVED reload, REJECTED is untouched
+        cache.getJobsByStatus(Job.Status.PENDING, () -> load(List.of()));
+        cache.getJobsByStatus(Job.Status.APPROVED, () -> load(List.of(approved)));
+        cache.getJobsByStatus(Job.Status.REJECTED, () -> load(List.of()));
+        assertEquals(5, loads.get());
+        assertEquals(Job.Status.APPROVED, cache.getJob(1L, () -> approved).getStatus());
+        assertEquals(3, cache.stats().invalidations());
+    }
+
+    // Test that deleting a job evicts the lists that contained it
+    @Test
+    void testOnJobChanged_Deleted() {
+        cache.getJobsByStatus(Job.Status.APPROVED, () -> load(List.of(job(1L, Job.Status.APPROVED))));
+        cache.getJobsByStatus(Job.Status.PENDING, () -> load(List.of(job(2L, Job.Status.PENDING))));
+
+        cache.onJobChanged(JobChangedEvent.deleted(1L));
+
+        cache.getJobsByStatus(Job.Status.APPROVED, () -> load(List.of()));
+        cache.getJobsByStatus(Job.Status.PENDING, () -> load(List.of()));
+        assertEquals(3, loads.get());
+    }
+
+    // Test that a bulk-closed job leaves the approved list and refreshes the closed list
+    @Test
+    void testOnJobChanged_Closed() {
+        cache.getJobsByStatus(Job.Status.APPROVED, () -> load(List.of(job(1L, Job.Status.APPROVED))));
+        cache.getJobsByStatus(Job.Status.CLOSED, () -> load(List.of()));
+
+        cache.onJobChanged(JobChangedEvent.closed(1L));
+
+        cache.getJobsByStatus(Job.Status.APPROVED, () -> load(List.of()));
+        cache.getJobsByStatus(Job.Status.CLOSED, () -> load(List.of(job(1L, Job.Status.CLOSED))));
+        assertEquals(4, loads.get());
+    }
+
+    // Test that card lists are evicted like the job lists they mirror
+    @Test
+    void testOnJobChanged_EvictsCardSegments() {
+        JobCardView card = new JobCardView(1L, "Job 1", "Employer", "employer@example.com",
+                null, null, null, null, "Description", Job.Status.PENDING, LocalDateTime.now());
+        cache.getJobCardsByStatus(Job.Status.PENDING, () -> {
+            loads.incrementAndGet();
+            return List.of(card);
+        });
+
+        cache.onJobChanged(JobChangedEvent.deleted(1L));
+
+        cache.getJobCardsByStatus(Job.Status.PENDING, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+        assertEquals(2, loads.get());
+    }
+
+    // Test that callers get their own copies, without the employer's password hash
+    @Test
+    void testGetJob_HandsOutCopies() {
+        User employer = new User();
+        employer.setUserId(9L);
+        employer.setFullName("Campus Library");
+        employer.setPassword("secret-hash");
+        Job job = job(1L, Job.Status.APPROVED);
+        job.setEmployer(employer);
+
+        Job first = cache.getJob(1L, () -> job);
+        first.setTitle("Changed by a caller");
+        cache.getJobsByStatus(Job.Status.APPROVED, () -> List.of(job)).get(0).setStatus(Job.Status.CLOSED);
+
+        Job second = cache.getJob(1L, () -> job);
+        assertEquals("Job 1", second.getTitle());
+        assertEquals(9L, second.getEmployer().getUserId());
+        assertEquals("Campus Library", second.getEmployer().getFullName());
+        assertNull(second.getEmployer().getPassword());
+        assertEquals(Job.Status.APPROVED,
+                cache.getJobsByStatus(Job.Status.APPROVED, () -> List.of()).get(0).getStatus());
+    }
+
+    // Test that entries expire, so changes made on other nodes are picked up
+    @Test
+    void testGetJob_Expires() {
+        JobCache expiring = new JobCache(1 << 20, 0);
+        expiring.getJob(1L, () -> job(1L, Job.Status.PENDING));
+
+        assertEquals(Job.Status.APPROVED, expiring.getJob(1L, () -> job(1L, Job.Status.APPROVED)).getStatus());
+    }
+
+    // Test that a failing loader caches nothing
+    @Test
+    void testGetJob_LoaderThrows() {
+        assertThrows(IllegalStateException.class, () -> cache.getJob(1L, () -> {
+            throw new IllegalStateException("not found");
+        }));
+        assertEquals(0, cache.stats().entries());
+    }
+
+    // Test that the weight limit evicts entries
+    @Test
+    void testStats_EvictsOverWeight() {
+        JobCache small = new JobCache(4_000, 60);
+        for (long id = 1; id <= 50; id++) {
+            Job job = job(id, Job.Status.APPROVED);
+            job.setDescription("x".repeat(500));
+            small.getJob(id, () -> job);
+        }
+
+        CacheStatsView stats = small.stats();
+        assertEquals(50, stats.misses());
+        assertTrue(stats.evictions() > 0);
+        assertTrue(stats.weight() <= 4_000);
+    }
+}
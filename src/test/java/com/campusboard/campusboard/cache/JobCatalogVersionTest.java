@@ -0,0 +1,117 @@
+package com.campusboard.campusboard.cache;
+
+import com.campusboard.campusboard.dto.JobUpdateRow;
+import com.campusboard.campusboard.events.JobChangedEvent;
+import com.campusboard.campusboard.models.Job;
+import com.campusboard.campusboard.repositories.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class JobCatalogVersionTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @InjectMocks
+    private JobCatalogVersion versions;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(jobRepository.findUpdatedSince(any())).thenReturn(List.of());
+        when(jobRepository.count()).thenReturn(10L);
+    }
+
+    // Test that a change bumps the catalog and only that job's version
+    @Test
+    void testOnJobChanged() {
+        String catalog = versions.catalogVersion();
+        String job1 = versions.jobVersion(1L);
+        String job2 = versions.jobVersion(2L);
+
+        versions.onJobChanged(JobChangedEvent.deleted(1L));
+
+        assertNotEquals(catalog, versions.catalogVersion());
+        assertNotEquals(job1, versions.jobVersion(1L));
+        assertEquals(job2, versions.jobVersion(2L));
+        assertTrue(versions.jobLastModified(1L) >= versions.jobLastModified(2L));
+    }
+
+    // Test that versions from different startups never collide
+    @Test
+    void testVersionsIncludeStartup() throws InterruptedException {
+        JobCatalogVersion before = new JobCatalogVersion();
+        Thread.sleep(2);
+        JobCatalogVersion after = new JobCatalogVersion();
+
+        assertNotEquals(before.catalogVersion(), after.catalogVersion());
+    }
+
+    // Test that a job changed on another node is picked up by the recheck
+    @Test
+    void testRecheck_PicksUpChangesElsewhere() {
+        versions.recheck();
+        String catalog = versions.catalogVersion();
+        String job1 = versions.jobVersion(1L);
+        String job2 = versions.jobVersion(2L);
+
+        when(jobRepository.findUpdatedSince(any()))
+                .thenReturn(List.of(new JobUpdateRow(1L, LocalDateTime.now())));
+        versions.recheck();
+
+        assertNotEquals(catalog, versions.catalogVersion());
+        assertNotEquals(job1, versions.jobVersion(1L));
+        assertEquals(job2, versions.jobVersion(2L));
+    }
+
+    // Test that rows already counted (here or by an event) are not bumped again
+    @Test
+    void testRecheck_IgnoresChangesAlreadyCounted() {
+        Job job = new Job();
+        job.setJobId(1L);
+        versions.onJobChanged(JobChangedEvent.of(JobChangedEvent.Type.UPDATED, job));
+        String catalog = versions.catalogVersion();
+
+        when(jobRepository.findUpdatedSince(any()))
+                .thenReturn(List.of(new JobUpdateRow(1L, job.getUpdatedAt())));
+        versions.recheck();
+        versions.recheck();
+
+        assertEquals(catalog, versions.catalogVersion());
+    }
+
+    // Test that a job deleted on another node changes every job version
+    @Test
+    void testRecheck_CountChangeBumpsAllJobs() {
+        versions.recheck();
+        String catalog = versions.catalogVersion();
+        String job2 = versions.jobVersion(2L);
+
+        when(jobRepository.count()).thenReturn(9L);
+        versions.recheck();
+
+        assertNotEquals(catalog, versions.catalogVersion());
+        assertNotEquals(job2, versions.jobVersion(2L));
+    }
+
+    // Test that a failed recheck keeps the versions and is retried
+    @Test
+    void testRecheck_SurvivesDatabaseFailure() {
+        String catalog = versions.catalogVersion();
+        when(jobRepository.findUpdatedSince(any())).thenThrow(new RuntimeException("down"));
+
+        versions.recheck();
+
+        assertEquals(catalog, versions.catalogVersion());
+    }
+}
@@ -1,19 +1,35 @@
 package com.campusboard.campusboard.controllers;
 
+import com.campusboard.campusboard.dto.CacheStatsView;
+import com.campusboard.campusboard.dto.JobCardView;
+import com.campusboard.campusboard.dto.RosterImportProgress;
+import com.campusboard.campusboard.dto.UserCounts;
+import com.campusboard.campusboard.dto.UserPage;
+import com.campusboard.campusboard.dto.UserSort;
+import com.campusboard.campusboard.dto.UserView;
 import com.campusboard.campusboard.models.Job;
 import com.campusboard.campusboard.models.User;
 import com.campusboard.campusboard.services.JobService;
+import com.campusboard.campusboard.services.RosterImportService;
 import com.campusboard.campusboard.services.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.ui.Model;
 
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 class AdminControllerTest {
@@ -24,6 +40,12 @@ class AdminControllerTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private RosterImportService rosterImportService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @Mock
     private Model model;
 
@@ -45,11 +67,10 @@ class AdminControllerTest {
     // Test pending jobs
     @Test
     void testViewPendingJobs() {
-        Job job1 = new Job();
-        job1.setStatus(Job.Status.PENDING);
-        List<Job> jobs = List.of(job1);
+        List<JobCardView> jobs = List.of(new JobCardView(1L, "Job", "Employer", "employer@example.com",
+                null, null, null, null, "Description", Job.Status.PENDING, LocalDateTime.now()));
 
-        when(jobService.getJobsByStatus(Job.Status.PENDING)).thenReturn(jobs);
+        when(jobService.getJobCardsByStatus(Job.Status.PENDING)).thenReturn(jobs);
 
         String view = adminController.viewPendingJobs(model);
         assertEquals("admin/pending-jobs", view);
@@ -74,17 +95,37 @@ class AdminControllerTest {
         verify(jobService).rejectJob(jobId);
     }
 
-    // Test manage users
+    // Test manage users: one page of users plus the counts for the tiles
     @Test
     void testManageUsers() {
-        User user = new User();
-        List<User> users = List.of(user);
+        List<UserView> users = List.of(new UserView(1L, "Ann Lee", "ann@example.com",
+                User.Role.STUDENT, User.Status.ACTIVE, LocalDateTime.now()));
+        UserCounts counts = new UserCounts(1, 1, 0, 1, 0, 0);
 
-        when(userService.getAllUsers()).thenReturn(users);
+        when(userService.getUserPage(UserSort.NEWEST, null, null, null, null))
+                .thenReturn(new UserPage(users, UserSort.NEWEST, null, null, null, null));
+        when(userService.getUserCounts()).thenReturn(counts);
 
-        String view = adminController.manageUsers(model);
+        String view = adminController.manageUsers(UserSort.NEWEST, null, null, null, null, model);
         assertEquals("admin/manage-users", view);
         verify(model).addAttribute("users", users);
+        verify(model).addAttribute("counts", counts);
+        verify(model).addAttribute("nextPageUrl", null);
+    }
+
+    // Test that the next page link keeps the sort order, filters and search
+    @Test
+    void testManageUsers_NextPageUrl() {
+        when(userService.getUserPage(UserSort.EMAIL, User.Role.EMPLOYER, User.Status.INACTIVE, "ann+x@", null))
+                .thenReturn(new UserPage(List.of(), UserSort.EMAIL, User.Role.EMPLOYER, User.Status.INACTIVE,
+                        "ann+x@", "abc"));
+
+        adminController.manageUsers(UserSort.EMAIL, User.Role.EMPLOYER, User.Status.INACTIVE, "ann+x@", null, model);
+
+        verify(model).addAttribute("nextPageUrl",
+                "/admin/users?sort=EMAIL&role=EMPLOYER&status=INACTIVE&q=ann%2Bx%40&cursor=abc");
+        verify(model).addAttribute("firstPageUrl",
+                "/admin/users?sort=EMAIL&role=EMPLOYER&status=INACTIVE&q=ann%2Bx%40");
     }
 
     // Test activate user
@@ -104,4 +145,55 @@ class AdminControllerTest {
         assertEquals("redirect:/admin/users?deactivated", redirect);
         verify(userService).updateStatus(userId, User.Status.INACTIVE);
     }
+
+    // Test job cache statistics
+    @Test
+    void testJobCacheStats() {
+        CacheStatsView stats = new CacheStatsView(9, 1, 0.9, 0, 2, 3, 4096, 1 << 20);
+        when(jobService.getCacheStats()).thenReturn(stats);
+
+        assertEquals(stats, adminController.jobCacheStats());
+    }
+
+    // Test roster import page
+    @Test
+    void testShowImportStudentsForm() {
+        assertEquals("admin/import-students", adminController.showImportStudentsForm());
+    }
+
+    // Test that roster import progress is streamed as one JSON message per line
+    @Test
+    @SuppressWarnings("unchecked")
+    void testImportStudents() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "roster.csv", "text/csv",
+                "full name,email,password\nAnn Lee,ann@example.com,secret123\n".getBytes());
+        when(rosterImportService.importRoster(any(InputStream.class), any())).thenAnswer(invocation -> {
+            Consumer<RosterImportProgress> progress = invocation.getArgument(1);
+            progress.accept(new RosterImportProgress(1, 1, 0, List.of(), null, false));
+            RosterImportProgress done = new RosterImportProgress(1, 1, 0, List.of(), null, true);
+            progress.accept(done);
+            return done;
+        });
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        adminController.importStudents(file, response);
+
+        assertEquals("application/x-ndjson;charset=UTF-8", response.getContentType());
+        String[] lines = response.getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"imported\":1") && lines[0].contains("\"done\":false"));
+        assertTrue(lines[1].contains("\"done\":true"));
+    }
+
+    // Test that importing nothing answers with a finished import and an error
+    @Test
+    void testImportStudents_EmptyFile() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "roster.csv", "text/csv", new byte[0]);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        adminController.importStudents(file, response);
+
+        assertTrue(response.getContentAsString().contains("\"fileError\":\"Please choose a roster file\""));
+        verify(rosterImportService, never()).importRoster(any(), any());
+    }
 }
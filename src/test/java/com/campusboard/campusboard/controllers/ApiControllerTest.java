@@ -0,0 +1,191 @@
+package com.campusboard.campusboard.controllers;
+
+import com.campusboard.campusboard.dto.ApiCursor;
+import com.campusboard.campusboard.exceptions.JobNotFoundException;
+import com.campusboard.campusboard.models.Job;
+import com.campusboard.campusboard.models.User;
+import com.campusboard.campusboard.search.Suggestion;
+import com.campusboard.campusboard.security.CustomUserDetails;
+import com.campusboard.campusboard.services.ApplicationService;
+import com.campusboard.campusboard.services.JobSearchService;
+import com.campusboard.campusboard.services.JobService;
+import com.campusboard.campusboard.services.UserService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ApiControllerTest {
+
+    @Mock
+    private JobService jobService;
+
+    @Mock
+    private JobSearchService jobSearchService;
+
+    @Mock
+    private ApplicationService applicationService;
+
+    @Mock
+    private UserService userService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private ApiController apiController;
+
+    private User employer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        employer = new User();
+        employer.setUserId(9L);
+        employer.setFullName("Campus Library");
+        employer.setPassword("secret-hash");
+        employer.setRole(User.Role.EMPLOYER);
+    }
+
+    private Job job(long id, Job.Status status) {
+        Job job = new Job();
+        job.setJobId(id);
+        job.setTitle("Job " + id);
+        job.setEmployer(employer);
+        job.setStatus(status);
+        return job;
+    }
+
+    // Feeds jobs 1..count to the row consumer, as many as the controller asks for
+    @SuppressWarnings("unchecked")
+    private void streamJobs(int count) {
+        doAnswer(invocation -> {
+            long limit = invocation.getArgument(1);
+            Consumer<Job> action = invocation.getArgument(2);
+            for (long id = 1; id <= Math.min(count, limit); id++) {
+                action.accept(job(id, Job.Status.APPROVED));
+            }
+            return null;
+        }).when(jobService).forEachApprovedJob(any(), anyLong(), any(Consumer.class));
+    }
+
+    // Test that a full page ends with a cursor for the next one
+    @Test
+    void testListJobs_FirstPage() throws Exception {
+        streamJobs(5);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        apiController.listJobs(null, 2, response);
+
+        JsonNode body = objectMapper.readTree(response.getContentAsString());
+        assertEquals(2, body.get("data").size());
+        assertEquals("Job 1", body.get("data").get(0).get("title").asText());
+        assertEquals("Campus Library", body.get("data").get(0).get("employer").get("fullName").asText());
+        assertEquals(new ApiCursor(2).encode(), body.get("nextCursor").asText());
+        assertFalse(response.getContentAsString().contains("secret-hash"));
+
+        // Only one row more than the page size is read
+        verify(jobService).forEachApprovedJob(eq(ApiCursor.FIRST), eq(3L), any());
+    }
+
+    // Test that the last page has no cursor
+    @Test
+    void testListJobs_LastPage() throws Exception {
+        streamJobs(2);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        apiController.listJobs(new ApiCursor(0).encode(), 2, response);
+
+        JsonNode body = objectMapper.readTree(response.getContentAsString());
+        assertEquals(2, body.get("data").size());
+        assertTrue(body.get("nextCursor").isNull());
+    }
+
+    // Test that a tampered cursor is rejected
+    @Test
+    void testListJobs_InvalidCursor() {
+        assertThrows(IllegalArgumentException.class,
+                () -> apiController.listJobs("not-a-cursor", 10, new MockHttpServletResponse()));
+        assertEquals(400, apiController.handleBadRequest(new IllegalArgumentException("x")).getStatusCode().value());
+    }
+
+    // Test exporting every approved job in one response
+    @Test
+    void testExportJobs() throws Exception {
+        streamJobs(1500);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        apiController.exportJobs(response);
+
+        JsonNode body = objectMapper.readTree(response.getContentAsString());
+        assertEquals(1500, body.get("data").size());
+        assertTrue(body.get("nextCursor").isNull());
+    }
+
+    // Test that suggestions come from the in-memory index with the default limit
+    @Test
+    void testSuggest() {
+        Suggestion suggestion = new Suggestion("Tutoring", Suggestion.Type.CATEGORY, 4);
+        when(jobSearchService.suggest("tut", ApiController.DEFAULT_SUGGESTIONS)).thenReturn(List.of(suggestion));
+
+        Map<String, List<Suggestion>> body = apiController.suggest("tut", ApiController.DEFAULT_SUGGESTIONS);
+
+        assertEquals(List.of(suggestion), body.get("data"));
+        verifyNoInteractions(jobService);
+    }
+
+    // Test that students can't see an employer's pending job
+    @Test
+    void testGetJob_PendingHiddenFromOthers() {
+        User student = new User();
+        student.setUserId(1L);
+        student.setEmail("student@example.com");
+        student.setPassword("secret-hash");
+        student.setRole(User.Role.STUDENT);
+        when(jobService.getJobById(3L)).thenReturn(job(3L, Job.Status.PENDING));
+
+        assertThrows(JobNotFoundException.class,
+                () -> apiController.getJob(3L, new CustomUserDetails(student), new MockHttpServletResponse()));
+    }
+
+    // Test that the owner can see their pending job
+    @Test
+    void testGetJob_PendingVisibleToOwner() throws Exception {
+        when(jobService.getJobById(3L)).thenReturn(job(3L, Job.Status.PENDING));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        apiController.getJob(3L, new CustomUserDetails(employer), response);
+
+        assertEquals("PENDING", objectMapper.readTree(response.getContentAsString()).get("status").asText());
+        verifyNoInteractions(userService);
+    }
+
+    // Test that applications are listed for the principal's ID and role without loading the user
+    @Test
+    void testListApplications_UsesPrincipal() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        apiController.listApplications(null, 10, new CustomUserDetails(employer), response);
+
+        verify(applicationService).forEachApplicationVisibleTo(eq(9L), eq(User.Role.EMPLOYER),
+                eq(ApiCursor.FIRST), eq(11L), any());
+        verifyNoInteractions(userService);
+        assertEquals(0, objectMapper.readTree(response.getContentAsString()).get("data").size());
+    }
+}
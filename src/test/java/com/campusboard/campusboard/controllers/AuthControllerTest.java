@@ -1,5 +1,6 @@
 package com.campusboard.campusboard.controllers;
 
+import com.campusboard.campusboard.exceptions.PasswordHashingBusyException;
 import com.campusboard.campusboard.models.User;
 import com.campusboard.campusboard.services.UserService;
 import jakarta.validation.Valid;
@@ -8,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.ui.Model;
@@ -35,6 +37,8 @@ class AuthControllerTest {
     @InjectMocks
     private AuthController authController;
 
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -61,7 +65,7 @@ class AuthControllerTest {
         User user = new User();
         doReturn(false).when(bindingResult).hasErrors();
 
-        String redirect = authController.registerUser(user, bindingResult, model);
+        String redirect = authController.registerUser(user, bindingResult, model, response);
         assertEquals("redirect:/login?registered", redirect);
         verify(userService).registerUser(user);
     }
@@ -72,7 +76,7 @@ class AuthControllerTest {
         User user = new User();
         doReturn(true).when(bindingResult).hasErrors();
 
-        String view = authController.registerUser(user, bindingResult, model);
+        String view = authController.registerUser(user, bindingResult, model, response);
         assertEquals("register", view);
         verify(userService, never()).registerUser(any());
     }
@@ -84,11 +88,25 @@ class AuthControllerTest {
         doReturn(false).when(bindingResult).hasErrors();
         doThrow(new RuntimeException("Email exists")).when(userService).registerUser(user);
 
-        String view = authController.registerUser(user, bindingResult, model);
+        String view = authController.registerUser(user, bindingResult, model, response);
         assertEquals("register", view);
         verify(model).addAttribute(eq("errorMessage"), eq("Email exists"));
     }
 
+    // Test that a full password-hashing queue keeps the form and answers 429
+    @Test
+    void testRegisterUser_HashingBusy() throws Exception {
+        User user = new User();
+        doReturn(false).when(bindingResult).hasErrors();
+        doThrow(new PasswordHashingBusyException("Too many sign-ins")).when(userService).registerUser(user);
+
+        String view = authController.registerUser(user, bindingResult, model, response);
+        assertEquals("register", view);
+        assertEquals(429, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        verify(model).addAttribute(eq("errorMessage"), eq("Too many sign-ins"));
+    }
+
     // Test home redirect for admin
     @Test
     void testHomeRedirect_Admin() {
@@ -0,0 +1,48 @@
+package com.campusboard.campusboard.controllers;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvTableWriterTest {
+
+    private static String write(Object[]... rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TableWriter table = new CsvTableWriter(out);
+        for (Object[] row : rows) {
+            table.writeRow(row);
+        }
+        table.close();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    // Test plain rows, nulls, numbers and dates
+    @Test
+    void testWriteRow_PlainValues() throws IOException {
+        String csv = write(new Object[]{"Name", "Applied At"},
+                new Object[]{"Ada", 7L, null, LocalDateTime.of(2026, 3, 1, 9, 30)});
+
+        assertEquals("\uFEFFName,Applied At\r\nAda,7,,2026-03-01 09:30:00\r\n", csv);
+    }
+
+    // Test that commas, quotes and line breaks are quoted
+    @Test
+    void testWriteRow_QuotesSpecialCharacters() throws IOException {
+        String csv = write(new Object[]{"Smith, Jo", "say \"hi\"", "two\nlines"});
+
+        assertEquals("\uFEFF\"Smith, Jo\",\"say \"\"hi\"\"\",\"two\nlines\"\r\n", csv);
+    }
+
+    // Test that text a spreadsheet would run as a formula is neutralised
+    @Test
+    void testWriteRow_EscapesFormulas() throws IOException {
+        String csv = write(new Object[]{"=HYPERLINK(\"x\")", "@SUM(A1)", -5});
+
+        assertEquals("\uFEFF\"'=HYPERLINK(\"\"x\"\")\",'@SUM(A1),-5\r\n", csv);
+    }
+}
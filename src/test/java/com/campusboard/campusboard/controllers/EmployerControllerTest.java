@@ -1,9 +1,18 @@
 package com.campusboard.campusboard.controllers;
 
+import com.campusboard.campusboard.cache.JobCatalogVersion;
+import com.campusboard.campusboard.dto.ApplicantExportRow;
+import com.campusboard.campusboard.dto.ApplicantPage;
+import com.campusboard.campusboard.dto.ApplicantSort;
+import com.campusboard.campusboard.dto.ApplicantView;
+import com.campusboard.campusboard.dto.JobCardView;
+import com.campusboard.campusboard.dto.JobImportResult;
 import com.campusboard.campusboard.models.Job;
 import com.campusboard.campusboard.models.JobApplication;
 import com.campusboard.campusboard.models.User;
+import com.campusboard.campusboard.security.CustomUserDetails;
 import com.campusboard.campusboard.services.ApplicationService;
+import com.campusboard.campusboard.services.JobImportService;
 import com.campusboard.campusboard.services.JobService;
 import com.campusboard.campusboard.services.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,13 +20,25 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.security.core.Authentication;
+import org.mockito.Spy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class EmployerControllerTest {
@@ -32,20 +53,31 @@ class EmployerControllerTest {
     private ApplicationService applicationService;
 
     @Mock
-    private Model model;
+    private JobImportService jobImportService;
 
     @Mock
-    private Authentication auth;
+    private Model model;
+
+    private CustomUserDetails principal;
 
     @Mock
     private BindingResult bindingResult;
 
+    @Spy
+    private JobCatalogVersion jobCatalogVersion = new JobCatalogVersion();
+
     @InjectMocks
     private EmployerController employerController;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+
+        User account = new User();
+        account.setUserId(3L);
+        account.setEmail("employer@example.com");
+        account.setRole(User.Role.EMPLOYER);
+        principal = new CustomUserDetails(account);
     }
 
     // Test dashboard view
@@ -59,18 +91,31 @@ class EmployerControllerTest {
     @Test
     void testViewMyJobs() {
         User employer = new User();
-        Job job = new Job();
-        List<Job> jobs = List.of(job);
+        List<JobCardView> jobs = List.of(new JobCardView(1L, "Job", "Employer", "employer@example.com",
+                null, null, null, null, "Description", Job.Status.PENDING, LocalDateTime.now()));
 
-        when(auth.getName()).thenReturn("test@email.com");
-        when(userService.findByEmail("test@email.com")).thenReturn(employer);
-        when(jobService.getJobsByEmployer(employer)).thenReturn(jobs);
+        when(userService.getReference(3L)).thenReturn(employer);
+        when(jobService.getJobCardsByEmployer(employer)).thenReturn(jobs);
 
-        String view = employerController.viewMyJobs(auth, model);
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest("GET", "/employer/jobs"), new MockHttpServletResponse());
+        String view = employerController.viewMyJobs(principal, request, model);
         assertEquals("employer/my-jobs", view);
         verify(model).addAttribute("jobs", jobs);
     }
 
+    // Test that an unchanged job list is answered with 304 before any lookup
+    @Test
+    void testViewMyJobs_NotModified() {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/employer/jobs");
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"" + jobCatalogVersion.catalogVersion()
+                + "-" + Integer.toHexString(servletRequest.getSession().getId().hashCode()) + "\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertNull(employerController.viewMyJobs(principal, new ServletWebRequest(servletRequest, response), model));
+        assertEquals(304, response.getStatus());
+        verifyNoInteractions(userService, jobService);
+    }
+
     // Test show create job form
     @Test
     void testShowCreateForm() {
@@ -86,10 +131,9 @@ class EmployerControllerTest {
         User employer = new User();
 
         when(bindingResult.hasErrors()).thenReturn(false);
-        when(auth.getName()).thenReturn("test@email.com");
-        when(userService.findByEmail("test@email.com")).thenReturn(employer);
+        when(userService.getReference(3L)).thenReturn(employer);
 
-        String redirect = employerController.createJob(job, bindingResult, auth);
+        String redirect = employerController.createJob(job, bindingResult, principal);
         assertEquals("redirect:/employer/jobs?created", redirect);
         verify(jobService).createJob(job, employer);
     }
@@ -100,7 +144,7 @@ class EmployerControllerTest {
         Job job = new Job();
         when(bindingResult.hasErrors()).thenReturn(true);
 
-        String view = employerController.createJob(job, bindingResult, auth);
+        String view = employerController.createJob(job, bindingResult, principal);
         assertEquals("employer/create-job", view);
         verify(jobService, never()).createJob(any(), any());
     }
@@ -150,15 +194,119 @@ class EmployerControllerTest {
     @Test
     void testViewApplicants() {
         Job job = new Job();
-        JobApplication application = new JobApplication();
-        List<JobApplication> applicants = List.of(application);
+        List<ApplicantView> applicants = List.of(new ApplicantView(4L, 7L, "Ada Student", "ada@example.com",
+                JobApplication.Status.SUBMITTED, LocalDateTime.now()));
 
         when(jobService.getJobById(1L)).thenReturn(job);
-        when(applicationService.getApplicationsForJob(1L)).thenReturn(applicants);
+        when(applicationService.getApplicantPage(1L, ApplicantSort.NEWEST, null, null))
+                .thenReturn(new ApplicantPage(applicants, ApplicantSort.NEWEST, null, null));
 
-        String view = employerController.viewApplicants(1L, model);
+        String view = employerController.viewApplicants(1L, ApplicantSort.NEWEST, null, null, model);
         assertEquals("employer/applicants", view);
         verify(model).addAttribute("job", job);
         verify(model).addAttribute("applications", applicants);
+        verify(model).addAttribute("nextPageUrl", null);
+    }
+
+    // Test that the next page link keeps the sort order and status filter
+    @Test
+    void testViewApplicants_NextPageUrl() {
+        when(jobService.getJobById(1L)).thenReturn(new Job());
+        when(applicationService.getApplicantPage(1L, ApplicantSort.NAME, JobApplication.Status.ACCEPTED, null))
+                .thenReturn(new ApplicantPage(List.of(), ApplicantSort.NAME, JobApplication.Status.ACCEPTED, "abc"));
+
+        employerController.viewApplicants(1L, ApplicantSort.NAME, JobApplication.Status.ACCEPTED, null, model);
+
+        verify(model).addAttribute("nextPageUrl",
+                "/employer/jobs/1/applicants?sort=NAME&status=ACCEPTED&cursor=abc");
+    }
+
+    // Test that a job's applicants are streamed out as a CSV download
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExportJobApplicants_Csv() throws Exception {
+        User employer = new User();
+        when(userService.getReference(3L)).thenReturn(employer);
+        doAnswer(invocation -> {
+            Consumer<ApplicantExportRow> action = invocation.getArgument(2);
+            action.accept(new ApplicantExportRow(4L, 1L, "Math Tutor", "Ada Student", "ada@example.com",
+                    JobApplication.Status.ACCEPTED, LocalDateTime.of(2026, 3, 1, 9, 30)));
+            return null;
+        }).when(applicationService).forEachApplicantForExport(eq(employer), eq(1L), any(Consumer.class));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        employerController.exportJobApplicants(1L, ExportFormat.CSV, principal, response);
+
+        assertEquals("text/csv;charset=UTF-8", response.getContentType());
+        assertEquals("attachment; filename=\"applicants-job-1.csv\"",
+                response.getHeader(HttpHeaders.CONTENT_DISPOSITION));
+        String csv = response.getContentAsString(StandardCharsets.UTF_8);
+        assertTrue(csv.contains("Job ID,Job Title,Application ID,Student Name,Student Email,Status,Applied At\r\n"));
+        assertTrue(csv.endsWith("1,Math Tutor,4,Ada Student,ada@example.com,ACCEPTED,2026-03-01 09:30:00\r\n"));
+    }
+
+    // Test that exporting every job's applicants asks for no particular job
+    @Test
+    void testExportAllApplicants_Xlsx() throws Exception {
+        User employer = new User();
+        when(userService.getReference(3L)).thenReturn(employer);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        employerController.exportAllApplicants(ExportFormat.XLSX, principal, response);
+
+        verify(applicationService).forEachApplicantForExport(eq(employer), eq(null), any());
+        assertEquals(ExportFormat.XLSX.contentType(), response.getContentType());
+        // Zip local file header
+        assertEquals('P', response.getContentAsByteArray()[0]);
+        assertEquals('K', response.getContentAsByteArray()[1]);
+    }
+
+    // Test accepting the selected applicants
+    @Test
+    void testUpdateApplicantStatus() {
+        User employer = new User();
+        when(userService.getReference(3L)).thenReturn(employer);
+        when(applicationService.updateApplicationStatus(1L, List.of(4L, 5L), JobApplication.Status.ACCEPTED, employer))
+                .thenReturn(2);
+
+        String redirect = employerController.updateApplicantStatus(1L, List.of(4L, 5L),
+                JobApplication.Status.ACCEPTED, principal);
+        assertEquals("redirect:/employer/jobs/1/applicants?updated=2", redirect);
+    }
+
+    // Test that submitting without a selection changes nothing
+    @Test
+    void testUpdateApplicantStatus_NoneSelected() {
+        String redirect = employerController.updateApplicantStatus(1L, null, JobApplication.Status.REJECTED, principal);
+        assertEquals("redirect:/employer/jobs/1/applicants?none", redirect);
+        verifyNoInteractions(applicationService);
+    }
+
+    // Test that an uploaded file is imported and the result shown
+    @Test
+    void testImportJobs() {
+        User employer = new User();
+        JobImportResult result = new JobImportResult(2, 0, List.of(), null);
+        MockMultipartFile file = new MockMultipartFile("file", "fair.json", "application/json",
+                "[]".getBytes(StandardCharsets.UTF_8));
+        when(userService.getReference(3L)).thenReturn(employer);
+        when(jobImportService.importJobs(any(), eq(JobImportService.Format.JSON), eq(employer))).thenReturn(result);
+
+        String view = employerController.importJobs(file, principal, model);
+
+        assertEquals("employer/import-jobs", view);
+        verify(model).addAttribute("result", result);
+    }
+
+    // Test that submitting no file imports nothing
+    @Test
+    void testImportJobs_EmptyFile() {
+        MockMultipartFile file = new MockMultipartFile("file", "", "application/octet-stream", new byte[0]);
+
+        String view = employerController.importJobs(file, principal, model);
+
+        assertEquals("employer/import-jobs", view);
+        verify(model).addAttribute(eq("errorMessage"), any());
+        verifyNoInteractions(jobImportService);
     }
 }
@@ -1,22 +1,48 @@
 package com.campusboard.campusboard.controllers;
 
+import com.campusboard.campusboard.cache.JobCatalogVersion;
+import com.campusboard.campusboard.dto.AppliedJobIds;
+import com.campusboard.campusboard.dto.JobCardView;
+import com.campusboard.campusboard.dto.JobFacetFilter;
+import com.campusboard.campusboard.dto.JobFacets;
+import com.campusboard.campusboard.dto.JobFeedPage;
+import com.campusboard.campusboard.dto.JobSort;
 import com.campusboard.campusboard.models.Job;
 import com.campusboard.campusboard.models.JobApplication;
+import com.campusboard.campusboard.models.SavedSearch;
 import com.campusboard.campusboard.models.User;
+import com.campusboard.campusboard.security.CustomUserDetails;
+import com.campusboard.campusboard.search.SearchHit;
+import com.campusboard.campusboard.services.ApplicationIngestQueue;
 import com.campusboard.campusboard.services.ApplicationService;
+import com.campusboard.campusboard.services.JobFacetService;
+import com.campusboard.campusboard.services.JobFeedBroadcaster;
+import com.campusboard.campusboard.services.JobSearchService;
 import com.campusboard.campusboard.services.JobService;
+import com.campusboard.campusboard.services.SavedSearchService;
 import com.campusboard.campusboard.services.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.security.core.Authentication;
+import org.mockito.Spy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
 import org.springframework.ui.Model;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 class StudentControllerTest {
@@ -31,10 +57,27 @@ class StudentControllerTest {
     private UserService userService;
 
     @Mock
-    private Model model;
+    private JobSearchService jobSearchService;
+
+    @Mock
+    private JobFacetService jobFacetService;
+
+    @Mock
+    private SavedSearchService savedSearchService;
 
     @Mock
-    private Authentication auth;
+    private JobFeedBroadcaster jobFeedBroadcaster;
+
+    @Mock
+    private ApplicationIngestQueue applicationIngestQueue;
+
+    @Mock
+    private Model model;
+
+    private CustomUserDetails principal;
+
+    @Spy
+    private JobCatalogVersion jobCatalogVersion = new JobCatalogVersion();
 
     @InjectMocks
     private StudentController studentController;
@@ -42,6 +85,18 @@ class StudentControllerTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+
+        User student = new User();
+        student.setUserId(5L);
+        student.setEmail("student@example.com");
+        student.setRole(User.Role.STUDENT);
+        principal = new CustomUserDetails(student);
+        when(userService.getReference(5L)).thenReturn(student);
+        when(applicationService.getAppliedJobIds(eq(5L), any())).thenReturn(AppliedJobIds.of(5L, List.of(new AppliedJobIds.Applied(1L, 1L))));
+    }
+
+    private ServletWebRequest request(MockHttpServletRequest servletRequest) {
+        return new ServletWebRequest(servletRequest, new MockHttpServletResponse());
     }
 
     // Test dashboard view
@@ -51,16 +106,55 @@ class StudentControllerTest {
         assertEquals("student/dashboard", view);
     }
 
-    // Test viewing all approved jobs
+    // Test viewing a page of approved jobs
     @Test
     void testViewApprovedJobs() {
-        Job job = new Job();
-        List<Job> jobs = List.of(job);
-        when(jobService.getApprovedJobs()).thenReturn(jobs);
+        List<JobCardView> jobs = List.of(new JobCardView(1L, "Job", "Employer", "employer@example.com",
+                null, null, null, null, "Description", Job.Status.APPROVED, LocalDateTime.now()));
+        JobFacets facets = new JobFacets(List.of(), List.of(), List.of(), List.of(), 1);
+        when(jobService.getApprovedJobFeed(JobSort.NEWEST, null))
+                .thenReturn(new JobFeedPage(jobs, JobSort.NEWEST, "next"));
+        when(jobFacetService.getFacets(JobFacetFilter.NONE)).thenReturn(facets);
 
-        String view = studentController.viewApprovedJobs(model);
+        String view = studentController.viewApprovedJobs(JobSort.NEWEST, null, null, null, null, null, principal,
+                request(new MockHttpServletRequest("GET", "/student/jobs")), model);
         assertEquals("student/jobs", view);
         verify(model).addAttribute("jobs", jobs);
+        verify(model).addAttribute("sort", JobSort.NEWEST);
+        verify(model).addAttribute("nextCursor", "next");
+        verify(model).addAttribute("nextPageUrl", "/student/jobs?sort=NEWEST&cursor=next");
+        verify(model).addAttribute("facets", facets);
+        verify(jobFacetService, never()).getFilteredJobs(any(), any(), any());
+    }
+
+    // Test that selecting a facet value pages through the facet index in the chosen order
+    @Test
+    void testViewApprovedJobs_WithFacetFilter() {
+        List<JobCardView> jobs = List.of(new JobCardView(1L, "Job", "Employer", "employer@example.com",
+                null, null, null, null, "Description", Job.Status.APPROVED, LocalDateTime.now()));
+        JobFacetFilter filter = new JobFacetFilter(Set.of("tutoring"), Set.of(), Set.of(), Set.of());
+        when(jobFacetService.getFilteredJobs(filter, JobSort.HIGHEST_SALARY, null))
+                .thenReturn(new JobFeedPage(jobs, JobSort.HIGHEST_SALARY, null));
+
+        String view = studentController.viewApprovedJobs(JobSort.HIGHEST_SALARY, null,
+                Set.of("tutoring"), null, null, null, principal, request(new MockHttpServletRequest("GET", "/student/jobs")), model);
+        assertEquals("student/jobs", view);
+        verify(model).addAttribute("jobs", jobs);
+        verify(model).addAttribute("filter", filter);
+        verify(model).addAttribute("sort", JobSort.HIGHEST_SALARY);
+        verify(jobService, never()).getApprovedJobFeed(any(), any());
+    }
+
+    // Test searching jobs
+    @Test
+    void testSearchJobs() {
+        List<SearchHit> results = List.of();
+        when(jobSearchService.search("tutor")).thenReturn(results);
+
+        String view = studentController.searchJobs("tutor", model);
+        assertEquals("student/search", view);
+        verify(model).addAttribute("query", "tutor");
+        verify(model).addAttribute("results", results);
     }
 
     // Test viewing job details
@@ -70,9 +164,45 @@ class StudentControllerTest {
         Long jobId = 1L;
         when(jobService.getJobById(jobId)).thenReturn(job);
 
-        String view = studentController.viewJobDetails(jobId, model);
+        String view = studentController.viewJobDetails(jobId, principal,
+                request(new MockHttpServletRequest("GET", "/student/jobs/1")), model);
         assertEquals("student/job-details", view);
         verify(model).addAttribute("job", job);
+        verify(model).addAttribute("applied", true);
+    }
+
+    // Test that an unchanged job is answered with 304 before any lookup
+    @Test
+    void testViewJobDetails_NotModified() {
+        MockHttpServletRequest first = new MockHttpServletRequest("GET", "/student/jobs/1");
+        ServletWebRequest firstRequest = request(first);
+        studentController.viewJobDetails(1L, principal, firstRequest, model);
+        String etag = firstRequest.getResponse().getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletRequest repeat = new MockHttpServletRequest("GET", "/student/jobs/1");
+        repeat.setSession(first.getSession());
+        repeat.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        ServletWebRequest repeatRequest = request(repeat);
+
+        assertNull(studentController.viewJobDetails(1L, principal, repeatRequest, model));
+        assertEquals(304, ((MockHttpServletResponse) repeatRequest.getResponse()).getStatus());
+        verify(jobService, times(1)).getJobById(1L);
+    }
+
+    // Test that Last-Modified moves when the student's applied set changes
+    @Test
+    void testViewApprovedJobs_LastModifiedFollowsAppliedJobIds() {
+        when(jobService.getApprovedJobFeed(JobSort.NEWEST, null))
+                .thenReturn(new JobFeedPage(List.of(), JobSort.NEWEST, null));
+        doReturn(0L).when(jobCatalogVersion).catalogLastModified();
+        AppliedJobIds applied = AppliedJobIds.of(5L, List.of(new AppliedJobIds.Applied(1L, 1L))).with(2L);
+        when(applicationService.getAppliedJobIds(eq(5L), any())).thenReturn(applied);
+
+        ServletWebRequest request = request(new MockHttpServletRequest("GET", "/student/jobs"));
+        studentController.viewApprovedJobs(JobSort.NEWEST, null, null, null, null, null, principal, request, model);
+
+        long lastModified = ((MockHttpServletResponse) request.getResponse()).getDateHeader(HttpHeaders.LAST_MODIFIED);
+        assertEquals(applied.changedAt() / 1000 * 1000, lastModified);
     }
 
     // Test applying to a job successfully
@@ -80,22 +210,88 @@ class StudentControllerTest {
     void testApplyToJob_Success() throws Exception {
         User student = new User();
         Long jobId = 1L;
-        when(userService.findByEmail(auth.getName())).thenReturn(student);
+        when(userService.getReference(5L)).thenReturn(student);
 
-        String redirect = studentController.applyToJob(jobId, auth, model);
+        String redirect = studentController.applyToJob(jobId, principal, new MockHttpSession(), model);
         assertEquals("redirect:/student/applications?success", redirect);
         verify(applicationService).applyToJob(jobId, student);
     }
 
+    // Test that applying adds the job to the session's applied set
+    @Test
+    void testApplyToJob_UpdatesAppliedJobIds() {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(StudentController.APPLIED_JOB_IDS, AppliedJobIds.of(5L, List.of(new AppliedJobIds.Applied(1L, 1L))));
+
+        studentController.applyToJob(4L, principal, session, model);
+
+        AppliedJobIds applied = (AppliedJobIds) session.getAttribute(StudentController.APPLIED_JOB_IDS);
+        assertTrue(applied.contains(4L));
+        assertTrue(applied.contains(1L));
+        // CRC32("1") ^ CRC32("4"); the new application's ID isn't known yet
+        assertEquals(new AppliedJobIds.Stamp(2, 0x83dcefb7L ^ 0xf3b61b38L, 1), applied.stamp());
+    }
+
+    // Test that the applied set kept in the session is reused across pages
+    @Test
+    void testViewApprovedJobs_KeepsAppliedJobIdsInSession() {
+        when(jobService.getApprovedJobFeed(JobSort.NEWEST, null))
+                .thenReturn(new JobFeedPage(List.of(), JobSort.NEWEST, null));
+        MockHttpServletRequest first = new MockHttpServletRequest("GET", "/student/jobs");
+        studentController.viewApprovedJobs(JobSort.NEWEST, null, null, null, null, null, principal,
+                request(first), model);
+
+        AppliedJobIds stored = (AppliedJobIds) first.getSession().getAttribute(StudentController.APPLIED_JOB_IDS);
+        assertTrue(stored.contains(1L));
+        verify(model).addAttribute("applied", stored);
+
+        MockHttpServletRequest second = new MockHttpServletRequest("GET", "/student/jobs");
+        second.setSession(first.getSession());
+        studentController.viewApprovedJobs(JobSort.NEWEST, null, null, null, null, null, principal,
+                request(second), model);
+
+        // The student's ID comes from the principal, no user lookup
+        verifyNoInteractions(userService);
+        verify(applicationService).getAppliedJobIds(5L, stored);
+    }
+
+    // Test that with write-behind on the application is queued, not inserted
+    @Test
+    void testApplyToJob_Queued() {
+        when(applicationIngestQueue.isEnabled()).thenReturn(true);
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(StudentController.APPLIED_JOB_IDS, AppliedJobIds.of(5L, List.of()));
+
+        String redirect = studentController.applyToJob(4L, principal, session, model);
+
+        assertEquals("redirect:/student/applications?queued", redirect);
+        verify(applicationIngestQueue).submit(4L, 5L);
+        verify(applicationService, never()).applyToJob(any(), any());
+        assertTrue(((AppliedJobIds) session.getAttribute(StudentController.APPLIED_JOB_IDS)).contains(4L));
+    }
+
+    // Test that write-behind refuses a job the session already shows as applied
+    @Test
+    void testApplyToJob_QueuedDuplicate() {
+        when(applicationIngestQueue.isEnabled()).thenReturn(true);
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(StudentController.APPLIED_JOB_IDS, AppliedJobIds.of(5L, List.of(new AppliedJobIds.Applied(4L, 1L))));
+
+        String redirect = studentController.applyToJob(4L, principal, session, model);
+
+        assertEquals("redirect:/student/jobs/4?error=You have already applied to this job", redirect);
+        verify(applicationIngestQueue, never()).submit(any(), any());
+    }
+
     // Test applying to a job with exception
     @Test
     void testApplyToJob_Exception() throws Exception {
         User student = new User();
         Long jobId = 1L;
-        when(userService.findByEmail(auth.getName())).thenReturn(student);
+        when(userService.getReference(5L)).thenReturn(student);
         doThrow(new RuntimeException("Already applied")).when(applicationService).applyToJob(jobId, student);
 
-        String redirect = studentController.applyToJob(jobId, auth, model);
+        String redirect = studentController.applyToJob(jobId, principal, new MockHttpSession(), model);
         assertEquals("redirect:/student/jobs/1?error=Already applied", redirect);
     }
 
@@ -104,11 +300,47 @@ class StudentControllerTest {
     void testViewMyApplications() {
         User student = new User();
         List<JobApplication> apps = List.of(new JobApplication());
-        when(userService.findByEmail(auth.getName())).thenReturn(student);
+        when(userService.getReference(5L)).thenReturn(student);
         when(applicationService.getApplicationsByStudent(student)).thenReturn(apps);
 
-        String view = studentController.viewMyApplications(auth, model);
+        String view = studentController.viewMyApplications(principal, model);
         assertEquals("student/applications", view);
         verify(model).addAttribute("applications", apps);
     }
+
+    // Test creating a saved search
+    @Test
+    void testCreateSavedSearch() {
+        User student = new User();
+        SavedSearch search = new SavedSearch();
+        when(userService.getReference(5L)).thenReturn(student);
+
+        String view = studentController.createSavedSearch(search, principal);
+
+        assertEquals("redirect:/student/saved-searches?saved", view);
+        verify(savedSearchService).createSavedSearch(search, student);
+    }
+
+    // Test that a rejected saved search redirects back with the reason
+    @Test
+    void testCreateSavedSearch_Invalid() {
+        User student = new User();
+        SavedSearch search = new SavedSearch();
+        when(userService.getReference(5L)).thenReturn(student);
+        when(savedSearchService.createSavedSearch(search, student))
+                .thenThrow(new IllegalArgumentException("Enter keywords"));
+
+        String view = studentController.createSavedSearch(search, principal);
+
+        assertEquals("redirect:/student/saved-searches?error=Enter%20keywords", view);
+    }
+
+    // Test that the live feed hands back the broadcaster's emitter
+    @Test
+    void testLiveJobs() {
+        SseEmitter emitter = new SseEmitter();
+        when(jobFeedBroadcaster.subscribe()).thenReturn(emitter);
+
+        assertSame(emitter, studentController.liveJobs());
+    }
 }
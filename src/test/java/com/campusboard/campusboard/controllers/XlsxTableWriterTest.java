@@ -0,0 +1,72 @@
+package com.campusboard.campusboard.controllers;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XlsxTableWriterTest {
+
+    private static Map<String, String> unzip(byte[] bytes) throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bytes))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+
+    // Test that the workbook has every package part and the rows in its sheet
+    @Test
+    void testWriteRow_ProducesWorkbook() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TableWriter table = new XlsxTableWriter(out);
+        table.writeRow("Name", "Applied At");
+        table.writeRow("Ada", 7L, null, LocalDateTime.of(2026, 3, 1, 9, 30));
+        table.close();
+
+        Map<String, String> entries = unzip(out.toByteArray());
+        assertEquals(List.of("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml",
+                "xl/_rels/workbook.xml.rels", "xl/worksheets/sheet1.xml"), List.copyOf(entries.keySet()));
+
+        String sheet = entries.get("xl/worksheets/sheet1.xml");
+        assertTrue(sheet.contains("<row r=\"1\"><c t=\"inlineStr\"><is><t xml:space=\"preserve\">Name</t></is></c>"));
+        assertTrue(sheet.contains("<row r=\"2\">"));
+        assertTrue(sheet.contains("<c><v>7</v></c><c/>"));
+        assertTrue(sheet.contains(">2026-03-01 09:30:00<"));
+        assertTrue(sheet.endsWith("</sheetData></worksheet>"));
+    }
+
+    // Test that markup and control characters can't break the sheet XML
+    @Test
+    void testWriteRow_EscapesText() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TableWriter table = new XlsxTableWriter(out);
+        table.writeRow("<b>Tom & Jerry</b>\u0007");
+        table.close();
+
+        String sheet = unzip(out.toByteArray()).get("xl/worksheets/sheet1.xml");
+        assertTrue(sheet.contains(">&lt;b&gt;Tom &amp; Jerry&lt;/b&gt;</t>"));
+    }
+
+    // Test that an export without rows is still a valid workbook
+    @Test
+    void testClose_WithoutRows() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new XlsxTableWriter(out).close();
+
+        assertTrue(unzip(out.toByteArray()).get("xl/worksheets/sheet1.xml").contains("<sheetData></sheetData>"));
+    }
+}
@@ -0,0 +1,71 @@
+package com.campusboard.campusboard.migrations;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+class IdGeneratorMigrationTest {
+
+    private static final IdGeneratorMigration.Generator JOB =
+            new IdGeneratorMigration.Generator("job", "job", "job_id");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private IdGeneratorMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    // Test that an empty table leaves the generator alone
+    @Test
+    void testSeed_EmptyTable() {
+        when(jdbcTemplate.queryForObject("SELECT MAX(job_id) FROM job", Long.class)).thenReturn(null);
+
+        assertFalse(migration.seed(JOB));
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    // Test that a generator behind the existing rows is moved past them
+    @Test
+    void testSeed_RaisesExistingRow() {
+        when(jdbcTemplate.queryForObject("SELECT MAX(job_id) FROM job", Long.class)).thenReturn(120L);
+        when(jdbcTemplate.update(startsWith("UPDATE id_generator"), eq(170L), eq("job"), eq(170L))).thenReturn(1);
+
+        assertTrue(migration.seed(JOB));
+        verify(jdbcTemplate, never()).update(startsWith("INSERT"), any(Object[].class));
+    }
+
+    // Test that a missing generator row is created past the existing rows
+    @Test
+    void testSeed_InsertsMissingRow() {
+        when(jdbcTemplate.queryForObject("SELECT MAX(job_id) FROM job", Long.class)).thenReturn(120L);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COUNT(*)"), eq(Integer.class), eq("job"))).thenReturn(0);
+
+        assertTrue(migration.seed(JOB));
+        verify(jdbcTemplate).update(startsWith("INSERT INTO id_generator"), eq("job"), eq(170L));
+    }
+
+    // Test that a generator already ahead is left alone
+    @Test
+    void testSeed_AlreadyAhead() {
+        when(jdbcTemplate.queryForObject("SELECT MAX(job_id) FROM job", Long.class)).thenReturn(120L);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COUNT(*)"), eq(Integer.class), eq("job"))).thenReturn(1);
+
+        assertFalse(migration.seed(JOB));
+        verify(jdbcTemplate, never()).update(startsWith("INSERT"), any(Object[].class));
+    }
+}
@@ -0,0 +1,60 @@
+package com.campusboard.campusboard.migrations;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class JobDeadlineMigrationTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private JobDeadlineMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    // Test the free-text deadline formats that are kept
+    @Test
+    void testParseLegacy() {
+        LocalDate expected = LocalDate.of(2024, 9, 5);
+
+        assertEquals(expected, JobDeadlineMigration.parseLegacy("2024-09-05"));
+        assertEquals(expected, JobDeadlineMigration.parseLegacy(" 9/5/2024 "));
+        assertEquals(expected, JobDeadlineMigration.parseLegacy("5.9.2024"));
+        assertEquals(expected, JobDeadlineMigration.parseLegacy("Sep 5, 2024"));
+        assertEquals(expected, JobDeadlineMigration.parseLegacy("September 5, 2024"));
+    }
+
+    // Test that unreadable deadlines become "no deadline"
+    @Test
+    void testParseLegacy_Unreadable() {
+        assertNull(JobDeadlineMigration.parseLegacy(null));
+        assertNull(JobDeadlineMigration.parseLegacy("  "));
+        assertNull(JobDeadlineMigration.parseLegacy("next Friday"));
+        assertNull(JobDeadlineMigration.parseLegacy("2024-02-30"));
+    }
+
+    // Test that other databases (e.g. a fresh H2 schema) are left alone
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMigrate_NotMySql() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+
+        assertFalse(migration.migrate());
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+}
@@ -0,0 +1,56 @@
+package com.campusboard.campusboard.migrations;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class JobSummaryBackfillTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private JobSummaryBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    // Test that missing summaries are filled chunk by chunk with one batched UPDATE each
+    @Test
+    @SuppressWarnings("unchecked")
+    void testBackfill() throws Exception {
+        ResultSet row = mock(ResultSet.class);
+        when(row.getLong("job_id")).thenReturn(7L);
+        when(row.getString("description")).thenReturn("Help students with math");
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(0L), eq(JobSummaryBackfill.CHUNK_SIZE)))
+                .thenAnswer(invocation -> List.of(((RowMapper<?>) invocation.getArgument(1)).mapRow(row, 0)));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(7L), eq(JobSummaryBackfill.CHUNK_SIZE)))
+                .thenReturn(List.of());
+
+        assertEquals(1, backfill.backfill());
+
+        ArgumentCaptor<List<Object[]>> updates = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq("UPDATE job SET summary = ? WHERE job_id = ?"), updates.capture());
+        List<Object[]> batch = new ArrayList<>(updates.getValue());
+        assertEquals(1, batch.size());
+        assertArrayEquals(new Object[]{"Help students with math", 7L}, batch.get(0));
+    }
+}
@@ -0,0 +1,120 @@
+package com.campusboard.campusboard.search;
+
+import com.campusboard.campusboard.dto.DeadlineWindow;
+import com.campusboard.campusboard.dto.FacetValue;
+import com.campusboard.campusboard.dto.JobFacetFilter;
+import com.campusboard.campusboard.dto.JobFacets;
+import com.campusboard.campusboard.dto.SalaryBucket;
+import com.campusboard.campusboard.models.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FacetIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 9, 2);
+
+    private FacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FacetIndex();
+        index.index(job(1L, "Tutoring", "Main Library", 14.0, "2024-09-05"));
+        index.index(job(2L, " tutoring ", "main  library.", 22.0, "2024-09-20"));
+        index.index(job(3L, "Food Service", "Student Union", 11.0, null));
+        index.index(job(4L, "Research", "Science Hall", null, "2024-08-01"));
+    }
+
+    private Job job(long id, String category, String location, Double salary, String deadline) {
+        Job job = new Job();
+        job.setJobId(id);
+        job.setCategory(category);
+        job.setLocation(location);
+        job.setSalary(salary);
+        job.setDeadline(deadline == null ? null : LocalDate.parse(deadline));
+        return job;
+    }
+
+    private FacetValue find(List<FacetValue> values, String key) {
+        return values.stream().filter(v -> v.key().equals(key)).findFirst().orElse(null);
+    }
+
+    // Test that free-text categories and locations are normalized together
+    @Test
+    void testFacets_NormalizesValues() {
+        JobFacets facets = index.facets(JobFacetFilter.NONE, TODAY);
+
+        assertEquals(4, facets.total());
+        assertEquals(2, find(facets.categories(), "tutoring").count());
+        assertEquals("Main Library", find(facets.locations(), "main library").label());
+        assertEquals(2, find(facets.locations(), "main library").count());
+    }
+
+    // Test salary buckets and deadline windows relative to today
+    @Test
+    void testFacets_SalaryAndDeadline() {
+        JobFacets facets = index.facets(JobFacetFilter.NONE, TODAY);
+
+        assertEquals(1, find(facets.salaries(), "FROM_12_TO_15").count());
+        assertEquals(1, find(facets.salaries(), "NOT_LISTED").count());
+        assertEquals(1, find(facets.deadlines(), "THIS_WEEK").count());
+        assertEquals(1, find(facets.deadlines(), "THIS_MONTH").count());
+        assertEquals(1, find(facets.deadlines(), "NO_DEADLINE").count());
+    }
+
+    // Test combining filters across facets and the counts they produce
+    @Test
+    void testFacets_WithFilter() {
+        JobFacetFilter filter = new JobFacetFilter(Set.of("tutoring"), Set.of(),
+                Set.of(SalaryBucket.OVER_20), Set.of());
+
+        JobFacets facets = index.facets(filter, TODAY);
+
+        assertEquals(1, facets.total());
+        // Category counts ignore the category filter itself
+        assertEquals(1, find(facets.categories(), "tutoring").count());
+        assertTrue(find(facets.categories(), "tutoring").selected());
+        // Salary counts ignore the salary filter but apply the category filter
+        assertEquals(1, find(facets.salaries(), "FROM_12_TO_15").count());
+        assertNull(find(facets.salaries(), "UNDER_12"));
+    }
+
+    // Test matching jobs carry the values the feed sorts by
+    @Test
+    void testMatchingJobs() {
+        JobFacetFilter filter = new JobFacetFilter(Set.of("tutoring", "food service"), Set.of(),
+                Set.of(), Set.of());
+
+        List<FacetIndex.Match> matches = index.matchingJobs(filter, TODAY);
+
+        assertEquals(Set.of(1L, 2L, 3L),
+                matches.stream().map(FacetIndex.Match::jobId).collect(Collectors.toSet()));
+        FacetIndex.Match first = matches.stream().filter(m -> m.jobId() == 1L).findFirst().orElseThrow();
+        assertEquals(14.0, first.salary());
+        assertEquals(LocalDate.parse("2024-09-05"), first.deadline());
+        assertNull(matches.stream().filter(m -> m.jobId() == 3L).findFirst().orElseThrow().deadline());
+    }
+
+    // Test that updating and removing jobs keeps bitsets in sync
+    @Test
+    void testIndexAndRemove() {
+        index.index(job(1L, "Research", "Science Hall", 14.0, "2024-09-05"));
+        index.remove(3L);
+
+        JobFacets facets = index.facets(JobFacetFilter.NONE, TODAY);
+        assertEquals(3, facets.total());
+        assertEquals(1, find(facets.categories(), "tutoring").count());
+        assertEquals(2, find(facets.categories(), "research").count());
+        assertNull(find(facets.categories(), "food service"));
+
+        JobFacetFilter noDeadline = new JobFacetFilter(Set.of(), Set.of(), Set.of(),
+                Set.of(DeadlineWindow.NO_DEADLINE));
+        assertTrue(index.matchingJobs(noDeadline, TODAY).isEmpty());
+    }
+}
@@ -0,0 +1,88 @@
+package com.campusboard.campusboard.search;
+
+import com.campusboard.campusboard.models.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+    }
+
+    private Job job(long id, String title, String description, String category, String location) {
+        Job job = new Job();
+        job.setJobId(id);
+        job.setTitle(title);
+        job.setDescription(description);
+        job.setCategory(category);
+        job.setLocation(location);
+        return job;
+    }
+
+    // Test that stemming lets different word forms match
+    @Test
+    void testSearch_MatchesStemmedTerms() {
+        index.index(job(1L, "Math Tutor", "Help students with calculus", "Tutoring", "Library"));
+
+        List<SearchHit> hits = index.search("tutoring", 10);
+        assertEquals(1, hits.size());
+        assertEquals(1L, hits.get(0).job().jobId());
+    }
+
+    // Test that a title match outranks a description-only match
+    @Test
+    void testSearch_TitleRanksHigher() {
+        index.index(job(1L, "Lab Assistant", "Assist the research librarian", "Research", "Science Hall"));
+        index.index(job(2L, "Research Assistant", "Work in the chemistry lab", "Research", "Science Hall"));
+        index.index(job(3L, "Barista", "Serve coffee to students", "Food Service", "Student Union"));
+
+        List<SearchHit> hits = index.search("lab", 10);
+        assertEquals(2, hits.size());
+        assertEquals(1L, hits.get(0).job().jobId());
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    // Test that re-indexing a job replaces its old terms
+    @Test
+    void testIndex_ReplacesPreviousVersion() {
+        index.index(job(1L, "Barista", "Serve coffee", "Food Service", "Cafe"));
+        index.index(job(1L, "Library Clerk", "Shelve books", "Library", "Main Library"));
+
+        assertTrue(index.search("coffee", 10).isEmpty());
+        assertEquals(1, index.search("books", 10).size());
+        assertEquals(1, index.size());
+    }
+
+    // Test removing a job and compacting many tombstones
+    @Test
+    void testRemove_AndCompaction() {
+        for (long id = 1; id <= 200; id++) {
+            index.index(job(id, "Event Staff " + id, "Help run campus events", "Event Support", "Arena"));
+        }
+        for (long id = 1; id <= 150; id++) {
+            index.remove(id);
+        }
+
+        List<SearchHit> hits = index.search("event", 100);
+        assertEquals(50, hits.size());
+        assertTrue(hits.stream().allMatch(h -> h.job().jobId() > 150));
+        assertEquals(50, index.size());
+    }
+
+    // Test queries made only of stop words or unknown terms
+    @Test
+    void testSearch_NoMatches() {
+        index.index(job(1L, "Barista", "Serve coffee", "Food Service", "Cafe"));
+
+        assertTrue(index.search("the and of", 10).isEmpty());
+        assertTrue(index.search("astrophysics", 10).isEmpty());
+    }
+}
@@ -0,0 +1,89 @@
+package com.campusboard.campusboard.search;
+
+import com.campusboard.campusboard.models.Job;
+import com.campusboard.campusboard.models.SavedSearch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryPercolatorTest {
+
+    private QueryPercolator percolator;
+    private Job job;
+
+    @BeforeEach
+    void setUp() {
+        percolator = new QueryPercolator();
+
+        job = new Job();
+        job.setJobId(1L);
+        job.setTitle("Math Tutor");
+        job.setDescription("Help first-year students with calculus");
+        job.setCategory("Tutoring");
+        job.setLocation("Main Library");
+        job.setSalary(16.0);
+    }
+
+    private SavedSearch search(long id, String keywords, String category, String location, Double minSalary) {
+        SavedSearch search = new SavedSearch();
+        search.setSavedSearchId(id);
+        search.setKeywords(keywords);
+        search.setCategory(category);
+        search.setLocation(location);
+        search.setMinSalary(minSalary);
+        return search;
+    }
+
+    // Test that every given criterion has to match
+    @Test
+    void testMatch_AllCriteria() {
+        percolator.add(search(1L, "calculus tutoring", null, null, null));
+        percolator.add(search(2L, "tutor", "tutoring", " main  library. ", 15.0));
+        percolator.add(search(3L, "tutor chemistry", null, null, null));
+        percolator.add(search(4L, null, "Tutoring", "Science Hall", null));
+        percolator.add(search(5L, "tutor", null, null, 20.0));
+
+        assertEquals(List.of(1L, 2L), percolator.match(job).stream().sorted().toList());
+    }
+
+    // Test salary-only searches, which have no anchor token
+    @Test
+    void testMatch_SalaryOnly() {
+        percolator.add(search(1L, null, null, null, 12.0));
+        percolator.add(search(2L, "  ", null, null, 18.0));
+
+        assertEquals(List.of(1L), percolator.match(job));
+
+        job.setSalary(null);
+        assertTrue(percolator.match(job).isEmpty());
+    }
+
+    // Test replacing and removing saved searches
+    @Test
+    void testAddAndRemove() {
+        percolator.add(search(1L, "chemistry", null, null, null));
+        percolator.add(search(1L, "calculus", null, null, null));
+        assertEquals(List.of(1L), percolator.match(job));
+        assertEquals(1, percolator.size());
+
+        percolator.remove(1L);
+        assertTrue(percolator.match(job).isEmpty());
+        assertEquals(0, percolator.size());
+    }
+
+    // Test dropping searches missing from a fresh load
+    @Test
+    void testRetainAll() {
+        percolator.add(search(1L, "calculus", null, null, null));
+        percolator.add(search(2L, "tutor", null, null, null));
+
+        percolator.retainAll(Set.of(2L));
+
+        assertEquals(List.of(2L), percolator.match(job));
+        assertEquals(1, percolator.size());
+    }
+}
@@ -0,0 +1,96 @@
+package com.campusboard.campusboard.search;
+
+import com.campusboard.campusboard.models.Job;
+import com.campusboard.campusboard.models.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestionTrieTest {
+
+    private SuggestionTrie trie;
+    private User library;
+
+    @BeforeEach
+    void setUp() {
+        trie = new SuggestionTrie();
+        library = new User();
+        library.setFullName("Campus Library");
+    }
+
+    private Job job(long id, String title, String category, String location) {
+        Job job = new Job();
+        job.setJobId(id);
+        job.setTitle(title);
+        job.setCategory(category);
+        job.setLocation(location);
+        job.setEmployer(library);
+        return job;
+    }
+
+    private List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::text).toList();
+    }
+
+    // Test that phrases shared by more jobs are suggested first
+    @Test
+    void testSuggest_RankedByPopularity() {
+        trie.index(job(1L, "Math Tutor", "Tutoring", "Main Library"));
+        trie.index(job(2L, "Writing Tutor", "Tutoring", "Student Union"));
+        trie.index(job(3L, "Tutor Coordinator", "Admin", "Main Library"));
+
+        List<Suggestion> suggestions = trie.suggest("tu", 10);
+
+        assertEquals(new Suggestion("Tutoring", Suggestion.Type.CATEGORY, 2), suggestions.get(0));
+        assertEquals(List.of("Tutoring", "Math Tutor", "Tutor Coordinator", "Writing Tutor"),
+                texts(suggestions));
+    }
+
+    // Test that later words match, input is normalized and duplicates are merged
+    @Test
+    void testSuggest_WordStartsAndNormalization() {
+        trie.index(job(1L, "Math Tutor", null, " main  library. "));
+
+        assertEquals(List.of("Campus Library", "Main Library"), texts(trie.suggest("LIB", 10)));
+        assertEquals(List.of("Main Library"), texts(trie.suggest("main l", 10)));
+        assertTrue(trie.suggest("brary", 10).isEmpty());
+        assertTrue(trie.suggest("  ", 10).isEmpty());
+    }
+
+    // Test that the limit keeps only the most popular suggestions
+    @Test
+    void testSuggest_Limit() {
+        trie.index(job(1L, "Research Assistant", "Research", "Science Hall"));
+        trie.index(job(2L, "Lab Assistant", "Research", "Science Hall"));
+        trie.index(job(3L, "Stacks Assistant", "Library", "Student Union"));
+
+        List<Suggestion> suggestions = trie.suggest("s", 2);
+
+        assertEquals(2, suggestions.size());
+        assertEquals("Science Hall", suggestions.get(0).text());
+        assertEquals(1, suggestions.get(1).jobs());
+    }
+
+    // Test that updates and removals take the old counts back out
+    @Test
+    void testIndexAndRemove_Incremental() {
+        trie.index(job(1L, "Math Tutor", "Tutoring", null));
+        trie.index(job(2L, "Math Grader", "Tutoring", null));
+
+        trie.index(job(1L, "Physics Tutor", "Tutoring", null));
+        assertEquals(List.of("Math Grader"), texts(trie.suggest("math", 10)));
+        assertEquals(2, trie.suggest("tutoring", 1).get(0).jobs());
+
+        trie.remove(2L);
+        assertTrue(trie.suggest("math", 10).isEmpty());
+        assertEquals(1, trie.suggest("tutoring", 1).get(0).jobs());
+        assertEquals(List.of("Physics Tutor"), texts(trie.suggest("ph", 10)));
+
+        trie.remove(1L);
+        assertEquals(0, trie.size());
+        assertTrue(trie.suggest("t", 10).isEmpty());
+    }
+}
@@ -0,0 +1,39 @@
+package com.campusboard.campusboard.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextSummarizerTest {
+
+    // Test that short text is kept, only whitespace collapsed
+    @Test
+    void testSummarize_ShortText() {
+        assertEquals("Tutor first-year students in calculus.",
+                TextSummarizer.summarize("  Tutor first-year\n\nstudents   in calculus. "));
+        assertNull(TextSummarizer.summarize(null));
+    }
+
+    // Test that long text is cut at a word boundary
+    @Test
+    void testSummarize_CutsAtWordBoundary() {
+        String text = "word ".repeat(60);
+
+        String summary = TextSummarizer.summarize(text);
+
+        assertTrue(summary.endsWith("word..."));
+        assertTrue(summary.length() <= TextSummarizer.MAX_LENGTH + 3);
+    }
+
+    // Test that tags are dropped and entities are never split
+    @Test
+    void testSummarize_HtmlSafe() {
+        assertEquals("Help with math", TextSummarizer.summarize("<p>Help with <b>math</b></p>"));
+
+        String text = "x".repeat(TextSummarizer.MAX_LENGTH - 3) + "&amp;" + " more";
+        String summary = TextSummarizer.summarize(text);
+
+        assertFalse(summary.contains("&am"));
+        assertEquals("x".repeat(TextSummarizer.MAX_LENGTH - 3) + "...", summary);
+    }
+}
@@ -0,0 +1,83 @@
+package com.campusboard.campusboard.security;
+
+import com.campusboard.campusboard.models.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ActiveAccountFilterTest {
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    private ActiveAccountFilter filter;
+    private CustomUserDetails principal;
+    private MockHttpServletRequest request;
+    private MockHttpSession session;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        filter = new ActiveAccountFilter(userDetailsService);
+
+        principal = new CustomUserDetails(account(User.Status.ACTIVE));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        session = new MockHttpSession();
+        request = new MockHttpServletRequest("GET", "/student/jobs");
+        request.setSession(session);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static User account(User.Status status) {
+        User user = new User();
+        user.setUserId(5L);
+        user.setEmail("student@example.com");
+        user.setRole(User.Role.STUDENT);
+        user.setStatus(status);
+        return user;
+    }
+
+    // Test that an active account keeps its session
+    @Test
+    void testActiveAccount_Continues() throws Exception {
+        when(userDetailsService.findCurrent("student@example.com")).thenReturn(principal);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertSame(principal, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+        assertFalse(session.isInvalid());
+    }
+
+    // Test that a deactivated account is logged out on its next request
+    @Test
+    void testDeactivatedAccount_LoggedOut() throws Exception {
+        when(userDetailsService.findCurrent("student@example.com"))
+                .thenReturn(new CustomUserDetails(account(User.Status.INACTIVE)));
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // The request goes on as anonymous, so security sends it to the login page
+        assertNotNull(chain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertTrue(session.isInvalid());
+    }
+}
@@ -0,0 +1,42 @@
+package com.campusboard.campusboard.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveBCryptPasswordEncoderTest {
+
+    private final AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(5);
+
+    // Test that new hashes use the configured cost and verify
+    @Test
+    void testEncode() {
+        String hash = encoder.encode("secret123");
+
+        assertEquals(5, AdaptiveBCryptPasswordEncoder.costOf(hash));
+        assertTrue(encoder.matches("secret123", hash));
+        assertFalse(encoder.matches("wrong", hash));
+    }
+
+    // Test that hashes of another cost still verify but ask to be rehashed, up or down
+    @Test
+    void testUpgradeEncoding() {
+        String cheaper = new BCryptPasswordEncoder(4).encode("secret123");
+        String dearer = new BCryptPasswordEncoder(6).encode("secret123");
+
+        assertTrue(encoder.matches("secret123", cheaper));
+        assertTrue(encoder.matches("secret123", dearer));
+        assertTrue(encoder.upgradeEncoding(cheaper));
+        assertTrue(encoder.upgradeEncoding(dearer));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("secret123")));
+    }
+
+    // Test that anything that isn't a BCrypt hash is left alone
+    @Test
+    void testUpgradeEncoding_NotBCrypt() {
+        assertFalse(encoder.upgradeEncoding(null));
+        assertFalse(encoder.upgradeEncoding("plaintext"));
+        assertEquals(12, AdaptiveBCryptPasswordEncoder.costOf("$2y$12$abcdefghijklmnopqrstuv"));
+    }
+}
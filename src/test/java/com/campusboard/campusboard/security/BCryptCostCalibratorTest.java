@@ -0,0 +1,37 @@
+package com.campusboard.campusboard.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BCryptCostCalibratorTest {
+
+    private static final long MS = 1_000_000L;
+
+    // Test that the highest cost within the target is chosen (each step doubles the time)
+    @Test
+    void testChoose() {
+        // 4 ms at cost 8 -> 64 ms at 12, 128 ms at 13
+        assertEquals(12, BCryptCostCalibrator.choose(4 * MS, 100 * MS, 10, 14));
+        assertEquals(13, BCryptCostCalibrator.choose(4 * MS, 128 * MS, 10, 14));
+    }
+
+    // Test that the bounds win over the measurement
+    @Test
+    void testChoose_Bounds() {
+        assertEquals(10, BCryptCostCalibrator.choose(50 * MS, 100 * MS, 10, 14));
+        assertEquals(14, BCryptCostCalibrator.choose(MS / 100, 100 * MS, 10, 14));
+        assertEquals(31, BCryptCostCalibrator.choose(1, Long.MAX_VALUE, 4, 99));
+        assertEquals(4, BCryptCostCalibrator.choose(MS, 0, 0, 2));
+    }
+
+    // Test that a real calibration lands within the bounds
+    @Test
+    void testCalibrate() {
+        int cost = BCryptCostCalibrator.calibrate(Duration.ofMillis(50), 4, 8);
+
+        assertTrue(cost >= 4 && cost <= 8);
+    }
+}
@@ -0,0 +1,91 @@
+package com.campusboard.campusboard.security;
+
+import com.campusboard.campusboard.exceptions.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BoundedPasswordEncoderTest {
+
+    @Mock
+    private PasswordEncoder delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        encoder = new BoundedPasswordEncoder(delegate, meterRegistry, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        encoder.shutdown();
+    }
+
+    // Test that hashing happens on a hashing thread and is timed
+    @Test
+    void testEncodeAndMatches() {
+        when(delegate.encode("secret")).thenAnswer(call -> Thread.currentThread().getName());
+        when(delegate.matches("secret", "hash")).thenReturn(true);
+
+        assertTrue(encoder.encode("secret").startsWith("password-hashing-"));
+        assertTrue(encoder.matches("secret", "hash"));
+        assertEquals(1, meterRegistry.get(BoundedPasswordEncoder.HASH_TIMER).tag("operation", "encode").timer().count());
+        assertEquals(1, meterRegistry.get(BoundedPasswordEncoder.HASH_TIMER).tag("operation", "matches").timer().count());
+        assertEquals(2, meterRegistry.get(BoundedPasswordEncoder.WAIT_TIMER).timer().count());
+    }
+
+    // Test that a full queue refuses at once, and rehashing waits for a quiet moment
+    @Test
+    void testQueueFull() throws Exception {
+        CountDownLatch hashing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.encode("slow")).thenAnswer(call -> {
+            hashing.countDown();
+            release.await();
+            return "hash";
+        });
+        when(delegate.upgradeEncoding("old")).thenReturn(true);
+
+        // One hash running on the only thread, one waiting in the queue
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("slow"));
+        assertTrue(hashing.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("slow"));
+        while (encoder.queueSize() == 0) {
+            Thread.onSpinWait();
+        }
+
+        assertThrows(PasswordHashingBusyException.class, () -> encoder.matches("secret", "hash"));
+        assertFalse(encoder.upgradeEncoding("old"));
+        assertEquals(1.0, meterRegistry.get(BoundedPasswordEncoder.REJECTED_COUNTER).counter().count());
+        assertEquals(1.0, meterRegistry.get(BoundedPasswordEncoder.QUEUE_GAUGE).gauge().value());
+
+        release.countDown();
+        assertEquals("hash", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hash", queued.get(5, TimeUnit.SECONDS));
+        assertTrue(encoder.upgradeEncoding("old"));
+        verify(delegate, never()).matches(any(), any());
+    }
+
+    // Test that the delegate's own exceptions reach the caller unchanged
+    @Test
+    void testDelegateException() {
+        when(delegate.encode(null)).thenThrow(new IllegalArgumentException("rawPassword cannot be null"));
+
+        assertThrows(IllegalArgumentException.class, () -> encoder.encode(null));
+    }
+}
@@ -0,0 +1,113 @@
+package com.campusboard.campusboard.security;
+
+import com.campusboard.campusboard.cache.UserDetailsCache;
+import com.campusboard.campusboard.models.User;
+import com.campusboard.campusboard.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Spy
+    private UserDetailsCache userDetailsCache = new UserDetailsCache(100, 10);
+
+    @InjectMocks
+    private CustomUserDetailsService userDetailsService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        user = new User();
+        user.setUserId(7L);
+        user.setEmail("ann@example.com");
+        user.setPassword("$2a$10$hash");
+        user.setRole(User.Role.EMPLOYER);
+        when(userRepository.findByEmail("ann@example.com")).thenReturn(Optional.of(user));
+    }
+
+    // Test that repeated logins read the user once
+    @Test
+    void testLoadUserByUsername_Cached() {
+        UserDetails first = userDetailsService.loadUserByUsername("ann@example.com");
+        UserDetails second = userDetailsService.loadUserByUsername("ann@example.com");
+
+        assertEquals("$2a$10$hash", second.getPassword());
+        assertEquals(7L, ((CustomUserDetails) first).getUserId());
+        assertEquals("ROLE_EMPLOYER", first.getAuthorities().iterator().next().getAuthority());
+        verify(userRepository, times(1)).findByEmail("ann@example.com");
+    }
+
+    // Test that erasing a login's password leaves the cached account intact
+    @Test
+    void testLoadUserByUsername_ErasesCopyOnly() {
+        CustomUserDetails login = (CustomUserDetails) userDetailsService.loadUserByUsername("ann@example.com");
+        login.eraseCredentials();
+
+        assertNull(login.getPassword());
+        assertEquals("$2a$10$hash", userDetailsService.loadUserByUsername("ann@example.com").getPassword());
+    }
+
+    // Test that an evicted account is read again with its new status
+    @Test
+    void testFindCurrent_AfterEvict() {
+        assertTrue(userDetailsService.findCurrent("ann@example.com").isEnabled());
+
+        user.setStatus(User.Status.INACTIVE);
+        userDetailsCache.evict("ANN@example.com");
+
+        assertFalse(userDetailsService.findCurrent("ann@example.com").isEnabled());
+        verify(userRepository, times(2)).findByEmail("ann@example.com");
+    }
+
+    // Test that an unknown email is refused
+    @Test
+    void testLoadUserByUsername_NotFound() {
+        when(userRepository.findByEmail("nobody@example.com")).thenReturn(Optional.empty());
+
+        assertThrows(UsernameNotFoundException.class,
+                () -> userDetailsService.loadUserByUsername("nobody@example.com"));
+    }
+
+    // Test that a rehashed password is stored and the cached account re-read
+    @Test
+    void testUpdatePassword() {
+        UserDetails login = userDetailsService.loadUserByUsername("ann@example.com");
+
+        UserDetails updated = userDetailsService.updatePassword(login, "$2a$12$newhash");
+
+        assertEquals("$2a$12$newhash", updated.getPassword());
+        assertEquals(7L, ((CustomUserDetails) updated).getUserId());
+        verify(userRepository).updatePassword(7L, "$2a$12$newhash");
+        verify(userDetailsCache).evict("ann@example.com");
+    }
+
+    // Test that a failed rehash keeps the login going with the old hash
+    @Test
+    void testUpdatePassword_StoreFails() {
+        when(userRepository.updatePassword(7L, "$2a$12$newhash")).thenThrow(new QueryTimeoutException("timeout"));
+        UserDetails login = userDetailsService.loadUserByUsername("ann@example.com");
+
+        UserDetails updated = userDetailsService.updatePassword(login, "$2a$12$newhash");
+
+        assertSame(login, updated);
+        verify(userDetailsCache, never()).evict(anyString());
+    }
+}
@@ -0,0 +1,149 @@
+package com.campusboard.campusboard.security;
+
+import com.campusboard.campusboard.exceptions.PasswordHashingBusyException;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.www.BasicAuthenticationEntryPoint;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PasswordHashingBusyFilterTest {
+
+    private final PasswordHashingBusyFilter filter = new PasswordHashingBusyFilter();
+
+    private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+
+    // The login filters as SecurityConfig sets them up
+    private UsernamePasswordAuthenticationFilter formLogin() {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+
+        UsernamePasswordAuthenticationFilter login = new UsernamePasswordAuthenticationFilter(
+                new ProviderManager(provider));
+        login.setAuthenticationFailureHandler(PasswordHashingBusyFilter.failureHandler(
+                new SimpleUrlAuthenticationFailureHandler("/login?error")));
+        return login;
+    }
+
+    private BasicAuthenticationFilter basicLogin() {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+
+        BasicAuthenticationEntryPoint basic = new BasicAuthenticationEntryPoint();
+        basic.setRealmName("campusboard");
+        return new BasicAuthenticationFilter(new ProviderManager(provider), PasswordHashingBusyFilter.entryPoint(basic));
+    }
+
+    private MockHttpServletRequest formRequest(String email) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login");
+        request.setServletPath("/login");
+        request.setParameter("username", email);
+        request.setParameter("password", "secret123");
+        return request;
+    }
+
+    // Runs a request through this filter and then the login filter
+    private MockHttpServletResponse login(Filter login, MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> login.doFilter(req, res, mock(FilterChain.class)));
+        return response;
+    }
+
+    // Test that a login refused by a full hashing queue gets a 429
+    @Test
+    void testBusyLogin() throws Exception {
+        FilterChain chain = mock(FilterChain.class);
+        doThrow(new PasswordHashingBusyException("Too many sign-ins")).when(chain).doFilter(any(), any());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/login"), response, chain);
+
+        assertEquals(429, response.getStatus());
+        assertEquals("Too many sign-ins", response.getErrorMessage());
+        assertEquals("1", response.getHeader("Retry-After"));
+    }
+
+    // Test that the dummy password check for an unknown user gets a 429, not a failed login
+    @Test
+    void testBusyLogin_UnknownUser() throws Exception {
+        when(userDetailsService.loadUserByUsername("nobody@x.com"))
+                .thenThrow(new UsernameNotFoundException("User not found"));
+        when(passwordEncoder.encode(any())).thenReturn("dummy-hash");
+        when(passwordEncoder.matches(any(), any())).thenThrow(new PasswordHashingBusyException("Too many sign-ins"));
+
+        MockHttpServletResponse response = login(formLogin(), formRequest("nobody@x.com"));
+
+        assertEquals(429, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+    }
+
+    // Test that a full queue wrapped by the provider while loading the user still gets a 429
+    @Test
+    void testBusyLogin_WrappedByProvider() throws Exception {
+        when(userDetailsService.loadUserByUsername("student@x.com"))
+                .thenThrow(new PasswordHashingBusyException("Too many sign-ins"));
+
+        MockHttpServletResponse response = login(formLogin(), formRequest("student@x.com"));
+
+        assertEquals(429, response.getStatus());
+        assertEquals("Too many sign-ins", response.getErrorMessage());
+    }
+
+    // Test the same for HTTP Basic, which would otherwise answer 401
+    @Test
+    void testBusyLogin_WrappedByProviderBasic() throws Exception {
+        when(userDetailsService.loadUserByUsername("student@x.com"))
+                .thenThrow(new PasswordHashingBusyException("Too many sign-ins"));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/jobs");
+        request.addHeader("Authorization", "Basic " + Base64.getEncoder()
+                .encodeToString("student@x.com:secret123".getBytes(StandardCharsets.UTF_8)));
+
+        MockHttpServletResponse response = login(basicLogin(), request);
+
+        assertEquals(429, response.getStatus());
+        assertNull(response.getHeader("WWW-Authenticate"));
+    }
+
+    // Test that a wrong password is still an ordinary failed login
+    @Test
+    void testFailedLogin() throws Exception {
+        when(userDetailsService.loadUserByUsername("nobody@x.com"))
+                .thenThrow(new UsernameNotFoundException("User not found"));
+        when(passwordEncoder.encode(any())).thenReturn("dummy-hash");
+
+        MockHttpServletResponse response = login(formLogin(), formRequest("nobody@x.com"));
+
+        assertEquals("/login?error", response.getRedirectedUrl());
+    }
+
+    // Test that other requests pass through untouched
+    @Test
+    void testPassThrough() throws Exception {
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/jobs"), response, chain);
+
+        assertEquals(200, response.getStatus());
+        verify(chain).doFilter(any(), any());
+    }
+}
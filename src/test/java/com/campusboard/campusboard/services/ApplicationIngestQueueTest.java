@@ -0,0 +1,232 @@
+package com.campusboard.campusboard.services;
+
+import com.campusboard.campusboard.cache.AppliedJobsVersion;
+import com.campusboard.campusboard.exceptions.ApplicationQueueFullException;
+import com.campusboard.campusboard.exceptions.DuplicateApplicationException;
+import com.campusboard.campusboard.exceptions.JobNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ApplicationIngestQueueTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private JobFacetService jobFacetService;
+
+    @Mock
+    private IdAllocator idAllocator;
+
+    @Mock
+    private AppliedJobsVersion appliedJobsVersion;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        when(jobFacetService.isOpen(any())).thenReturn(true);
+        when(idAllocator.nextId(any())).thenReturn(101L, 102L, 103L);
+        // Every written row is found under its new ID unless a test says otherwise
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class)))
+                .thenAnswer(invocation -> Arrays.stream(invocation.getArguments()).skip(2).map(Long.class::cast).toList());
+    }
+
+    // No writer threads: nothing is written until shutdown drains the queue
+    private ApplicationIngestQueue queue(int capacity) {
+        return new ApplicationIngestQueue(jdbcTemplate, jobFacetService, idAllocator, appliedJobsVersion, meterRegistry,
+                true, capacity, 0, 200, 0, 1_000);
+    }
+
+    // Test that queued applications are written in one multi-row insert on shutdown
+    @Test
+    void testShutdown_DrainsQueueInOneInsert() {
+        ApplicationIngestQueue queue = queue(10);
+        queue.submit(1L, 7L);
+        queue.submit(2L, 7L);
+        queue.submit(1L, 8L);
+        assertEquals(3, queue.size());
+        verifyNoInteractions(jdbcTemplate);
+
+        queue.shutdown();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(sql.capture(), args.capture());
+        assertTrue(sql.getValue().startsWith("INSERT INTO job_application"));
+        assertTrue(sql.getValue().endsWith("ON DUPLICATE KEY UPDATE application_id = application_id"));
+        assertEquals(3, sql.getValue().split("\\(\\?, \\?, \\?, \\?, \\?\\)", -1).length - 1);
+        assertEquals(15, args.getValue().length);
+        assertEquals(102L, args.getValue()[5]);
+        assertEquals(2L, args.getValue()[6]);
+        assertEquals("SUBMITTED", args.getValue()[3]);
+        assertEquals(0, queue.size());
+        verify(appliedJobsVersion).applied(7L);
+        verify(appliedJobsVersion).applied(8L);
+
+        // Nothing new is taken once shut down
+        assertThrows(ApplicationQueueFullException.class, () -> queue.submit(3L, 7L));
+    }
+
+    // Test that a job that is not open is refused without touching the queue
+    @Test
+    void testSubmit_JobNotOpen() {
+        when(jobFacetService.isOpen(5L)).thenReturn(false);
+        ApplicationIngestQueue queue = queue(10);
+
+        assertThrows(JobNotFoundException.class, () -> queue.submit(5L, 7L));
+        assertEquals(0, queue.size());
+    }
+
+    // Test that the same application can't be queued twice
+    @Test
+    void testSubmit_DuplicateInQueue() {
+        ApplicationIngestQueue queue = queue(10);
+        queue.submit(1L, 7L);
+
+        assertThrows(DuplicateApplicationException.class, () -> queue.submit(1L, 7L));
+        assertEquals(1, queue.size());
+    }
+
+    // Test that a full queue pushes back instead of growing
+    @Test
+    void testSubmit_QueueFull() {
+        ApplicationIngestQueue queue = queue(1);
+        queue.submit(1L, 7L);
+
+        assertThrows(ApplicationQueueFullException.class, () -> queue.submit(2L, 7L));
+        assertEquals(1.0, meterRegistry.counter(ApplicationIngestQueue.REJECTED_COUNTER).count());
+
+        // The refused application may be retried once there is room
+        queue.shutdown();
+        assertEquals(0, queue.size());
+    }
+
+    // Test that a failed batch is retried before it is given up
+    @Test
+    void testShutdown_RetriesFailedBatch() {
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenThrow(new DataAccessResourceFailureException("Connection reset"))
+                .thenReturn(1);
+        ApplicationIngestQueue queue = queue(10);
+        queue.submit(1L, 7L);
+
+        queue.shutdown();
+
+        verify(jdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+        assertEquals(0.0, meterRegistry.counter(ApplicationIngestQueue.FAILED_COUNTER).count());
+    }
+
+    // Test that a writer keeps going after an error outside the INSERT
+    @Test
+    void testWriter_SurvivesIdAllocationFailure() {
+        when(idAllocator.nextId(any()))
+                .thenThrow(new IllegalStateException("ID_GENERATOR unavailable"))
+                .thenReturn(101L, 102L);
+        ApplicationIngestQueue queue = new ApplicationIngestQueue(jdbcTemplate, jobFacetService, idAllocator,
+                appliedJobsVersion, meterRegistry, true, 10, 1, 200, 0, 1_000);
+
+        queue.submit(1L, 7L);
+        verify(jdbcTemplate, timeout(2_000)).update(anyString(), any(Object[].class));
+        queue.submit(2L, 8L);
+        verify(jdbcTemplate, timeout(2_000).times(2)).update(anyString(), any(Object[].class));
+
+        queue.shutdown();
+        assertEquals(0.0, meterRegistry.counter(ApplicationIngestQueue.FAILED_COUNTER).count());
+        verify(appliedJobsVersion).applied(7L);
+        verify(appliedJobsVersion).applied(8L);
+    }
+
+    // Test that a batch whose duplicate check fails still counts as written
+    @Test
+    void testShutdown_CheckFailureKeepsRows() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class)))
+                .thenThrow(new DataAccessResourceFailureException("Connection reset"));
+        ApplicationIngestQueue queue = queue(10);
+        queue.submit(1L, 7L);
+
+        queue.shutdown();
+
+        verify(jdbcTemplate, times(1)).update(anyString(), any(Object[].class));
+        assertEquals(0.0, meterRegistry.counter(ApplicationIngestQueue.FAILED_COUNTER).count());
+        verify(appliedJobsVersion).applied(7L);
+    }
+
+    // Test that a batch failing throughout shutdown is counted as failed
+    @Test
+    void testShutdown_GivesUpAfterMaxAttempts() {
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+        ApplicationIngestQueue queue = queue(10);
+        queue.submit(1L, 7L);
+        queue.submit(2L, 8L);
+
+        queue.shutdown();
+
+        verify(jdbcTemplate, times(ApplicationIngestQueue.MAX_ATTEMPTS)).update(anyString(), any(Object[].class));
+        assertEquals(2.0, meterRegistry.counter(ApplicationIngestQueue.FAILED_COUNTER).count());
+        verify(appliedJobsVersion, never()).applied(any());
+    }
+
+    // Test that an application already stored is counted as ignored, not as stored
+    @Test
+    void testShutdown_CountsIgnoredDuplicates() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class)))
+                .thenReturn(List.of(101L));
+        ApplicationIngestQueue queue = queue(10);
+        queue.submit(1L, 7L);
+        queue.submit(2L, 8L);
+
+        queue.shutdown();
+
+        assertEquals(1.0, meterRegistry.counter(ApplicationIngestQueue.IGNORED_COUNTER).count());
+        verify(appliedJobsVersion).applied(7L);
+        verify(appliedJobsVersion, never()).applied(8L);
+    }
+
+    // Test that a refused batch is stored row by row, losing only the bad row
+    @Test
+    void testShutdown_BadRowDoesNotLoseBatch() {
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            // Varargs arrive spread out: SQL, then the values
+            Object[] args = Arrays.copyOfRange(invocation.getArguments(), 1, invocation.getArguments().length);
+            // The batch, and the row for job 2 on its own, hit a deleted job
+            if (args.length > 5 || args[1].equals(2L)) {
+                throw new DataIntegrityViolationException("foreign key");
+            }
+            return 1;
+        });
+        ApplicationIngestQueue queue = queue(10);
+        queue.submit(1L, 7L);
+        queue.submit(2L, 7L);
+        queue.submit(3L, 8L);
+
+        queue.shutdown();
+
+        // One batch (not retried as is), then one INSERT per row
+        verify(jdbcTemplate, times(4)).update(anyString(), any(Object[].class));
+        assertEquals(1.0, meterRegistry.counter(ApplicationIngestQueue.FAILED_COUNTER).count());
+        assertEquals(0.0, meterRegistry.counter(ApplicationIngestQueue.IGNORED_COUNTER).count());
+        verify(appliedJobsVersion).applied(7L);
+        verify(appliedJobsVersion).applied(8L);
+    }
+}
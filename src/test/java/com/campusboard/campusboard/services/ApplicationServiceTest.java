@@ -1,5 +1,13 @@
 package com.campusboard.campusboard.services;
 
+import com.campusboard.campusboard.cache.AppliedJobsVersion;
+import com.campusboard.campusboard.dto.ApiCursor;
+import com.campusboard.campusboard.dto.ApplicantExportRow;
+import com.campusboard.campusboard.dto.ApplicantPage;
+import com.campusboard.campusboard.dto.ApplicantSort;
+import com.campusboard.campusboard.dto.ApplicantView;
+import com.campusboard.campusboard.dto.AppliedJobIds;
+import com.campusboard.campusboard.dto.KeysetCursor;
 import com.campusboard.campusboard.exceptions.DuplicateApplicationException;
 import com.campusboard.campusboard.exceptions.JobNotFoundException;
 import com.campusboard.campusboard.models.Job;
@@ -7,16 +15,26 @@ import com.campusboard.campusboard.models.JobApplication;
 import com.campusboard.campusboard.models.User;
 import com.campusboard.campusboard.repositories.JobApplicationRepository;
 import com.campusboard.campusboard.repositories.JobRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class ApplicationServiceTest {
@@ -27,6 +45,15 @@ class ApplicationServiceTest {
     @Mock
     private JobRepository jobRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private IdAllocator idAllocator;
+
+    @Mock
+    private AppliedJobsVersion appliedJobsVersion;
+
     @InjectMocks
     private ApplicationService applicationService;
 
@@ -44,17 +71,21 @@ class ApplicationServiceTest {
     // Test applying to a job successfully
     @Test
     void testApplyToJob_Success() {
-        when(jobRepository.findById(anyLong())).thenReturn(Optional.of(job));
-        when(applicationRepository.findByJobAndStudent(job, student)).thenReturn(Optional.empty());
+        student.setUserId(7L);
+        when(idAllocator.nextId(JobApplication.class)).thenReturn(31L);
+        when(applicationRepository.insertIfJobStatus(eq(31L), eq(1L), eq(7L), eq(Job.Status.APPROVED),
+                eq(JobApplication.Status.SUBMITTED), any(LocalDateTime.class))).thenReturn(1);
 
         assertDoesNotThrow(() -> applicationService.applyToJob(1L, student));
-        verify(applicationRepository).save(any(JobApplication.class));
+        verify(appliedJobsVersion).applied(7L);
+        verifyNoInteractions(jobRepository);
+        verify(applicationRepository, never()).save(any(JobApplication.class));
     }
 
-    // Test applying to a job that doesn't exist
+    // Test applying to a job that doesn't exist or isn't approved
     @Test
     void testApplyToJob_JobNotFound() {
-        when(jobRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(applicationRepository.insertIfJobStatus(any(), any(), any(), any(), any(), any())).thenReturn(0);
 
         assertThrows(JobNotFoundException.class, () -> applicationService.applyToJob(1L, student));
     }
@@ -62,21 +93,131 @@ class ApplicationServiceTest {
     // Test applying to a job twice
     @Test
     void testApplyToJob_DuplicateApplication() {
-        JobApplication existingApp = new JobApplication();
-        when(jobRepository.findById(anyLong())).thenReturn(Optional.of(job));
-        when(applicationRepository.findByJobAndStudent(job, student)).thenReturn(Optional.of(existingApp));
+        when(applicationRepository.insertIfJobStatus(any(), any(), any(), any(), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry '1-7'"));
 
         assertThrows(DuplicateApplicationException.class, () -> applicationService.applyToJob(1L, student));
     }
 
-    // Test retrieving applications for a job
+    private static List<ApplicantView> applicants(int count) {
+        List<ApplicantView> applicants = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            applicants.add(new ApplicantView(id, 100 + id, "Student " + id, "s" + id + "@example.com",
+                    JobApplication.Status.SUBMITTED, LocalDateTime.of(2026, 3, 1, 9, 0).minusMinutes(id)));
+        }
+        return applicants;
+    }
+
+    // Test that the first page holds one page of applicants and a cursor from the last one
     @Test
-    void testGetApplicationsForJob() {
-        when(jobRepository.findById(anyLong())).thenReturn(Optional.of(job));
-        when(applicationRepository.findByJob(job)).thenReturn(List.of(new JobApplication()));
+    void testGetApplicantPage_FirstPage() {
+        int pageSize = ApplicationService.APPLICANT_PAGE_SIZE;
+        when(applicationRepository.findApplicantsByNewest(eq(1L),
+                eq(EnumSet.allOf(JobApplication.Status.class)), any(Pageable.class)))
+                .thenReturn(applicants(pageSize + 1));
 
-        List<JobApplication> apps = applicationService.getApplicationsForJob(1L);
-        assertEquals(1, apps.size());
+        ApplicantPage page = applicationService.getApplicantPage(1L, ApplicantSort.NEWEST, null, null);
+
+        assertEquals(pageSize, page.applicants().size());
+        assertTrue(page.hasNext());
+        KeysetCursor cursor = KeysetCursor.decode(page.nextCursor());
+        ApplicantView last = page.applicants().get(pageSize - 1);
+        assertEquals(last.applicationId(), cursor.id());
+        assertEquals(last.appliedAt().toString(), cursor.key());
+        verifyNoInteractions(jobRepository);
+    }
+
+    // Test that a cursor continues by name, filtered by status, and ends on a short page
+    @Test
+    void testGetApplicantPage_ContinuesAfterCursor() {
+        String cursor = new KeysetCursor("Mara Quinn", 42L).encode();
+        when(applicationRepository.findApplicantsByNameAfter(eq(1L), eq(EnumSet.of(JobApplication.Status.ACCEPTED)),
+                eq("Mara Quinn"), eq(42L), any(Pageable.class)))
+                .thenReturn(applicants(3));
+
+        ApplicantPage page = applicationService.getApplicantPage(1L, ApplicantSort.NAME,
+                JobApplication.Status.ACCEPTED, cursor);
+
+        assertEquals(3, page.applicants().size());
+        assertFalse(page.hasNext());
+        assertEquals(JobApplication.Status.ACCEPTED, page.status());
+    }
+
+    // Test that a name that looks like the old null marker still continues by name
+    @Test
+    void testGetApplicantPage_TildeNameCursor() {
+        String cursor = new KeysetCursor("~", 42L).encode();
+        when(applicationRepository.findApplicantsByNameAfter(eq(1L), any(), eq("~"), eq(42L), any(Pageable.class)))
+                .thenReturn(applicants(1));
+
+        applicationService.getApplicantPage(1L, ApplicantSort.NAME, null, cursor);
+
+        verify(applicationRepository, never()).findApplicantsByName(anyLong(), any(), any(Pageable.class));
+    }
+
+    // Test that the status sort pages from SUBMITTED into ACCEPTED by rank, not by status name
+    @Test
+    void testGetApplicantPage_StatusCrossesBoundary() {
+        int pageSize = ApplicationService.APPLICANT_PAGE_SIZE;
+        when(applicationRepository.findApplicantsByStatus(eq(1L), any(), any(Pageable.class)))
+                .thenReturn(applicants(pageSize + 1));
+
+        ApplicantPage first = applicationService.getApplicantPage(1L, ApplicantSort.STATUS, null, null);
+
+        KeysetCursor cursor = KeysetCursor.decode(first.nextCursor());
+        assertEquals("0", cursor.key());
+        assertEquals((long) pageSize, cursor.id());
+
+        List<ApplicantView> accepted = List.of(new ApplicantView(2L, 102L, "Student 2", "s2@example.com",
+                JobApplication.Status.ACCEPTED, LocalDateTime.of(2026, 3, 1, 9, 0)));
+        when(applicationRepository.findApplicantsByStatusAfter(eq(1L), any(), eq(0), eq((long) pageSize),
+                any(Pageable.class))).thenReturn(accepted);
+
+        ApplicantPage second = applicationService.getApplicantPage(1L, ApplicantSort.STATUS, null, first.nextCursor());
+
+        assertEquals(accepted, second.applicants());
+        assertFalse(second.hasNext());
+    }
+
+    // Test that an export of one job streams only that job's rows for the employer
+    @Test
+    void testForEachApplicantForExport_OneJob() {
+        User employer = new User();
+        employer.setUserId(3L);
+        ApplicantExportRow row = new ApplicantExportRow(4L, 1L, "Math Tutor", "Ada", "ada@example.com",
+                JobApplication.Status.SUBMITTED, LocalDateTime.now());
+        when(applicationRepository.streamExportByJob(1L, 3L)).thenReturn(Stream.of(row));
+
+        List<ApplicantExportRow> rows = new ArrayList<>();
+        applicationService.forEachApplicantForExport(employer, 1L, rows::add);
+
+        assertEquals(List.of(row), rows);
+        verify(applicationRepository, never()).streamExportByEmployer(any());
+    }
+
+    // Test that an export without a job covers all of the employer's jobs
+    @Test
+    void testForEachApplicantForExport_AllJobs() {
+        User employer = new User();
+        employer.setUserId(3L);
+        when(applicationRepository.streamExportByEmployer(3L)).thenReturn(Stream.empty());
+
+        applicationService.forEachApplicantForExport(employer, null, row -> fail("No rows expected"));
+
+        verify(applicationRepository).streamExportByEmployer(3L);
+    }
+
+    // Test that a tampered cursor restarts from the first page
+    @Test
+    void testGetApplicantPage_BadCursorRestarts() {
+        String cursor = new KeysetCursor("not-a-status", 42L).encode();
+        when(applicationRepository.findApplicantsByStatus(eq(1L), any(), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        ApplicantPage page = applicationService.getApplicantPage(1L, ApplicantSort.STATUS, null, cursor);
+
+        assertTrue(page.applicants().isEmpty());
+        verify(applicationRepository, never()).findApplicantsByStatusAfter(any(), any(), any(), any(), any());
     }
 
     // Test retrieving applications by student
@@ -87,4 +228,112 @@ class ApplicationServiceTest {
         List<JobApplication> apps = applicationService.getApplicationsByStudent(student);
         assertEquals(1, apps.size());
     }
+
+    // Test that a large selection is updated in chunks, each checking ownership
+    @Test
+    void testUpdateApplicationStatus_Chunks() {
+        User employer = new User();
+        employer.setUserId(3L);
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= ApplicationService.STATUS_UPDATE_CHUNK + 1; id++) {
+            ids.add(id);
+        }
+        ids.add(1L);
+        when(applicationRepository.updateStatusForEmployer(any(), eq(9L), eq(3L), eq(JobApplication.Status.ACCEPTED)))
+                .thenReturn(ApplicationService.STATUS_UPDATE_CHUNK, 1);
+
+        int updated = applicationService.updateApplicationStatus(9L, ids, JobApplication.Status.ACCEPTED, employer);
+
+        assertEquals(ApplicationService.STATUS_UPDATE_CHUNK + 1, updated);
+        verify(applicationRepository).updateStatusForEmployer(eq(ids.subList(0, ApplicationService.STATUS_UPDATE_CHUNK)),
+                eq(9L), eq(3L), eq(JobApplication.Status.ACCEPTED));
+        verify(applicationRepository).updateStatusForEmployer(eq(List.of((long) ApplicationService.STATUS_UPDATE_CHUNK + 1)),
+                eq(9L), eq(3L), eq(JobApplication.Status.ACCEPTED));
+        verify(applicationRepository, never()).save(any());
+    }
+
+    // Test that applications can't be moved back to SUBMITTED
+    @Test
+    void testUpdateApplicationStatus_RejectsSubmitted() {
+        assertThrows(IllegalArgumentException.class, () -> applicationService.updateApplicationStatus(
+                9L, List.of(1L), JobApplication.Status.SUBMITTED, new User()));
+        verifyNoInteractions(applicationRepository);
+    }
+
+    // Test that a current session set is used without any query
+    @Test
+    void testGetAppliedJobIds_CurrentSetWithoutQuery() {
+        AppliedJobIds cached = AppliedJobIds.of(7L, List.of(new AppliedJobIds.Applied(3L, 10L),
+                new AppliedJobIds.Applied(1L, 11L))).checked("0.0", 1L);
+        when(appliedJobsVersion.isCurrent(cached)).thenReturn(true);
+
+        assertSame(cached, applicationService.getAppliedJobIds(7L, cached));
+        verifyNoInteractions(applicationRepository);
+    }
+
+    // Test that a set due for a check is kept, and marked checked, while its stamp matches
+    @Test
+    void testGetAppliedJobIds_ReusesMatchingSet() {
+        AppliedJobIds cached = AppliedJobIds.of(7L, List.of(new AppliedJobIds.Applied(3L, 10L),
+                new AppliedJobIds.Applied(1L, 11L)));
+        when(appliedJobsVersion.version(7L)).thenReturn("0.2");
+        // CRC32("3") ^ CRC32("1"), as MySQL computes it
+        when(applicationRepository.findStampByStudentId(7L))
+                .thenReturn(new AppliedJobIds.Stamp(2, 0x6dd28e9bL ^ 0x83dcefb7L, 11));
+
+        AppliedJobIds applied = applicationService.getAppliedJobIds(7L, cached);
+
+        assertEquals(cached.stamp(), applied.stamp());
+        assertEquals("0.2", applied.checkedVersion());
+        assertTrue(applied.checkedAt() > 0);
+        verify(applicationRepository, never()).findAppliedByStudentId(any());
+    }
+
+    // Test that an application made elsewhere reloads the set
+    @Test
+    void testGetAppliedJobIds_ReloadsWhenStale() {
+        AppliedJobIds cached = AppliedJobIds.of(7L, List.of(new AppliedJobIds.Applied(1L, 11L)));
+        AppliedJobIds.Stamp stamp = new AppliedJobIds.Stamp(2, 0x84b12baeL ^ 0x83dcefb7L, 12);
+        when(applicationRepository.findStampByStudentId(7L)).thenReturn(stamp);
+        when(applicationRepository.findAppliedByStudentId(7L)).thenReturn(List.of(
+                new AppliedJobIds.Applied(5L, 12L), new AppliedJobIds.Applied(1L, 11L)));
+
+        AppliedJobIds applied = applicationService.getAppliedJobIds(7L, cached);
+
+        assertTrue(applied.contains(5L));
+        assertTrue(applied.contains(1L));
+        assertFalse(applied.contains(3L));
+        assertEquals(stamp, applied.stamp());
+    }
+
+    // Test that a different set with the same size and job ID sum is still told apart
+    @Test
+    void testGetAppliedJobIds_ReloadsWhenSumMatches() {
+        AppliedJobIds cached = AppliedJobIds.of(7L, List.of(new AppliedJobIds.Applied(1L, 10L),
+                new AppliedJobIds.Applied(4L, 11L)));
+        List<AppliedJobIds.Applied> current = List.of(new AppliedJobIds.Applied(2L, 10L),
+                new AppliedJobIds.Applied(3L, 11L));
+        when(applicationRepository.findStampByStudentId(7L))
+                .thenReturn(AppliedJobIds.of(7L, current).stamp());
+        when(applicationRepository.findAppliedByStudentId(7L)).thenReturn(current);
+
+        AppliedJobIds applied = applicationService.getAppliedJobIds(7L, cached);
+
+        assertTrue(applied.contains(2L));
+        assertFalse(applied.contains(1L));
+    }
+
+    // Test that employers only stream applications sent to their jobs
+    @Test
+    void testForEachApplicationVisibleTo_Employer() {
+        JobApplication first = new JobApplication();
+        JobApplication second = new JobApplication();
+        when(applicationRepository.streamByEmployerAfter(4L, 0L, Limit.of(1))).thenReturn(Stream.of(first, second));
+
+        List<JobApplication> seen = new ArrayList<>();
+        applicationService.forEachApplicationVisibleTo(4L, User.Role.EMPLOYER, ApiCursor.FIRST, 1, seen::add);
+
+        assertEquals(List.of(first), seen);
+        verify(applicationRepository, never()).streamAllAfter(anyLong(), any());
+    }
 }
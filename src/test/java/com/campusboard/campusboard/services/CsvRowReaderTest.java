@@ -0,0 +1,45 @@
+package com.campusboard.campusboard.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvRowReaderTest {
+
+    // Test that quoted fields keep commas, quotes and line breaks
+    @Test
+    void testNext_QuotedFields() throws IOException {
+        CsvRowReader reader = new CsvRowReader(new StringReader(
+                "\uFEFFtitle,description\r\n\"Guide, Campus\",\"Say \"\"hi\"\"\nto visitors\"\r\nTutor,\n"));
+
+        assertEquals(List.of("title", "description"), reader.next());
+        assertEquals(List.of("Guide, Campus", "Say \"hi\"\nto visitors"), reader.next());
+        assertEquals(2, reader.row());
+        assertEquals(List.of("Tutor", ""), reader.next());
+        assertNull(reader.next());
+        assertEquals(3, reader.row());
+    }
+
+    // Test that a last line without a line break is still read
+    @Test
+    void testNext_NoTrailingLineBreak() throws IOException {
+        CsvRowReader reader = new CsvRowReader(new StringReader("a,b\rc,d"));
+
+        assertEquals(List.of("a", "b"), reader.next());
+        assertEquals(List.of("c", "d"), reader.next());
+        assertNull(reader.next());
+    }
+
+    // Test that a quote that is never closed is reported
+    @Test
+    void testNext_UnclosedQuote() {
+        CsvRowReader reader = new CsvRowReader(new StringReader("\"never closed,x\n"));
+
+        IOException e = assertThrows(IOException.class, reader::next);
+        assertTrue(e.getMessage().startsWith("Row 1"));
+    }
+}
@@ -0,0 +1,70 @@
+package com.campusboard.campusboard.services;
+
+import com.campusboard.campusboard.events.JobChangedEvent;
+import com.campusboard.campusboard.models.Job;
+import com.campusboard.campusboard.repositories.JobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class JobExpirySweeperTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private MeterRegistry meterRegistry;
+    private JobExpirySweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new JobExpirySweeper(jobRepository, eventPublisher, meterRegistry, 2);
+    }
+
+    // Test that expired jobs are closed chunk by chunk and reported
+    @Test
+    void testSweep_ClosesInChunks() {
+        when(jobRepository.findIdsByStatusAndDeadlineBefore(eq(Job.Status.APPROVED), eq(LocalDate.now()), any()))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+        when(jobRepository.updateStatusByJobIdIn(any(), eq(Job.Status.APPROVED), eq(Job.Status.CLOSED), any()))
+                .thenReturn(2, 1);
+
+        assertEquals(3, sweeper.sweep());
+
+        verify(jobRepository).updateStatusByJobIdIn(eq(List.of(1L, 2L)), any(), any(), any());
+        verify(jobRepository).updateStatusByJobIdIn(eq(List.of(3L)), any(), any(), any());
+        verify(eventPublisher).publishEvent(JobChangedEvent.closed(3L));
+        verify(eventPublisher, times(3)).publishEvent(any(JobChangedEvent.class));
+
+        assertEquals(3.0, meterRegistry.counter(JobExpirySweeper.CLOSED_COUNTER).count());
+        assertEquals(1, meterRegistry.timer(JobExpirySweeper.SWEEP_TIMER).count());
+    }
+
+    // Test that a sweep with nothing expired changes nothing
+    @Test
+    void testSweep_NothingExpired() {
+        when(jobRepository.findIdsByStatusAndDeadlineBefore(any(), any(), any())).thenReturn(List.of());
+
+        assertEquals(0, sweeper.sweep());
+
+        verify(jobRepository, never()).updateStatusByJobIdIn(any(), any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+        assertEquals(1, meterRegistry.timer(JobExpirySweeper.SWEEP_TIMER).count());
+    }
+}
@@ -0,0 +1,163 @@
+package com.campusboard.campusboard.services;
+
+import com.campusboard.campusboard.dto.JobCardView;
+import com.campusboard.campusboard.dto.JobFacetFilter;
+import com.campusboard.campusboard.dto.JobFeedPage;
+import com.campusboard.campusboard.dto.JobSort;
+import com.campusboard.campusboard.dto.KeysetCursor;
+import com.campusboard.campusboard.events.JobChangedEvent;
+import com.campusboard.campusboard.models.Job;
+import com.campusboard.campusboard.repositories.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JobFacetServiceTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @InjectMocks
+    private JobFacetService jobFacetService;
+
+    private final JobFacetFilter tutoring = new JobFacetFilter(Set.of("tutoring"), Set.of(), Set.of(), Set.of());
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    private Job approvedJob(long id, String category) {
+        Job job = new Job();
+        job.setJobId(id);
+        job.setCreatedAt(LocalDateTime.of(2026, 3, 1, 9, 0).plusMinutes(id));
+        job.setCategory(category);
+        job.setStatus(Job.Status.APPROVED);
+        return job;
+    }
+
+    private JobCardView card(Job job) {
+        return new JobCardView(job.getJobId(), job.getTitle(), "Employer", "employer@example.com",
+                job.getLocation(), job.getSalary(), job.getCategory(), job.getDeadline(),
+                job.getDescription(), job.getStatus(), job.getCreatedAt());
+    }
+
+    // Test that only approved jobs are counted
+    @Test
+    void testOnJobChanged() {
+        Job job = approvedJob(1L, "Tutoring");
+        jobFacetService.onJobChanged(JobChangedEvent.of(JobChangedEvent.Type.APPROVED, job));
+        assertEquals(1, jobFacetService.getFacets(tutoring).total());
+
+        job.setStatus(Job.Status.REJECTED);
+        jobFacetService.onJobChanged(JobChangedEvent.of(JobChangedEvent.Type.REJECTED, job));
+        assertEquals(0, jobFacetService.getFacets(tutoring).total());
+    }
+
+    // Test that a job approved on another node is found in the database and indexed
+    @Test
+    void testIsOpen_ApprovedElsewhere() {
+        Job job = approvedJob(4L, "Tutoring");
+        when(jobRepository.findById(4L)).thenReturn(Optional.of(job));
+        when(jobRepository.findById(5L)).thenReturn(Optional.empty());
+
+        assertTrue(jobFacetService.isOpen(4L));
+        assertTrue(jobFacetService.isOpen(4L));
+        assertFalse(jobFacetService.isOpen(5L));
+
+        // Looked up once, then answered from the index
+        verify(jobRepository, times(1)).findById(4L);
+        assertEquals(1, jobFacetService.getFacets(tutoring).total());
+    }
+
+    // Test loading a filtered page in facet index order
+    @Test
+    void testGetFilteredJobs() {
+        Job older = approvedJob(1L, "Tutoring");
+        Job newer = approvedJob(2L, "Tutoring");
+        when(jobRepository.findByStatus(Job.Status.APPROVED))
+                .thenReturn(List.of(older, newer, approvedJob(3L, "Research")));
+        jobFacetService.rebuildIndex();
+
+        // The database may return rows in any order
+        when(jobRepository.findCardsByJobIdIn(List.of(2L, 1L))).thenReturn(List.of(card(older), card(newer)));
+
+        JobFeedPage page = jobFacetService.getFilteredJobs(tutoring, JobSort.NEWEST, null);
+
+        assertEquals(List.of(card(newer), card(older)), page.jobs());
+        assertFalse(page.hasNext());
+    }
+
+    // Test continuing after a cursor
+    @Test
+    void testGetFilteredJobs_AfterCursor() {
+        Job older = approvedJob(1L, "Tutoring");
+        jobFacetService.onJobChanged(JobChangedEvent.of(JobChangedEvent.Type.APPROVED, older));
+        jobFacetService.onJobChanged(JobChangedEvent.of(JobChangedEvent.Type.APPROVED, approvedJob(2L, "Tutoring")));
+        when(jobRepository.findCardsByJobIdIn(List.of(1L))).thenReturn(List.of(card(older)));
+
+        Job newer = approvedJob(2L, "Tutoring");
+        jobFacetService.onJobChanged(JobChangedEvent.of(JobChangedEvent.Type.APPROVED, newer));
+
+        JobFeedPage page = jobFacetService.getFilteredJobs(tutoring, JobSort.NEWEST,
+                new KeysetCursor(newer.getCreatedAt().toString(), 2L).encode());
+
+        assertEquals(List.of(card(older)), page.jobs());
+    }
+
+    // Test that the chosen sort is kept with filters: newest by createdAt, salary and deadline
+    @Test
+    void testGetFilteredJobs_Sorted() {
+        Job first = approvedJob(1L, "Tutoring");
+        first.setCreatedAt(LocalDateTime.of(2026, 3, 5, 9, 0));
+        first.setSalary(12.0);
+        first.setDeadline(LocalDate.now().plusDays(10));
+        Job second = approvedJob(2L, "Tutoring");
+        second.setSalary(20.0);
+        second.setDeadline(LocalDate.now().plusDays(3));
+        Job third = approvedJob(3L, "Tutoring");
+        when(jobRepository.findByStatus(Job.Status.APPROVED)).thenReturn(List.of(first, second, third));
+        jobFacetService.rebuildIndex();
+        when(jobRepository.findCardsByJobIdIn(any())).thenReturn(List.of(card(first), card(second), card(third)));
+
+        // Created last despite the lowest jobId
+        assertEquals(List.of(1L, 3L, 2L), jobIds(jobFacetService.getFilteredJobs(tutoring, JobSort.NEWEST, null)));
+        // No salary last
+        JobFeedPage bySalary = jobFacetService.getFilteredJobs(tutoring, JobSort.HIGHEST_SALARY, null);
+        assertEquals(List.of(2L, 1L, 3L), jobIds(bySalary));
+        assertEquals(JobSort.HIGHEST_SALARY, bySalary.sort());
+        // No deadline is left out, like the unfiltered feed
+        assertEquals(List.of(2L, 1L), jobIds(jobFacetService.getFilteredJobs(tutoring, JobSort.CLOSING_SOONEST, null)));
+    }
+
+    // Test paging by salary past the salaried jobs into the ones without a salary
+    @Test
+    void testGetFilteredJobs_SalaryCursor() {
+        Job salaried = approvedJob(1L, "Tutoring");
+        salaried.setSalary(15.0);
+        jobFacetService.onJobChanged(JobChangedEvent.of(JobChangedEvent.Type.APPROVED, salaried));
+        Job unpaid = approvedJob(2L, "Tutoring");
+        jobFacetService.onJobChanged(JobChangedEvent.of(JobChangedEvent.Type.APPROVED, unpaid));
+        when(jobRepository.findCardsByJobIdIn(List.of(2L))).thenReturn(List.of(card(unpaid)));
+
+        JobFeedPage page = jobFacetService.getFilteredJobs(tutoring, JobSort.HIGHEST_SALARY,
+                new KeysetCursor("15.0", 1L).encode());
+
+        assertEquals(List.of(card(unpaid)), page.jobs());
+    }
+
+    private static List<Long> jobIds(JobFeedPage page) {
+        return page.jobs().stream().map(JobCardView::jobId).toList();
+    }
+}
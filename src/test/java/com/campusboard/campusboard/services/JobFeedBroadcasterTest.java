@@ -0,0 +1,222 @@
+package com.campusboard.campusboard.services;
+
+import com.campusboard.campusboard.events.JobChangedEvent;
+import com.campusboard.campusboard.models.Job;
+import com.campusboard.campusboard.models.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobFeedBroadcasterTest {
+
+    // Delivery tasks only run when the test says so
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private MeterRegistry meterRegistry;
+    private JobFeedBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new JobFeedBroadcaster(new ObjectMapper(), meterRegistry, tasks::add, 60_000, 60_000, 60_000);
+    }
+
+    private void runDelivery() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private static JobChangedEvent approved(long id, String title) {
+        User employer = new User();
+        employer.setFullName("Campus Library");
+        Job job = new Job();
+        job.setJobId(id);
+        job.setTitle(title);
+        job.setEmployer(employer);
+        return JobChangedEvent.of(JobChangedEvent.Type.APPROVED, job);
+    }
+
+    // Test that a burst of approvals reaches a subscriber as one message
+    @Test
+    void testFlush_CoalescesBurst() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter);
+        runDelivery();
+
+        broadcaster.onJobChanged(approved(1L, "Library Assistant"));
+        broadcaster.onJobChanged(approved(2L, "Math Tutor"));
+        broadcaster.flush();
+        runDelivery();
+
+        List<String> jobMessages = emitter.sent.stream()
+                .filter(m -> m.startsWith("event:" + JobFeedBroadcaster.EVENT_NAME))
+                .toList();
+        assertEquals(1, jobMessages.size());
+        assertTrue(jobMessages.get(0).contains("\"jobId\":1"));
+        assertTrue(jobMessages.get(0).contains("\"title\":\"Math Tutor\""));
+        assertTrue(jobMessages.get(0).contains("\"employerName\":\"Campus Library\""));
+        assertEquals(1.0, meterRegistry.get(JobFeedBroadcaster.SUBSCRIBERS_GAUGE).gauge().value());
+    }
+
+    // Test that other changes, and approvals with nobody listening, are not queued
+    @Test
+    void testOnJobChanged_IgnoresOtherEvents() {
+        broadcaster.onJobChanged(approved(1L, "Library Assistant"));
+
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter);
+        broadcaster.onJobChanged(JobChangedEvent.closed(2L));
+        broadcaster.onJobChanged(JobChangedEvent.deleted(3L));
+        broadcaster.flush();
+        runDelivery();
+
+        assertTrue(emitter.sent.stream().noneMatch(m -> m.contains("\"jobs\"")));
+    }
+
+    // Test that a subscriber that stops reading is dropped without blocking flushes
+    @Test
+    void testFlush_DropsSlowSubscriber() {
+        RecordingEmitter slow = new RecordingEmitter();
+        broadcaster.subscribe(slow);
+
+        // Delivery never runs, so the outbox fills up
+        for (int i = 0; i < JobFeedBroadcaster.OUTBOX_CAPACITY; i++) {
+            broadcaster.onJobChanged(approved(i, "Job " + i));
+            broadcaster.flush();
+        }
+
+        assertEquals(0, broadcaster.subscriberCount());
+        assertEquals(1.0, meterRegistry.counter(JobFeedBroadcaster.DROPPED_COUNTER).count());
+
+        runDelivery();
+        assertTrue(slow.completed);
+        assertTrue(slow.sent.isEmpty());
+    }
+
+    // Test that a subscriber whose connection fails is removed
+    @Test
+    void testDelivery_RemovesBrokenSubscriber() {
+        RecordingEmitter broken = new RecordingEmitter();
+        broken.fail = true;
+        broadcaster.subscribe(broken);
+        runDelivery();
+
+        assertEquals(0, broadcaster.subscriberCount());
+        assertEquals(0.0, meterRegistry.counter(JobFeedBroadcaster.DROPPED_COUNTER).count());
+    }
+
+    // Test that a quiet stream gets a keep-alive comment
+    @Test
+    void testFlush_SendsHeartbeatWhenQuiet() {
+        broadcaster = new JobFeedBroadcaster(new ObjectMapper(), meterRegistry, tasks::add, 60_000, 0, 60_000);
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter);
+        runDelivery();
+
+        broadcaster.flush();
+        runDelivery();
+
+        assertTrue(emitter.sent.get(emitter.sent.size() - 1).contains(":keep-alive"));
+    }
+
+    // Test that a client stuck in a write is dropped and doesn't hold back the others
+    @Test
+    void testFlush_DropsStalledSubscriber() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(1);
+        try {
+            broadcaster = new JobFeedBroadcaster(new ObjectMapper(), meterRegistry, pool, 60_000, 60_000, 0);
+            BlockingEmitter stuck = new BlockingEmitter();
+            broadcaster.subscribe(stuck);
+            assertTrue(stuck.sending.await(5, TimeUnit.SECONDS));
+
+            RecordingEmitter healthy = new RecordingEmitter();
+            broadcaster.subscribe(healthy);
+            broadcaster.flush();
+
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (healthy.sent.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, healthy.sent.size());
+            assertEquals(1, broadcaster.subscriberCount());
+            assertEquals(1.0, meterRegistry.counter(JobFeedBroadcaster.DROPPED_COUNTER).count());
+
+            stuck.release.countDown();
+            deadline = System.currentTimeMillis() + 5_000;
+            while (!stuck.completed && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(stuck.completed);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Blocks in send() until released, like a client that stopped reading.
+     */
+    private static class BlockingEmitter extends SseEmitter {
+
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+
+    /**
+     * Records what would have been written to the response.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private boolean fail;
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (fail) {
+                throw new IOException("Broken pipe");
+            }
+            sent.add(builder.build().stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .map(String::valueOf)
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
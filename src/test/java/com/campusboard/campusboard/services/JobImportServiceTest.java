@@ -0,0 +1,157 @@
+package com.campusboard.campusboard.services;
+
+import com.campusboard.campusboard.dto.ImportRowError;
+import com.campusboard.campusboard.dto.JobImportResult;
+import com.campusboard.campusboard.models.Job;
+import com.campusboard.campusboard.models.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class JobImportServiceTest {
+
+    @Mock
+    private JobService jobService;
+
+    private ValidatorFactory validatorFactory;
+    private JobImportService jobImportService;
+    private User employer;
+
+    // Copies of every chunk passed to createJobs
+    private final List<List<Job>> chunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        jobImportService = new JobImportService(jobService, validatorFactory.getValidator(), new ObjectMapper(), 2);
+        employer = new User();
+        employer.setEmail("fair@example.com");
+
+        when(jobService.createJobs(anyList(), eq(employer))).thenAnswer(invocation -> {
+            List<Job> jobs = invocation.getArgument(0);
+            chunks.add(List.copyOf(jobs));
+            return jobs;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    private JobImportResult importJobs(String content, JobImportService.Format format) {
+        return jobImportService.importJobs(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format, employer);
+    }
+
+    // Test that valid CSV rows are saved in chunks and invalid ones reported by row
+    @Test
+    void testImportJobs_Csv() {
+        String csv = "Title,Description,Salary,Deadline,Notes\n"
+                + "Campus Guide,Show visitors around,15.5,2030-03-31,ignored\n"
+                + "IT,Too short a title,,,\n"
+                + "Lab Assistant,\"Clean, label\nand store\",abc,,\n"
+                + "\n"
+                + "Tutor,Math help,,,\n"
+                + "Barista,Coffee bar,12,,\n";
+
+        JobImportResult result = importJobs(csv, JobImportService.Format.CSV);
+
+        assertEquals(3, result.imported());
+        assertEquals(2, result.rejected());
+        assertNull(result.fileError());
+        assertEquals(new ImportRowError(3, "title: size must be between 3 and 100"), result.errors().get(0));
+        assertEquals(new ImportRowError(4, "salary: not a number"), result.errors().get(1));
+
+        // Chunk size 2: one full chunk, then the rest at the end
+        assertEquals(2, chunks.size());
+        Job guide = chunks.get(0).get(0);
+        assertEquals("Campus Guide", guide.getTitle());
+        assertEquals(15.5, guide.getSalary());
+        assertEquals(LocalDate.of(2030, 3, 31), guide.getDeadline());
+        assertEquals(List.of("Barista"), chunks.get(1).stream().map(Job::getTitle).toList());
+    }
+
+    // Test that a JSON array is read object by object
+    @Test
+    void testImportJobs_Json() {
+        String json = "[{\"title\": \"Campus Guide\", \"description\": \"Tours\", \"salary\": 15, \"category\": null},"
+                + " {\"title\": \"Tutor\"},"
+                + " {\"title\": \"Library Aide\", \"description\": \"Shelving\", \"location\": [\"A\", \"B\"]},"
+                + " \"not a job\"]";
+
+        JobImportResult result = importJobs(json, JobImportService.Format.JSON);
+
+        assertEquals(1, result.imported());
+        assertEquals(3, result.rejected());
+        assertEquals(List.of(2, 3, 4), result.errors().stream().map(ImportRowError::row).toList());
+        assertEquals("description: must not be blank", result.errors().get(0).message());
+        assertEquals("location: expected a single value", result.errors().get(1).message());
+        assertEquals(15.0, chunks.get(0).get(0).getSalary());
+    }
+
+    // Test that rows before a broken part of the file are still imported
+    @Test
+    void testImportJobs_BrokenJson() {
+        String json = "[{\"title\": \"Campus Guide\", \"description\": \"Tours\"}, {\"title\": ";
+
+        JobImportResult result = importJobs(json, JobImportService.Format.JSON);
+
+        assertEquals(1, result.imported());
+        assertTrue(result.fileError().startsWith("Invalid JSON at line 1"));
+    }
+
+    // Test that a CSV without the required columns imports nothing
+    @Test
+    void testImportJobs_MissingColumns() {
+        JobImportResult result = importJobs("name,salary\nGuide,15\n", JobImportService.Format.CSV);
+
+        assertEquals(0, result.imported());
+        assertEquals("Missing column(s) in the header row: title, description", result.fileError());
+        verifyNoInteractions(jobService);
+    }
+
+    // Test that a failed save stops the import and says where
+    @Test
+    void testImportJobs_SaveFails() {
+        when(jobService.createJobs(anyList(), any()))
+                .thenThrow(new DataAccessResourceFailureException("Connection reset"));
+        String csv = "title,description\nGuide,Tours\nTutor,Math\nBarista,Coffee\n";
+
+        JobImportResult result = importJobs(csv, JobImportService.Format.CSV);
+
+        assertEquals(0, result.imported());
+        assertTrue(result.fileError().contains("row 2"));
+        ArgumentCaptor<List<Job>> jobs = ArgumentCaptor.captor();
+        verify(jobService, times(1)).createJobs(jobs.capture(), any());
+    }
+
+    // Test picking the parser from the upload
+    @Test
+    void testFormatDetect() {
+        assertEquals(JobImportService.Format.JSON, JobImportService.Format.detect("fair.JSON", null));
+        assertEquals(JobImportService.Format.JSON, JobImportService.Format.detect("jobs", "application/json"));
+        assertEquals(JobImportService.Format.CSV, JobImportService.Format.detect("fair.csv", "text/csv"));
+        assertEquals(JobImportService.Format.CSV, JobImportService.Format.detect(null, null));
+    }
+}
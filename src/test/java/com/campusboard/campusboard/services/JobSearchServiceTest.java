@@ -0,0 +1,85 @@
+package com.campusboard.campusboard.services;
+
+import com.campusboard.campusboard.events.JobChangedEvent;
+import com.campusboard.campusboard.models.Job;
+import com.campusboard.campusboard.repositories.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JobSearchServiceTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @InjectMocks
+    private JobSearchService jobSearchService;
+
+    private Job job;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        job = new Job();
+        job.setJobId(1L);
+        job.setTitle("Campus Tour Guide");
+        job.setDescription("Lead tours for visiting families");
+        job.setStatus(Job.Status.APPROVED);
+    }
+
+    // Test building the index from approved jobs at startup
+    @Test
+    void testRebuildIndex() {
+        when(jobRepository.findByStatus(Job.Status.APPROVED)).thenReturn(List.of(job));
+
+        jobSearchService.rebuildIndex();
+
+        assertEquals(1, jobSearchService.search("tour").size());
+    }
+
+    // Test that an approved job becomes searchable
+    @Test
+    void testOnJobChanged_Approved() {
+        jobSearchService.onJobChanged(JobChangedEvent.of(JobChangedEvent.Type.APPROVED, job));
+
+        assertEquals(1, jobSearchService.search("guide").size());
+        verifyNoInteractions(jobRepository);
+    }
+
+    // Test that a rejected job drops out of search
+    @Test
+    void testOnJobChanged_Rejected() {
+        jobSearchService.onJobChanged(JobChangedEvent.of(JobChangedEvent.Type.APPROVED, job));
+        job.setStatus(Job.Status.REJECTED);
+        jobSearchService.onJobChanged(JobChangedEvent.of(JobChangedEvent.Type.REJECTED, job));
+
+        assertTrue(jobSearchService.search("guide").isEmpty());
+    }
+
+    // Test that a deleted job drops out of search
+    @Test
+    void testOnJobChanged_Deleted() {
+        jobSearchService.onJobChanged(JobChangedEvent.of(JobChangedEvent.Type.APPROVED, job));
+        jobSearchService.onJobChanged(JobChangedEvent.deleted(1L));
+
+        assertTrue(jobSearchService.search("guide").isEmpty());
+    }
+
+    // Test that typeahead suggestions follow the same changes
+    @Test
+    void testSuggest_FollowsChanges() {
+        jobSearchService.onJobChanged(JobChangedEvent.of(JobChangedEvent.Type.APPROVED, job));
+        assertEquals("Campus Tour Guide", jobSearchService.suggest("tour", 5).get(0).text());
+
+        jobSearchService.onJobChanged(JobChangedEvent.closed(1L));
+        assertTrue(jobSearchService.suggest("tour", 5).isEmpty());
+    }
+}
@@ -1,5 +1,12 @@
 package com.campusboard.campusboard.services;
 
+import com.campusboard.campusboard.cache.JobCache;
+import com.campusboard.campusboard.dto.ApiCursor;
+import com.campusboard.campusboard.dto.JobCardView;
+import com.campusboard.campusboard.dto.JobFeedPage;
+import com.campusboard.campusboard.dto.JobSort;
+import com.campusboard.campusboard.dto.KeysetCursor;
+import com.campusboard.campusboard.events.JobChangedEvent;
 import com.campusboard.campusboard.exceptions.JobNotFoundException;
 import com.campusboard.campusboard.models.Job;
 import com.campusboard.campusboard.models.User;
@@ -9,12 +16,20 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class JobServiceTest {
@@ -22,6 +37,12 @@ class JobServiceTest {
     @Mock
     private JobRepository jobRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private JobCache jobCache = new JobCache(1 << 20, 60);
+
     @InjectMocks
     private JobService jobService;
 
@@ -49,6 +70,30 @@ class JobServiceTest {
         verify(jobRepository).save(job);
     }
 
+    // Test that a bulk create saves in one call and announces every job
+    @Test
+    void testCreateJobs() {
+        Job second = new Job();
+        second.setDescription("Second job");
+        job.setJobId(1L);
+        second.setJobId(2L);
+        List<Job> jobs = List.of(job, second);
+        when(jobRepository.saveAll(jobs)).thenReturn(jobs);
+
+        List<Job> saved = jobService.createJobs(jobs, employer);
+
+        assertEquals(jobs, saved);
+        for (Job each : saved) {
+            assertEquals(employer, each.getEmployer());
+            assertEquals(Job.Status.PENDING, each.getStatus());
+        }
+        assertEquals("Second job", second.getSummary());
+        assertEquals(job.getCreatedAt(), second.getCreatedAt());
+        verify(jobRepository).saveAll(jobs);
+        verify(jobRepository, never()).save(any(Job.class));
+        verify(eventPublisher, times(2)).publishEvent(any(JobChangedEvent.class));
+    }
+
     // Test updating a job successfully
     @Test
     void testUpdateJob() {
@@ -63,6 +108,7 @@ class JobServiceTest {
 
         assertEquals("New Title", result.getTitle());
         assertEquals("New Desc", result.getDescription());
+        assertEquals("New Desc", result.getSummary());
         verify(jobRepository).save(job);
     }
 
@@ -81,6 +127,7 @@ class JobServiceTest {
 
         assertDoesNotThrow(() -> jobService.deleteJob(1L));
         verify(jobRepository).deleteById(1L);
+        verify(eventPublisher).publishEvent(JobChangedEvent.deleted(1L));
     }
 
     // Test deleting a job that doesn't exist
@@ -101,6 +148,7 @@ class JobServiceTest {
 
         assertEquals(Job.Status.APPROVED, job.getStatus());
         verify(jobRepository).save(job);
+        verify(eventPublisher).publishEvent(JobChangedEvent.of(JobChangedEvent.Type.APPROVED, job));
     }
 
     // Test rejecting a job
@@ -118,11 +166,31 @@ class JobServiceTest {
     // Test getting a job by ID successfully
     @Test
     void testGetJobById() {
+        job.setJobId(1L);
+        job.setTitle("Math Tutor");
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+
+        Job result = jobService.getJobById(1L);
+
+        assertEquals(job.getJobId(), result.getJobId());
+        assertEquals(job.getTitle(), result.getTitle());
+    }
+
+    // Test that a second lookup is served from the cache
+    @Test
+    void testGetJobById_Cached() {
+        job.setJobId(1L);
+        job.setTitle("Math Tutor");
         when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
 
+        jobService.getJobById(1L);
         Job result = jobService.getJobById(1L);
 
-        assertEquals(job, result);
+        assertEquals(job.getJobId(), result.getJobId());
+        assertEquals(job.getTitle(), result.getTitle());
+        verify(jobRepository, times(1)).findById(1L);
+        assertEquals(1, jobService.getCacheStats().hits());
+        assertEquals(1, jobService.getCacheStats().misses());
     }
 
     // Test getting a job by ID that doesn't exist
@@ -140,6 +208,10 @@ class JobServiceTest {
 
         List<Job> jobs = jobService.getApprovedJobs();
         assertEquals(1, jobs.size());
+
+        // Repeated page views don't hit the database again
+        jobService.getApprovedJobs();
+        verify(jobRepository, times(1)).findByStatus(Job.Status.APPROVED);
     }
 
     // Test getting jobs by status
@@ -159,4 +231,138 @@ class JobServiceTest {
         List<Job> jobs = jobService.getJobsByEmployer(employer);
         assertEquals(1, jobs.size());
     }
+
+    // Test getting the admin queue as cards
+    @Test
+    void testGetJobCardsByStatus() {
+        when(jobRepository.findCardsByStatus(Job.Status.PENDING))
+                .thenReturn(List.of(card(1L, LocalDateTime.now())));
+
+        assertEquals(1, jobService.getJobCardsByStatus(Job.Status.PENDING).size());
+
+        // Served from the cache until a job changes
+        jobService.getJobCardsByStatus(Job.Status.PENDING);
+        verify(jobRepository, times(1)).findCardsByStatus(Job.Status.PENDING);
+    }
+
+    // Test getting an employer's jobs as cards
+    @Test
+    void testGetJobCardsByEmployer() {
+        employer.setUserId(5L);
+        when(jobRepository.findCardsByEmployerId(5L)).thenReturn(List.of(card(1L, LocalDateTime.now())));
+
+        List<JobCardView> cards = jobService.getJobCardsByEmployer(employer);
+        assertEquals(1, cards.size());
+        verify(jobRepository, never()).findByEmployer(any());
+    }
+
+    // Test the first feed page when more jobs remain
+    @Test
+    void testGetApprovedJobFeed_FirstPage() {
+        List<JobCardView> rows = new ArrayList<>();
+        for (long id = JobService.FEED_PAGE_SIZE + 1; id >= 1; id--) {
+            rows.add(card(id, LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(id)));
+        }
+        when(jobRepository.findFeedByNewest(eq(Job.Status.APPROVED), any())).thenReturn(rows);
+
+        JobFeedPage page = jobService.getApprovedJobFeed(JobSort.NEWEST, null);
+
+        assertEquals(JobService.FEED_PAGE_SIZE, page.jobs().size());
+        assertTrue(page.hasNext());
+
+        JobCardView last = page.jobs().get(JobService.FEED_PAGE_SIZE - 1);
+        KeysetCursor cursor = KeysetCursor.decode(page.nextCursor());
+        assertEquals(last.jobId(), cursor.id());
+        assertEquals(last.createdAt().toString(), cursor.key());
+    }
+
+    // Test that a cursor continues the feed after the last job seen
+    @Test
+    void testGetApprovedJobFeed_NextPage() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        String token = new KeysetCursor(createdAt.toString(), 42L).encode();
+        when(jobRepository.findFeedByNewestAfter(eq(Job.Status.APPROVED), eq(createdAt), eq(42L), any()))
+                .thenReturn(List.of(card(1L, createdAt)));
+
+        JobFeedPage page = jobService.getApprovedJobFeed(JobSort.NEWEST, token);
+
+        assertEquals(1, page.jobs().size());
+        assertFalse(page.hasNext());
+    }
+
+    // Test that jobs without a salary are paged after the salaried ones
+    @Test
+    void testGetApprovedJobFeed_SalaryNullCursor() {
+        String token = new KeysetCursor(null, 7L).encode();
+        when(jobRepository.findFeedWithoutSalaryAfter(eq(Job.Status.APPROVED), eq(7L), any()))
+                .thenReturn(List.of(card(1L, LocalDateTime.now())));
+
+        JobFeedPage page = jobService.getApprovedJobFeed(JobSort.HIGHEST_SALARY, token);
+
+        assertEquals(1, page.jobs().size());
+        verify(jobRepository, never()).findFeedBySalaryAfter(any(), any(), any(), any());
+    }
+
+    // Test that a malformed cursor restarts from the first page
+    @Test
+    void testGetApprovedJobFeed_MalformedCursor() {
+        when(jobRepository.findFeedByDeadline(eq(Job.Status.APPROVED), any(LocalDate.class), any()))
+                .thenReturn(List.of(card(1L, LocalDateTime.now())));
+
+        JobFeedPage page = jobService.getApprovedJobFeed(JobSort.CLOSING_SOONEST, "not a cursor!");
+
+        assertEquals(1, page.jobs().size());
+    }
+
+    // Test that a well-formed token with an unreadable deadline also restarts
+    @Test
+    void testGetApprovedJobFeed_MalformedDeadlineKey() {
+        String token = new KeysetCursor("next friday", 7L).encode();
+        when(jobRepository.findFeedByDeadline(eq(Job.Status.APPROVED), any(LocalDate.class), any()))
+                .thenReturn(List.of(card(1L, LocalDateTime.now())));
+
+        JobFeedPage page = jobService.getApprovedJobFeed(JobSort.CLOSING_SOONEST, token);
+
+        assertEquals(1, page.jobs().size());
+        verify(jobRepository, never()).findFeedByDeadlineAfter(any(), any(), any(), any(), any());
+    }
+
+    // Test that forged NEWEST and HIGHEST_SALARY keys restart instead of failing
+    @Test
+    void testGetApprovedJobFeed_ForgedKeys() {
+        when(jobRepository.findFeedByNewest(eq(Job.Status.APPROVED), any()))
+                .thenReturn(List.of(card(1L, LocalDateTime.now())));
+        when(jobRepository.findFeedBySalary(eq(Job.Status.APPROVED), any()))
+                .thenReturn(List.of(card(2L, LocalDateTime.now())));
+
+        JobFeedPage newest = jobService.getApprovedJobFeed(JobSort.NEWEST,
+                new KeysetCursor("yesterday", 7L).encode());
+        JobFeedPage salary = jobService.getApprovedJobFeed(JobSort.HIGHEST_SALARY,
+                new KeysetCursor("lots", 7L).encode());
+
+        assertEquals(1L, newest.jobs().get(0).jobId());
+        assertEquals(2L, salary.jobs().get(0).jobId());
+        verify(jobRepository, never()).findFeedByNewestAfter(any(), any(), any(), any());
+        verify(jobRepository, never()).findFeedBySalaryAfter(any(), any(), any(), any());
+    }
+
+    private JobCardView card(Long jobId, LocalDateTime createdAt) {
+        return new JobCardView(jobId, "Job " + jobId, "Employer", "employer@example.com",
+                null, null, null, null, "Description", Job.Status.APPROVED, createdAt);
+    }
+
+    // Test that an API page limits the query itself, while the export streams everything
+    @Test
+    void testForEachApprovedJob_LimitsQuery() {
+        when(jobRepository.streamByStatusAfter(eq(Job.Status.APPROVED), eq(0L), any(Limit.class)))
+                .thenAnswer(invocation -> Stream.of(job));
+        List<Job> seen = new ArrayList<>();
+
+        jobService.forEachApprovedJob(ApiCursor.FIRST, 101, seen::add);
+        jobService.forEachApprovedJob(ApiCursor.FIRST, Long.MAX_VALUE, seen::add);
+
+        verify(jobRepository).streamByStatusAfter(Job.Status.APPROVED, 0L, Limit.of(101));
+        verify(jobRepository).streamByStatusAfter(Job.Status.APPROVED, 0L, Limit.unlimited());
+        assertEquals(2, seen.size());
+    }
 }
@@ -0,0 +1,143 @@
+package com.campusboard.campusboard.services;
+
+import com.campusboard.campusboard.dto.ImportRowError;
+import com.campusboard.campusboard.dto.RosterImportProgress;
+import com.campusboard.campusboard.models.User;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class RosterImportServiceTest {
+
+    @Mock
+    private UserService userService;
+
+    private ValidatorFactory validatorFactory;
+    private RosterImportService rosterImportService;
+
+    // Copies of every chunk passed to createUsers, and every progress message
+    private final List<List<User>> chunks = new ArrayList<>();
+    private final List<RosterImportProgress> messages = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        rosterImportService = new RosterImportService(userService, validatorFactory.getValidator(), 2, 2, 4);
+
+        when(userService.findRegisteredEmails(anyCollection())).thenReturn(Set.of());
+        when(userService.createUsers(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            chunks.add(List.copyOf(users));
+            return users;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        rosterImportService.shutdown();
+        validatorFactory.close();
+    }
+
+    private RosterImportProgress importRoster(String csv) {
+        return rosterImportService.importRoster(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), messages::add);
+    }
+
+    // Test that valid rows become students in chunks, with hashed passwords and progress per chunk
+    @Test
+    void testImportRoster() {
+        RosterImportProgress result = importRoster("Full Name,E-mail,Password,Student ID\n"
+                + "Ann Lee,ann@example.com,secret123,1001\n"
+                + "Bob Ray,bob@example.com,secret456,1002\n"
+                + "\n"
+                + "Cy Dunn,cy@example.com,secret789,1003\n");
+
+        assertEquals(3, result.rows());
+        assertEquals(3, result.imported());
+        assertEquals(0, result.rejected());
+        assertTrue(result.done());
+        assertNull(result.fileError());
+
+        assertEquals(2, chunks.size());
+        User ann = chunks.get(0).get(0);
+        assertEquals("Ann Lee", ann.getFullName());
+        assertEquals(User.Role.STUDENT, ann.getRole());
+        assertTrue(ann.getPassword().startsWith("$2a$04$"));
+        assertTrue(new BCryptPasswordEncoder().matches("secret123", ann.getPassword()));
+
+        // One message per saved chunk, then the result
+        assertEquals(3, messages.size());
+        assertEquals(2, messages.get(0).imported());
+        assertFalse(messages.get(0).done());
+        assertSame(result, messages.get(2));
+    }
+
+    // Test that invalid, repeated and already registered rows are skipped and reported by row
+    @Test
+    void testImportRoster_RejectedRows() {
+        when(userService.findRegisteredEmails(anyCollection())).thenReturn(Set.of("taken@example.com"));
+
+        RosterImportProgress result = importRoster("fullName,email,password\n"
+                + "Ann Lee,TAKEN@example.com,secret123\n"
+                + "Al,not-an-email,123\n"
+                + "Bob Ray,bob@example.com,secret456\n"
+                + "Bob Again,Bob@Example.com,secret456\n");
+
+        assertEquals(1, result.imported());
+        assertEquals(3, result.rejected());
+        assertEquals(List.of(
+                new ImportRowError(2, "email: already registered"),
+                new ImportRowError(3, "email: must be a well-formed email address; "
+                        + "fullName: size must be between 3 and 100; password: size must be between 6 and 2147483647"),
+                new ImportRowError(5, "email: listed more than once in the file")
+        ), result.errors());
+        assertEquals("bob@example.com", chunks.get(0).get(0).getEmail());
+    }
+
+    // Test that a roster without the required columns is refused
+    @Test
+    void testImportRoster_MissingColumns() {
+        RosterImportProgress result = importRoster("name,email\nAnn Lee,ann@example.com\n");
+
+        assertEquals("Missing column(s) in the header row: full name, password", result.fileError());
+        assertEquals(0, result.rows());
+        verify(userService, never()).createUsers(anyList());
+    }
+
+    // Test that a database failure stops the import and keeps what was saved
+    @Test
+    void testImportRoster_SaveFails() {
+        when(userService.createUsers(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        RosterImportProgress result = importRoster("full_name,email,password\n"
+                + "Ann Lee,ann@example.com,secret123\n"
+                + "Bob Ray,bob@example.com,secret456\n"
+                + "Cy Dunn,cy@example.com,secret789\n"
+                + "Di Moss,di@example.com,secret000\n"
+                + "Ed Nash,ed@example.com,secret111\n");
+
+        assertEquals(2, result.imported());
+        assertEquals("Could not save the students from row 4 on; rows before it were imported", result.fileError());
+        verify(userService, times(2)).createUsers(anyList());
+    }
+}
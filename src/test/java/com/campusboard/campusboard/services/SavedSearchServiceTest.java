@@ -0,0 +1,178 @@
+package com.campusboard.campusboard.services;
+
+import com.campusboard.campusboard.events.JobChangedEvent;
+import com.campusboard.campusboard.models.Job;
+import com.campusboard.campusboard.models.JobAlert;
+import com.campusboard.campusboard.models.SavedSearch;
+import com.campusboard.campusboard.models.User;
+import com.campusboard.campusboard.repositories.JobAlertRepository;
+import com.campusboard.campusboard.repositories.SavedSearchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SavedSearchServiceTest {
+
+    @Mock
+    private SavedSearchRepository savedSearchRepository;
+
+    @Mock
+    private JobAlertRepository jobAlertRepository;
+
+    @InjectMocks
+    private SavedSearchService savedSearchService;
+
+    private User student;
+    private Job job;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        student = new User();
+        student.setUserId(1L);
+
+        job = new Job();
+        job.setJobId(10L);
+        job.setTitle("Library Assistant");
+        job.setDescription("Shelve books");
+        job.setStatus(Job.Status.APPROVED);
+    }
+
+    private SavedSearch search(long id, String keywords) {
+        SavedSearch search = new SavedSearch();
+        search.setSavedSearchId(id);
+        search.setKeywords(keywords);
+        return search;
+    }
+
+    // Test that approving a job alerts only the matching saved searches
+    @Test
+    @SuppressWarnings("unchecked")
+    void testOnJobChanged_Approved() {
+        SavedSearch library = search(1L, "library");
+        when(savedSearchRepository.findAll()).thenReturn(List.of(library, search(2L, "chemistry")));
+        when(savedSearchRepository.getReferenceById(1L)).thenReturn(library);
+        savedSearchService.rebuildIndex();
+
+        savedSearchService.onJobChanged(JobChangedEvent.of(JobChangedEvent.Type.APPROVED, job));
+
+        ArgumentCaptor<List<JobAlert>> alerts = ArgumentCaptor.forClass(List.class);
+        verify(jobAlertRepository).saveAll(alerts.capture());
+        assertEquals(1, alerts.getValue().size());
+        assertSame(library, alerts.getValue().get(0).getSavedSearch());
+        assertSame(job, alerts.getValue().get(0).getJob());
+    }
+
+    // Test that a job approved again doesn't alert the same search twice
+    @Test
+    void testOnJobChanged_AlreadyAlerted() {
+        when(savedSearchRepository.findAll()).thenReturn(List.of(search(1L, "library")));
+        when(jobAlertRepository.findSavedSearchIdsByJobId(10L)).thenReturn(List.of(1L));
+        savedSearchService.rebuildIndex();
+
+        savedSearchService.onJobChanged(JobChangedEvent.of(JobChangedEvent.Type.APPROVED, job));
+
+        verify(jobAlertRepository).saveAll(List.of());
+    }
+
+    // Test that other changes (e.g. an edit) are not percolated
+    @Test
+    void testOnJobChanged_Updated() {
+        when(savedSearchRepository.findAll()).thenReturn(List.of(search(1L, "library")));
+        savedSearchService.rebuildIndex();
+
+        savedSearchService.onJobChanged(JobChangedEvent.of(JobChangedEvent.Type.UPDATED, job));
+
+        verifyNoInteractions(jobAlertRepository);
+    }
+
+    // Test that a new saved search is matched from then on
+    @Test
+    void testCreateSavedSearch() {
+        SavedSearch search = search(5L, "  assistant ");
+        when(savedSearchRepository.save(search)).thenAnswer(invocation -> {
+            search.setSavedSearchId(5L);
+            return search;
+        });
+
+        SavedSearch saved = savedSearchService.createSavedSearch(search, student);
+        savedSearchService.onJobChanged(JobChangedEvent.of(JobChangedEvent.Type.APPROVED, job));
+
+        assertEquals("assistant", saved.getKeywords());
+        assertSame(student, saved.getStudent());
+        verify(savedSearchRepository).getReferenceById(5L);
+    }
+
+    // Test that a search without any criteria is refused
+    @Test
+    void testCreateSavedSearch_Empty() {
+        SavedSearch search = search(0L, " ");
+
+        assertThrows(IllegalArgumentException.class, () -> savedSearchService.createSavedSearch(search, student));
+        verify(savedSearchRepository, never()).save(any());
+    }
+
+    // Test the per-student limit
+    @Test
+    void testCreateSavedSearch_TooMany() {
+        when(savedSearchRepository.countByStudent(student)).thenReturn((long) SavedSearchService.MAX_PER_STUDENT);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> savedSearchService.createSavedSearch(search(0L, "library"), student));
+    }
+
+    // Test that deleting someone else's search leaves the percolator alone
+    @Test
+    void testDeleteSavedSearch_NotOwner() {
+        when(savedSearchRepository.findAll()).thenReturn(List.of(search(1L, "library")));
+        savedSearchService.rebuildIndex();
+        when(savedSearchRepository.deleteBySavedSearchIdAndStudent(1L, student)).thenReturn(0L);
+
+        savedSearchService.deleteSavedSearch(1L, student);
+        savedSearchService.onJobChanged(JobChangedEvent.of(JobChangedEvent.Type.APPROVED, job));
+
+        verify(jobAlertRepository).saveAll(any());
+    }
+
+    // Test that a search saved on another node is picked up by the refresh
+    @Test
+    void testRefresh_AddsNewSearches() {
+        when(savedSearchRepository.findAll()).thenReturn(List.of(search(1L, "chemistry")));
+        savedSearchService.rebuildIndex();
+        SavedSearch library = search(2L, "library");
+        when(savedSearchRepository.findBySavedSearchIdGreaterThanOrderBySavedSearchIdAsc(1L))
+                .thenReturn(List.of(library));
+        when(savedSearchRepository.count()).thenReturn(2L);
+        when(savedSearchRepository.getReferenceById(2L)).thenReturn(library);
+
+        savedSearchService.refresh();
+        savedSearchService.onJobChanged(JobChangedEvent.of(JobChangedEvent.Type.APPROVED, job));
+
+        verify(savedSearchRepository).getReferenceById(2L);
+        verify(savedSearchRepository, times(1)).findAll();
+    }
+
+    // Test that a search deleted on another node is dropped by the refresh
+    @Test
+    void testRefresh_RebuildsWhenCountDiffers() {
+        when(savedSearchRepository.findAll()).thenReturn(List.of(search(1L, "library")));
+        savedSearchService.rebuildIndex();
+        when(savedSearchRepository.findAll()).thenReturn(List.of());
+        when(savedSearchRepository.count()).thenReturn(0L);
+
+        savedSearchService.refresh();
+        savedSearchService.onJobChanged(JobChangedEvent.of(JobChangedEvent.Type.APPROVED, job));
+
+        verifyNoInteractions(jobAlertRepository);
+    }
+}
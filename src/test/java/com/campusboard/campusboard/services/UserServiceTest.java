@@ -1,5 +1,12 @@
 package com.campusboard.campusboard.services;
 
+import com.campusboard.campusboard.cache.UserDetailsCache;
+import com.campusboard.campusboard.dto.KeysetCursor;
+import com.campusboard.campusboard.dto.UserCountRow;
+import com.campusboard.campusboard.dto.UserCounts;
+import com.campusboard.campusboard.dto.UserPage;
+import com.campusboard.campusboard.dto.UserSort;
+import com.campusboard.campusboard.dto.UserView;
 import com.campusboard.campusboard.exceptions.UserNotFoundException;
 import com.campusboard.campusboard.models.User;
 import com.campusboard.campusboard.repositories.UserRepository;
@@ -8,12 +15,19 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class UserServiceTest {
@@ -24,6 +38,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -51,6 +68,31 @@ class UserServiceTest {
         verify(userRepository).save(user);
     }
 
+    // Test that bulk-created users are saved together as new, active accounts
+    @Test
+    void testCreateUsers() {
+        user.setStatus(User.Status.INACTIVE);
+        when(userRepository.saveAll(List.of(user))).thenReturn(List.of(user));
+
+        List<User> saved = userService.createUsers(List.of(user));
+
+        assertEquals(List.of(user), saved);
+        assertEquals(User.Status.ACTIVE, user.getStatus());
+        assertEquals(user.getCreatedAt(), user.getUpdatedAt());
+        verify(userRepository).saveAll(List.of(user));
+    }
+
+    // Test that registered emails are found with one query, whatever their case
+    @Test
+    void testFindRegisteredEmails() {
+        List<String> emails = List.of("ann@example.com", "bob@example.com");
+        when(userRepository.findRegisteredEmails(emails)).thenReturn(List.of("Ann@Example.com"));
+
+        assertEquals(Set.of("ann@example.com"), userService.findRegisteredEmails(emails));
+        assertTrue(userService.findRegisteredEmails(List.of()).isEmpty());
+        verify(userRepository, times(1)).findRegisteredEmails(any());
+    }
+
     // Test registering a user with an existing email
     @Test
     void testRegisterUser_EmailExists() {
@@ -103,6 +145,80 @@ class UserServiceTest {
         assertEquals(1, users.size());
     }
 
+    private static List<UserView> userViews(int count) {
+        List<UserView> users = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            users.add(new UserView(id, "User " + id, "u" + id + "@example.com", User.Role.STUDENT,
+                    User.Status.ACTIVE, LocalDateTime.of(2026, 3, 1, 9, 0).minusMinutes(id)));
+        }
+        return users;
+    }
+
+    // Test that the first page holds one page of users and a cursor from the last one
+    @Test
+    void testGetUserPage_FirstPage() {
+        int pageSize = UserService.USER_PAGE_SIZE;
+        when(userRepository.findUserViewsByNewest(eq(EnumSet.allOf(User.Role.class)),
+                eq(EnumSet.allOf(User.Status.class)), eq("%"), any(Pageable.class)))
+                .thenReturn(userViews(pageSize + 1));
+
+        UserPage page = userService.getUserPage(UserSort.NEWEST, null, null, "  ", null);
+
+        assertEquals(pageSize, page.users().size());
+        assertNull(page.search());
+        KeysetCursor cursor = KeysetCursor.decode(page.nextCursor());
+        UserView last = page.users().get(pageSize - 1);
+        assertEquals(last.userId(), cursor.id());
+        assertEquals(last.createdAt().toString(), cursor.key());
+    }
+
+    // Test that a cursor continues by email, filtered, and ends on a short page
+    @Test
+    void testGetUserPage_ContinuesAfterCursor() {
+        String cursor = new KeysetCursor("m@example.com", 42L).encode();
+        when(userRepository.findUserViewsByEmailAfter(eq(EnumSet.of(User.Role.EMPLOYER)),
+                eq(EnumSet.of(User.Status.INACTIVE)), eq("%acme%"), eq("m@example.com"), eq(42L), any(Pageable.class)))
+                .thenReturn(userViews(3));
+
+        UserPage page = userService.getUserPage(UserSort.EMAIL, User.Role.EMPLOYER, User.Status.INACTIVE,
+                " Acme ", cursor);
+
+        assertEquals(3, page.users().size());
+        assertFalse(page.hasNext());
+        assertEquals("Acme", page.search());
+    }
+
+    // Test that a user named "~" (the old null marker) keeps paging by name
+    @Test
+    void testGetUserPage_TildeNameCursor() {
+        String cursor = new KeysetCursor("~", 42L).encode();
+        when(userRepository.findUserViewsByNameAfter(any(), any(), any(), eq("~"), eq(42L), any(Pageable.class)))
+                .thenReturn(userViews(1));
+
+        userService.getUserPage(UserSort.NAME, null, null, null, cursor);
+
+        verify(userRepository, never()).findUserViewsByName(any(), any(), any(), any(Pageable.class));
+    }
+
+    // Test that LIKE wildcards in a search match literally
+    @Test
+    void testLikePattern() {
+        assertEquals("%", UserService.likePattern(null));
+        assertEquals("%50!%!_off!!%", UserService.likePattern("50%_OFF!"));
+    }
+
+    // Test that the stat tiles add up the (role, status) counts
+    @Test
+    void testGetUserCounts() {
+        when(userRepository.countByRoleAndStatus()).thenReturn(List.of(
+                new UserCountRow(User.Role.STUDENT, User.Status.ACTIVE, 30),
+                new UserCountRow(User.Role.STUDENT, User.Status.INACTIVE, 2),
+                new UserCountRow(User.Role.EMPLOYER, User.Status.ACTIVE, 7),
+                new UserCountRow(User.Role.ADMIN, User.Status.ACTIVE, 1)));
+
+        assertEquals(new UserCounts(40, 38, 2, 32, 7, 1), userService.getUserCounts());
+    }
+
     // Test updating user status successfully
     @Test
     void testUpdateStatus_Success() {
@@ -111,6 +227,9 @@ class UserServiceTest {
         userService.updateStatus(1L, User.Status.INACTIVE);
         assertEquals(User.Status.INACTIVE, user.getStatus());
         verify(userRepository).save(user);
+
+        // Logins and open sessions must see the new status
+        verify(userDetailsCache).evict(user.getEmail());
     }
 
     // Test updating status for a user that doesn't exist